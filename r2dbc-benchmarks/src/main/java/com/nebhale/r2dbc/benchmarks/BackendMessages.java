@@ -0,0 +1,200 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.nebhale.r2dbc.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+
+import java.util.function.Consumer;
+
+import static io.netty.util.CharsetUtil.UTF_8;
+
+/**
+ * Utilities for writing backend messages in their wire format, as a PostgreSQL server would send them.
+ */
+public final class BackendMessages {
+
+    private static final int NULL = -1;
+
+    private static final short TEXT = 0;
+
+    private BackendMessages() {
+    }
+
+    /**
+     * Writes an {@code AuthenticationOk} message.
+     *
+     * @param out the {@link ByteBuf} to write to
+     * @return {@code out}
+     */
+    public static ByteBuf authenticationOk(ByteBuf out) {
+        return write(out, 'R', body -> body.writeInt(0));
+    }
+
+    /**
+     * Writes a {@code BackendKeyData} message.
+     *
+     * @param out       the {@link ByteBuf} to write to
+     * @param processId the process id
+     * @param secretKey the secret key
+     * @return {@code out}
+     */
+    public static ByteBuf backendKeyData(ByteBuf out, int processId, int secretKey) {
+        return write(out, 'K', body -> body.writeInt(processId).writeInt(secretKey));
+    }
+
+    /**
+     * Writes a {@code BindComplete} message.
+     *
+     * @param out the {@link ByteBuf} to write to
+     * @return {@code out}
+     */
+    public static ByteBuf bindComplete(ByteBuf out) {
+        return write(out, '2', body -> {
+        });
+    }
+
+    /**
+     * Writes a {@code CloseComplete} message.
+     *
+     * @param out the {@link ByteBuf} to write to
+     * @return {@code out}
+     */
+    public static ByteBuf closeComplete(ByteBuf out) {
+        return write(out, '3', body -> {
+        });
+    }
+
+    /**
+     * Writes a {@code CommandComplete} message.
+     *
+     * @param out the {@link ByteBuf} to write to
+     * @param tag the command tag
+     * @return {@code out}
+     */
+    public static ByteBuf commandComplete(ByteBuf out, String tag) {
+        return write(out, 'C', body -> writeCString(body, tag));
+    }
+
+    /**
+     * Writes a {@code DataRow} message with values in the text format.
+     *
+     * @param out    the {@link ByteBuf} to write to
+     * @param values the values of the columns, {@code null} for a {@code NULL} value
+     * @return {@code out}
+     */
+    public static ByteBuf dataRow(ByteBuf out, String... values) {
+        return write(out, 'D', body -> {
+            body.writeShort(values.length);
+
+            for (String value : values) {
+                if (value == null) {
+                    body.writeInt(NULL);
+                } else {
+                    int lengthIndex = body.writerIndex();
+                    body.writeInt(0);
+                    int length = body.writeCharSequence(value, UTF_8);
+                    body.setInt(lengthIndex, length);
+                }
+            }
+        });
+    }
+
+    /**
+     * Writes a {@code ParameterDescription} message.
+     *
+     * @param out       the {@link ByteBuf} to write to
+     * @param dataTypes the object ids of the parameter data types
+     * @return {@code out}
+     */
+    public static ByteBuf parameterDescription(ByteBuf out, int... dataTypes) {
+        return write(out, 't', body -> {
+            body.writeShort(dataTypes.length);
+
+            for (int dataType : dataTypes) {
+                body.writeInt(dataType);
+            }
+        });
+    }
+
+    /**
+     * Writes a {@code ParseComplete} message.
+     *
+     * @param out the {@link ByteBuf} to write to
+     * @return {@code out}
+     */
+    public static ByteBuf parseComplete(ByteBuf out) {
+        return write(out, '1', body -> {
+        });
+    }
+
+    /**
+     * Writes an idle {@code ReadyForQuery} message.
+     *
+     * @param out the {@link ByteBuf} to write to
+     * @return {@code out}
+     */
+    public static ByteBuf readyForQuery(ByteBuf out) {
+        return write(out, 'Z', body -> body.writeByte('I'));
+    }
+
+    /**
+     * Writes a {@code RowDescription} message with columns in the text format.
+     *
+     * @param out       the {@link ByteBuf} to write to
+     * @param names     the names of the columns
+     * @param dataTypes the object ids of the column data types
+     * @return {@code out}
+     * @throws IllegalArgumentException if {@code names} and {@code dataTypes} differ in length
+     */
+    public static ByteBuf rowDescription(ByteBuf out, String[] names, int[] dataTypes) {
+        if (names.length != dataTypes.length) {
+            throw new IllegalArgumentException("names and dataTypes must be the same length");
+        }
+
+        return write(out, 'T', body -> {
+            body.writeShort(names.length);
+
+            for (int i = 0; i < names.length; i++) {
+                writeCString(body, names[i]);
+                body.writeInt(0);           // table
+                body.writeShort(i + 1);     // column
+                body.writeInt(dataTypes[i]);
+                body.writeShort(-1);        // data type size
+                body.writeInt(-1);          // data type modifier
+                body.writeShort(TEXT);
+            }
+        });
+    }
+
+    private static ByteBuf write(ByteBuf out, char type, Consumer<ByteBuf> body) {
+        out.writeByte(type);
+
+        int lengthIndex = out.writerIndex();
+        out.writeInt(0);
+        body.accept(out);
+        out.setInt(lengthIndex, out.writerIndex() - lengthIndex);
+
+        return out;
+    }
+
+    private static void writeCString(ByteBuf out, String s) {
+        out.writeCharSequence(s, UTF_8);
+        out.writeByte(0);
+    }
+
+}
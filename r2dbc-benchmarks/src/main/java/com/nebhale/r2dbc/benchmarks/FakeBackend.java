@@ -0,0 +1,190 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.nebhale.r2dbc.benchmarks;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.ByteToMessageDecoder;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.nebhale.r2dbc.benchmarks.BackendMessages.authenticationOk;
+import static com.nebhale.r2dbc.benchmarks.BackendMessages.backendKeyData;
+import static com.nebhale.r2dbc.benchmarks.BackendMessages.bindComplete;
+import static com.nebhale.r2dbc.benchmarks.BackendMessages.closeComplete;
+import static com.nebhale.r2dbc.benchmarks.BackendMessages.parameterDescription;
+import static com.nebhale.r2dbc.benchmarks.BackendMessages.parseComplete;
+import static com.nebhale.r2dbc.benchmarks.BackendMessages.readyForQuery;
+
+/**
+ * An in-process backend that speaks enough of the PostgreSQL protocol to serve the {@link SampleResult} to a driver connected over the loopback interface.  Every query, simple or extended,
+ * returns the same result.  The backend counts the reads it performs, which approximates the number of times the driver flushed its connection.
+ */
+public final class FakeBackend implements AutoCloseable {
+
+    private static final int INT4 = 23;
+
+    private final Channel channel;
+
+    private final EventLoopGroup eventLoopGroup = new NioEventLoopGroup(1);
+
+    private final AtomicLong reads = new AtomicLong();
+
+    private final ByteBuf rowDescription = SampleResult.writeRowDescription(Unpooled.buffer());
+
+    private final ByteBuf rows;
+
+    /**
+     * Creates a new backend, listening on an ephemeral port.
+     *
+     * @param rows the number of rows to return for each query
+     */
+    public FakeBackend(int rows) {
+        this.rows = SampleResult.writeRows(Unpooled.buffer(), rows);
+
+        this.channel = new ServerBootstrap()
+            .group(this.eventLoopGroup)
+            .channel(NioServerSocketChannel.class)
+            .childOption(ChannelOption.TCP_NODELAY, true)
+            .childHandler(new ChannelInitializer<SocketChannel>() {
+
+                @Override
+                protected void initChannel(SocketChannel channel) {
+                    channel.pipeline().addLast(new Handler());
+                }
+
+            })
+            .bind("localhost", 0)
+            .syncUninterruptibly()
+            .channel();
+    }
+
+    @Override
+    public void close() {
+        this.channel.close().syncUninterruptibly();
+        this.eventLoopGroup.shutdownGracefully(0, 0, TimeUnit.SECONDS).syncUninterruptibly();
+        this.rowDescription.release();
+        this.rows.release();
+    }
+
+    /**
+     * Returns the port the backend is listening on.
+     *
+     * @return the port the backend is listening on
+     */
+    public int getPort() {
+        return ((InetSocketAddress) this.channel.localAddress()).getPort();
+    }
+
+    /**
+     * Returns the number of reads the backend has performed.
+     *
+     * @return the number of reads the backend has performed
+     */
+    public long getReads() {
+        return this.reads.get();
+    }
+
+    private final class Handler extends ByteToMessageDecoder {
+
+        private boolean started = false;
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+            FakeBackend.this.reads.incrementAndGet();
+            super.channelRead(ctx, msg);
+        }
+
+        @Override
+        protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+            if (!this.started) {
+                if (in.readableBytes() < 4 || in.readableBytes() < in.getInt(in.readerIndex())) {
+                    return;
+                }
+
+                in.skipBytes(in.getInt(in.readerIndex()));
+                this.started = true;
+
+                ByteBuf response = ctx.alloc().buffer();
+                authenticationOk(response);
+                backendKeyData(response, 100, 200);
+                readyForQuery(response);
+                ctx.writeAndFlush(response);
+                return;
+            }
+
+            if (in.readableBytes() < 5 || in.readableBytes() < 1 + in.getInt(in.readerIndex() + 1)) {
+                return;
+            }
+
+            byte type = in.readByte();
+            ByteBuf body = in.readSlice(in.readInt() - 4);
+
+            switch (type) {
+                case 'B':
+                    ctx.write(bindComplete(ctx.alloc().buffer()));
+                    break;
+                case 'C':
+                    ctx.write(closeComplete(ctx.alloc().buffer()));
+                    break;
+                case 'D':
+                    if ('S' == body.readByte()) {
+                        ctx.write(parameterDescription(ctx.alloc().buffer(), INT4));
+                    }
+                    ctx.write(FakeBackend.this.rowDescription.retainedDuplicate());
+                    break;
+                case 'E':
+                    ctx.write(FakeBackend.this.rows.retainedDuplicate());
+                    break;
+                case 'H':
+                    ctx.flush();
+                    break;
+                case 'P':
+                    ctx.write(parseComplete(ctx.alloc().buffer()));
+                    break;
+                case 'Q':
+                    ctx.write(FakeBackend.this.rowDescription.retainedDuplicate());
+                    ctx.write(FakeBackend.this.rows.retainedDuplicate());
+                    ctx.writeAndFlush(readyForQuery(ctx.alloc().buffer()));
+                    break;
+                case 'S':
+                    ctx.writeAndFlush(readyForQuery(ctx.alloc().buffer()));
+                    break;
+                case 'X':
+                    ctx.close();
+                    break;
+                default:
+                    throw new IllegalArgumentException(String.format("%c is not a supported message type", (char) type));
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.nebhale.r2dbc.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+
+import static com.nebhale.r2dbc.benchmarks.BackendMessages.commandComplete;
+import static com.nebhale.r2dbc.benchmarks.BackendMessages.dataRow;
+import static com.nebhale.r2dbc.benchmarks.BackendMessages.rowDescription;
+
+/**
+ * A representative query result used by the benchmarks: an {@code int4} id, a {@code varchar} name, a {@code numeric} amount, a {@code timestamp}, and a nullable {@code bool}.
+ */
+public final class SampleResult {
+
+    /**
+     * The object ids of the column data types.
+     */
+    public static final int[] DATA_TYPES = new int[]{23, 1043, 1700, 1114, 16};
+
+    /**
+     * The names of the columns.
+     */
+    public static final String[] NAMES = new String[]{"id", "name", "amount", "created", "active"};
+
+    private SampleResult() {
+    }
+
+    /**
+     * Returns the text values of a row.
+     *
+     * @param index the index of the row
+     * @return the text values of the row
+     */
+    public static String[] row(int index) {
+        return new String[]{
+            String.valueOf(index),
+            "name-" + index,
+            String.format("%d.%02d", index * 7, index % 100),
+            "2018-03-04T05:06:07.123456",
+            index % 3 == 0 ? null : String.valueOf(index % 2 == 0 ? 't' : 'f')
+        };
+    }
+
+    /**
+     * Writes the {@code RowDescription} of the result.
+     *
+     * @param out the {@link ByteBuf} to write to
+     * @return {@code out}
+     */
+    public static ByteBuf writeRowDescription(ByteBuf out) {
+        return rowDescription(out, NAMES, DATA_TYPES);
+    }
+
+    /**
+     * Writes the {@code DataRow}s of the result, followed by its {@code CommandComplete}.
+     *
+     * @param out  the {@link ByteBuf} to write to
+     * @param rows the number of rows to write
+     * @return {@code out}
+     */
+    public static ByteBuf writeRows(ByteBuf out, int rows) {
+        for (int i = 0; i < rows; i++) {
+            dataRow(out, row(i));
+        }
+
+        return commandComplete(out, "SELECT " + rows);
+    }
+
+}
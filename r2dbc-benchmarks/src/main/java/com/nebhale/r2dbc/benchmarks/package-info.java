@@ -0,0 +1,25 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+/**
+ * JMH benchmarks for the hot paths of the PostgreSQL driver, together with the fixtures they share.  Benchmarks that exercise package-private types live in the package of the type they measure.
+ */
+
+@NonNullApi
+package com.nebhale.r2dbc.benchmarks;
+
+import com.nebhale.r2dbc.core.nullability.NonNullApi;
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.nebhale.r2dbc.postgresql;
+
+import com.nebhale.r2dbc.benchmarks.FakeBackend;
+import com.nebhale.r2dbc.benchmarks.SampleResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks executing a query and mapping every row of its {@link PostgresqlResult}, end to end through a connection to a {@link FakeBackend} that returns the {@link SampleResult}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class PostgresqlResultBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int rows;
+
+    private FakeBackend backend;
+
+    private PostgresqlConnection connection;
+
+    @Benchmark
+    public Long extendedQuery() {
+        return this.connection.createStatement("SELECT id, name, amount, created, active FROM sample WHERE id > $1")
+            .bind("$1", 0)
+            .execute()
+            .flatMap(result -> result.map((row, rowMetadata) -> row.get("amount", BigDecimal.class)))
+            .count()
+            .block();
+    }
+
+    @Setup
+    public void setUp() {
+        this.backend = new FakeBackend(this.rows);
+
+        this.connection = new PostgresqlConnectionFactory(PostgresqlConnectionConfiguration.builder()
+            .host("localhost")
+            .port(this.backend.getPort())
+            .username("test-username")
+            .password("test-password")
+            .build())
+            .create()
+            .block();
+    }
+
+    @Benchmark
+    public Long simpleQuery() {
+        return this.connection.createStatement("SELECT id, name, amount, created, active FROM sample")
+            .execute()
+            .flatMap(result -> result.map((row, rowMetadata) -> row.get("amount", BigDecimal.class)))
+            .count()
+            .block();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.connection.close().block();
+        this.backend.close();
+    }
+
+}
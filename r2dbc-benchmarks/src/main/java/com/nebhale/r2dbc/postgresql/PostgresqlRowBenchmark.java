@@ -0,0 +1,117 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.nebhale.r2dbc.postgresql;
+
+import com.nebhale.r2dbc.benchmarks.SampleResult;
+import com.nebhale.r2dbc.postgresql.codec.DefaultCodecs;
+import com.nebhale.r2dbc.postgresql.message.backend.DataRow;
+import com.nebhale.r2dbc.postgresql.message.backend.RowDescription;
+import com.nebhale.r2dbc.postgresql.message.backend.RowDescription.Field;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static io.netty.util.CharsetUtil.UTF_8;
+
+/**
+ * Benchmarks retrieving values from a {@link PostgresqlRow} of the {@link SampleResult}, by index, by name, and with a primitive accessor.  When strings are cached, the {@link StringCache}s are
+ * shared across invocations as those of a prepared statement are shared across its results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class PostgresqlRowBenchmark {
+
+    @Param({"false", "true"})
+    public boolean cacheStrings;
+
+    private PostgresqlRow row;
+
+    @Benchmark
+    public void getAll(Blackhole blackhole) {
+        blackhole.consume(this.row.get(0, Integer.class));
+        blackhole.consume(this.row.get(1, String.class));
+        blackhole.consume(this.row.get(2, BigDecimal.class));
+        blackhole.consume(this.row.get(3, LocalDateTime.class));
+        blackhole.consume(this.row.get(4, Boolean.class));
+    }
+
+    @Benchmark
+    public Integer getIndex() {
+        return this.row.get(0, Integer.class);
+    }
+
+    @Benchmark
+    public int getInt() {
+        return this.row.getInt(0);
+    }
+
+    @Benchmark
+    public String getName() {
+        return this.row.get("name", String.class);
+    }
+
+    @Setup
+    public void setUp() {
+        List<Field> fields = new ArrayList<>();
+        List<ByteBuf> columns = new ArrayList<>();
+
+        String[] values = SampleResult.row(1);
+        for (int i = 0; i < values.length; i++) {
+            fields.add(new Field((short) (i + 1), SampleResult.DATA_TYPES[i], -1, (short) -1, TEXT, SampleResult.NAMES[i], 0));
+            columns.add(values[i] == null ? null : Unpooled.copiedBuffer(values[i], UTF_8));
+        }
+
+        this.row = PostgresqlRow.toRow(new DefaultCodecs(PooledByteBufAllocator.DEFAULT), new DataRow(columns), Columns.toColumns(new RowDescription(fields),
+            this.cacheStrings ? new AtomicReferenceArray<>(fields.size()) : null));
+        columns.stream()
+            .filter(Objects::nonNull)
+            .forEach(ByteBuf::release);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.row.release();
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+import com.nebhale.r2dbc.benchmarks.FakeBackend;
+import com.nebhale.r2dbc.postgresql.authentication.PasswordAuthenticationHandler;
+import com.nebhale.r2dbc.postgresql.client.Binding;
+import com.nebhale.r2dbc.postgresql.client.Client;
+import com.nebhale.r2dbc.postgresql.client.Parameter;
+import com.nebhale.r2dbc.postgresql.client.ReactorNettyClient;
+import com.nebhale.r2dbc.postgresql.client.StartupMessageFlow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+
+/**
+ * Benchmarks looking up prepared statements in a {@link StatementCache} from several threads at once.  Every statement is prepared against a {@link FakeBackend} during setup, so the score measures
+ * the contention of cache hits rather than the exchange with the backend.  Using a statement also counts its uses, so that an evicted statement is not closed while it is executing.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+@Warmup(iterations = 5, time = 1)
+public class StatementCacheBenchmark {
+
+    private static final Binding BINDING = new Binding().add(0, new Parameter(BINARY, 23, null));
+
+    @Param({"bounded", "indefinite"})
+    public String cache;
+
+    @Param({"1", "100"})
+    public int statements;
+
+    private FakeBackend backend;
+
+    private Client client;
+
+    private String[] sql;
+
+    private StatementCache statementCache;
+
+    @Benchmark
+    public PreparedStatement getPreparedStatement(Cursor cursor) {
+        return this.statementCache.getPreparedStatement(BINDING, this.sql[cursor.next(this.statements)]).block();
+    }
+
+    @Setup
+    public void setUp() {
+        this.backend = new FakeBackend(1);
+
+        this.client = new ReactorNettyClient("localhost", this.backend.getPort());
+        StartupMessageFlow.exchange("statement-cache-benchmark", new PasswordAuthenticationHandler("test-password", "test-username"), this.client, null, "test-username")
+            .blockLast();
+
+        this.statementCache = "bounded".equals(this.cache) ? new BoundedStatementCache(this.client, new RecentStatements(0), this.statements) : new IndefiniteStatementCache(this.client, new RecentStatements(0));
+
+        this.sql = IntStream.range(0, this.statements)
+            .mapToObj(i -> String.format("SELECT id, name, amount, created, active FROM sample WHERE id > $1 AND %d = %d", i, i))
+            .toArray(String[]::new);
+
+        for (String sql : this.sql) {
+            this.statementCache.getPreparedStatement(BINDING, sql).block();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.client.close().block();
+        this.backend.close();
+    }
+
+    @Benchmark
+    public PreparedStatement usePreparedStatement(Cursor cursor) {
+        return this.statementCache.usePreparedStatement(BINDING, this.sql[cursor.next(this.statements)], Mono::just).blockLast();
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int position;
+
+        int next(int limit) {
+            int next = this.position;
+            this.position = (next + 1) % limit;
+            return next;
+        }
+
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.nebhale.r2dbc.postgresql.client;
+
+import com.nebhale.r2dbc.benchmarks.FakeBackend;
+import com.nebhale.r2dbc.postgresql.PostgresqlConnection;
+import com.nebhale.r2dbc.postgresql.PostgresqlConnectionConfiguration;
+import com.nebhale.r2dbc.postgresql.PostgresqlConnectionFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks pipelining concurrent extended query executions over a single {@link ReactorNettyClient} connected to a {@link FakeBackend}.  The {@code flushes} counter reports the reads performed
+ * by the backend at the same rate as the score, so dividing it by the score gives the number of flushes per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class ReactorNettyClientBenchmark {
+
+    @Param({"1", "10"})
+    public int pipeline;
+
+    private FakeBackend backend;
+
+    private PostgresqlConnection connection;
+
+    @Benchmark
+    public Long execute(Flushes flushes) {
+        long reads = this.backend.getReads();
+
+        Long count = Flux.range(0, this.pipeline)
+            .flatMap(i -> this.connection.createStatement("SELECT id, name, amount, created, active FROM sample WHERE id > $1")
+                .bind("$1", i)
+                .execute()
+                .flatMap(result -> result.map((row, rowMetadata) -> row.get("id", Integer.class))))
+            .count()
+            .block();
+
+        flushes.flushes += this.backend.getReads() - reads;
+        return count;
+    }
+
+    @Setup
+    public void setUp() {
+        this.backend = new FakeBackend(1);
+
+        this.connection = new PostgresqlConnectionFactory(PostgresqlConnectionConfiguration.builder()
+            .host("localhost")
+            .port(this.backend.getPort())
+            .username("test-username")
+            .password("test-password")
+            .build())
+            .create()
+            .block();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.connection.close().block();
+        this.backend.close();
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Flushes {
+
+        public long flushes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.flushes = 0;
+        }
+
+    }
+
+}
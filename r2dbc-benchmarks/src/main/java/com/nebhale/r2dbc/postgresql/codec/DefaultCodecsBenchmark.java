@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.nebhale.r2dbc.postgresql.codec;
+
+import com.nebhale.r2dbc.postgresql.client.Binding;
+import com.nebhale.r2dbc.postgresql.message.Format;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link DefaultCodecs} encoding and decoding a value of each commonly used type.  Values are decoded from the representation the codecs encode them to.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class DefaultCodecsBenchmark {
+
+    private final DefaultCodecs codecs = new DefaultCodecs(PooledByteBufAllocator.DEFAULT);
+
+    @Param({"BigDecimal", "Boolean", "Instant", "Integer", "LocalDateTime", "Long", "String", "UUID"})
+    public String type;
+
+    private ByteBuf encoded;
+
+    private Integer dataType;
+
+    private Format format;
+
+    private Class<?> javaType;
+
+    private Object value;
+
+    @Benchmark
+    public Object decode() {
+        return this.codecs.decode(this.encoded.duplicate(), this.dataType, this.format, this.javaType);
+    }
+
+    @Benchmark
+    public Binding encode() {
+        Binding binding = new Binding().add(0, this.codecs.encode(this.value));
+        binding.getParameterValues().forEach(ByteBuf::release);
+
+        return binding;
+    }
+
+    @Setup
+    public void setUp() {
+        this.value = value(this.type);
+        this.javaType = this.value.getClass();
+
+        Binding binding = new Binding().add(0, this.codecs.encode(this.value));
+        this.dataType = binding.getParameterTypes().get(0);
+        this.encoded = binding.getParameterValues().get(0);
+        this.format = binding.getParameterFormats().get(0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.encoded.release();
+    }
+
+    private static Object value(String type) {
+        switch (type) {
+            case "BigDecimal":
+                return new BigDecimal("12345.6789");
+            case "Boolean":
+                return true;
+            case "Instant":
+                return Instant.parse("2018-03-04T05:06:07.123456Z");
+            case "Integer":
+                return 100;
+            case "LocalDateTime":
+                return LocalDateTime.parse("2018-03-04T05:06:07.123456");
+            case "Long":
+                return 100L;
+            case "String":
+                return "test-value";
+            case "UUID":
+                return UUID.fromString("79a7d8f5-49f0-4b4b-b1b7-4a0b0e1f1a2b");
+            default:
+                throw new IllegalArgumentException(String.format("%s is not a supported type", type));
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.nebhale.r2dbc.postgresql.message.backend;
+
+import com.nebhale.r2dbc.benchmarks.SampleResult;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.nebhale.r2dbc.benchmarks.BackendMessages.dataRow;
+
+/**
+ * Benchmarks decoding the bodies of individual {@link DataRow} and {@link RowDescription} messages.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class BackendMessageBenchmark {
+
+    private ByteBuf dataRow;
+
+    private ByteBuf rowDescription;
+
+    @Benchmark
+    public DataRow decodeDataRow() {
+        DataRow message = DataRow.decode(this.dataRow.duplicate());
+        message.release();
+
+        return message;
+    }
+
+    @Benchmark
+    public RowDescription decodeRowDescription() {
+        return RowDescription.decode(this.rowDescription.duplicate());
+    }
+
+    @Setup
+    public void setUp() {
+        this.dataRow = body(dataRow(Unpooled.buffer(), SampleResult.row(1)));
+        this.rowDescription = body(SampleResult.writeRowDescription(Unpooled.buffer()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.dataRow.release();
+        this.rowDescription.release();
+    }
+
+    private static ByteBuf body(ByteBuf message) {
+        return message.skipBytes(5);
+    }
+
+}
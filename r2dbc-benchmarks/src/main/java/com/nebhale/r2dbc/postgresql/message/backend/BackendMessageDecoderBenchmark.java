@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.nebhale.r2dbc.postgresql.message.backend;
+
+import com.nebhale.r2dbc.benchmarks.SampleResult;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.nebhale.r2dbc.benchmarks.BackendMessages.readyForQuery;
+
+/**
+ * Benchmarks {@link BackendMessageDecoder} decoding the wire capture of a complete query result: a {@code RowDescription}, the {@code DataRow}s, a {@code CommandComplete}, and a
+ * {@code ReadyForQuery}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class BackendMessageDecoderBenchmark {
+
+    private final BackendMessageDecoder decoder = new BackendMessageDecoder();
+
+    private final List<Object> out = new ArrayList<>();
+
+    @Param({"1", "100", "1000"})
+    public int rows;
+
+    private ByteBuf capture;
+
+    @Benchmark
+    public void decode(Blackhole blackhole) {
+        this.decoder.decode(null, this.capture.duplicate(), this.out);
+
+        for (Object message : this.out) {
+            if (message instanceof DataRow) {
+                ((DataRow) message).release();
+            }
+
+            blackhole.consume(message);
+        }
+
+        this.out.clear();
+    }
+
+    @Setup
+    public void setUp() {
+        this.capture = Unpooled.buffer();
+
+        SampleResult.writeRowDescription(this.capture);
+        SampleResult.writeRows(this.capture, this.rows);
+        readyForQuery(this.capture);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.capture.release();
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.nebhale.r2dbc.postgresql.message.frontend;
+
+import com.nebhale.r2dbc.postgresql.message.Format;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static io.netty.util.CharsetUtil.UTF_8;
+
+/**
+ * Benchmarks encoding the {@link Bind} and {@link Parse} messages of an extended query with three parameters.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+public class FrontendMessageBenchmark {
+
+    private static final List<Format> PARAMETER_FORMATS = Arrays.asList(BINARY, TEXT, BINARY);
+
+    private static final List<Format> RESULT_FORMATS = Arrays.asList(BINARY, TEXT, TEXT, BINARY, BINARY);
+
+    private final ByteBufAllocator byteBufAllocator = PooledByteBufAllocator.DEFAULT;
+
+    private final Parse parse = new Parse("S_0", Arrays.asList(23, 1043, 20), "SELECT id, name, amount, created, active FROM sample WHERE id > $1 AND name <> $2 AND amount < $3");
+
+    private ByteBuf amount;
+
+    private ByteBuf id;
+
+    private ByteBuf name;
+
+    @Benchmark
+    public int encodeBind() {
+        List<ByteBuf> parameters = Arrays.asList(this.id.retainedDuplicate(), this.name.retainedDuplicate(), this.amount.retainedDuplicate());
+
+        return encode(new Bind("B_0", PARAMETER_FORMATS, parameters, RESULT_FORMATS, "S_0"));
+    }
+
+    @Benchmark
+    public int encodeParse() {
+        return encode(this.parse);
+    }
+
+    @Setup
+    public void setUp() {
+        this.amount = Unpooled.buffer(8).writeLong(200);
+        this.id = Unpooled.buffer(4).writeInt(100);
+        this.name = Unpooled.copiedBuffer("name-100", UTF_8);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.amount.release();
+        this.id.release();
+        this.name.release();
+    }
+
+    private int encode(FrontendMessage message) {
+        ByteBuf encoded = Mono.from(message.encode(this.byteBufAllocator)).block();
+
+        if (encoded == null) {
+            return 0;
+        }
+
+        int length = encoded.readableBytes();
+        encoded.release();
+        return length;
+    }
+
+}
@@ -18,6 +18,8 @@ package com.nebhale.r2dbc.spi;
 
 import com.nebhale.r2dbc.core.nullability.Nullable;
 
+import java.util.Objects;
+
 /**
  * Represents a row returned from a database query.
  */
@@ -35,4 +37,58 @@ public interface Row {
     @Nullable
     <T> T get(Object identifier, Class<T> type);
 
+    /**
+     * Returns the value for a column in this row as a {@code boolean}.  Implementations should override this method to decode the value without boxing.
+     *
+     * @param index the index of the column
+     * @return the value for a column in this row
+     * @throws NullPointerException if the value is {@code null}
+     */
+    default boolean getBoolean(int index) {
+        return Objects.requireNonNull(get(index, Boolean.class), "value must not be null");
+    }
+
+    /**
+     * Returns the value for a column in this row as a {@code double}.  Implementations should override this method to decode the value without boxing.
+     *
+     * @param index the index of the column
+     * @return the value for a column in this row
+     * @throws NullPointerException if the value is {@code null}
+     */
+    default double getDouble(int index) {
+        return Objects.requireNonNull(get(index, Double.class), "value must not be null");
+    }
+
+    /**
+     * Returns the value for a column in this row as an {@code int}.  Implementations should override this method to decode the value without boxing.
+     *
+     * @param index the index of the column
+     * @return the value for a column in this row
+     * @throws NullPointerException if the value is {@code null}
+     */
+    default int getInt(int index) {
+        return Objects.requireNonNull(get(index, Integer.class), "value must not be null");
+    }
+
+    /**
+     * Returns the value for a column in this row as a {@code long}.  Implementations should override this method to decode the value without boxing.
+     *
+     * @param index the index of the column
+     * @return the value for a column in this row
+     * @throws NullPointerException if the value is {@code null}
+     */
+    default long getLong(int index) {
+        return Objects.requireNonNull(get(index, Long.class), "value must not be null");
+    }
+
+    /**
+     * Returns whether the value for a column in this row is {@code null}.  Use it to check a column before retrieving it with one of the primitive accessors.
+     *
+     * @param index the index of the column
+     * @return {@code true} if the value for a column in this row is {@code null}, otherwise {@code false}
+     */
+    default boolean isNull(int index) {
+        return get(index, Object.class) == null;
+    }
+
 }
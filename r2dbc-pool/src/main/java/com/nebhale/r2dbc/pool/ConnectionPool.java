@@ -0,0 +1,406 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.nebhale.r2dbc.pool;
+
+import com.nebhale.r2dbc.core.nullability.Nullable;
+import com.nebhale.r2dbc.spi.Connection;
+import com.nebhale.r2dbc.spi.ConnectionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A {@link ConnectionFactory} that decorates another {@link ConnectionFactory} and pools the {@link Connection}s that it creates.
+ * <p>
+ * Connections are handed out as {@link PooledConnection}s which roll back any transaction left open and return the underlying connection to the pool when closed.  A connection taken from the
+ * pool is validated before it is handed out, whether it was idle or returned directly to a waiting request.  Acquiring a connection never blocks: when the pool is exhausted the
+ * request waits in a queue until a connection is returned or the acquire timeout passes.  Idle connections are evicted after the maximum idle time, connections are closed once they reach their
+ * maximum life time, and the pool is topped back up to its minimum size in the background.
+ */
+public final class ConnectionPool implements ConnectionFactory {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final Clock clock;
+
+    private final ConnectionPoolConfiguration configuration;
+
+    private final ConnectionFactory connectionFactory;
+
+    private final Disposable eviction;
+
+    private final Deque<Entry> idle = new ArrayDeque<>();
+
+    private final Object monitor = new Object();
+
+    private final Queue<Waiter> pending = new ArrayDeque<>();
+
+    private boolean isClosed = false;
+
+    private int size = 0;
+
+    /**
+     * Creates a new connection pool.
+     *
+     * @param connectionFactory the {@link ConnectionFactory} to create pooled connections with
+     * @param configuration     the configuration of the pool
+     * @throws NullPointerException if {@code connectionFactory} or {@code configuration} is {@code null}
+     */
+    public ConnectionPool(ConnectionFactory connectionFactory, ConnectionPoolConfiguration configuration) {
+        this(Clock.systemUTC(), connectionFactory, configuration);
+    }
+
+    ConnectionPool(Clock clock, ConnectionFactory connectionFactory, ConnectionPoolConfiguration configuration) {
+        this.clock = Objects.requireNonNull(clock, "clock must not be null");
+        this.connectionFactory = Objects.requireNonNull(connectionFactory, "connectionFactory must not be null");
+        this.configuration = Objects.requireNonNull(configuration, "configuration must not be null");
+
+        this.eviction = Flux.interval(configuration.getEvictionInterval())
+            .subscribe(tick -> evict());
+
+        replenish();
+    }
+
+    /**
+     * Closes the pool.  Idle connections are closed immediately and borrowed connections are closed when they are returned.  Requests waiting for a connection receive an error.
+     *
+     * @return a {@link Mono} that indicates that the idle connections have been closed
+     */
+    public Mono<Void> close() {
+        return Mono.defer(() -> {
+            List<Entry> entries;
+            List<Waiter> waiters;
+
+            synchronized (this.monitor) {
+                if (this.isClosed) {
+                    return Mono.empty();
+                }
+
+                this.isClosed = true;
+
+                entries = new ArrayList<>(this.idle);
+                this.idle.clear();
+                this.size -= entries.size();
+
+                waiters = new ArrayList<>(this.pending);
+                this.pending.clear();
+            }
+
+            this.eviction.dispose();
+            waiters.forEach(waiter -> waiter.error(new IllegalStateException("Cannot acquire a connection because the pool is closed")));
+
+            return Flux.fromIterable(entries)
+                .flatMap(entry -> entry.connection.close())
+                .then();
+        });
+    }
+
+    @Override
+    public Mono<PooledConnection> create() {
+        Duration acquireTimeout = this.configuration.getAcquireTimeout();
+
+        return Mono.<PooledConnection>create(sink -> {
+            Waiter waiter = new Waiter(sink);
+            sink.onCancel(() -> cancel(waiter));
+            acquire(waiter);
+        })
+            .timeout(acquireTimeout, Mono.defer(() -> Mono.error(new TimeoutException(String.format("Unable to acquire a connection within %s", acquireTimeout)))));
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPool{" +
+            "configuration=" + this.configuration +
+            ", connectionFactory=" + this.connectionFactory +
+            '}';
+    }
+
+    void evict() {
+        List<Entry> evicted = new ArrayList<>();
+
+        synchronized (this.monitor) {
+            Iterator<Entry> entries = this.idle.descendingIterator();
+
+            while (entries.hasNext()) {
+                Entry entry = entries.next();
+
+                if (isExpired(entry) || (isIdleExpired(entry) && this.size - evicted.size() > this.configuration.getMinSize())) {
+                    entries.remove();
+                    evicted.add(entry);
+                }
+            }
+        }
+
+        if (!evicted.isEmpty()) {
+            this.logger.debug("Evicting {} connections", evicted.size());
+            evicted.forEach(this::destroy);
+        }
+    }
+
+    int getIdleSize() {
+        synchronized (this.monitor) {
+            return this.idle.size();
+        }
+    }
+
+    int getPendingSize() {
+        synchronized (this.monitor) {
+            return this.pending.size();
+        }
+    }
+
+    int getSize() {
+        synchronized (this.monitor) {
+            return this.size;
+        }
+    }
+
+    private void acquire(Waiter waiter) {
+        Entry entry;
+
+        synchronized (this.monitor) {
+            if (this.isClosed) {
+                waiter.error(new IllegalStateException("Cannot acquire a connection because the pool is closed"));
+                return;
+            }
+
+            entry = this.idle.pollFirst();
+
+            if (entry == null) {
+                if (this.size >= this.configuration.getMaxSize()) {
+                    this.pending.add(waiter);
+                    return;
+                }
+
+                this.size++;
+            }
+        }
+
+        if (entry == null) {
+            allocate(waiter);
+        } else if (isExpired(entry)) {
+            destroy(entry);
+            acquire(waiter);
+        } else {
+            validateAndLend(waiter, entry);
+        }
+    }
+
+    private void allocate(@Nullable Waiter waiter) {
+        Mono.from(this.connectionFactory.create())
+            .subscribe(connection -> {
+                Entry entry = new Entry(connection, this.clock.instant());
+
+                if (waiter == null) {
+                    recycle(entry);
+                } else {
+                    lend(waiter, entry);
+                }
+            }, t -> {
+                synchronized (this.monitor) {
+                    this.size--;
+                }
+
+                if (waiter == null) {
+                    this.logger.warn("Unable to create connection", t);
+                } else {
+                    waiter.error(t);
+                }
+            });
+    }
+
+    private void cancel(Waiter waiter) {
+        waiter.cancel();
+
+        synchronized (this.monitor) {
+            this.pending.remove(waiter);
+        }
+    }
+
+    private void destroy(Entry entry) {
+        synchronized (this.monitor) {
+            this.size--;
+        }
+
+        Mono.from(entry.connection.close())
+            .subscribe(null, t -> this.logger.warn("Unable to close connection", t));
+
+        replenish();
+    }
+
+    private boolean isExpired(Entry entry) {
+        return this.configuration.getMaxLifeTime()
+            .map(maxLifeTime -> !entry.created.plus(maxLifeTime).isAfter(this.clock.instant()))
+            .orElse(false);
+    }
+
+    private boolean isIdleExpired(Entry entry) {
+        return !entry.idleSince.plus(this.configuration.getMaxIdleTime()).isAfter(this.clock.instant());
+    }
+
+    private void lend(Waiter waiter, Entry entry) {
+        if (!waiter.success(new PooledConnection(entry.connection, () -> release(entry)))) {
+            recycle(entry);
+        }
+    }
+
+    private void recycle(Entry entry) {
+        Waiter waiter;
+
+        synchronized (this.monitor) {
+            if (!this.isClosed && !isExpired(entry)) {
+                waiter = this.pending.poll();
+
+                if (waiter == null) {
+                    entry.idleSince = this.clock.instant();
+                    this.idle.addFirst(entry);
+                    return;
+                }
+            } else {
+                waiter = null;
+            }
+        }
+
+        if (waiter == null) {
+            destroy(entry);
+        } else {
+            validateAndLend(waiter, entry);
+        }
+    }
+
+    private Mono<Void> release(Entry entry) {
+        return Mono.from(entry.connection.rollbackTransaction())
+            .then(Mono.just(true))
+            .onErrorResume(t -> {
+                this.logger.warn("Unable to roll back connection", t);
+                return Mono.just(false);
+            })
+            .doOnNext(isReset -> {
+                if (isReset) {
+                    recycle(entry);
+                } else {
+                    destroy(entry);
+                }
+            })
+            .doOnCancel(() -> destroy(entry))  // the transaction state of the connection is unknown
+            .then();
+    }
+
+    private void replenish() {
+        while (true) {
+            Waiter waiter;
+
+            synchronized (this.monitor) {
+                if (this.isClosed || this.size >= this.configuration.getMaxSize()) {
+                    return;
+                }
+
+                waiter = this.pending.poll();
+
+                if (waiter == null && this.size >= this.configuration.getMinSize()) {
+                    return;
+                }
+
+                this.size++;
+            }
+
+            allocate(waiter);
+        }
+    }
+
+    private Mono<Void> validate(Entry entry) {
+        return this.configuration.getValidationQuery()
+            .map(validationQuery -> Flux.from(entry.connection.createStatement(validationQuery).execute())
+                .flatMap(result -> result.map((row, rowMetadata) -> row))
+                .then())
+            .orElse(Mono.empty());
+    }
+
+    private void validateAndLend(Waiter waiter, Entry entry) {
+        validate(entry)
+            .subscribe(null, t -> {
+                this.logger.warn("Connection failed validation", t);
+                destroy(entry);
+                acquire(waiter);
+            }, () -> lend(waiter, entry));
+    }
+
+    private static final class Entry {
+
+        private final Connection connection;
+
+        private final Instant created;
+
+        private volatile Instant idleSince;
+
+        private Entry(Connection connection, Instant created) {
+            this.connection = connection;
+            this.created = created;
+            this.idleSince = created;
+        }
+
+    }
+
+    private static final class Waiter {
+
+        private final AtomicBoolean isComplete = new AtomicBoolean(false);
+
+        private final MonoSink<PooledConnection> sink;
+
+        private Waiter(MonoSink<PooledConnection> sink) {
+            this.sink = sink;
+        }
+
+        private void cancel() {
+            this.isComplete.set(true);
+        }
+
+        private void error(Throwable t) {
+            if (this.isComplete.compareAndSet(false, true)) {
+                this.sink.error(t);
+            }
+        }
+
+        private boolean success(PooledConnection connection) {
+            if (this.isComplete.compareAndSet(false, true)) {
+                this.sink.success(connection);
+                return true;
+            }
+
+            return false;
+        }
+
+    }
+
+}
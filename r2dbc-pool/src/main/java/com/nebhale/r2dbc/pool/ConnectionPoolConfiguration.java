@@ -0,0 +1,244 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.nebhale.r2dbc.pool;
+
+import com.nebhale.r2dbc.core.nullability.Nullable;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Configuration information for a {@link ConnectionPool}.
+ */
+public final class ConnectionPoolConfiguration {
+
+    private final Duration acquireTimeout;
+
+    private final Duration evictionInterval;
+
+    private final Duration maxIdleTime;
+
+    private final Duration maxLifeTime;
+
+    private final int maxSize;
+
+    private final int minSize;
+
+    private final String validationQuery;
+
+    private ConnectionPoolConfiguration(Duration acquireTimeout, Duration evictionInterval, Duration maxIdleTime, @Nullable Duration maxLifeTime, int maxSize, int minSize,
+                                        @Nullable String validationQuery) {
+
+        this.acquireTimeout = Objects.requireNonNull(acquireTimeout, "acquireTimeout must not be null");
+        this.evictionInterval = Objects.requireNonNull(evictionInterval, "evictionInterval must not be null");
+        this.maxIdleTime = Objects.requireNonNull(maxIdleTime, "maxIdleTime must not be null");
+        this.maxLifeTime = maxLifeTime;
+        this.maxSize = maxSize;
+        this.minSize = minSize;
+        this.validationQuery = validationQuery;
+
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be greater than zero");
+        }
+
+        if (minSize < 0 || minSize > maxSize) {
+            throw new IllegalArgumentException("minSize must be between zero and maxSize");
+        }
+    }
+
+    /**
+     * Returns a new {@link Builder}.
+     *
+     * @return a new {@link Builder}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolConfiguration{" +
+            "acquireTimeout=" + this.acquireTimeout +
+            ", evictionInterval=" + this.evictionInterval +
+            ", maxIdleTime=" + this.maxIdleTime +
+            ", maxLifeTime=" + this.maxLifeTime +
+            ", maxSize=" + this.maxSize +
+            ", minSize=" + this.minSize +
+            ", validationQuery='" + this.validationQuery + '\'' +
+            '}';
+    }
+
+    Duration getAcquireTimeout() {
+        return this.acquireTimeout;
+    }
+
+    Duration getEvictionInterval() {
+        return this.evictionInterval;
+    }
+
+    Duration getMaxIdleTime() {
+        return this.maxIdleTime;
+    }
+
+    Optional<Duration> getMaxLifeTime() {
+        return Optional.ofNullable(this.maxLifeTime);
+    }
+
+    int getMaxSize() {
+        return this.maxSize;
+    }
+
+    int getMinSize() {
+        return this.minSize;
+    }
+
+    Optional<String> getValidationQuery() {
+        return Optional.ofNullable(this.validationQuery);
+    }
+
+    /**
+     * A builder for {@link ConnectionPoolConfiguration} instances.
+     * <p>
+     * <i>This class is not threadsafe</i>
+     */
+    public static final class Builder {
+
+        private Duration acquireTimeout = Duration.ofSeconds(30);
+
+        private Duration evictionInterval = Duration.ofSeconds(30);
+
+        private Duration maxIdleTime = Duration.ofMinutes(30);
+
+        private Duration maxLifeTime;
+
+        private int maxSize = 10;
+
+        private int minSize = 0;
+
+        private String validationQuery;
+
+        private Builder() {
+        }
+
+        /**
+         * Configure the maximum time to wait for a connection to become available.  Defaults to 30 seconds.
+         *
+         * @param acquireTimeout the maximum time to wait for a connection
+         * @return this {@link Builder}
+         * @throws NullPointerException if {@code acquireTimeout} is {@code null}
+         */
+        public Builder acquireTimeout(Duration acquireTimeout) {
+            this.acquireTimeout = Objects.requireNonNull(acquireTimeout, "acquireTimeout must not be null");
+            return this;
+        }
+
+        /**
+         * Returns a configured {@link ConnectionPoolConfiguration}.
+         *
+         * @return a configured {@link ConnectionPoolConfiguration}
+         * @throws IllegalArgumentException if {@code maxSize} is less than one or {@code minSize} is not between zero and {@code maxSize}
+         */
+        public ConnectionPoolConfiguration build() {
+            return new ConnectionPoolConfiguration(this.acquireTimeout, this.evictionInterval, this.maxIdleTime, this.maxLifeTime, this.maxSize, this.minSize, this.validationQuery);
+        }
+
+        /**
+         * Configure how often idle and expired connections are evicted.  Defaults to 30 seconds.
+         *
+         * @param evictionInterval the interval between evictions
+         * @return this {@link Builder}
+         * @throws NullPointerException if {@code evictionInterval} is {@code null}
+         */
+        public Builder evictionInterval(Duration evictionInterval) {
+            this.evictionInterval = Objects.requireNonNull(evictionInterval, "evictionInterval must not be null");
+            return this;
+        }
+
+        /**
+         * Configure the maximum time a connection can remain idle before it is evicted.  Defaults to 30 minutes.
+         *
+         * @param maxIdleTime the maximum idle time
+         * @return this {@link Builder}
+         * @throws NullPointerException if {@code maxIdleTime} is {@code null}
+         */
+        public Builder maxIdleTime(Duration maxIdleTime) {
+            this.maxIdleTime = Objects.requireNonNull(maxIdleTime, "maxIdleTime must not be null");
+            return this;
+        }
+
+        /**
+         * Configure the maximum time a connection can exist before it is closed.  Defaults to no limit.
+         *
+         * @param maxLifeTime the maximum life time
+         * @return this {@link Builder}
+         */
+        public Builder maxLifeTime(@Nullable Duration maxLifeTime) {
+            this.maxLifeTime = maxLifeTime;
+            return this;
+        }
+
+        /**
+         * Configure the maximum number of connections.  Defaults to {@code 10}.
+         *
+         * @param maxSize the maximum number of connections
+         * @return this {@link Builder}
+         */
+        public Builder maxSize(int maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Configure the minimum number of connections.  The pool opens this many connections in the background when it is created and after connections are evicted.  Defaults to {@code 0}.
+         *
+         * @param minSize the minimum number of connections
+         * @return this {@link Builder}
+         */
+        public Builder minSize(int minSize) {
+            this.minSize = minSize;
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "Builder{" +
+                "acquireTimeout=" + this.acquireTimeout +
+                ", evictionInterval=" + this.evictionInterval +
+                ", maxIdleTime=" + this.maxIdleTime +
+                ", maxLifeTime=" + this.maxLifeTime +
+                ", maxSize=" + this.maxSize +
+                ", minSize=" + this.minSize +
+                ", validationQuery='" + this.validationQuery + '\'' +
+                '}';
+        }
+
+        /**
+         * Configure a query that is executed to validate an idle connection before it is handed out.  Defaults to no validation.
+         *
+         * @param validationQuery the validation query
+         * @return this {@link Builder}
+         */
+        public Builder validationQuery(@Nullable String validationQuery) {
+            this.validationQuery = validationQuery;
+            return this;
+        }
+
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.nebhale.r2dbc.pool;
+
+import com.nebhale.r2dbc.spi.Batch;
+import com.nebhale.r2dbc.spi.Connection;
+import com.nebhale.r2dbc.spi.IsolationLevel;
+import com.nebhale.r2dbc.spi.Mutability;
+import com.nebhale.r2dbc.spi.Statement;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Connection} borrowed from a {@link ConnectionPool}.  Closing this connection rolls back any transaction left open and returns the underlying connection to the pool rather than closing
+ * it.
+ */
+public final class PooledConnection implements Connection {
+
+    private final AtomicBoolean isClosed = new AtomicBoolean(false);
+
+    private final Connection connection;
+
+    private final Supplier<Mono<Void>> release;
+
+    PooledConnection(Connection connection, Supplier<Mono<Void>> release) {
+        this.connection = Objects.requireNonNull(connection, "connection must not be null");
+        this.release = Objects.requireNonNull(release, "release must not be null");
+    }
+
+    @Override
+    public Publisher<Void> beginTransaction() {
+        return getConnection().beginTransaction();
+    }
+
+    @Override
+    public Mono<Void> close() {
+        return Mono.defer(() -> {
+            if (this.isClosed.compareAndSet(false, true)) {
+                return this.release.get();
+            }
+
+            return Mono.empty();
+        });
+    }
+
+    @Override
+    public Publisher<Void> commitTransaction() {
+        return getConnection().commitTransaction();
+    }
+
+    @Override
+    public Batch createBatch() {
+        return getConnection().createBatch();
+    }
+
+    @Override
+    public Publisher<Void> createSavepoint(String name) {
+        return getConnection().createSavepoint(name);
+    }
+
+    @Override
+    public Statement createStatement(String sql) {
+        return getConnection().createStatement(sql);
+    }
+
+    @Override
+    public Publisher<Void> releaseSavepoint(String name) {
+        return getConnection().releaseSavepoint(name);
+    }
+
+    @Override
+    public Publisher<Void> rollbackTransaction() {
+        return getConnection().rollbackTransaction();
+    }
+
+    @Override
+    public Publisher<Void> rollbackTransactionToSavepoint(String name) {
+        return getConnection().rollbackTransactionToSavepoint(name);
+    }
+
+    @Override
+    public Publisher<Void> setTransactionIsolationLevel(IsolationLevel isolationLevel) {
+        return getConnection().setTransactionIsolationLevel(isolationLevel);
+    }
+
+    @Override
+    public Publisher<Void> setTransactionMutability(Mutability mutability) {
+        return getConnection().setTransactionMutability(mutability);
+    }
+
+    @Override
+    public String toString() {
+        return "PooledConnection{" +
+            "connection=" + this.connection +
+            ", isClosed=" + this.isClosed +
+            '}';
+    }
+
+    private Connection getConnection() {
+        if (this.isClosed.get()) {
+            throw new IllegalStateException("Connection has been returned to the pool");
+        }
+
+        return this.connection;
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.nebhale.r2dbc.pool;
+
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public final class ConnectionPoolConfigurationTest {
+
+    @Test
+    public void builderNoAcquireTimeout() {
+        assertThatNullPointerException().isThrownBy(() -> ConnectionPoolConfiguration.builder().acquireTimeout(null))
+            .withMessage("acquireTimeout must not be null");
+    }
+
+    @Test
+    public void builderNoEvictionInterval() {
+        assertThatNullPointerException().isThrownBy(() -> ConnectionPoolConfiguration.builder().evictionInterval(null))
+            .withMessage("evictionInterval must not be null");
+    }
+
+    @Test
+    public void builderNoMaxIdleTime() {
+        assertThatNullPointerException().isThrownBy(() -> ConnectionPoolConfiguration.builder().maxIdleTime(null))
+            .withMessage("maxIdleTime must not be null");
+    }
+
+    @Test
+    public void configuration() {
+        ConnectionPoolConfiguration configuration = ConnectionPoolConfiguration.builder()
+            .acquireTimeout(Duration.ofSeconds(1))
+            .evictionInterval(Duration.ofSeconds(2))
+            .maxIdleTime(Duration.ofSeconds(3))
+            .maxLifeTime(Duration.ofSeconds(4))
+            .maxSize(5)
+            .minSize(6)
+            .maxSize(7)
+            .validationQuery("test-validation-query")
+            .build();
+
+        assertThat(configuration)
+            .hasFieldOrPropertyWithValue("acquireTimeout", Duration.ofSeconds(1))
+            .hasFieldOrPropertyWithValue("evictionInterval", Duration.ofSeconds(2))
+            .hasFieldOrPropertyWithValue("maxIdleTime", Duration.ofSeconds(3))
+            .hasFieldOrPropertyWithValue("maxLifeTime", Duration.ofSeconds(4))
+            .hasFieldOrPropertyWithValue("maxSize", 7)
+            .hasFieldOrPropertyWithValue("minSize", 6)
+            .hasFieldOrPropertyWithValue("validationQuery", "test-validation-query");
+    }
+
+    @Test
+    public void configurationDefaults() {
+        ConnectionPoolConfiguration configuration = ConnectionPoolConfiguration.builder()
+            .build();
+
+        assertThat(configuration)
+            .hasFieldOrPropertyWithValue("acquireTimeout", Duration.ofSeconds(30))
+            .hasFieldOrPropertyWithValue("evictionInterval", Duration.ofSeconds(30))
+            .hasFieldOrPropertyWithValue("maxIdleTime", Duration.ofMinutes(30))
+            .hasFieldOrPropertyWithValue("maxLifeTime", null)
+            .hasFieldOrPropertyWithValue("maxSize", 10)
+            .hasFieldOrPropertyWithValue("minSize", 0)
+            .hasFieldOrPropertyWithValue("validationQuery", null);
+    }
+
+    @Test
+    public void constructorInvalidMaxSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> ConnectionPoolConfiguration.builder()
+            .maxSize(0)
+            .build())
+            .withMessage("maxSize must be greater than zero");
+    }
+
+    @Test
+    public void constructorInvalidMinSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> ConnectionPoolConfiguration.builder()
+            .maxSize(1)
+            .minSize(2)
+            .build())
+            .withMessage("minSize must be between zero and maxSize");
+    }
+
+}
@@ -0,0 +1,365 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.nebhale.r2dbc.pool;
+
+import com.nebhale.r2dbc.spi.Connection;
+import com.nebhale.r2dbc.spi.ConnectionFactory;
+import com.nebhale.r2dbc.spi.MockConnection;
+import com.nebhale.r2dbc.spi.MockResult;
+import com.nebhale.r2dbc.spi.MockStatement;
+import com.nebhale.r2dbc.spi.Statement;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class ConnectionPoolTest {
+
+    private final Clock clock = mock(Clock.class);
+
+    private final List<MockConnection> connections = new ArrayList<>();
+
+    private final ConnectionFactory connectionFactory = () -> Mono.fromSupplier(() -> {
+        MockConnection connection = MockConnection.builder()
+            .statement(MockStatement.builder()
+                .result(MockResult.empty())
+                .build())
+            .build();
+
+        this.connections.add(connection);
+        return connection;
+    });
+
+    {
+        when(this.clock.instant()).thenReturn(Instant.EPOCH);
+    }
+
+    @Test
+    public void close() {
+        ConnectionPool pool = new ConnectionPool(this.clock, this.connectionFactory, ConnectionPoolConfiguration.builder()
+            .minSize(2)
+            .build());
+
+        pool.close()
+            .as(StepVerifier::create)
+            .verifyComplete();
+
+        assertThat(this.connections).hasSize(2).allMatch(MockConnection::isCloseCalled);
+        assertThat(pool.getSize()).isZero();
+
+        pool.create()
+            .as(StepVerifier::create)
+            .verifyErrorSatisfies(t -> assertThat(t).isInstanceOf(IllegalStateException.class).hasMessage("Cannot acquire a connection because the pool is closed"));
+    }
+
+    @Test
+    public void closeBorrowed() {
+        ConnectionPool pool = new ConnectionPool(this.clock, this.connectionFactory, ConnectionPoolConfiguration.builder().build());
+        PooledConnection connection = pool.create().block();
+
+        pool.close()
+            .then(connection.close())
+            .as(StepVerifier::create)
+            .verifyComplete();
+
+        assertThat(this.connections.get(0).isCloseCalled()).isTrue();
+        assertThat(pool.getSize()).isZero();
+    }
+
+    @Test
+    public void constructorNoConfiguration() {
+        assertThatNullPointerException().isThrownBy(() -> new ConnectionPool(this.connectionFactory, null))
+            .withMessage("configuration must not be null");
+    }
+
+    @Test
+    public void constructorNoConnectionFactory() {
+        assertThatNullPointerException().isThrownBy(() -> new ConnectionPool(null, ConnectionPoolConfiguration.builder().build()))
+            .withMessage("connectionFactory must not be null");
+    }
+
+    @Test
+    public void create() {
+        ConnectionPool pool = new ConnectionPool(this.clock, this.connectionFactory, ConnectionPoolConfiguration.builder().build());
+
+        pool.create()
+            .flatMap(PooledConnection::close)
+            .then(pool.create())
+            .flatMap(PooledConnection::close)
+            .as(StepVerifier::create)
+            .verifyComplete();
+
+        assertThat(this.connections).hasSize(1);
+        assertThat(this.connections.get(0).isCloseCalled()).isFalse();
+        assertThat(pool.getSize()).isEqualTo(1);
+        assertThat(pool.getIdleSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void createError() {
+        Exception exception = new Exception();
+        ConnectionPool pool = new ConnectionPool(this.clock, () -> Mono.error(exception), ConnectionPoolConfiguration.builder().build());
+
+        pool.create()
+            .as(StepVerifier::create)
+            .verifyErrorMatches(exception::equals);
+
+        assertThat(pool.getSize()).isZero();
+    }
+
+    @Test
+    public void createExhausted() {
+        ConnectionPool pool = new ConnectionPool(this.clock, this.connectionFactory, ConnectionPoolConfiguration.builder()
+            .maxSize(1)
+            .build());
+
+        PooledConnection first = pool.create().block();
+
+        pool.create()
+            .as(StepVerifier::create)
+            .then(() -> assertThat(pool.getPendingSize()).isEqualTo(1))
+            .then(() -> first.close().block())
+            .expectNextCount(1)
+            .verifyComplete();
+
+        assertThat(this.connections).hasSize(1);
+        assertThat(pool.getPendingSize()).isZero();
+    }
+
+    @Test
+    public void createExhaustedValidationFailure() {
+        Statement statement = mock(Statement.class);
+        doReturn(Flux.error(new Exception())).when(statement).execute();
+
+        Connection invalid = mock(Connection.class);
+        when(invalid.createStatement("test-validation-query")).thenReturn(statement);
+        doReturn(Mono.empty()).when(invalid).close();
+        doReturn(Mono.empty()).when(invalid).rollbackTransaction();
+
+        MockConnection valid = MockConnection.builder()
+            .statement(MockStatement.builder()
+                .result(MockResult.empty())
+                .build())
+            .build();
+
+        List<Connection> connections = new ArrayList<>();
+        connections.add(invalid);
+        connections.add(valid);
+
+        ConnectionPool pool = new ConnectionPool(this.clock, () -> Mono.fromSupplier(() -> connections.remove(0)), ConnectionPoolConfiguration.builder()
+            .maxSize(1)
+            .validationQuery("test-validation-query")
+            .build());
+
+        PooledConnection first = pool.create().block();
+
+        pool.create()
+            .as(StepVerifier::create)
+            .then(() -> assertThat(pool.getPendingSize()).isEqualTo(1))
+            .then(() -> first.close().block())
+            .expectNextCount(1)
+            .verifyComplete();
+
+        assertThat(connections).isEmpty();
+        assertThat(pool.getSize()).isEqualTo(1);
+        assertThat(pool.getPendingSize()).isZero();
+    }
+
+    @Test
+    public void createMaxLifeTime() {
+        ConnectionPool pool = new ConnectionPool(this.clock, this.connectionFactory, ConnectionPoolConfiguration.builder()
+            .maxLifeTime(Duration.ofMinutes(1))
+            .build());
+
+        pool.create()
+            .flatMap(PooledConnection::close)
+            .block();
+
+        when(this.clock.instant()).thenReturn(Instant.EPOCH.plus(Duration.ofMinutes(1)));
+
+        pool.create()
+            .as(StepVerifier::create)
+            .expectNextCount(1)
+            .verifyComplete();
+
+        assertThat(this.connections).hasSize(2);
+        assertThat(this.connections.get(0).isCloseCalled()).isTrue();
+        assertThat(pool.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void createTimeout() {
+        ConnectionPool pool = new ConnectionPool(this.clock, this.connectionFactory, ConnectionPoolConfiguration.builder()
+            .acquireTimeout(Duration.ofMillis(100))
+            .maxSize(1)
+            .build());
+
+        PooledConnection first = pool.create().block();
+
+        pool.create()
+            .as(StepVerifier::create)
+            .verifyErrorSatisfies(t -> assertThat(t).isInstanceOf(TimeoutException.class).hasMessage("Unable to acquire a connection within PT0.1S"));
+
+        assertThat(pool.getPendingSize()).isZero();
+
+        first.close()
+            .block();
+
+        assertThat(pool.getIdleSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void createValidation() {
+        ConnectionPool pool = new ConnectionPool(this.clock, this.connectionFactory, ConnectionPoolConfiguration.builder()
+            .validationQuery("test-validation-query")
+            .build());
+
+        pool.create()
+            .flatMap(PooledConnection::close)
+            .then(pool.create())
+            .as(StepVerifier::create)
+            .expectNextCount(1)
+            .verifyComplete();
+
+        assertThat(this.connections).hasSize(1);
+        assertThat(this.connections.get(0).getCreateStatementSql()).isEqualTo("test-validation-query");
+    }
+
+    @Test
+    public void createValidationFailure() {
+        Statement statement = mock(Statement.class);
+        doReturn(Flux.error(new Exception())).when(statement).execute();
+
+        Connection invalid = mock(Connection.class);
+        when(invalid.createStatement("test-validation-query")).thenReturn(statement);
+        doReturn(Mono.empty()).when(invalid).close();
+        doReturn(Mono.empty()).when(invalid).rollbackTransaction();
+
+        List<Connection> connections = new ArrayList<>();
+        connections.add(invalid);
+        connections.add(MockConnection.empty());
+
+        ConnectionPool pool = new ConnectionPool(this.clock, () -> Mono.fromSupplier(() -> connections.remove(0)), ConnectionPoolConfiguration.builder()
+            .validationQuery("test-validation-query")
+            .build());
+
+        pool.create()
+            .flatMap(PooledConnection::close)
+            .then(pool.create())
+            .as(StepVerifier::create)
+            .expectNextCount(1)
+            .verifyComplete();
+
+        assertThat(connections).isEmpty();
+        assertThat(pool.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void evictIdle() {
+        ConnectionPool pool = new ConnectionPool(this.clock, this.connectionFactory, ConnectionPoolConfiguration.builder()
+            .maxIdleTime(Duration.ofMinutes(1))
+            .minSize(1)
+            .build());
+
+        Flux.just(pool.create().block(), pool.create().block())
+            .flatMap(PooledConnection::close)
+            .blockLast();
+
+        assertThat(pool.getIdleSize()).isEqualTo(2);
+
+        when(this.clock.instant()).thenReturn(Instant.EPOCH.plus(Duration.ofMinutes(1)));
+        pool.evict();
+
+        assertThat(pool.getIdleSize()).isEqualTo(1);
+        assertThat(this.connections).filteredOn(MockConnection::isCloseCalled).hasSize(1);
+    }
+
+    @Test
+    public void evictMaxLifeTime() {
+        ConnectionPool pool = new ConnectionPool(this.clock, this.connectionFactory, ConnectionPoolConfiguration.builder()
+            .maxLifeTime(Duration.ofMinutes(1))
+            .minSize(1)
+            .build());
+
+        when(this.clock.instant()).thenReturn(Instant.EPOCH.plus(Duration.ofMinutes(1)));
+        pool.evict();
+
+        assertThat(this.connections).hasSize(2);
+        assertThat(this.connections.get(0).isCloseCalled()).isTrue();
+        assertThat(pool.getSize()).isEqualTo(1);
+        assertThat(pool.getIdleSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void release() {
+        ConnectionPool pool = new ConnectionPool(this.clock, this.connectionFactory, ConnectionPoolConfiguration.builder().build());
+
+        pool.create()
+            .flatMap(PooledConnection::close)
+            .as(StepVerifier::create)
+            .verifyComplete();
+
+        assertThat(this.connections.get(0).isRollbackTransactionCalled()).isTrue();
+        assertThat(this.connections.get(0).isCloseCalled()).isFalse();
+        assertThat(pool.getIdleSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void releaseRollbackFailure() {
+        Connection connection = mock(Connection.class);
+        doReturn(Mono.error(new Exception())).when(connection).rollbackTransaction();
+        doReturn(Mono.empty()).when(connection).close();
+
+        ConnectionPool pool = new ConnectionPool(this.clock, () -> Mono.just(connection), ConnectionPoolConfiguration.builder().build());
+
+        pool.create()
+            .flatMap(PooledConnection::close)
+            .as(StepVerifier::create)
+            .verifyComplete();
+
+        verify(connection).close();
+        assertThat(pool.getSize()).isZero();
+        assertThat(pool.getIdleSize()).isZero();
+    }
+
+    @Test
+    public void warmUp() {
+        ConnectionPool pool = new ConnectionPool(this.clock, this.connectionFactory, ConnectionPoolConfiguration.builder()
+            .minSize(3)
+            .build());
+
+        assertThat(this.connections).hasSize(3);
+        assertThat(pool.getSize()).isEqualTo(3);
+        assertThat(pool.getIdleSize()).isEqualTo(3);
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.nebhale.r2dbc.pool;
+
+import com.nebhale.r2dbc.spi.MockBatch;
+import com.nebhale.r2dbc.spi.MockConnection;
+import com.nebhale.r2dbc.spi.MockStatement;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.nebhale.r2dbc.spi.IsolationLevel.SERIALIZABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public final class PooledConnectionTest {
+
+    @Test
+    public void beginTransaction() {
+        MockConnection connection = MockConnection.empty();
+
+        Mono.from(new PooledConnection(connection, Mono::empty).beginTransaction())
+            .as(StepVerifier::create)
+            .verifyComplete();
+
+        assertThat(connection.isBeginTransactionCalled()).isTrue();
+    }
+
+    @Test
+    public void close() {
+        MockConnection connection = MockConnection.empty();
+        AtomicInteger releases = new AtomicInteger();
+        PooledConnection pooledConnection = new PooledConnection(connection, () -> Mono.fromRunnable(releases::incrementAndGet));
+
+        pooledConnection.close()
+            .then(pooledConnection.close())
+            .as(StepVerifier::create)
+            .verifyComplete();
+
+        assertThat(releases).hasValue(1);
+        assertThat(connection.isCloseCalled()).isFalse();
+    }
+
+    @Test
+    public void closed() {
+        PooledConnection pooledConnection = new PooledConnection(MockConnection.empty(), Mono::empty);
+
+        pooledConnection.close()
+            .block();
+
+        assertThatIllegalStateException().isThrownBy(pooledConnection::beginTransaction)
+            .withMessage("Connection has been returned to the pool");
+    }
+
+    @Test
+    public void constructorNoConnection() {
+        assertThatNullPointerException().isThrownBy(() -> new PooledConnection(null, Mono::empty))
+            .withMessage("connection must not be null");
+    }
+
+    @Test
+    public void constructorNoRelease() {
+        assertThatNullPointerException().isThrownBy(() -> new PooledConnection(MockConnection.empty(), null))
+            .withMessage("release must not be null");
+    }
+
+    @Test
+    public void createBatch() {
+        MockBatch batch = MockBatch.empty();
+        MockConnection connection = MockConnection.builder()
+            .batch(batch)
+            .build();
+
+        assertThat(new PooledConnection(connection, Mono::empty).createBatch()).isSameAs(batch);
+    }
+
+    @Test
+    public void createStatement() {
+        MockStatement statement = MockStatement.empty();
+        MockConnection connection = MockConnection.builder()
+            .statement(statement)
+            .build();
+
+        assertThat(new PooledConnection(connection, Mono::empty).createStatement("test-sql")).isSameAs(statement);
+        assertThat(connection.getCreateStatementSql()).isEqualTo("test-sql");
+    }
+
+    @Test
+    public void setTransactionIsolationLevel() {
+        MockConnection connection = MockConnection.empty();
+
+        Mono.from(new PooledConnection(connection, Mono::empty).setTransactionIsolationLevel(SERIALIZABLE))
+            .as(StepVerifier::create)
+            .verifyComplete();
+
+        assertThat(connection.getSetTransactionIsolationLevelIsolationLevel()).isEqualTo(SERIALIZABLE);
+    }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+import com.nebhale.r2dbc.core.nullability.Nullable;
+import com.nebhale.r2dbc.postgresql.codec.Codecs;
+import com.nebhale.r2dbc.postgresql.message.Format;
+import com.nebhale.r2dbc.postgresql.message.backend.DataRow;
+import com.nebhale.r2dbc.postgresql.message.backend.RowDescription;
+import com.nebhale.r2dbc.postgresql.message.backend.RowDescription.Field;
+import com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId;
+import io.netty.buffer.ByteBuf;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.BPCHAR;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.JSON;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.NAME;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.XML;
+
+/**
+ * Decodes the tuples of a binary {@code COPY} data stream into {@link PostgresqlRow}s.  The server sends each tuple in its own chunk of the stream, so each chunk is decoded into at most one row
+ * whose values are slices of the chunk.  Rows describe their columns as if they had been returned by a query, so values are decoded by {@link Codecs} from their binary representations.
+ */
+final class BinaryCopyRowDecoder {
+
+    private static final int FLAG_OIDS = 1 << 16;
+
+    private static final int NULL = -1;
+
+    /**
+     * The data types whose binary representation is the same as their text representation.  Columns of these data types are described as text so that they can be decoded by codecs that only decode
+     * text.
+     */
+    private static final Set<PostgresqlObjectId> TEXTUAL_TYPES = EnumSet.of(BPCHAR, JSON, NAME, PostgresqlObjectId.TEXT, VARCHAR, XML);
+
+    private final Codecs codecs;
+
+    private final Columns columns;
+
+    private final PostgresqlRowMetadata rowMetadata;
+
+    private boolean isHeaderRead = false;
+
+    BinaryCopyRowDecoder(Codecs codecs, List<CopyColumn> columns) {
+        this.codecs = Objects.requireNonNull(codecs, "codecs must not be null");
+        Objects.requireNonNull(columns, "columns must not be null");
+
+        RowDescription rowDescription = new RowDescription(IntStream.range(0, columns.size())
+            .mapToObj(i -> toField(i, columns.get(i)))
+            .collect(Collectors.toList()));
+
+        this.columns = Columns.toColumns(rowDescription);
+        this.rowMetadata = PostgresqlRowMetadata.toRowMetadata(rowDescription);
+    }
+
+    /**
+     * Decodes a chunk of a binary {@code COPY} data stream.  The chunk is released once it has been decoded.
+     *
+     * @param data the chunk to decode
+     * @return the row in the chunk, or {@code null} if the chunk only contains the header or trailer of the stream
+     * @throws NullPointerException     if {@code data} is {@code null}
+     * @throws IllegalArgumentException if {@code data} is not a chunk of a binary {@code COPY} data stream or does not have a value for each column
+     */
+    @Nullable
+    PostgresqlRow decode(ByteBuf data) {
+        Objects.requireNonNull(data, "data must not be null");
+
+        try {
+            readHeader(data);
+
+            if (!data.isReadable()) {
+                return null;
+            }
+
+            short fieldCount = data.readShort();
+            if (fieldCount == BinaryCopyRowEncoder.TRAILER) {
+                return null;
+            }
+
+            if (fieldCount != this.rowMetadata.getColumnMetadatas().size()) {
+                throw new IllegalArgumentException(String.format("Tuple has %d values but there are %d columns", fieldCount, this.rowMetadata.getColumnMetadatas().size()));
+            }
+
+            List<ByteBuf> values = new ArrayList<>(fieldCount);
+            for (int i = 0; i < fieldCount; i++) {
+                int length = data.readInt();
+                values.add(length == NULL ? null : data.readSlice(length));
+            }
+
+            return PostgresqlRow.toRow(this.codecs, new DataRow(values), this.columns);
+        } finally {
+            data.release();
+        }
+    }
+
+    /**
+     * Returns the metadata of the decoded rows.
+     *
+     * @return the metadata of the decoded rows
+     */
+    PostgresqlRowMetadata getRowMetadata() {
+        return this.rowMetadata;
+    }
+
+    @Override
+    public String toString() {
+        return "BinaryCopyRowDecoder{" +
+            "codecs=" + this.codecs +
+            ", columns=" + this.columns +
+            ", isHeaderRead=" + this.isHeaderRead +
+            '}';
+    }
+
+    private static Field toField(int index, CopyColumn column) {
+        Format format = TEXTUAL_TYPES.contains(column.getType()) ? TEXT : BINARY;
+
+        return new Field((short) (index + 1), column.getType().getObjectId(), NULL, (short) NULL, format, column.getName(), 0);
+    }
+
+    private void readHeader(ByteBuf data) {
+        if (this.isHeaderRead) {
+            return;
+        }
+
+        for (byte b : BinaryCopyRowEncoder.SIGNATURE) {
+            if (!data.isReadable() || data.readByte() != b) {
+                throw new IllegalArgumentException("Data does not start with the binary COPY signature");
+            }
+        }
+
+        if ((data.readInt() & FLAG_OIDS) != 0) {
+            throw new IllegalArgumentException("Binary COPY data that includes OIDs is not supported");
+        }
+
+        data.skipBytes(data.readInt());
+        this.isHeaderRead = true;
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+import com.nebhale.r2dbc.core.nullability.Nullable;
+import com.nebhale.r2dbc.postgresql.codec.Codecs;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Encodes rows of values into a binary {@code COPY} data stream.  Each value is written by {@link Codecs} directly in the binary representation of the data type of its {@link CopyColumn}, so
+ * values are never formatted as text.  The first chunk of the stream starts with the binary {@code COPY} header and the stream ends with the chunk returned by {@link #encodeTrailer()}.
+ */
+final class BinaryCopyRowEncoder {
+
+    static final byte[] SIGNATURE = new byte[]{'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+
+    static final short TRAILER = -1;
+
+    private static final int NULL = -1;
+
+    private final ByteBufAllocator byteBufAllocator;
+
+    private final Codecs codecs;
+
+    private final int[] dataTypes;
+
+    private boolean isHeaderWritten = false;
+
+    BinaryCopyRowEncoder(ByteBufAllocator byteBufAllocator, Codecs codecs, List<CopyColumn> columns) {
+        this.byteBufAllocator = Objects.requireNonNull(byteBufAllocator, "byteBufAllocator must not be null");
+        this.codecs = Objects.requireNonNull(codecs, "codecs must not be null");
+        Objects.requireNonNull(columns, "columns must not be null");
+
+        this.dataTypes = columns.stream()
+            .mapToInt(column -> column.getType().getObjectId())
+            .toArray();
+    }
+
+    /**
+     * Encodes rows into a single chunk of a binary {@code COPY} data stream.
+     *
+     * @param rows the rows to encode
+     * @return the encoded rows
+     * @throws NullPointerException     if {@code rows} is {@code null}
+     * @throws IllegalArgumentException if a row does not have a value for each column or a value cannot be encoded as the data type of its column
+     */
+    ByteBuf encode(List<Object[]> rows) {
+        Objects.requireNonNull(rows, "rows must not be null");
+
+        ByteBuf out = this.byteBufAllocator.buffer();
+
+        try {
+            writeHeader(out);
+
+            for (Object[] row : rows) {
+                encodeRow(out, row);
+            }
+        } catch (RuntimeException e) {
+            out.release();
+            throw e;
+        }
+
+        return out;
+    }
+
+    /**
+     * Encodes the final chunk of a binary {@code COPY} data stream.
+     *
+     * @return the encoded trailer
+     */
+    ByteBuf encodeTrailer() {
+        ByteBuf out = this.byteBufAllocator.buffer();
+
+        writeHeader(out);
+        out.writeShort(TRAILER);
+
+        return out;
+    }
+
+    @Override
+    public String toString() {
+        return "BinaryCopyRowEncoder{" +
+            "byteBufAllocator=" + this.byteBufAllocator +
+            ", codecs=" + this.codecs +
+            ", isHeaderWritten=" + this.isHeaderWritten +
+            '}';
+    }
+
+    private void encodeRow(ByteBuf out, Object[] row) {
+        Objects.requireNonNull(row, "row must not be null");
+
+        if (row.length != this.dataTypes.length) {
+            throw new IllegalArgumentException(String.format("Row has %d values but there are %d columns", row.length, this.dataTypes.length));
+        }
+
+        out.writeShort(row.length);
+
+        for (int i = 0; i < row.length; i++) {
+            encodeValue(out, row[i], this.dataTypes[i]);
+        }
+    }
+
+    private void encodeValue(ByteBuf out, @Nullable Object value, int dataType) {
+        if (value == null) {
+            out.writeInt(NULL);
+            return;
+        }
+
+        // The length of the value is only known once it has been written
+        int lengthIndex = out.writerIndex();
+        out.writeInt(0);
+
+        this.codecs.encodeBinary(value, dataType, out);
+        out.setInt(lengthIndex, out.writerIndex() - lengthIndex - Integer.BYTES);
+    }
+
+    private void writeHeader(ByteBuf out) {
+        if (this.isHeaderWritten) {
+            return;
+        }
+
+        out.writeBytes(SIGNATURE);
+        out.writeInt(0); // flags
+        out.writeInt(0); // header extension length
+        this.isHeaderWritten = true;
+    }
+
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+import com.nebhale.r2dbc.postgresql.client.Binding;
+import com.nebhale.r2dbc.postgresql.client.Client;
+import com.nebhale.r2dbc.postgresql.client.ExtendedQueryMessageFlow;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A {@link StatementCache} that holds at most a fixed number of prepared statements.  When the limit is exceeded, the least recently used statement is evicted and closed on the server.  A
+ * statement that is still being used by an execution is only closed once the last execution using it terminates, and a statement that was never parsed is not closed at all.  A statement whose
+ * {@code Parse} fails is removed so that the next caller prepares it again.  Prepared statements are recorded in the {@link RecentStatements} shared by the connections of a factory.
+ * <p>
+ * A cached statement is found without locking.  Recency is tracked in epochs that only advance when a statement is added, so a hit records its use by reading the current epoch and only writes it
+ * to the statement when the statement has not yet been used in that epoch.  Adding and evicting statements, which only happens on a miss, is serialized by a lock.
+ */
+final class BoundedStatementCache implements StatementCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BoundedStatementCache.class);
+
+    private final ConcurrentMap<Tuple2<String, List<Integer>>, Entry> cache = new ConcurrentHashMap<>();
+
+    private final Client client;
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final int limit;
+
+    private final LongAdder misses = new LongAdder();
+
+    private final Object monitor = new Object();
+
+    private final RecentStatements recentStatements;
+
+    private volatile long epoch;
+
+    BoundedStatementCache(Client client, RecentStatements recentStatements, int limit) {
+        this.client = Objects.requireNonNull(client, "client must not be null");
+        this.recentStatements = Objects.requireNonNull(recentStatements, "recentStatements must not be null");
+
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be greater than zero");
+        }
+
+        this.limit = limit;
+    }
+
+    @Override
+    public Mono<PreparedStatement> getPreparedStatement(String sql, List<Integer> parameterTypes) {
+        Objects.requireNonNull(sql, "sql must not be null");
+        Objects.requireNonNull(parameterTypes, "parameterTypes must not be null");
+
+        return getEntry(Tuples.of(sql, parameterTypes), false, true).preparedStatement;
+    }
+
+    @Override
+    public StatementCacheStatistics getStatistics() {
+        return new StatementCacheStatistics(this.evictions.sum(), this.hits.sum(), this.misses.sum());
+    }
+
+    @Override
+    public Mono<Void> prepare(String sql, List<Integer> parameterTypes) {
+        Objects.requireNonNull(sql, "sql must not be null");
+        Objects.requireNonNull(parameterTypes, "parameterTypes must not be null");
+
+        return getEntry(Tuples.of(sql, parameterTypes), false, false).preparedStatement
+            .then();
+    }
+
+    @Override
+    public String toString() {
+        return "BoundedStatementCache{" +
+            "cache=" + this.cache +
+            ", client=" + this.client +
+            ", counter=" + this.counter +
+            ", epoch=" + this.epoch +
+            ", evictions=" + this.evictions +
+            ", hits=" + this.hits +
+            ", limit=" + this.limit +
+            ", misses=" + this.misses +
+            ", recentStatements=" + this.recentStatements +
+            '}';
+    }
+
+    @Override
+    public <T> Flux<T> usePreparedStatement(Binding binding, String sql, Function<PreparedStatement, ? extends Publisher<T>> f) {
+        Objects.requireNonNull(binding, "binding must not be null");
+        Objects.requireNonNull(sql, "sql must not be null");
+        Objects.requireNonNull(f, "f must not be null");
+
+        return Flux.defer(() -> {
+            Entry entry = getEntry(Tuples.of(sql, binding.getParameterTypes()), true, true);
+
+            return entry.preparedStatement
+                .flatMapMany(f)
+                .doFinally(signalType -> {
+                    if (entry.release()) {
+                        close(entry);
+                    }
+                });
+        });
+    }
+
+    private Entry addEntry(Tuple2<String, List<Integer>> key, boolean use, boolean lookup) {
+        Entry entry;
+        Entry evicted = null;
+
+        synchronized (this.monitor) {
+            entry = this.cache.get(key);
+
+            if (entry != null) {
+                if (lookup) {
+                    this.hits.increment();
+                }
+            } else {
+                if (lookup) {
+                    this.misses.increment();
+                }
+
+                entry = new Entry(key, ++this.epoch);
+                this.epoch++;  // the statement is more recent than every earlier use and less recent than every later one
+                this.cache.put(key, entry);
+
+                if (this.cache.size() > this.limit) {
+                    evicted = getLeastRecentlyUsed(entry);
+                    this.cache.remove(evicted.key, evicted);
+                    this.evictions.increment();
+
+                    if (!evicted.evict()) {
+                        evicted = null;  // the statement is closed once its last use terminates
+                    }
+                }
+            }
+
+            if (use) {
+                entry.use();  // an entry in the cache has not been closed
+            }
+        }
+
+        if (evicted != null) {
+            close(evicted);
+        }
+
+        return entry;
+    }
+
+    private void close(Entry entry) {
+        if (!entry.parsing.get()) {
+            return;
+        }
+
+        entry.preparedStatement
+            .onErrorResume(t -> Mono.empty())
+            .flatMapMany(preparedStatement -> ExtendedQueryMessageFlow.closeStatement(this.client, preparedStatement.getName()))
+            .handle(PostgresqlServerErrorException::handleErrorResponse)
+            .subscribe(null, throwable -> LOGGER.warn("Unable to close statement", throwable));
+    }
+
+    private Entry getEntry(Tuple2<String, List<Integer>> key, boolean use, boolean lookup) {
+        Entry entry = this.cache.get(key);
+
+        if (entry == null || !(use ? entry.use() : entry.isOpen())) {
+            return addEntry(key, use, lookup);  // an entry that has been closed is no longer in the cache
+        }
+
+        entry.touch(this.epoch);
+
+        if (lookup) {
+            this.hits.increment();
+        }
+
+        return entry;
+    }
+
+    private Entry getLeastRecentlyUsed(Entry excluded) {
+        Entry leastRecentlyUsed = null;
+
+        for (Entry candidate : this.cache.values()) {
+            if (candidate != excluded && (leastRecentlyUsed == null || candidate.lastUsed < leastRecentlyUsed.lastUsed)) {
+                leastRecentlyUsed = candidate;
+            }
+        }
+
+        return leastRecentlyUsed;
+    }
+
+    private Mono<PreparedStatement> parse(Tuple2<String, List<Integer>> key, Entry entry) {
+        String name = String.format("S_%d", this.counter.getAndIncrement());
+
+        return ExtendedQueryMessageFlow
+            .parse(this.client, name, key.getT1(), key.getT2())
+            .doOnSubscribe(subscription -> entry.parsing.set(true))
+            .handle(PostgresqlServerErrorException::handleErrorResponse)
+            .collectList()
+            .map(messages -> PreparedStatement.toPreparedStatement(name, messages))
+            .doOnSuccess(preparedStatement -> this.recentStatements.add(key.getT1(), key.getT2()))
+            .doOnError(t -> {
+                this.cache.remove(key, entry);
+                this.recentStatements.remove(key.getT1(), key.getT2());
+            })
+            .cache();
+    }
+
+    /**
+     * A cached statement.  The number of uses is counted so that an evicted statement is closed by whichever of the eviction or the termination of its last use happens last.  Once the statement
+     * has been closed, the number of uses is {@value #CLOSED} and the statement can no longer be used.
+     */
+    private final class Entry {
+
+        private static final int CLOSED = -1;
+
+        private final Tuple2<String, List<Integer>> key;
+
+        private final AtomicBoolean parsing = new AtomicBoolean();
+
+        private final Mono<PreparedStatement> preparedStatement;
+
+        private final AtomicInteger uses = new AtomicInteger();
+
+        private volatile boolean evicted;
+
+        private volatile long lastUsed;
+
+        private Entry(Tuple2<String, List<Integer>> key, long lastUsed) {
+            this.key = key;
+            this.lastUsed = lastUsed;
+            this.preparedStatement = parse(key, this);
+        }
+
+        @Override
+        public String toString() {
+            return "Entry{" +
+                "evicted=" + this.evicted +
+                ", lastUsed=" + this.lastUsed +
+                ", parsing=" + this.parsing +
+                ", preparedStatement=" + this.preparedStatement +
+                ", uses=" + this.uses +
+                '}';
+        }
+
+        /**
+         * Marks the statement as evicted.
+         *
+         * @return {@code true} if the statement is not in use and should be closed now, otherwise {@code false}
+         */
+        private boolean evict() {
+            this.evicted = true;
+            return this.uses.compareAndSet(0, CLOSED);
+        }
+
+        private boolean isOpen() {
+            return this.uses.get() != CLOSED;
+        }
+
+        /**
+         * Ends a use of the statement.
+         *
+         * @return {@code true} if the statement has been evicted and this was its last use, so that it should be closed now, otherwise {@code false}
+         */
+        private boolean release() {
+            return this.uses.decrementAndGet() == 0 && this.evicted && this.uses.compareAndSet(0, CLOSED);
+        }
+
+        private void touch(long epoch) {
+            if (this.lastUsed != epoch) {
+                this.lastUsed = epoch;
+            }
+        }
+
+        /**
+         * Starts a use of the statement.
+         *
+         * @return {@code true} if the statement can be used, or {@code false} if it has already been closed
+         */
+        private boolean use() {
+            while (true) {
+                int uses = this.uses.get();
+
+                if (uses == CLOSED) {
+                    return false;
+                }
+
+                if (this.uses.compareAndSet(uses, uses + 1)) {
+                    return true;
+                }
+            }
+        }
+
+    }
+
+}
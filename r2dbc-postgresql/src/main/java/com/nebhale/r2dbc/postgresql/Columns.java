@@ -0,0 +1,168 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.nebhale.r2dbc.postgresql;
+
+import com.nebhale.r2dbc.core.nullability.Nullable;
+import com.nebhale.r2dbc.postgresql.message.Format;
+import com.nebhale.r2dbc.postgresql.message.backend.RowDescription;
+import com.nebhale.r2dbc.postgresql.message.backend.RowDescription.Field;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The columns of a result, derived once from its {@link RowDescription} and shared by all of its rows.  Resolves column identifiers to indexes and exposes the data type and format of each
+ * column.  When the result belongs to a {@link PreparedStatement} that caches strings, each column also has the {@link StringCache} of that statement, so that repeated values of
+ * low-cardinality columns share a single instance across all of its results.
+ */
+final class Columns {
+
+    private final List<Field> fields;
+
+    private final Map<String, Integer> nameKeyedIndexes;
+
+    private final AtomicReferenceArray<StringCache> stringCaches;
+
+    Columns(List<Field> fields) {
+        this(fields, null);
+    }
+
+    Columns(List<Field> fields, @Nullable AtomicReferenceArray<StringCache> stringCaches) {
+        this.fields = Objects.requireNonNull(fields, "fields must not be null");
+
+        this.nameKeyedIndexes = new HashMap<>(fields.size() * 2);
+        for (int i = 0; i < fields.size(); i++) {
+            this.nameKeyedIndexes.putIfAbsent(fields.get(i).getName(), i);
+        }
+
+        this.stringCaches = stringCaches;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Columns that = (Columns) o;
+        return Objects.equals(this.fields, that.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.fields);
+    }
+
+    @Override
+    public String toString() {
+        return "Columns{" +
+            "fields=" + this.fields +
+            ", nameKeyedIndexes=" + this.nameKeyedIndexes +
+            '}';
+    }
+
+    static Columns toColumns(RowDescription rowDescription) {
+        Objects.requireNonNull(rowDescription, "rowDescription must not be null");
+
+        return toColumns(rowDescription, null);
+    }
+
+    static Columns toColumns(RowDescription rowDescription, @Nullable AtomicReferenceArray<StringCache> stringCaches) {
+        Objects.requireNonNull(rowDescription, "rowDescription must not be null");
+
+        return new Columns(rowDescription.getFields(), stringCaches);
+    }
+
+    int getDataType(int index) {
+        return this.fields.get(index).getDataType();
+    }
+
+    Format getFormat(int index) {
+        return this.fields.get(index).getFormat();
+    }
+
+    /**
+     * Returns the {@link StringCache} of a column, creating it when it is first used.
+     *
+     * @param index the index of the column
+     * @return the {@link StringCache} of the column, or {@code null} if the column does not cache strings
+     */
+    @Nullable
+    StringCache getStringCache(int index) {
+        if (this.stringCaches == null || index >= this.stringCaches.length()) {
+            return null;
+        }
+
+        StringCache stringCache = this.stringCaches.get(index);
+
+        if (stringCache == null) {
+            this.stringCaches.compareAndSet(index, null, new StringCache());
+            stringCache = this.stringCaches.get(index);
+        }
+
+        return stringCache;
+    }
+
+    /**
+     * Returns the index of a column.  When more than one column has the same name, the index of the first is returned.
+     *
+     * @param identifier an {@link Integer} index or a {@link String} column name
+     * @return the index of the column
+     * @throws IllegalArgumentException if {@code identifier} is not an {@link Integer} or {@link String}, or does not correspond to a column
+     */
+    int getIndex(Object identifier) {
+        if (identifier instanceof Integer) {
+            return getIndex(((Integer) identifier).intValue());
+        } else if (identifier instanceof String) {
+            return getIndex((String) identifier);
+        }
+
+        throw new IllegalArgumentException(String.format("Identifier '%s' is not a valid identifier. Should either be an Integer index or a String column name.", identifier));
+    }
+
+    /**
+     * Returns the index of a column, checking that it corresponds to a column.
+     *
+     * @param index the index of the column
+     * @return the index of the column
+     * @throws IllegalArgumentException if {@code index} does not correspond to a column
+     */
+    int getIndex(int index) {
+        if (index >= this.fields.size()) {
+            throw new IllegalArgumentException(String.format("Column index %d is larger than the number of columns %d", index, this.fields.size()));
+        }
+
+        return index;
+    }
+
+    private int getIndex(String name) {
+        Integer index = this.nameKeyedIndexes.get(name);
+
+        if (index == null) {
+            throw new IllegalArgumentException(String.format("Column name '%s' does not exist in column names %s", name, this.nameKeyedIndexes.keySet()));
+        }
+
+        return index;
+    }
+
+}
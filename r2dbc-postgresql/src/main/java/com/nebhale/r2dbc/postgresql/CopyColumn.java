@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+import com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId;
+
+import java.util.Objects;
+
+/**
+ * A column of a binary {@code COPY} data stream.  Values of the column are encoded in, and decoded from, the binary representation of its data type.
+ */
+public final class CopyColumn {
+
+    private final String name;
+
+    private final PostgresqlObjectId type;
+
+    /**
+     * Creates a new column.
+     *
+     * @param name the name of the column
+     * @param type the data type of the column
+     * @throws NullPointerException if {@code name} or {@code type} is {@code null}
+     */
+    public CopyColumn(String name, PostgresqlObjectId type) {
+        this.name = Objects.requireNonNull(name, "name must not be null");
+        this.type = Objects.requireNonNull(type, "type must not be null");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CopyColumn that = (CopyColumn) o;
+        return Objects.equals(this.name, that.name) &&
+            this.type == that.type;
+    }
+
+    /**
+     * Returns the name of the column.
+     *
+     * @return the name of the column
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns the data type of the column.
+     *
+     * @return the data type of the column
+     */
+    public PostgresqlObjectId getType() {
+        return this.type;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.name, this.type);
+    }
+
+    @Override
+    public String toString() {
+        return "CopyColumn{" +
+            "name='" + this.name + '\'' +
+            ", type=" + this.type +
+            '}';
+    }
+
+}
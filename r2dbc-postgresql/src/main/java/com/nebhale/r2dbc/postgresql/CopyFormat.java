@@ -0,0 +1,37 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+/**
+ * The formats of a {@code COPY} data stream.
+ *
+ * @see <a href="https://www.postgresql.org/docs/current/static/sql-copy.html#id-1.9.3.52.9">COPY File Formats</a>
+ */
+public enum CopyFormat {
+
+    /**
+     * The text format.  Columns are separated by tabs, {@code null} values are written as {@code \N}, and backslashes, newlines, carriage returns, and tabs within values are escaped with a
+     * backslash.
+     */
+    TEXT,
+
+    /**
+     * The CSV format.  Columns are separated by commas, {@code null} values are written as unquoted empty strings, and values that contain commas, quotes, newlines, or carriage returns are quoted.
+     */
+    CSV
+
+}
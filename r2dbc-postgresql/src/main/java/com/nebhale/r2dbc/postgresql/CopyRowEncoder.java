@@ -0,0 +1,345 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+import com.nebhale.r2dbc.core.nullability.Nullable;
+import com.nebhale.r2dbc.postgresql.client.Parameter;
+import com.nebhale.r2dbc.postgresql.codec.Codecs;
+import com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId;
+import com.nebhale.r2dbc.postgresql.util.ByteBufUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.util.ByteProcessor;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static com.nebhale.r2dbc.postgresql.CopyFormat.CSV;
+import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static io.netty.util.CharsetUtil.UTF_8;
+
+/**
+ * Encodes rows of values into a {@link CopyFormat#TEXT} or {@link CopyFormat#CSV} {@code COPY} data stream.  Values are encoded with {@link Codecs} and values whose codec encodes them in binary
+ * are converted to their PostgreSQL text representation according to their type: numbers, booleans, and UUIDs in their usual form, {@code bytea} in hex form, {@code json} and {@code jsonb} as
+ * the document text, and one-dimensional arrays of those types as array literals.
+ */
+final class CopyRowEncoder {
+
+    private static final ByteProcessor FIND_CSV_SPECIAL = value -> value != ',' && value != '"' && value != '\n' && value != '\r';
+
+    private static final ByteProcessor FIND_TEXT_SPECIAL = value -> value != '\\' && value != '\n' && value != '\r' && value != '\t';
+
+    private final ByteBufAllocator byteBufAllocator;
+
+    private final Codecs codecs;
+
+    private final CopyFormat format;
+
+    CopyRowEncoder(ByteBufAllocator byteBufAllocator, Codecs codecs, CopyFormat format) {
+        this.byteBufAllocator = Objects.requireNonNull(byteBufAllocator, "byteBufAllocator must not be null");
+        this.codecs = Objects.requireNonNull(codecs, "codecs must not be null");
+        this.format = Objects.requireNonNull(format, "format must not be null");
+    }
+
+    /**
+     * Encodes rows into a single chunk of a {@code COPY} data stream.
+     *
+     * @param rows the rows to encode
+     * @return the encoded rows
+     * @throws NullPointerException if {@code rows} is {@code null}
+     */
+    ByteBuf encode(List<Object[]> rows) {
+        Objects.requireNonNull(rows, "rows must not be null");
+
+        ByteBuf out = this.byteBufAllocator.buffer();
+
+        try {
+            for (Object[] row : rows) {
+                encodeRow(out, row);
+            }
+        } catch (RuntimeException e) {
+            out.release();
+            throw e;
+        }
+
+        return out;
+    }
+
+    @Override
+    public String toString() {
+        return "CopyRowEncoder{" +
+            "byteBufAllocator=" + this.byteBufAllocator +
+            ", codecs=" + this.codecs +
+            ", format=" + this.format +
+            '}';
+    }
+
+    private static void appendArrayElement(StringBuilder text, String element) {
+        if (!requiresQuoting(element)) {
+            text.append(element);
+            return;
+        }
+
+        text.append('"');
+
+        for (int i = 0; i < element.length(); i++) {
+            char c = element.charAt(i);
+
+            if (c == '"' || c == '\\') {
+                text.append('\\');
+            }
+
+            text.append(c);
+        }
+
+        text.append('"');
+    }
+
+    @Nullable
+    private static String arrayToText(ByteBuf value) {
+        int index = value.readerIndex();
+        int dimensions = value.getInt(index);
+
+        if (dimensions == 0) {
+            return "{}";
+        }
+
+        if (dimensions != 1) {
+            return null;
+        }
+
+        int elementType = value.getInt(index + 8);
+        int length = value.getInt(index + 12);
+        index += 20;
+
+        StringBuilder text = new StringBuilder("{");
+
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                text.append(',');
+            }
+
+            int elementLength = value.getInt(index);
+            index += 4;
+
+            if (elementLength == -1) {
+                text.append("NULL");
+                continue;
+            }
+
+            String element = binaryToText(elementType, value.slice(index, elementLength));
+            index += elementLength;
+
+            if (element == null) {
+                return null;
+            }
+
+            appendArrayElement(text, element);
+        }
+
+        return text.append('}').toString();
+    }
+
+    @Nullable
+    private static String binaryToText(int type, ByteBuf value) {
+        if (!PostgresqlObjectId.isValid(type)) {
+            return null;
+        }
+
+        int index = value.readerIndex();
+
+        switch (PostgresqlObjectId.valueOf(type)) {
+            case BOOL:
+                return value.getBoolean(index) ? "t" : "f";
+            case BYTEA:
+                return "\\x" + ByteBufUtil.hexDump(value);
+            case FLOAT4:
+                return Float.toString(value.getFloat(index));
+            case FLOAT8:
+                return Double.toString(value.getDouble(index));
+            case INT2:
+                return Short.toString(value.getShort(index));
+            case INT4:
+                return Integer.toString(value.getInt(index));
+            case INT8:
+                return Long.toString(value.getLong(index));
+            case BPCHAR:
+            case JSON:
+            case TEXT:
+            case VARCHAR:
+                return value.toString(UTF_8);
+            case JSONB:
+                return value.getByte(index) == 1 ? value.toString(index + 1, value.readableBytes() - 1, UTF_8) : null;
+            case UUID:
+                return new UUID(value.getLong(index), value.getLong(index + 8)).toString();
+            case BOOL_ARRAY:
+            case BPCHAR_ARRAY:
+            case BYTEA_ARRAY:
+            case FLOAT4_ARRAY:
+            case FLOAT8_ARRAY:
+            case INT2_ARRAY:
+            case INT4_ARRAY:
+            case INT8_ARRAY:
+            case JSON_ARRAY:
+            case JSONB_ARRAY:
+            case TEXT_ARRAY:
+            case UUID_ARRAY:
+            case VARCHAR_ARRAY:
+                return arrayToText(value);
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isEndOfData(ByteBuf value) {
+        return value.readableBytes() == 2 && value.getByte(value.readerIndex()) == '\\' && value.getByte(value.readerIndex() + 1) == '.';
+    }
+
+    private static boolean requiresQuoting(String element) {
+        if (element.isEmpty() || "NULL".equalsIgnoreCase(element)) {
+            return true;
+        }
+
+        for (int i = 0; i < element.length(); i++) {
+            char c = element.charAt(i);
+
+            if (c == '"' || c == '\\' || c == '{' || c == '}' || c == ',' || Character.isWhitespace(c)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static void writeCsv(ByteBuf out, ByteBuf value) {
+        int index = value.readerIndex();
+        int end = value.writerIndex();
+
+        if (index < end && value.forEachByte(FIND_CSV_SPECIAL) == -1 && !isEndOfData(value)) {
+            out.writeBytes(value, index, end - index);
+            return;
+        }
+
+        out.writeByte('"');
+
+        while (index < end) {
+            int quote = value.indexOf(index, end, (byte) '"');
+
+            if (quote == -1) {
+                out.writeBytes(value, index, end - index);
+                break;
+            }
+
+            out.writeBytes(value, index, quote + 1 - index);
+            out.writeByte('"');
+            index = quote + 1;
+        }
+
+        out.writeByte('"');
+    }
+
+    private static void writeText(ByteBuf out, ByteBuf value) {
+        int index = value.readerIndex();
+        int end = value.writerIndex();
+
+        while (index < end) {
+            int special = value.forEachByte(index, end - index, FIND_TEXT_SPECIAL);
+
+            if (special == -1) {
+                out.writeBytes(value, index, end - index);
+                break;
+            }
+
+            out.writeBytes(value, index, special - index);
+            out.writeByte('\\');
+
+            byte b = value.getByte(special);
+            if (b == '\n') {
+                out.writeByte('n');
+            } else if (b == '\r') {
+                out.writeByte('r');
+            } else if (b == '\t') {
+                out.writeByte('t');
+            } else {
+                out.writeByte('\\');
+            }
+
+            index = special + 1;
+        }
+    }
+
+    private void encodeRow(ByteBuf out, Object[] row) {
+        Objects.requireNonNull(row, "row must not be null");
+
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                out.writeByte(CSV == this.format ? ',' : '\t');
+            }
+
+            encodeValue(out, row[i]);
+        }
+
+        out.writeByte('\n');
+    }
+
+    private void encodeValue(ByteBuf out, @Nullable Object value) {
+        if (value == null) {
+            if (CSV != this.format) {
+                out.writeByte('\\').writeByte('N');
+            }
+            return;
+        }
+
+        ByteBuf text = toText(value);
+
+        try {
+            if (CSV == this.format) {
+                writeCsv(out, text);
+            } else {
+                writeText(out, text);
+            }
+        } finally {
+            text.release();
+        }
+    }
+
+    private ByteBuf toText(Object value) {
+        Parameter parameter = this.codecs.encode(value);
+        ByteBuf encoded = parameter.getValue();
+
+        if (TEXT == parameter.getFormat() && encoded != null) {
+            return encoded;
+        }
+
+        try {
+            String text = encoded == null ? null : binaryToText(parameter.getType(), encoded);
+
+            if (text == null) {
+                throw new IllegalArgumentException(String.format("Cannot encode value of type %s in a %s COPY data stream", value.getClass().getName(), this.format));
+            }
+
+            return ByteBufUtils.encode(this.byteBufAllocator, text);
+        } finally {
+            if (encoded != null) {
+                encoded.release();
+            }
+        }
+    }
+
+}
@@ -23,20 +23,29 @@ import com.nebhale.r2dbc.postgresql.client.ExtendedQueryMessageFlow;
 import com.nebhale.r2dbc.postgresql.client.Parameter;
 import com.nebhale.r2dbc.postgresql.client.PortalNameSupplier;
 import com.nebhale.r2dbc.postgresql.codec.Codecs;
+import com.nebhale.r2dbc.postgresql.message.backend.BackendMessage;
 import com.nebhale.r2dbc.postgresql.message.backend.CloseComplete;
+import com.nebhale.r2dbc.postgresql.message.backend.CommandComplete;
+import com.nebhale.r2dbc.postgresql.message.backend.EmptyQueryResponse;
+import com.nebhale.r2dbc.postgresql.message.backend.ErrorResponse;
 import com.nebhale.r2dbc.postgresql.util.ObjectUtils;
 import reactor.core.publisher.Flux;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import static com.nebhale.r2dbc.postgresql.client.ExtendedQueryMessageFlow.PARAMETER_SYMBOL;
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.message.frontend.Execute.NO_LIMIT;
+import static com.nebhale.r2dbc.postgresql.util.PredicateUtils.or;
 import static java.util.regex.Pattern.CASE_INSENSITIVE;
 
 final class ExtendedQueryPostgresqlStatement implements PostgresqlStatement {
@@ -57,12 +66,22 @@ final class ExtendedQueryPostgresqlStatement implements PostgresqlStatement {
 
     private final StatementCache statementCache;
 
+    private boolean cacheStrings = false;
+
+    private int fetchSize = NO_LIMIT;
+
+    private Duration timeout = Duration.ZERO;
+
     ExtendedQueryPostgresqlStatement(Client client, Codecs codecs, PortalNameSupplier portalNameSupplier, String sql, StatementCache statementCache) {
         this.client = Objects.requireNonNull(client, "client must not be null");
         this.codecs = Objects.requireNonNull(codecs, "codecs must not be null");
         this.portalNameSupplier = Objects.requireNonNull(portalNameSupplier, "portalNameSupplier must not be null");
         this.sql = Objects.requireNonNull(sql, "sql must not be null");
         this.statementCache = Objects.requireNonNull(statementCache, "statementCache must not be null");
+
+        if (!PARAMETER_SYMBOL.matcher(sql).matches()) {
+            this.bindings.getCurrent();  // a statement without parameters is executed with a single, empty, binding
+        }
     }
 
     @Override
@@ -103,6 +122,12 @@ final class ExtendedQueryPostgresqlStatement implements PostgresqlStatement {
         return this;
     }
 
+    @Override
+    public ExtendedQueryPostgresqlStatement cacheStrings(boolean enabled) {
+        this.cacheStrings = enabled;
+        return this;
+    }
+
     @Override
     public Flux<PostgresqlResult> execute() {
         return execute(this.sql);
@@ -117,22 +142,51 @@ final class ExtendedQueryPostgresqlStatement implements PostgresqlStatement {
         return execute(this.sql);
     }
 
+    @Override
+    public ExtendedQueryPostgresqlStatement fetchSize(int rows) {
+        if (rows < 0) {
+            throw new IllegalArgumentException("rows must be greater than or equal to zero");
+        }
+
+        this.fetchSize = rows;
+        return this;
+    }
+
+    @Override
+    public ExtendedQueryPostgresqlStatement timeout(Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout must not be null");
+
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("timeout must be greater than or equal to zero");
+        }
+
+        this.timeout = timeout;
+        return this;
+    }
+
     @Override
     public String toString() {
         return "ExtendedQueryPostgresqlStatement{" +
             "bindings=" + this.bindings +
+            ", cacheStrings=" + this.cacheStrings +
             ", client=" + this.client +
             ", codecs=" + this.codecs +
+            ", fetchSize=" + this.fetchSize +
             ", portalNameSupplier=" + this.portalNameSupplier +
             ", sql='" + this.sql + '\'' +
             ", statementCache=" + this.statementCache +
+            ", timeout=" + this.timeout +
             '}';
     }
 
     static boolean supports(String sql) {
+        return supportsFetchSize(sql) && PARAMETER_SYMBOL.matcher(sql).matches();
+    }
+
+    static boolean supportsFetchSize(String sql) {
         Objects.requireNonNull(sql, "sql must not be null");
 
-        return !sql.trim().isEmpty() && !sql.contains(";") && PARAMETER_SYMBOL.matcher(sql).matches();
+        return !sql.trim().isEmpty() && !sql.contains(";");
     }
 
     Binding getCurrentBinding() {
@@ -144,11 +198,24 @@ final class ExtendedQueryPostgresqlStatement implements PostgresqlStatement {
     }
 
     private Flux<PostgresqlResult> execute(String sql) {
-        return this.statementCache.getName(this.bindings.first(), sql)
-            .flatMapMany(name -> ExtendedQueryMessageFlow
-                .execute(Flux.fromStream(this.bindings.stream()), this.client, this.portalNameSupplier, name))
-            .windowUntil(CloseComplete.class::isInstance)
-            .map(messages -> PostgresqlResult.toResult(this.codecs, messages));
+        Binding binding = this.bindings.first();
+
+        return Flux.defer(() -> {
+            AtomicReference<AtomicReferenceArray<StringCache>> stringCaches = new AtomicReference<>();
+
+            Flux<BackendMessage> exchange = this.statementCache.usePreparedStatement(binding, sql, preparedStatement -> {
+                if (this.cacheStrings) {
+                    stringCaches.set(preparedStatement.getStringCaches());
+                }
+
+                return StatementTimeout.timeout(this.client, this.timeout, ExtendedQueryMessageFlow.execute(Flux.fromStream(this.bindings.stream()), this.client, this.portalNameSupplier,
+                    preparedStatement.getName(), preparedStatement.getPortalRowDescription(this.codecs).orElse(null), preparedStatement.getResultFormats(this.codecs), this.fetchSize));
+            });
+
+            return MessageWindows.split(exchange,
+                NO_LIMIT == this.fetchSize ? or(CommandComplete.class::isInstance, EmptyQueryResponse.class::isInstance, ErrorResponse.class::isInstance) : CloseComplete.class::isInstance)
+                .map(messages -> PostgresqlResult.toResult(this.client, this.codecs, messages, rowDescription -> Columns.toColumns(rowDescription, stringCaches.get())));
+        });
     }
 
     private int getIndex(String identifier) {
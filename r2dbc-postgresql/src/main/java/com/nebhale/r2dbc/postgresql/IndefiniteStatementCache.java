@@ -16,39 +16,75 @@
 
 package com.nebhale.r2dbc.postgresql;
 
-import com.nebhale.r2dbc.postgresql.client.Binding;
 import com.nebhale.r2dbc.postgresql.client.Client;
 import com.nebhale.r2dbc.postgresql.client.ExtendedQueryMessageFlow;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
-import static reactor.function.TupleUtils.function;
-
+/**
+ * A {@link StatementCache} that holds every prepared statement for the life of the connection.  The cache may be used by statements executing concurrently on different threads: a cached statement
+ * is found without locking, at most one {@code Parse} is in flight for each SQL statement and parameter types, concurrent callers join that {@code Parse}, and a statement whose {@code Parse}
+ * fails is removed so that the next caller prepares it again.  Prepared statements are recorded in the {@link RecentStatements} shared by the connections of a factory.
+ */
 final class IndefiniteStatementCache implements StatementCache {
 
-    private final Map<Tuple2<String, List<Integer>>, Mono<String>> cache = new HashMap<>();
+    private final ConcurrentMap<Tuple2<String, List<Integer>>, Mono<PreparedStatement>> cache = new ConcurrentHashMap<>();
 
     private final Client client;
 
     private final AtomicInteger counter = new AtomicInteger();
 
-    IndefiniteStatementCache(Client client) {
+    private final LongAdder lookups = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final RecentStatements recentStatements;
+
+    IndefiniteStatementCache(Client client, RecentStatements recentStatements) {
         this.client = Objects.requireNonNull(client, "client must not be null");
+        this.recentStatements = Objects.requireNonNull(recentStatements, "recentStatements must not be null");
+    }
+
+    @Override
+    public Mono<PreparedStatement> getPreparedStatement(String sql, List<Integer> parameterTypes) {
+        Objects.requireNonNull(sql, "sql must not be null");
+        Objects.requireNonNull(parameterTypes, "parameterTypes must not be null");
+
+        Tuple2<String, List<Integer>> key = Tuples.of(sql, parameterTypes);
+        this.lookups.increment();
+
+        Mono<PreparedStatement> preparedStatement = this.cache.get(key);
+        if (preparedStatement != null) {
+            return preparedStatement;
+        }
+
+        return this.cache.computeIfAbsent(key, k -> {
+            this.misses.increment();
+            return parse(k);
+        });
+    }
+
+    @Override
+    public StatementCacheStatistics getStatistics() {
+        long misses = this.misses.sum();  // read before the lookups so that every miss read is also counted as a lookup
+        return new StatementCacheStatistics(0, this.lookups.sum() - misses, misses);
     }
 
     @Override
-    public Mono<String> getName(Binding binding, String sql) {
-        Objects.requireNonNull(binding, "binding must not be null");
+    public Mono<Void> prepare(String sql, List<Integer> parameterTypes) {
         Objects.requireNonNull(sql, "sql must not be null");
+        Objects.requireNonNull(parameterTypes, "parameterTypes must not be null");
 
-        return this.cache.computeIfAbsent(Tuples.of(sql, binding.getParameterTypes()), function(this::parse));
+        return this.cache.computeIfAbsent(Tuples.of(sql, parameterTypes), this::parse)
+            .then();
     }
 
     @Override
@@ -57,16 +93,25 @@ final class IndefiniteStatementCache implements StatementCache {
             "cache=" + this.cache +
             ", client=" + this.client +
             ", counter=" + this.counter +
+            ", lookups=" + this.lookups +
+            ", misses=" + this.misses +
+            ", recentStatements=" + this.recentStatements +
             '}';
     }
 
-    private Mono<String> parse(String sql, List<Integer> types) {
+    private Mono<PreparedStatement> parse(Tuple2<String, List<Integer>> key) {
         String name = String.format("S_%d", this.counter.getAndIncrement());
 
         return ExtendedQueryMessageFlow
-            .parse(this.client, name, sql, types)
+            .parse(this.client, name, key.getT1(), key.getT2())
             .handle(PostgresqlServerErrorException::handleErrorResponse)
-            .then(Mono.just(name))
+            .collectList()
+            .map(messages -> PreparedStatement.toPreparedStatement(name, messages))
+            .doOnSuccess(preparedStatement -> this.recentStatements.add(key.getT1(), key.getT2()))
+            .doOnError(t -> {
+                this.cache.remove(key);
+                this.recentStatements.remove(key.getT1(), key.getT2());
+            })
             .cache();
     }
 
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+import com.nebhale.r2dbc.postgresql.message.backend.BackendMessage;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * Utilities for splitting the messages of a statement into the messages of each of its results.  {@link Flux#windowUntil(Predicate)} signals an error both to the open window and to the sequence of
+ * windows, and a subscriber that consumes both sees the error twice.  These utilities instead signal each error exactly once.
+ */
+final class MessageWindows {
+
+    private MessageWindows() {
+    }
+
+    /**
+     * Splits the messages of a statement into windows, each of which ends with a message that matches {@code delimiter}.  An error that occurs once a window has received a message is signalled
+     * by that window, and the returned {@link Flux} completes.  An error that occurs before a window has received a message, such as the failure to prepare the statement, is signalled by the
+     * returned {@link Flux}, and the empty window completes.
+     *
+     * @param messages  the messages of the statement
+     * @param delimiter the predicate matching the last message of each window
+     * @return the windows of the messages of the statement
+     * @throws NullPointerException if {@code messages} or {@code delimiter} is {@code null}
+     */
+    static Flux<Flux<BackendMessage>> split(Flux<BackendMessage> messages, Predicate<BackendMessage> delimiter) {
+        Objects.requireNonNull(messages, "messages must not be null");
+        Objects.requireNonNull(delimiter, "delimiter must not be null");
+
+        return Flux.defer(() -> {
+            AtomicBoolean open = new AtomicBoolean();
+
+            return messages
+                .doOnNext(message -> open.set(!delimiter.test(message)))
+                .onErrorResume(t -> open.get() ? Mono.just(new Failure(t)) : Mono.error(t))
+                .windowUntil(message -> message instanceof Failure || delimiter.test(message))
+                .map(window -> window
+                    .onErrorResume(t -> Flux.empty())  // the error is signalled by the sequence of windows
+                    .handle((message, sink) -> {
+                        if (message instanceof Failure) {
+                            sink.error(((Failure) message).throwable);
+                        } else {
+                            sink.next(message);
+                        }
+                    }));
+        });
+    }
+
+    private static final class Failure implements BackendMessage {
+
+        private final Throwable throwable;
+
+        private Failure(Throwable throwable) {
+            this.throwable = throwable;
+        }
+
+    }
+
+}
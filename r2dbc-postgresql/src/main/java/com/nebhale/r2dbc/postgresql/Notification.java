@@ -0,0 +1,109 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+import com.nebhale.r2dbc.postgresql.message.backend.NotificationResponse;
+
+import java.util.Objects;
+
+/**
+ * An asynchronous notification raised by a {@code NOTIFY} on a channel that the connection is listening on.
+ */
+public final class Notification {
+
+    private final String name;
+
+    private final String payload;
+
+    private final int processId;
+
+    /**
+     * Creates a new notification.
+     *
+     * @param name      the name of the channel that the notification has been raised on
+     * @param payload   the payload passed from the notifying process
+     * @param processId the process id of the notifying backend process
+     * @throws NullPointerException if {@code name} or {@code payload} is {@code null}
+     */
+    public Notification(String name, String payload, int processId) {
+        this.name = Objects.requireNonNull(name, "name must not be null");
+        this.payload = Objects.requireNonNull(payload, "payload must not be null");
+        this.processId = processId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Notification that = (Notification) o;
+        return this.processId == that.processId &&
+            Objects.equals(this.name, that.name) &&
+            Objects.equals(this.payload, that.payload);
+    }
+
+    /**
+     * Returns the name of the channel that the notification has been raised on.
+     *
+     * @return the name of the channel that the notification has been raised on
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns the payload passed from the notifying process.  The payload is an empty string if none was passed.
+     *
+     * @return the payload passed from the notifying process
+     */
+    public String getPayload() {
+        return this.payload;
+    }
+
+    /**
+     * Returns the process id of the notifying backend process.
+     *
+     * @return the process id of the notifying backend process
+     */
+    public int getProcessId() {
+        return this.processId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.name, this.payload, this.processId);
+    }
+
+    @Override
+    public String toString() {
+        return "Notification{" +
+            "name='" + this.name + '\'' +
+            ", payload='" + this.payload + '\'' +
+            ", processId=" + this.processId +
+            '}';
+    }
+
+    static Notification toNotification(NotificationResponse message) {
+        Objects.requireNonNull(message, "message must not be null");
+
+        return new Notification(message.getName(), message.getPayload(), message.getProcessId());
+    }
+
+}
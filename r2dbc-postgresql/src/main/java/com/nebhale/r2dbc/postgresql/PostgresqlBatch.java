@@ -21,6 +21,7 @@ import com.nebhale.r2dbc.postgresql.codec.Codecs;
 import com.nebhale.r2dbc.spi.Batch;
 import reactor.core.publisher.Flux;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -37,9 +38,12 @@ public final class PostgresqlBatch implements Batch {
 
     private final List<String> statements = new ArrayList<>();
 
-    PostgresqlBatch(Client client, Codecs codecs) {
+    private final Duration statementTimeout;
+
+    PostgresqlBatch(Client client, Codecs codecs, Duration statementTimeout) {
         this.client = Objects.requireNonNull(client, "client must not be null");
         this.codecs = Objects.requireNonNull(codecs, "codecs must not be null");
+        this.statementTimeout = Objects.requireNonNull(statementTimeout, "statementTimeout must not be null");
     }
 
     @Override
@@ -57,6 +61,7 @@ public final class PostgresqlBatch implements Batch {
     @Override
     public Flux<PostgresqlResult> execute() {
         return new SimpleQueryPostgresqlStatement(this.client, this.codecs, this.statements.stream().collect(Collectors.joining("; ")))
+            .timeout(this.statementTimeout)
             .execute();
     }
 
@@ -65,6 +70,7 @@ public final class PostgresqlBatch implements Batch {
         return "PostgresqlBatch{" +
             "client=" + this.client +
             ", codecs=" + this.codecs +
+            ", statementTimeout=" + this.statementTimeout +
             ", statements=" + this.statements +
             '}';
     }
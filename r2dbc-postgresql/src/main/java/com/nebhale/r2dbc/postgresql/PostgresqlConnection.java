@@ -17,46 +17,64 @@
 package com.nebhale.r2dbc.postgresql;
 
 import com.nebhale.r2dbc.postgresql.client.Client;
+import com.nebhale.r2dbc.postgresql.client.CopyMessageFlow;
 import com.nebhale.r2dbc.postgresql.client.PortalNameSupplier;
 import com.nebhale.r2dbc.postgresql.client.SimpleQueryMessageFlow;
 import com.nebhale.r2dbc.postgresql.client.TransactionStatus;
 import com.nebhale.r2dbc.postgresql.codec.Codecs;
+import com.nebhale.r2dbc.postgresql.message.backend.CommandComplete;
+import com.nebhale.r2dbc.postgresql.message.backend.CopyData;
 import com.nebhale.r2dbc.spi.Connection;
 import com.nebhale.r2dbc.spi.IsolationLevel;
 import com.nebhale.r2dbc.spi.Mutability;
+import com.nebhale.r2dbc.spi.Row;
+import com.nebhale.r2dbc.spi.RowMetadata;
+import io.netty.buffer.ByteBuf;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import static com.nebhale.r2dbc.postgresql.client.TransactionStatus.IDLE;
 import static com.nebhale.r2dbc.postgresql.client.TransactionStatus.OPEN;
+import static com.nebhale.r2dbc.postgresql.message.frontend.Execute.NO_LIMIT;
 
 /**
  * An implementation of {@link Connection} for connecting to a PostgreSQL database.
  */
 public final class PostgresqlConnection implements Connection {
 
+    private static final int COPY_CHUNK_ROWS = 256;
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private final Client client;
 
     private final Codecs codecs;
 
+    private final int fetchSize;
+
     private final PortalNameSupplier portalNameSupplier;
 
     private final StatementCache statementCache;
 
-    PostgresqlConnection(Client client, Codecs codecs, PortalNameSupplier portalNameSupplier, StatementCache statementCache) {
+    private final Duration statementTimeout;
+
+    PostgresqlConnection(Client client, Codecs codecs, int fetchSize, PortalNameSupplier portalNameSupplier, StatementCache statementCache, Duration statementTimeout) {
         this.client = Objects.requireNonNull(client, "client must not be null");
         this.codecs = Objects.requireNonNull(codecs, "codecs must not be null");
+        this.fetchSize = fetchSize;
         this.portalNameSupplier = Objects.requireNonNull(portalNameSupplier, "portalNameSupplier must not be null");
         this.statementCache = Objects.requireNonNull(statementCache, "statementCache must not be null");
+        this.statementTimeout = Objects.requireNonNull(statementTimeout, "statementTimeout must not be null");
     }
 
     @Override
@@ -91,9 +109,129 @@ public final class PostgresqlConnection implements Connection {
         });
     }
 
+    /**
+     * Copies data to the server with a {@code COPY ... FROM STDIN} statement.  Each {@link ByteBuf} emitted by {@code data} is written to the server as it is produced and released once it has been
+     * written, so {@code data} is only requested as quickly as the connection can send it.  If {@code data} fails, the copy is aborted and no rows are copied.
+     *
+     * @param sql  the {@code COPY ... FROM STDIN} statement to execute
+     * @param data the data to copy, in the format configured by {@code sql}
+     * @return the number of rows copied
+     * @throws NullPointerException if {@code sql} or {@code data} is {@code null}
+     */
+    public Mono<Integer> copyIn(String sql, Publisher<ByteBuf> data) {
+        Objects.requireNonNull(sql, "sql must not be null");
+        Objects.requireNonNull(data, "data must not be null");
+
+        return CopyMessageFlow.copyIn(this.client, sql, data)
+            .handle(PostgresqlServerErrorException::handleErrorResponse)
+            .ofType(CommandComplete.class)
+            .singleOrEmpty()
+            .flatMap(commandComplete -> Mono.justOrEmpty(commandComplete.getRows()));
+    }
+
+    /**
+     * Copies rows to the server with a {@code COPY ... FROM STDIN} statement.  Each row is an array of column values that are encoded with the {@link Codecs} of this connection into
+     * {@code format}.  Rows are written to the server in chunks of {@value #COPY_CHUNK_ROWS}.
+     *
+     * @param sql    the {@code COPY ... FROM STDIN} statement to execute.  The statement must specify the same format as {@code format}.
+     * @param rows   the rows to copy
+     * @param format the format to encode rows in
+     * @return the number of rows copied
+     * @throws NullPointerException if {@code sql}, {@code rows}, or {@code format} is {@code null}
+     */
+    public Mono<Integer> copyIn(String sql, Publisher<Object[]> rows, CopyFormat format) {
+        Objects.requireNonNull(sql, "sql must not be null");
+        Objects.requireNonNull(rows, "rows must not be null");
+        Objects.requireNonNull(format, "format must not be null");
+
+        return Mono.defer(() -> {
+            CopyRowEncoder encoder = new CopyRowEncoder(this.client.getByteBufAllocator(), this.codecs, format);
+
+            return copyIn(sql, Flux.from(rows)
+                .buffer(COPY_CHUNK_ROWS)
+                .map(encoder::encode));
+        });
+    }
+
+    /**
+     * Copies rows to the server with a binary {@code COPY ... FROM STDIN} statement.  Each row is an array of column values that are encoded with the {@link Codecs} of this connection directly in
+     * the binary representation of the data type of the corresponding column.  Rows are written to the server in chunks of {@value #COPY_CHUNK_ROWS}.
+     *
+     * @param sql     the {@code COPY ... FROM STDIN (FORMAT binary)} statement to execute
+     * @param rows    the rows to copy
+     * @param columns the columns being copied, in the order that they are listed in {@code sql}
+     * @return the number of rows copied
+     * @throws NullPointerException if {@code sql}, {@code rows}, or {@code columns} is {@code null}
+     */
+    public Mono<Integer> copyInBinary(String sql, Publisher<Object[]> rows, List<CopyColumn> columns) {
+        Objects.requireNonNull(sql, "sql must not be null");
+        Objects.requireNonNull(rows, "rows must not be null");
+        Objects.requireNonNull(columns, "columns must not be null");
+
+        return Mono.defer(() -> {
+            BinaryCopyRowEncoder encoder = new BinaryCopyRowEncoder(this.client.getByteBufAllocator(), this.codecs, columns);
+
+            return copyIn(sql, Flux.from(rows)
+                .buffer(COPY_CHUNK_ROWS)
+                .map(encoder::encode)
+                .concatWith(Mono.fromSupplier(encoder::encodeTrailer)));
+        });
+    }
+
+    /**
+     * Copies data from the server with a {@code COPY ... TO STDOUT} statement.  The data is emitted in the chunks that the server sends, without being copied out of the buffers that it is read into,
+     * and the connection is only read as quickly as the data is requested.  Each {@link ByteBuf} must be released once it has been consumed.
+     *
+     * @param sql the {@code COPY ... TO STDOUT} statement to execute
+     * @return the data copied, in the format configured by {@code sql}
+     * @throws NullPointerException if {@code sql} is {@code null}
+     */
+    public Flux<ByteBuf> copyOut(String sql) {
+        Objects.requireNonNull(sql, "sql must not be null");
+
+        return CopyMessageFlow.copyOut(this.client, sql)
+            .handle(PostgresqlServerErrorException::handleErrorResponse)
+            .ofType(CopyData.class)
+            .map(CopyData::getData);
+    }
+
+    /**
+     * Copies rows from the server with a binary {@code COPY ... TO STDOUT} statement.  Each row is decoded from the binary representations of its values and is only valid for the duration of the
+     * call to {@code f}.
+     *
+     * @param sql     the {@code COPY ... TO STDOUT (FORMAT binary)} statement to execute
+     * @param columns the columns being copied, in the order that they are listed in {@code sql}
+     * @param f       the function that maps a {@link Row} and {@link RowMetadata} to a value
+     * @param <T>     the type of the mapped value
+     * @return the mapped values of the rows copied
+     * @throws NullPointerException if {@code sql}, {@code columns}, or {@code f} is {@code null}
+     */
+    public <T> Flux<T> copyOutBinary(String sql, List<CopyColumn> columns, BiFunction<Row, RowMetadata, ? extends T> f) {
+        Objects.requireNonNull(sql, "sql must not be null");
+        Objects.requireNonNull(columns, "columns must not be null");
+        Objects.requireNonNull(f, "f must not be null");
+
+        return Flux.defer(() -> {
+            BinaryCopyRowDecoder decoder = new BinaryCopyRowDecoder(this.codecs, columns);
+
+            return copyOut(sql)
+                .handle((data, sink) -> {
+                    PostgresqlRow row = decoder.decode(data);
+
+                    if (row != null) {
+                        try {
+                            sink.next(f.apply(row, decoder.getRowMetadata()));
+                        } finally {
+                            row.release();
+                        }
+                    }
+                });
+        });
+    }
+
     @Override
     public PostgresqlBatch createBatch() {
-        return new PostgresqlBatch(this.client, this.codecs);
+        return new PostgresqlBatch(this.client, this.codecs, this.statementTimeout);
     }
 
     @Override
@@ -115,15 +253,31 @@ public final class PostgresqlConnection implements Connection {
     public PostgresqlStatement createStatement(String sql) {
         Objects.requireNonNull(sql, "sql must not be null");
 
-        if (SimpleQueryPostgresqlStatement.supports(sql)) {
-            return new SimpleQueryPostgresqlStatement(this.client, this.codecs, sql);
-        } else if (ExtendedQueryPostgresqlStatement.supports(sql)) {
-            return new ExtendedQueryPostgresqlStatement(this.client, this.codecs, this.portalNameSupplier, sql, this.statementCache);
+        if (SimpleQueryPostgresqlStatement.supports(sql) && (NO_LIMIT == this.fetchSize || !ExtendedQueryPostgresqlStatement.supportsFetchSize(sql))) {
+            return new SimpleQueryPostgresqlStatement(this.client, this.codecs, this.portalNameSupplier, sql, this.statementCache)
+                .timeout(this.statementTimeout);
+        } else if (ExtendedQueryPostgresqlStatement.supportsFetchSize(sql)) {
+            return new ExtendedQueryPostgresqlStatement(this.client, this.codecs, this.portalNameSupplier, sql, this.statementCache)
+                .fetchSize(this.fetchSize)
+                .timeout(this.statementTimeout);
         } else {
             throw new IllegalArgumentException(String.format("Statement '%s' cannot be created. This is often due to the presence of both multiple statements and parameters at the same time.", sql));
         }
     }
 
+    /**
+     * Returns the notifications raised on channels that the connection is listening on.  Notifications are delivered as they arrive, independently of any statements that are executing.  The
+     * {@link Flux} is hot and may have many subscribers, each of which receives the notifications that arrive after it subscribes.  A subscriber that cannot keep up with the rate of notifications
+     * should apply its own backpressure strategy, for example {@link Flux#onBackpressureBuffer()}.
+     *
+     * @return the notifications raised on channels that the connection is listening on
+     * @see #listen(String)
+     */
+    public Flux<Notification> getNotifications() {
+        return this.client.getNotifications()
+            .map(Notification::toNotification);
+    }
+
     /**
      * Returns a snapshot of the current parameter statuses.
      *
@@ -133,6 +287,31 @@ public final class PostgresqlConnection implements Connection {
         return this.client.getParameterStatus();
     }
 
+    /**
+     * Returns a snapshot of the statistics of the prepared statement cache of this connection.
+     *
+     * @return a snapshot of the statistics of the prepared statement cache of this connection
+     */
+    public StatementCacheStatistics getStatementCacheStatistics() {
+        return this.statementCache.getStatistics();
+    }
+
+    /**
+     * Starts listening for notifications on a channel.  Notifications raised on the channel are delivered to the subscribers of {@link #getNotifications()}.  The {@code LISTEN} is pipelined with
+     * other statements on the connection rather than waiting for them to complete.
+     *
+     * @param channel the name of the channel to listen on
+     * @return a {@link Mono} that indicates that the connection is listening on the channel
+     * @throws NullPointerException if {@code channel} is {@code null}
+     */
+    public Mono<Void> listen(String channel) {
+        Objects.requireNonNull(channel, "channel must not be null");
+
+        return SimpleQueryMessageFlow.exchange(this.client, String.format("LISTEN %s", channel))
+            .handle(PostgresqlServerErrorException::handleErrorResponse)
+            .then();
+    }
+
     @Override
     public Mono<Void> releaseSavepoint(String name) {
         Objects.requireNonNull(name, "name must not be null");
@@ -151,7 +330,7 @@ public final class PostgresqlConnection implements Connection {
     @Override
     public Mono<Void> rollbackTransaction() {
         return useTransactionStatus(transactionStatus -> {
-            if (OPEN == transactionStatus) {
+            if (IDLE != transactionStatus) {
                 return SimpleQueryMessageFlow.exchange(this.client, "ROLLBACK")
                     .handle(PostgresqlServerErrorException::handleErrorResponse);
             } else {
@@ -203,9 +382,25 @@ public final class PostgresqlConnection implements Connection {
             ", codecs=" + this.codecs +
             ", portalNameSupplier=" + this.portalNameSupplier +
             ", statementCache=" + this.statementCache +
+            ", statementTimeout=" + this.statementTimeout +
             '}';
     }
 
+    /**
+     * Stops listening for notifications on a channel.  A channel of {@code *} stops listening on all channels.
+     *
+     * @param channel the name of the channel to stop listening on
+     * @return a {@link Mono} that indicates that the connection is no longer listening on the channel
+     * @throws NullPointerException if {@code channel} is {@code null}
+     */
+    public Mono<Void> unlisten(String channel) {
+        Objects.requireNonNull(channel, "channel must not be null");
+
+        return SimpleQueryMessageFlow.exchange(this.client, String.format("UNLISTEN %s", channel))
+            .handle(PostgresqlServerErrorException::handleErrorResponse)
+            .then();
+    }
+
     private static Function<TransactionStatus, String> getTransactionIsolationLevelQuery(IsolationLevel isolationLevel) {
         return transactionStatus -> {
             if (transactionStatus == OPEN) {
@@ -18,7 +18,9 @@ package com.nebhale.r2dbc.postgresql;
 
 
 import com.nebhale.r2dbc.core.nullability.Nullable;
+import com.nebhale.r2dbc.postgresql.codec.JsonMapper;
 
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -31,20 +33,33 @@ public final class PostgresqlConnectionConfiguration {
 
     private final String database;
 
+    private final int fetchSize;
+
     private final String host;
 
+    private final JsonMapper jsonMapper;
+
     private final String password;
 
     private final int port;
 
+    private final int statementCacheSize;
+
+    private final Duration statementTimeout;
+
     private final String username;
 
-    private PostgresqlConnectionConfiguration(String applicationName, @Nullable String database, String host, String password, int port, String username) {
+    private PostgresqlConnectionConfiguration(String applicationName, @Nullable String database, int fetchSize, String host, @Nullable JsonMapper jsonMapper, String password, int port,
+                                              int statementCacheSize, Duration statementTimeout, String username) {
         this.applicationName = Objects.requireNonNull(applicationName);
         this.database = database;
+        this.fetchSize = fetchSize;
         this.host = Objects.requireNonNull(host, "host must not be null");
+        this.jsonMapper = jsonMapper;
         this.password = Objects.requireNonNull(password, "password must not be null");
         this.port = port;
+        this.statementCacheSize = statementCacheSize;
+        this.statementTimeout = Objects.requireNonNull(statementTimeout, "statementTimeout must not be null");
         this.username = Objects.requireNonNull(username, "username must not be null");
     }
 
@@ -62,9 +77,13 @@ public final class PostgresqlConnectionConfiguration {
         return "PostgresConnectionConfiguration{" +
             "applicationName='" + this.applicationName + '\'' +
             ", database='" + this.database + '\'' +
+            ", fetchSize=" + this.fetchSize +
             ", host='" + this.host + '\'' +
+            ", jsonMapper=" + this.jsonMapper +
             ", password='" + this.password + '\'' +
             ", port=" + this.port +
+            ", statementCacheSize=" + this.statementCacheSize +
+            ", statementTimeout=" + this.statementTimeout +
             ", username='" + this.username + '\'' +
             '}';
     }
@@ -77,10 +96,18 @@ public final class PostgresqlConnectionConfiguration {
         return Optional.ofNullable(this.database);
     }
 
+    int getFetchSize() {
+        return this.fetchSize;
+    }
+
     String getHost() {
         return this.host;
     }
 
+    Optional<JsonMapper> getJsonMapper() {
+        return Optional.ofNullable(this.jsonMapper);
+    }
+
     String getPassword() {
         return this.password;
     }
@@ -89,6 +116,14 @@ public final class PostgresqlConnectionConfiguration {
         return this.port;
     }
 
+    int getStatementCacheSize() {
+        return this.statementCacheSize;
+    }
+
+    Duration getStatementTimeout() {
+        return this.statementTimeout;
+    }
+
     String getUsername() {
         return this.username;
     }
@@ -104,12 +139,20 @@ public final class PostgresqlConnectionConfiguration {
 
         private String database;
 
+        private int fetchSize = 0;
+
         private String host;
 
+        private JsonMapper jsonMapper;
+
         private String password;
 
         private int port = 5432;
 
+        private int statementCacheSize = 256;
+
+        private Duration statementTimeout = Duration.ZERO;
+
         private String username;
 
         private Builder() {
@@ -133,7 +176,8 @@ public final class PostgresqlConnectionConfiguration {
          * @return a configured {@link PostgresqlConnectionConfiguration}
          */
         public PostgresqlConnectionConfiguration build() {
-            return new PostgresqlConnectionConfiguration(this.applicationName, this.database, this.host, this.password, this.port, this.username);
+            return new PostgresqlConnectionConfiguration(this.applicationName, this.database, this.fetchSize, this.host, this.jsonMapper, this.password, this.port, this.statementCacheSize,
+                this.statementTimeout, this.username);
         }
 
         /**
@@ -147,6 +191,24 @@ public final class PostgresqlConnectionConfiguration {
             return this;
         }
 
+        /**
+         * Configure the default fetch size of statements.  A fetch size limits the number of rows requested from the server at a time, with further rows requested as they are consumed.  Single
+         * statements, with or without parameters, are executed with the extended query protocol when there is a fetch size.  A value of {@code 0} requests all rows at once.  Defaults to
+         * {@code 0}.
+         *
+         * @param fetchSize the number of rows to request from the server at a time
+         * @return this {@link Builder}
+         * @throws IllegalArgumentException if {@code fetchSize} is negative
+         */
+        public Builder fetchSize(int fetchSize) {
+            if (fetchSize < 0) {
+                throw new IllegalArgumentException("fetchSize must be greater than or equal to zero");
+            }
+
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
         /**
          * Configure the host.
          *
@@ -159,6 +221,20 @@ public final class PostgresqlConnectionConfiguration {
             return this;
         }
 
+        /**
+         * Configure the {@link JsonMapper} used to decode {@code json} and {@code jsonb} values and to encode {@link com.nebhale.r2dbc.postgresql.codec.Json} parameters.  By default, these are not
+         * supported.
+         *
+         * @param jsonMapper the {@link JsonMapper}
+         * @return this {@link Builder}
+         * @throws NullPointerException if {@code jsonMapper} is {@code null}
+         * @see com.nebhale.r2dbc.postgresql.codec.JacksonJsonMapper
+         */
+        public Builder jsonMapper(JsonMapper jsonMapper) {
+            this.jsonMapper = Objects.requireNonNull(jsonMapper, "jsonMapper must not be null");
+            return this;
+        }
+
         /**
          * Configure the password.
          *
@@ -182,14 +258,50 @@ public final class PostgresqlConnectionConfiguration {
             return this;
         }
 
+        /**
+         * Configure the maximum number of prepared statements cached by each connection.  The least recently used statement is closed when the limit is exceeded.  A value less than one removes the
+         * limit.  Defaults to {@code 256}.
+         *
+         * @param statementCacheSize the maximum number of cached prepared statements
+         * @return this {@link Builder}
+         */
+        public Builder statementCacheSize(int statementCacheSize) {
+            this.statementCacheSize = statementCacheSize;
+            return this;
+        }
+
+        /**
+         * Configure the default timeout of statements.  A statement that has not completed within the timeout is cancelled on the server and fails with a
+         * {@link PostgresqlStatementTimeoutException}.  A timeout of {@link Duration#ZERO} disables the timeout.  Defaults to {@link Duration#ZERO}.
+         *
+         * @param statementTimeout the default timeout of statements
+         * @return this {@link Builder}
+         * @throws IllegalArgumentException if {@code statementTimeout} is negative
+         * @throws NullPointerException     if {@code statementTimeout} is {@code null}
+         */
+        public Builder statementTimeout(Duration statementTimeout) {
+            Objects.requireNonNull(statementTimeout, "statementTimeout must not be null");
+
+            if (statementTimeout.isNegative()) {
+                throw new IllegalArgumentException("statementTimeout must be greater than or equal to zero");
+            }
+
+            this.statementTimeout = statementTimeout;
+            return this;
+        }
+
         @Override
         public String toString() {
             return "Builder{" +
                 "applicationName='" + this.applicationName + '\'' +
                 ", database='" + this.database + '\'' +
+                ", fetchSize=" + this.fetchSize +
                 ", host='" + this.host + '\'' +
+            ", jsonMapper=" + this.jsonMapper +
                 ", password='" + this.password + '\'' +
                 ", port=" + this.port +
+                ", statementCacheSize=" + this.statementCacheSize +
+                ", statementTimeout=" + this.statementTimeout +
                 ", username='" + this.username + '\'' +
                 '}';
         }
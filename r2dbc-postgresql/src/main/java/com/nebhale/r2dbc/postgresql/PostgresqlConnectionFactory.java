@@ -23,20 +23,30 @@ import com.nebhale.r2dbc.postgresql.client.ReactorNettyClient;
 import com.nebhale.r2dbc.postgresql.client.StartupMessageFlow;
 import com.nebhale.r2dbc.postgresql.codec.DefaultCodecs;
 import com.nebhale.r2dbc.spi.ConnectionFactory;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Objects;
 import java.util.function.Supplier;
 
 /**
- * An implementation of {@link ConnectionFactory} for creating connections to a PostgreSQL database.
+ * An implementation of {@link ConnectionFactory} for creating connections to a PostgreSQL database.  A few of the statements most recently prepared by any of its connections are prepared by each
+ * new connection.
  */
 public final class PostgresqlConnectionFactory implements ConnectionFactory {
 
+    /**
+     * The maximum number of recently prepared statements that a new connection prepares.  Preparing them is queued ahead of the first statement executed on the connection, so the number is kept
+     * small.
+     */
+    static final int RECENT_STATEMENTS_LIMIT = 8;
+
     private final Supplier<Client> clientFactory;
 
     private final PostgresqlConnectionConfiguration configuration;
 
+    private final RecentStatements recentStatements;
+
     /**
      * Creates a new connection factory.
      *
@@ -52,8 +62,13 @@ public final class PostgresqlConnectionFactory implements ConnectionFactory {
     }
 
     PostgresqlConnectionFactory(Supplier<Client> clientFactory, PostgresqlConnectionConfiguration configuration) {
+        this(clientFactory, configuration, new RecentStatements(getRecentStatementsLimit(Objects.requireNonNull(configuration, "configuration must not be null").getStatementCacheSize())));
+    }
+
+    PostgresqlConnectionFactory(Supplier<Client> clientFactory, PostgresqlConnectionConfiguration configuration, RecentStatements recentStatements) {
         this.clientFactory = Objects.requireNonNull(clientFactory, "clientFactory must not be null");
         this.configuration = Objects.requireNonNull(configuration, "configuration must not be null");
+        this.recentStatements = Objects.requireNonNull(recentStatements, "recentStatements must not be null");
     }
 
     @Override
@@ -63,7 +78,13 @@ public final class PostgresqlConnectionFactory implements ConnectionFactory {
                 StartupMessageFlow
                     .exchange(this.configuration.getApplicationName(), getAuthenticationHandler(this.configuration), client, this.configuration.getDatabase().orElse(null),
                         this.configuration.getUsername()))
-            .map(client -> new PostgresqlConnection(client, new DefaultCodecs(client.getByteBufAllocator()), DefaultPortalNameSupplier.INSTANCE, new IndefiniteStatementCache(client)));
+            .map(client -> {
+                StatementCache statementCache = getStatementCache(client, this.configuration);
+                prepareRecentStatements(statementCache);
+
+                return new PostgresqlConnection(client, new DefaultCodecs(client.getByteBufAllocator(), this.configuration.getJsonMapper().orElse(null)), this.configuration.getFetchSize(), DefaultPortalNameSupplier.INSTANCE, statementCache,
+                    this.configuration.getStatementTimeout());
+            });
     }
 
     @Override
@@ -71,8 +92,24 @@ public final class PostgresqlConnectionFactory implements ConnectionFactory {
         return "PostgresqlConnectionFactory{}";
     }
 
+    private static int getRecentStatementsLimit(int statementCacheSize) {
+        return statementCacheSize < 1 ? RECENT_STATEMENTS_LIMIT : Math.min(statementCacheSize, RECENT_STATEMENTS_LIMIT);
+    }
+
     private AuthenticationHandler getAuthenticationHandler(PostgresqlConnectionConfiguration configuration) {
         return new PasswordAuthenticationHandler(configuration.getPassword(), configuration.getUsername());
     }
 
+    private StatementCache getStatementCache(Client client, PostgresqlConnectionConfiguration configuration) {
+        int statementCacheSize = configuration.getStatementCacheSize();
+        return statementCacheSize < 1 ? new IndefiniteStatementCache(client, this.recentStatements) : new BoundedStatementCache(client, this.recentStatements, statementCacheSize);
+    }
+
+    private void prepareRecentStatements(StatementCache statementCache) {
+        Flux.fromIterable(this.recentStatements.getStatements())
+            .flatMap(statement -> statementCache.prepare(statement.getT1(), statement.getT2())
+                .onErrorResume(t -> Mono.empty()))  // a statement that can no longer be prepared is forgotten and reported when it is next executed
+            .subscribe();
+    }
+
 }
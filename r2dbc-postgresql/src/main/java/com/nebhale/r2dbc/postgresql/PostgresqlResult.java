@@ -16,20 +16,30 @@
 
 package com.nebhale.r2dbc.postgresql;
 
+import com.nebhale.r2dbc.postgresql.client.CancelRequestMessageFlow;
+import com.nebhale.r2dbc.postgresql.client.Client;
 import com.nebhale.r2dbc.postgresql.codec.Codecs;
 import com.nebhale.r2dbc.postgresql.message.backend.BackendMessage;
 import com.nebhale.r2dbc.postgresql.message.backend.CommandComplete;
 import com.nebhale.r2dbc.postgresql.message.backend.DataRow;
+import com.nebhale.r2dbc.postgresql.message.backend.EmptyQueryResponse;
+import com.nebhale.r2dbc.postgresql.message.backend.PortalSuspended;
 import com.nebhale.r2dbc.postgresql.message.backend.RowDescription;
 import com.nebhale.r2dbc.spi.Result;
 import com.nebhale.r2dbc.spi.Row;
 import com.nebhale.r2dbc.spi.RowMetadata;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.BaseSubscriber;
 import reactor.core.publisher.EmitterProcessor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import static reactor.function.TupleUtils.function;
 
@@ -38,6 +48,8 @@ import static reactor.function.TupleUtils.function;
  */
 public final class PostgresqlResult implements Result {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostgresqlResult.class);
+
     private final Codecs codecs;
 
     private final Mono<PostgresqlRowMetadata> rowMetadata;
@@ -83,11 +95,18 @@ public final class PostgresqlResult implements Result {
             '}';
     }
 
-    static PostgresqlResult toResult(Codecs codecs, Flux<BackendMessage> messages) {
+    static PostgresqlResult toResult(Client client, Codecs codecs, Flux<BackendMessage> messages) {
+        return toResult(client, codecs, messages, Columns::toColumns);
+    }
+
+    static PostgresqlResult toResult(Client client, Codecs codecs, Flux<BackendMessage> messages, Function<RowDescription, Columns> columnsFactory) {
+        Objects.requireNonNull(client, "client must not be null");
         Objects.requireNonNull(codecs, "codecs must not be null");
         Objects.requireNonNull(messages, "messages must not be null");
+        Objects.requireNonNull(columnsFactory, "columnsFactory must not be null");
 
         EmitterProcessor<BackendMessage> processor = EmitterProcessor.create(false);
+        MessageSubscriber messageSubscriber = new MessageSubscriber(client, processor);
         Flux<BackendMessage> firstMessages = processor.take(3).cache();
 
         Mono<RowDescription> rowDescription = firstMessages
@@ -96,13 +115,19 @@ public final class PostgresqlResult implements Result {
             .cache();
 
         Mono<PostgresqlRowMetadata> rowMetadata = rowDescription
-            .map(PostgresqlRowMetadata::toRowMetadata);
+            .map(PostgresqlRowMetadata::toRowMetadata)
+            .cache();
+
+        Mono<Columns> columns = rowDescription
+            .map(columnsFactory)
+            .cache();
 
         Flux<PostgresqlRow> rows = processor
             .startWith(firstMessages)
             .ofType(DataRow.class)
-            .zipWith(rowDescription.repeat())
-            .map(function((dataRow, rd) -> PostgresqlRow.toRow(codecs, dataRow, rd)));
+            .zipWith(columns.repeat())
+            .map(function((dataRow, c) -> PostgresqlRow.toRow(codecs, dataRow, c)))
+            .doOnCancel(messageSubscriber::discard);
 
         Mono<Integer> rowsUpdated = firstMessages
             .ofType(CommandComplete.class)
@@ -111,9 +136,94 @@ public final class PostgresqlResult implements Result {
 
         messages
             .handle(PostgresqlServerErrorException::handleErrorResponse)
-            .subscribe(processor);
+            .subscribe(messageSubscriber);
 
         return new PostgresqlResult(codecs, rowMetadata, rows, rowsUpdated);
     }
 
+    /**
+     * Forwards the messages of a statement to a result.  If the rows of the result are cancelled before the messages have completed, the remaining messages are requested without bound and
+     * discarded.  The messages are drained rather than cancelled so that the connection continues to read them and quickly returns to a usable state.  Once the messages that the client has
+     * already received have been drained, the statement is cancelled on the server if it is still producing rows and no other exchange is queued behind it.  A cancel request applies to whatever
+     * the server is executing when it arrives, so a statement that has already finished, or that other statements are pipelined behind, is drained without being cancelled.
+     */
+    private static final class MessageSubscriber extends BaseSubscriber<BackendMessage> {
+
+        private final Client client;
+
+        private final AtomicBoolean discarding = new AtomicBoolean();
+
+        private final EmitterProcessor<BackendMessage> processor;
+
+        private volatile boolean producing = true;
+
+        private MessageSubscriber(Client client, EmitterProcessor<BackendMessage> processor) {
+            this.client = client;
+            this.processor = processor;
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            this.producing = false;
+            this.processor.onComplete();
+        }
+
+        @Override
+        protected void hookOnError(Throwable throwable) {
+            this.producing = false;
+
+            if (!this.discarding.get()) {
+                this.processor.onError(throwable);
+            }
+        }
+
+        @Override
+        protected void hookOnNext(BackendMessage message) {
+            if (message instanceof CommandComplete || message instanceof EmptyQueryResponse || message instanceof PortalSuspended) {
+                this.producing = false;
+            }
+
+            if (!this.discarding.get()) {
+                this.processor.onNext(message);
+            } else if (message instanceof DataRow) {
+                ((DataRow) message).release();
+            }
+        }
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            this.processor.onSubscribe(new Subscription() {
+
+                @Override
+                public void cancel() {
+                    discard();
+                }
+
+                @Override
+                public void request(long n) {
+                    if (!MessageSubscriber.this.discarding.get()) {
+                        subscription.request(n);
+                    }
+                }
+
+            });
+        }
+
+        private void discard() {
+            if (!this.discarding.compareAndSet(false, true)) {
+                return;
+            }
+
+            this.processor.onComplete();
+            request(Long.MAX_VALUE);
+
+            if (this.producing) {
+                this.client.awaitDispatch()
+                    .then(Mono.defer(() -> this.producing && !this.client.hasQueuedExchanges() ? CancelRequestMessageFlow.exchange(this.client) : Mono.empty()))
+                    .subscribe(null, throwable -> LOGGER.warn("Unable to cancel statement", throwable));
+            }
+        }
+
+    }
+
 }
@@ -18,39 +18,43 @@ package com.nebhale.r2dbc.postgresql;
 
 import com.nebhale.r2dbc.core.nullability.Nullable;
 import com.nebhale.r2dbc.postgresql.codec.Codecs;
-import com.nebhale.r2dbc.postgresql.message.Format;
 import com.nebhale.r2dbc.postgresql.message.backend.DataRow;
-import com.nebhale.r2dbc.postgresql.message.backend.RowDescription;
 import com.nebhale.r2dbc.spi.Row;
 import io.netty.buffer.ByteBuf;
 
-import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.BOOL;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.FLOAT4;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.FLOAT8;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT2;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT4;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT8;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
+import static io.netty.util.CharsetUtil.US_ASCII;
 
 /**
- * An implementation of {@link Row} for a PostgreSQL database.
+ * An implementation of {@link Row} for a PostgreSQL database.  Values are decoded from the underlying {@link DataRow} when they are retrieved, with column names resolved by the {@link Columns}
+ * shared by all rows of a result.  The primitive accessors decode {@code bool}, {@code int2}, {@code int4}, {@code int8}, {@code float4}, and {@code float8} columns directly from
+ * the underlying buffer without boxing.  {@link String} and {@link Enum} values of {@code varchar} columns that have a {@link StringCache} are decoded through it, returning
+ * canonical instances for low-cardinality columns.  Other column types are decoded by the {@link Codecs}.
  */
 public final class PostgresqlRow implements Row {
 
     private final Codecs codecs;
 
-    private final List<Column> columns;
+    private final Columns columns;
 
-    private final AtomicBoolean isReleased = new AtomicBoolean(false);
+    private final DataRow dataRow;
 
-    private final Map<String, Column> nameKeyedColumns;
+    private volatile boolean isReleased = false;
 
-    PostgresqlRow(Codecs codecs, List<Column> columns) {
+    PostgresqlRow(Codecs codecs, Columns columns, DataRow dataRow) {
         this.codecs = Objects.requireNonNull(codecs, "codecs must not be null");
         this.columns = Objects.requireNonNull(columns, "columns must not be null");
-
-        this.nameKeyedColumns = this.columns.stream()
-            .collect(Collectors.toMap(Column::getName, Function.identity()));
+        this.dataRow = Objects.requireNonNull(dataRow, "dataRow must not be null");
     }
 
     @Override
@@ -62,7 +66,8 @@ public final class PostgresqlRow implements Row {
             return false;
         }
         PostgresqlRow that = (PostgresqlRow) o;
-        return Objects.equals(this.columns, that.columns);
+        return Objects.equals(this.columns, that.columns) &&
+            Objects.equals(this.dataRow, that.dataRow);
     }
 
     @Nullable
@@ -72,152 +77,191 @@ public final class PostgresqlRow implements Row {
         Objects.requireNonNull(type, "type must not be null");
         requireNotReleased();
 
-        Column column;
-        if (identifier instanceof Integer) {
-            column = getColumn((Integer) identifier);
-        } else if (identifier instanceof String) {
-            column = getColumn((String) identifier);
-        } else {
-            throw new IllegalArgumentException(String.format("Identifier '%s' is not a valid identifier. Should either be an Integer index or a String column name.", identifier));
+        int index = this.columns.getIndex(identifier);
+        ByteBuf byteBuf = this.dataRow.getColumns().get(index);
+
+        if (byteBuf == null) {
+            return this.codecs.decode(null, this.columns.getDataType(index), this.columns.getFormat(index), type);
         }
 
-        return this.codecs.decode(column.getByteBuf(), column.getDataType(), column.getFormat(), type);
+        int readerIndex = byteBuf.readerIndex();
+        try {
+            StringCache stringCache = getStringCache(index, type);
+            if (stringCache != null) {
+                return decodeCached(stringCache, byteBuf, type);
+            }
+
+            return this.codecs.decode(byteBuf, this.columns.getDataType(index), this.columns.getFormat(index), type);
+        } finally {
+            byteBuf.readerIndex(readerIndex);
+        }
     }
 
     @Override
-    public int hashCode() {
-        return Objects.hash(this.columns);
+    public boolean getBoolean(int index) {
+        requireNotReleased();
+
+        ByteBuf byteBuf = getNonNullValue(index);
+
+        if (BOOL.getObjectId() != this.columns.getDataType(index)) {
+            return get(index, Boolean.class);
+        }
+
+        return BINARY == this.columns.getFormat(index) ? byteBuf.getBoolean(byteBuf.readerIndex()) : 't' == byteBuf.getByte(byteBuf.readerIndex());
     }
 
     @Override
-    public String toString() {
-        return "PostgresqlRow{" +
-            "codecs=" + this.codecs +
-            ", columns=" + this.columns +
-            ", isReleased=" + this.isReleased +
-            ", nameKeyedColumns=" + this.nameKeyedColumns +
-            '}';
-    }
+    public double getDouble(int index) {
+        requireNotReleased();
 
-    static PostgresqlRow toRow(Codecs codecs, DataRow dataRow, RowDescription rowDescription) {
-        Objects.requireNonNull(codecs, "codecs must not be null");
-        Objects.requireNonNull(dataRow, "dataRow must not be null");
-        Objects.requireNonNull(rowDescription, "rowDescription must not be null");
+        ByteBuf byteBuf = getNonNullValue(index);
+        int dataType = this.columns.getDataType(index);
 
-        List<ByteBuf> byteBufs = dataRow.getColumns();
-        List<RowDescription.Field> fields = rowDescription.getFields();
+        if (FLOAT4.getObjectId() != dataType && FLOAT8.getObjectId() != dataType) {
+            return get(index, Double.class);
+        }
 
-        List<Column> columns = IntStream
-            .range(0, byteBufs.size())
-            .mapToObj(i -> {
-                ByteBuf byteBuf = byteBufs.get(i);
-                RowDescription.Field field = fields.get(i);
+        if (BINARY == this.columns.getFormat(index)) {
+            return FLOAT4.getObjectId() == dataType ? byteBuf.getFloat(byteBuf.readerIndex()) : byteBuf.getDouble(byteBuf.readerIndex());
+        }
 
-                return new Column(byteBuf, field.getDataType(), field.getFormat(), field.getName());
-            })
-            .collect(Collectors.toList());
+        String value = byteBuf.toString(byteBuf.readerIndex(), byteBuf.readableBytes(), US_ASCII);
+        return FLOAT4.getObjectId() == dataType ? Float.parseFloat(value) : Double.parseDouble(value);  // a float4 is widened the same way whether it is sent as text or binary
+    }
 
-        dataRow.release();
+    @Override
+    public int getInt(int index) {
+        requireNotReleased();
 
-        return new PostgresqlRow(codecs, columns);
-    }
+        ByteBuf byteBuf = getNonNullValue(index);
+        int dataType = this.columns.getDataType(index);
 
-    void release() {
-        this.columns.forEach(Column::release);
-        this.isReleased.set(true);
-    }
+        if (INT2.getObjectId() != dataType && INT4.getObjectId() != dataType) {
+            return get(index, Integer.class);
+        }
 
-    private Column getColumn(String name) {
-        if (!this.nameKeyedColumns.containsKey(name)) {
-            throw new IllegalArgumentException(String.format("Column name '%s' does not exist in column names %s", name, this.nameKeyedColumns.keySet()));
+        if (BINARY != this.columns.getFormat(index)) {
+            return (int) parseLong(byteBuf);
         }
 
-        return this.nameKeyedColumns.get(name);
+        return INT2.getObjectId() == dataType ? byteBuf.getShort(byteBuf.readerIndex()) : byteBuf.getInt(byteBuf.readerIndex());
     }
 
-    private Column getColumn(Integer index) {
-        if (index >= this.columns.size()) {
-            throw new IllegalArgumentException(String.format("Column index %d is larger than the number of columns %d", index, this.columns.size()));
+    @Override
+    public long getLong(int index) {
+        requireNotReleased();
+
+        ByteBuf byteBuf = getNonNullValue(index);
+        int dataType = this.columns.getDataType(index);
+
+        if (INT2.getObjectId() != dataType && INT4.getObjectId() != dataType && INT8.getObjectId() != dataType) {
+            return get(index, Long.class);
         }
 
-        return this.columns.get(index);
-    }
+        if (BINARY != this.columns.getFormat(index)) {
+            return parseLong(byteBuf);
+        }
 
-    private void requireNotReleased() {
-        if (this.isReleased.get()) {
-            throw new IllegalStateException("Value cannot be retrieved after row has been released");
+        if (INT2.getObjectId() == dataType) {
+            return byteBuf.getShort(byteBuf.readerIndex());
+        } else if (INT4.getObjectId() == dataType) {
+            return byteBuf.getInt(byteBuf.readerIndex());
+        } else {
+            return byteBuf.getLong(byteBuf.readerIndex());
         }
     }
 
-    static final class Column {
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.columns, this.dataRow);
+    }
 
-        private final ByteBuf byteBuf;
+    @Override
+    public String toString() {
+        return "PostgresqlRow{" +
+            "codecs=" + this.codecs +
+            ", columns=" + this.columns +
+            ", dataRow=" + this.dataRow +
+            ", isReleased=" + this.isReleased +
+            '}';
+    }
 
-        private final Integer dataType;
+    @Override
+    public boolean isNull(int index) {
+        requireNotReleased();
 
-        private final Format format;
+        return this.dataRow.getColumns().get(this.columns.getIndex(index)) == null;
+    }
 
-        private final String name;
+    static PostgresqlRow toRow(Codecs codecs, DataRow dataRow, Columns columns) {
+        Objects.requireNonNull(codecs, "codecs must not be null");
+        Objects.requireNonNull(dataRow, "dataRow must not be null");
+        Objects.requireNonNull(columns, "columns must not be null");
 
-        Column(ByteBuf byteBuf, Integer dataType, Format format, String name) {
-            this.byteBuf = byteBuf == null ? null : byteBuf.retain();
-            this.dataType = Objects.requireNonNull(dataType, "dataType must not be null");
-            this.format = Objects.requireNonNull(format, "format must not be null");
-            this.name = Objects.requireNonNull(name, "name must not be null");
-        }
+        return new PostgresqlRow(codecs, columns, dataRow);
+    }
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
-            }
-            Column that = (Column) o;
-            return Objects.equals(this.byteBuf, that.byteBuf) &&
-                Objects.equals(this.dataType, that.dataType) &&
-                this.format == that.format &&
-                Objects.equals(this.name, that.name);
+    void release() {
+        if (!this.isReleased) {
+            this.isReleased = true;
+            this.dataRow.release();
         }
+    }
 
-        @Override
-        public int hashCode() {
-            return Objects.hash(this.byteBuf, this.dataType, this.format, this.name);
-        }
+    private static long parseLong(ByteBuf byteBuf) {
+        int readerIndex = byteBuf.readerIndex();
+        int writerIndex = byteBuf.writerIndex();
 
-        @Override
-        public String toString() {
-            return "Column{" +
-                "byteBuf=" + this.byteBuf +
-                ", dataType=" + this.dataType +
-                ", format=" + this.format +
-                ", name='" + this.name + '\'' +
-                '}';
-        }
+        boolean negative = '-' == byteBuf.getByte(readerIndex);
+        int i = negative ? readerIndex + 1 : readerIndex;
 
-        private ByteBuf getByteBuf() {
-            return this.byteBuf;
+        if (i == writerIndex) {
+            throw new NumberFormatException(String.format("'%s' is not a valid integer", byteBuf.toString(readerIndex, writerIndex - readerIndex, US_ASCII)));
         }
 
-        private Integer getDataType() {
-            return this.dataType;
-        }
+        long value = 0;
+        for (; i < writerIndex; i++) {
+            int digit = byteBuf.getByte(i) - '0';
+
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException(String.format("'%s' is not a valid integer", byteBuf.toString(readerIndex, writerIndex - readerIndex, US_ASCII)));
+            }
 
-        private Format getFormat() {
-            return this.format;
+            value = value * 10 - digit;  // accumulated negatively so that Long.MIN_VALUE does not overflow
         }
 
-        private String getName() {
-            return this.name;
+        return negative ? value : -value;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static <T> T decodeCached(StringCache stringCache, ByteBuf byteBuf, Class<T> type) {
+        String value = stringCache.decode(byteBuf);
+        return String.class == type ? type.cast(value) : (T) Enum.valueOf((Class) type, value);
+    }
+
+    private ByteBuf getNonNullValue(int index) {
+        ByteBuf byteBuf = this.dataRow.getColumns().get(this.columns.getIndex(index));
+
+        if (byteBuf == null) {
+            throw new NullPointerException(String.format("Value of column %d is null", index));
         }
 
-        private void release() {
-            if (this.byteBuf != null) {
-                this.byteBuf.release();
-            }
+        return byteBuf;
+    }
+
+    @Nullable
+    private StringCache getStringCache(int index, Class<?> type) {
+        if ((String.class == type || Enum.class.isAssignableFrom(type)) && VARCHAR.getObjectId() == this.columns.getDataType(index) && TEXT == this.columns.getFormat(index)) {
+            return this.columns.getStringCache(index);
         }
 
+        return null;
+    }
+
+    private void requireNotReleased() {
+        if (this.isReleased) {
+            throw new IllegalStateException("Value cannot be retrieved after row has been released");
+        }
     }
 
 }
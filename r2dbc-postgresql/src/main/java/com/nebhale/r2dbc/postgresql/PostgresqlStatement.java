@@ -19,6 +19,8 @@ package com.nebhale.r2dbc.postgresql;
 import com.nebhale.r2dbc.spi.Statement;
 import reactor.core.publisher.Flux;
 
+import java.time.Duration;
+
 /**
  * A strongly typed implementation of {@link Statement} for a PostgreSQL database.
  */
@@ -47,10 +49,45 @@ public interface PostgresqlStatement extends Statement {
     @Override
     PostgresqlStatement bindNull(Object identifier, Object type);
 
+    /**
+     * Configures whether {@link String} and {@link Enum} values of {@code varchar} columns are returned as canonical instances.  The values of each column are cached by the prepared statement
+     * that produces them and shared by all of its executions, which avoids decoding and allocating repeated values of low-cardinality columns.  A column whose values rarely repeat stops being
+     * cached.  A single statement without parameters is executed with the extended query protocol when it caches strings, so that it has a prepared statement.  Multiple statements in a single SQL
+     * string do not support caching strings.  Strings are not cached by default.
+     *
+     * @param enabled whether to cache strings
+     * @return this {@link PostgresqlStatement}
+     * @throws UnsupportedOperationException if {@code enabled} and the statement does not support caching strings
+     */
+    PostgresqlStatement cacheStrings(boolean enabled);
+
     @Override
     Flux<PostgresqlResult> execute();
 
     @Override
     Flux<PostgresqlResult> executeReturningGeneratedKeys();
 
+    /**
+     * Configures the number of rows to request from the server at a time.  Further rows are requested once the previous ones have been consumed, bounding the number of rows buffered for a slow
+     * consumer.  A value of {@code 0} requests all rows at once.  A single statement without parameters is executed with the extended query protocol when it has a fetch size, so that its rows can
+     * be fetched in chunks.  Multiple statements in a single SQL string do not support a fetch size.
+     *
+     * @param rows the number of rows to request from the server at a time
+     * @return this {@link PostgresqlStatement}
+     * @throws IllegalArgumentException      if {@code rows} is negative
+     * @throws UnsupportedOperationException if the statement does not support a fetch size
+     */
+    PostgresqlStatement fetchSize(int rows);
+
+    /**
+     * Configures the timeout of the statement.  If the statement has not completed within the timeout, it is cancelled on the server and the results fail with a
+     * {@link PostgresqlStatementTimeoutException}.  A timeout of {@link Duration#ZERO} disables the timeout.
+     *
+     * @param timeout the timeout of the statement
+     * @return this {@link PostgresqlStatement}
+     * @throws IllegalArgumentException if {@code timeout} is negative
+     * @throws NullPointerException     if {@code timeout} is {@code null}
+     */
+    PostgresqlStatement timeout(Duration timeout);
+
 }
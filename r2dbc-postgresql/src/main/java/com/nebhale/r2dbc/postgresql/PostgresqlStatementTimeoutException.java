@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * An exception that represents a statement that did not complete within its timeout.  The statement is cancelled on the server when the timeout expires.
+ */
+public final class PostgresqlStatementTimeoutException extends RuntimeException {
+
+    private final Duration timeout;
+
+    /**
+     * Creates a new exception.
+     *
+     * @param timeout the timeout that expired
+     * @throws NullPointerException if {@code timeout} is {@code null}
+     */
+    public PostgresqlStatementTimeoutException(Duration timeout) {
+        super(String.format("Statement did not complete within %s", Objects.requireNonNull(timeout, "timeout must not be null")));
+        this.timeout = timeout;
+    }
+
+    /**
+     * Returns the timeout that expired.
+     *
+     * @return the timeout that expired
+     */
+    public Duration getTimeout() {
+        return this.timeout;
+    }
+
+}
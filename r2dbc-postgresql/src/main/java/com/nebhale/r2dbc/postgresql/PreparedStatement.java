@@ -0,0 +1,186 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+import com.nebhale.r2dbc.core.nullability.Nullable;
+import com.nebhale.r2dbc.postgresql.codec.Codecs;
+import com.nebhale.r2dbc.postgresql.message.Format;
+import com.nebhale.r2dbc.postgresql.message.backend.BackendMessage;
+import com.nebhale.r2dbc.postgresql.message.backend.ParameterDescription;
+import com.nebhale.r2dbc.postgresql.message.backend.RowDescription;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Collectors;
+
+/**
+ * A statement that has been prepared on the server, along with the descriptions of its parameters and of the rows that it returns.  The formats that rows are requested in, and the description
+ * of those rows as a portal would return them, are computed once and reused by every execution of the statement.  The statement also owns the {@link StringCache}s of its columns, which are
+ * shared by every execution that caches strings.
+ */
+final class PreparedStatement {
+
+    private final String name;
+
+    private final List<Integer> parameterTypes;
+
+    private final RowDescription rowDescription;
+
+    private final AtomicReferenceArray<StringCache> stringCaches;
+
+    private volatile ResultDescription resultDescription;
+
+    PreparedStatement(String name, List<Integer> parameterTypes, @Nullable RowDescription rowDescription) {
+        this.name = Objects.requireNonNull(name, "name must not be null");
+        this.parameterTypes = Objects.requireNonNull(parameterTypes, "parameterTypes must not be null");
+        this.rowDescription = rowDescription;
+        this.stringCaches = new AtomicReferenceArray<>(rowDescription == null ? 0 : rowDescription.getFields().size());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PreparedStatement that = (PreparedStatement) o;
+        return Objects.equals(this.name, that.name) &&
+            Objects.equals(this.parameterTypes, that.parameterTypes) &&
+            Objects.equals(this.rowDescription, that.rowDescription);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.name, this.parameterTypes, this.rowDescription);
+    }
+
+    @Override
+    public String toString() {
+        return "PreparedStatement{" +
+            "name='" + this.name + '\'' +
+            ", parameterTypes=" + this.parameterTypes +
+            ", rowDescription=" + this.rowDescription +
+            '}';
+    }
+
+    static PreparedStatement toPreparedStatement(String name, List<BackendMessage> messages) {
+        Objects.requireNonNull(name, "name must not be null");
+        Objects.requireNonNull(messages, "messages must not be null");
+
+        List<Integer> parameterTypes = Collections.emptyList();
+        RowDescription rowDescription = null;
+
+        for (BackendMessage message : messages) {
+            if (message instanceof ParameterDescription) {
+                parameterTypes = ((ParameterDescription) message).getParameters();
+            } else if (message instanceof RowDescription) {
+                rowDescription = (RowDescription) message;
+            }
+        }
+
+        return new PreparedStatement(name, parameterTypes, rowDescription);
+    }
+
+    String getName() {
+        return this.name;
+    }
+
+    List<Integer> getParameterTypes() {
+        return this.parameterTypes;
+    }
+
+    /**
+     * Returns the description of the rows returned by a portal of this statement when the rows are requested in the {@linkplain #getResultFormats(Codecs) result formats}.
+     *
+     * @param codecs the {@link Codecs} that will decode the rows
+     * @return the description of the rows returned by a portal of this statement, or {@link Optional#empty()} if the statement returns no rows
+     */
+    Optional<RowDescription> getPortalRowDescription(Codecs codecs) {
+        return Optional.ofNullable(getResultDescription(codecs).portalRowDescription);
+    }
+
+    /**
+     * Returns the formats to request the columns of the rows returned by this statement in.
+     *
+     * @param codecs the {@link Codecs} that will decode the rows
+     * @return the formats to request the columns of the rows returned by this statement in
+     */
+    List<Format> getResultFormats(Codecs codecs) {
+        return getResultDescription(codecs).resultFormats;
+    }
+
+    Optional<RowDescription> getRowDescription() {
+        return Optional.ofNullable(this.rowDescription);
+    }
+
+    /**
+     * Returns the {@link StringCache}s of the columns of the rows returned by this statement, indexed by column.  Each cache is created when it is first used.
+     *
+     * @return the {@link StringCache}s of the columns of the rows returned by this statement
+     */
+    AtomicReferenceArray<StringCache> getStringCaches() {
+        return this.stringCaches;
+    }
+
+    private ResultDescription getResultDescription(Codecs codecs) {
+        Objects.requireNonNull(codecs, "codecs must not be null");
+
+        ResultDescription resultDescription = this.resultDescription;
+        if (resultDescription == null || resultDescription.codecs != codecs) {
+            resultDescription = new ResultDescription(codecs, this.rowDescription);
+            this.resultDescription = resultDescription;
+        }
+
+        return resultDescription;
+    }
+
+    private static final class ResultDescription {
+
+        private final Codecs codecs;
+
+        private final RowDescription portalRowDescription;
+
+        private final List<Format> resultFormats;
+
+        private ResultDescription(Codecs codecs, @Nullable RowDescription rowDescription) {
+            this.codecs = codecs;
+
+            if (rowDescription == null) {
+                this.portalRowDescription = null;
+                this.resultFormats = Collections.emptyList();
+                return;
+            }
+
+            List<RowDescription.Field> fields = rowDescription.getFields().stream()
+                .map(field -> new RowDescription.Field(field.getColumn(), field.getDataType(), field.getDataTypeModifier(), field.getDataTypeSize(),
+                    codecs.getPreferredFormat(field.getDataType()), field.getName(), field.getTable()))
+                .collect(Collectors.toList());
+
+            this.portalRowDescription = new RowDescription(fields);
+            this.resultFormats = fields.stream()
+                .map(RowDescription.Field::getFormat)
+                .collect(Collectors.toList());
+        }
+
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The statements most recently prepared by any of the connections created by a {@link PostgresqlConnectionFactory}, identified by their SQL and parameter types rather than by server statement
+ * names.  A new connection prepares these statements after startup so that hot statements are already parsed and described when they are first executed.  Only a bounded number of statements is
+ * remembered.
+ */
+final class RecentStatements {
+
+    private final int limit;
+
+    private final Set<Tuple2<String, List<Integer>>> statements = new LinkedHashSet<>();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param limit the maximum number of statements to remember.  A limit less than {@code 1} remembers no statements.
+     */
+    RecentStatements(int limit) {
+        this.limit = limit;
+    }
+
+    @Override
+    public String toString() {
+        return "RecentStatements{" +
+            "limit=" + this.limit +
+            ", statements=" + this.statements +
+            '}';
+    }
+
+    /**
+     * Records that a statement has been prepared.  If the limit is exceeded, the least recently prepared statement is forgotten.
+     *
+     * @param sql            the SQL of the statement
+     * @param parameterTypes the types of the parameters of the statement
+     * @throws NullPointerException if {@code sql} or {@code parameterTypes} is {@code null}
+     */
+    void add(String sql, List<Integer> parameterTypes) {
+        Tuple2<String, List<Integer>> statement = toStatement(sql, parameterTypes);
+
+        if (this.limit < 1) {
+            return;
+        }
+
+        synchronized (this.statements) {
+            this.statements.remove(statement);
+            this.statements.add(statement);
+
+            if (this.statements.size() > this.limit) {
+                this.statements.remove(this.statements.iterator().next());
+            }
+        }
+    }
+
+    /**
+     * Returns the remembered statements, from the least to the most recently prepared.
+     *
+     * @return the remembered statements
+     */
+    List<Tuple2<String, List<Integer>>> getStatements() {
+        synchronized (this.statements) {
+            return new ArrayList<>(this.statements);
+        }
+    }
+
+    /**
+     * Forgets a statement, typically because it could no longer be prepared.
+     *
+     * @param sql            the SQL of the statement
+     * @param parameterTypes the types of the parameters of the statement
+     * @throws NullPointerException if {@code sql} or {@code parameterTypes} is {@code null}
+     */
+    void remove(String sql, List<Integer> parameterTypes) {
+        Tuple2<String, List<Integer>> statement = toStatement(sql, parameterTypes);
+
+        synchronized (this.statements) {
+            this.statements.remove(statement);
+        }
+    }
+
+    private static Tuple2<String, List<Integer>> toStatement(String sql, List<Integer> parameterTypes) {
+        Objects.requireNonNull(sql, "sql must not be null");
+        Objects.requireNonNull(parameterTypes, "parameterTypes must not be null");
+
+        return Tuples.of(sql, parameterTypes);
+    }
+
+}
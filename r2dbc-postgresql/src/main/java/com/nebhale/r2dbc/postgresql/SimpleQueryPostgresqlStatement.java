@@ -18,6 +18,7 @@ package com.nebhale.r2dbc.postgresql;
 
 import com.nebhale.r2dbc.core.nullability.Nullable;
 import com.nebhale.r2dbc.postgresql.client.Client;
+import com.nebhale.r2dbc.postgresql.client.PortalNameSupplier;
 import com.nebhale.r2dbc.postgresql.client.SimpleQueryMessageFlow;
 import com.nebhale.r2dbc.postgresql.codec.Codecs;
 import com.nebhale.r2dbc.postgresql.message.backend.CommandComplete;
@@ -25,9 +26,11 @@ import com.nebhale.r2dbc.postgresql.message.backend.EmptyQueryResponse;
 import com.nebhale.r2dbc.postgresql.message.backend.ErrorResponse;
 import reactor.core.publisher.Flux;
 
+import java.time.Duration;
 import java.util.Objects;
 
 import static com.nebhale.r2dbc.postgresql.client.ExtendedQueryMessageFlow.PARAMETER_SYMBOL;
+import static com.nebhale.r2dbc.postgresql.message.frontend.Execute.NO_LIMIT;
 import static com.nebhale.r2dbc.postgresql.util.PredicateUtils.or;
 
 final class SimpleQueryPostgresqlStatement implements PostgresqlStatement {
@@ -36,12 +39,28 @@ final class SimpleQueryPostgresqlStatement implements PostgresqlStatement {
 
     private final Codecs codecs;
 
+    private final PortalNameSupplier portalNameSupplier;
+
     private final String sql;
 
+    private final StatementCache statementCache;
+
+    private boolean cacheStrings = false;
+
+    private int fetchSize = NO_LIMIT;
+
+    private Duration timeout = Duration.ZERO;
+
     SimpleQueryPostgresqlStatement(Client client, Codecs codecs, String sql) {
+        this(client, codecs, null, sql, null);
+    }
+
+    SimpleQueryPostgresqlStatement(Client client, Codecs codecs, @Nullable PortalNameSupplier portalNameSupplier, String sql, @Nullable StatementCache statementCache) {
         this.client = Objects.requireNonNull(client, "client must not be null");
         this.codecs = Objects.requireNonNull(codecs, "codecs must not be null");
+        this.portalNameSupplier = portalNameSupplier;
         this.sql = Objects.requireNonNull(sql, "sql must not be null");
+        this.statementCache = statementCache;
     }
 
     @Override
@@ -64,12 +83,29 @@ final class SimpleQueryPostgresqlStatement implements PostgresqlStatement {
         throw new UnsupportedOperationException(String.format("Binding parameters is not supported for the statement '%s'", this.sql));
     }
 
+    @Override
+    public SimpleQueryPostgresqlStatement cacheStrings(boolean enabled) {
+        if (enabled && !supportsExtendedQuery()) {
+            throw new UnsupportedOperationException(String.format("Caching strings is not supported for the statement '%s'", this.sql));
+        }
+
+        this.cacheStrings = enabled;
+        return this;
+    }
+
     @Override
     public Flux<PostgresqlResult> execute() {
-        return SimpleQueryMessageFlow
-            .exchange(this.client, this.sql)
-            .windowUntil(or(CommandComplete.class::isInstance, EmptyQueryResponse.class::isInstance, ErrorResponse.class::isInstance))
-            .map(dataRow -> PostgresqlResult.toResult(this.codecs, dataRow));
+        if (this.cacheStrings || NO_LIMIT != this.fetchSize) {
+            return new ExtendedQueryPostgresqlStatement(this.client, this.codecs, this.portalNameSupplier, this.sql, this.statementCache)
+                .cacheStrings(this.cacheStrings)
+                .fetchSize(this.fetchSize)
+                .timeout(this.timeout)
+                .execute();
+        }
+
+        return MessageWindows.split(StatementTimeout.timeout(this.client, this.timeout, SimpleQueryMessageFlow.exchange(this.client, this.sql)),
+            or(CommandComplete.class::isInstance, EmptyQueryResponse.class::isInstance, ErrorResponse.class::isInstance))
+            .map(dataRow -> PostgresqlResult.toResult(this.client, this.codecs, dataRow));
     }
 
     @Override
@@ -77,12 +113,43 @@ final class SimpleQueryPostgresqlStatement implements PostgresqlStatement {
         throw new UnsupportedOperationException(String.format("Returning generated keys is not supported for the statement '%s'", this.sql));
     }
 
+    @Override
+    public SimpleQueryPostgresqlStatement fetchSize(int rows) {
+        if (!supportsExtendedQuery()) {
+            throw new UnsupportedOperationException(String.format("Fetch size is not supported for the statement '%s'", this.sql));
+        }
+
+        if (rows < 0) {
+            throw new IllegalArgumentException("rows must be greater than or equal to zero");
+        }
+
+        this.fetchSize = rows;
+        return this;
+    }
+
+    @Override
+    public SimpleQueryPostgresqlStatement timeout(Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout must not be null");
+
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("timeout must be greater than or equal to zero");
+        }
+
+        this.timeout = timeout;
+        return this;
+    }
+
     @Override
     public String toString() {
         return "SimpleQueryPostgresqlStatement{" +
-            "client=" + this.client +
+            "cacheStrings=" + this.cacheStrings +
+            ", client=" + this.client +
             ", codecs=" + this.codecs +
+            ", fetchSize=" + this.fetchSize +
+            ", portalNameSupplier=" + this.portalNameSupplier +
             ", sql='" + this.sql + '\'' +
+            ", statementCache=" + this.statementCache +
+            ", timeout=" + this.timeout +
             '}';
     }
 
@@ -96,7 +163,11 @@ final class SimpleQueryPostgresqlStatement implements PostgresqlStatement {
         return SimpleQueryMessageFlow
             .exchange(this.client, sql)
             .windowUntil(or(CommandComplete.class::isInstance, EmptyQueryResponse.class::isInstance, ErrorResponse.class::isInstance))
-            .map(dataRow -> PostgresqlResult.toResult(this.codecs, dataRow));
+            .map(dataRow -> PostgresqlResult.toResult(this.client, this.codecs, dataRow));
+    }
+
+    private boolean supportsExtendedQuery() {
+        return this.portalNameSupplier != null && this.statementCache != null && ExtendedQueryPostgresqlStatement.supportsFetchSize(this.sql);
     }
 
 }
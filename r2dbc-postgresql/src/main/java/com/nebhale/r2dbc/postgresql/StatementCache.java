@@ -17,10 +17,54 @@
 package com.nebhale.r2dbc.postgresql;
 
 import com.nebhale.r2dbc.postgresql.client.Binding;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
 interface StatementCache {
 
-    Mono<String> getName(Binding binding, String sql);
+    default Mono<PreparedStatement> getPreparedStatement(Binding binding, String sql) {
+        Objects.requireNonNull(binding, "binding must not be null");
+        Objects.requireNonNull(sql, "sql must not be null");
+
+        return getPreparedStatement(sql, binding.getParameterTypes());
+    }
+
+    Mono<PreparedStatement> getPreparedStatement(String sql, List<Integer> parameterTypes);
+
+    StatementCacheStatistics getStatistics();
+
+    /**
+     * Prepares a statement ahead of its first execution.  Unlike looking up a statement, preparing one is not counted in the {@link #getStatistics() statistics} of the cache.
+     *
+     * @param sql            the SQL of the statement
+     * @param parameterTypes the types of the parameters of the statement
+     * @return a {@link Mono} that indicates that the statement has been prepared
+     * @throws NullPointerException if {@code sql} or {@code parameterTypes} is {@code null}
+     */
+    Mono<Void> prepare(String sql, List<Integer> parameterTypes);
+
+    /**
+     * Uses a prepared statement.  The statement is looked up when the returned {@link Flux} is subscribed to and the cache does not close it on the server until the returned {@link Flux}
+     * terminates or is cancelled.
+     *
+     * @param binding the binding the statement is executed with
+     * @param sql     the SQL of the statement
+     * @param f       the function using the prepared statement
+     * @param <T>     the type of the elements produced by {@code f}
+     * @return the elements produced by {@code f}
+     * @throws NullPointerException if {@code binding}, {@code sql}, or {@code f} is {@code null}
+     */
+    default <T> Flux<T> usePreparedStatement(Binding binding, String sql, Function<PreparedStatement, ? extends Publisher<T>> f) {
+        Objects.requireNonNull(binding, "binding must not be null");
+        Objects.requireNonNull(sql, "sql must not be null");
+        Objects.requireNonNull(f, "f must not be null");
+
+        return Mono.defer(() -> getPreparedStatement(binding, sql)).flatMapMany(f);
+    }
 
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+import java.util.Objects;
+
+/**
+ * A snapshot of the statistics of the prepared statement cache of a connection.  A miss prepares a statement on the server, so a high proportion of misses or evictions indicates that the
+ * {@link PostgresqlConnectionConfiguration.Builder#statementCacheSize(int) statement cache size} is too small for the statements that an application executes.
+ */
+public final class StatementCacheStatistics {
+
+    private final long evictions;
+
+    private final long hits;
+
+    private final long misses;
+
+    /**
+     * Creates a new snapshot.
+     *
+     * @param evictions the number of statements that have been evicted from the cache
+     * @param hits      the number of lookups that found a prepared statement in the cache
+     * @param misses    the number of lookups that prepared a statement
+     */
+    public StatementCacheStatistics(long evictions, long hits, long misses) {
+        this.evictions = evictions;
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        StatementCacheStatistics that = (StatementCacheStatistics) o;
+        return this.evictions == that.evictions &&
+            this.hits == that.hits &&
+            this.misses == that.misses;
+    }
+
+    /**
+     * Returns the number of statements that have been evicted from the cache.  An evicted statement is closed on the server.
+     *
+     * @return the number of statements that have been evicted from the cache
+     */
+    public long getEvictions() {
+        return this.evictions;
+    }
+
+    /**
+     * Returns the number of lookups that found a prepared statement in the cache.
+     *
+     * @return the number of lookups that found a prepared statement in the cache
+     */
+    public long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Returns the number of lookups that prepared a statement.
+     *
+     * @return the number of lookups that prepared a statement
+     */
+    public long getMisses() {
+        return this.misses;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.evictions, this.hits, this.misses);
+    }
+
+    @Override
+    public String toString() {
+        return "StatementCacheStatistics{" +
+            "evictions=" + this.evictions +
+            ", hits=" + this.hits +
+            ", misses=" + this.misses +
+            '}';
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+import com.nebhale.r2dbc.postgresql.client.CancelRequestMessageFlow;
+import com.nebhale.r2dbc.postgresql.client.Client;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Utilities for applying a timeout to the messages of a statement.  Timeouts are scheduled on a single, shared {@link HashedWheelTimer} so that scheduling and cancelling a timeout is a constant
+ * time operation and executing a statement without a timeout incurs no cost at all.
+ */
+final class StatementTimeout {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatementTimeout.class);
+
+    private static final Timer TIMER = new HashedWheelTimer(new DefaultThreadFactory("r2dbc-postgresql-timeout", true), 10, MILLISECONDS);
+
+    private StatementTimeout() {
+    }
+
+    /**
+     * Applies a timeout to the messages of a statement.  If the messages have not terminated when the timeout expires, the messages are cancelled so that the connection discards the remainder of
+     * the statement, and the returned {@link Flux} fails with a {@link PostgresqlStatementTimeoutException}.  The timeout starts when the exchange of the statement is subscribed to, so
+     * {@code messages} should be the exchange itself rather than a sequence that first prepares the statement.
+     * <p>
+     * A cancel request applies to whatever the server is executing when it arrives.  Once the messages that the client has already received have been dispatched, the statement is therefore only
+     * cancelled on the server if it has not terminated and no other exchange is queued.  A statement that is still waiting behind other exchanges, or that other statements are pipelined behind,
+     * only fails locally.
+     *
+     * @param client   the client the statement is executing on
+     * @param timeout  the timeout to apply.  A timeout of {@link Duration#ZERO} disables the timeout.
+     * @param messages the messages of the statement
+     * @param <T>      the type of the messages
+     * @return the messages of the statement, failing with a {@link PostgresqlStatementTimeoutException} if they do not terminate within {@code timeout}
+     * @throws NullPointerException if {@code client}, {@code timeout}, or {@code messages} is {@code null}
+     */
+    static <T> Flux<T> timeout(Client client, Duration timeout, Flux<T> messages) {
+        Objects.requireNonNull(client, "client must not be null");
+        Objects.requireNonNull(timeout, "timeout must not be null");
+        Objects.requireNonNull(messages, "messages must not be null");
+
+        if (timeout.isZero()) {
+            return messages;
+        }
+
+        return Flux.defer(() -> {
+            AtomicBoolean terminated = new AtomicBoolean();
+            MonoProcessor<Void> expired = MonoProcessor.create();
+
+            Timeout scheduled = TIMER.newTimeout(t -> client.awaitDispatch()
+                .onErrorResume(throwable -> Mono.empty())
+                .subscribe(null, null, () -> {
+                    if (terminated.compareAndSet(false, true)) {
+                        if (!client.hasQueuedExchanges()) {
+                            Mono.defer(() -> CancelRequestMessageFlow.exchange(client))
+                                .subscribe(null, throwable -> LOGGER.warn("Unable to cancel statement", throwable));
+                        }
+
+                        expired.onComplete();
+                    }
+                }), timeout.toNanos(), NANOSECONDS);
+
+            return messages
+                .doOnTerminate(() -> terminated.set(true))
+                .takeUntilOther(expired)
+                .concatWith(Mono.defer(() -> expired.isTerminated() ? Mono.error(new PostgresqlStatementTimeoutException(timeout)) : Mono.empty()))
+                .doFinally(signalType -> scheduled.cancel());
+        });
+    }
+
+}
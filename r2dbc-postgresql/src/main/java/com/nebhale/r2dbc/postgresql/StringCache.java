@@ -0,0 +1,166 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+import com.nebhale.r2dbc.postgresql.util.ByteBufUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of the values of a single column, used to return canonical {@link String} instances for low-cardinality columns instead of decoding every value.  Values are looked up by the
+ * hash of their bytes, so a hit allocates nothing.  Only short values are cached and, once the cache is full, values that are not found are decoded without being cached.  A column that misses
+ * more often than it hits is treated as high-cardinality and the cache stops being consulted for it.  A cache is owned by a {@link PreparedStatement} and shared by all of its results.
+ * <p>
+ * <i>This class is threadsafe</i>
+ */
+final class StringCache {
+
+    static final int CAPACITY = 128;
+
+    static final int MAXIMUM_LENGTH = 64;
+
+    private static final int MINIMUM_MISSES = 1_024;
+
+    private static final int TABLE_SIZE = 2 * CAPACITY;
+
+    private final AtomicReferenceArray<Entry> entries = new AtomicReferenceArray<>(TABLE_SIZE);
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private volatile boolean disabled = false;
+
+    /**
+     * Decode a value, returning the cached instance if there is one.
+     *
+     * @param byteBuf the value to decode
+     * @return the decoded value
+     * @throws NullPointerException if {@code byteBuf} is {@code null}
+     */
+    String decode(ByteBuf byteBuf) {
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        if (this.disabled || byteBuf.readableBytes() > MAXIMUM_LENGTH) {
+            return ByteBufUtils.decode(byteBuf);
+        }
+
+        int hash = ByteBufUtil.hashCode(byteBuf);
+        Entry added = null;
+
+        for (int i = hash & (TABLE_SIZE - 1); ; ) {
+            Entry entry = this.entries.get(i);
+
+            if (entry == null) {
+                if (added == null) {
+                    if (!reserve()) {
+                        return miss(byteBuf);
+                    }
+
+                    added = new Entry(hash, ByteBufUtil.getBytes(byteBuf), ByteBufUtils.decode(byteBuf));
+                }
+
+                if (this.entries.compareAndSet(i, null, added)) {
+                    return added.value;
+                }
+
+                continue;  // another value was added to the slot, which may be this one
+            }
+
+            if (added == null ? entry.matches(hash, byteBuf) : entry.matches(added)) {
+                if (added != null) {
+                    this.size.decrementAndGet();
+                }
+
+                this.hits.increment();
+                byteBuf.skipBytes(byteBuf.readableBytes());
+                return entry.value;
+            }
+
+            i = (i + 1) & (TABLE_SIZE - 1);
+        }
+    }
+
+    boolean isDisabled() {
+        return this.disabled;
+    }
+
+    private String miss(ByteBuf byteBuf) {
+        this.misses.increment();
+
+        long misses = this.misses.sum();
+        if (misses >= MINIMUM_MISSES && misses > this.hits.sum()) {
+            this.disabled = true;
+        }
+
+        return ByteBufUtils.decode(byteBuf);
+    }
+
+    private boolean reserve() {
+        for (int size = this.size.get(); size < CAPACITY; size = this.size.get()) {
+            if (this.size.compareAndSet(size, size + 1)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static final class Entry {
+
+        private final byte[] bytes;
+
+        private final int hash;
+
+        private final String value;
+
+        private Entry(int hash, byte[] bytes, String value) {
+            this.bytes = bytes;
+            this.hash = hash;
+            this.value = value;
+        }
+
+        private boolean matches(Entry entry) {
+            return this.hash == entry.hash && Arrays.equals(this.bytes, entry.bytes);
+        }
+
+        private boolean matches(int hash, ByteBuf byteBuf) {
+            if (this.hash != hash || this.bytes.length != byteBuf.readableBytes()) {
+                return false;
+            }
+
+            int readerIndex = byteBuf.readerIndex();
+            for (int i = 0; i < this.bytes.length; i++) {
+                if (this.bytes[i] != byteBuf.getByte(readerIndex + i)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+    }
+
+}
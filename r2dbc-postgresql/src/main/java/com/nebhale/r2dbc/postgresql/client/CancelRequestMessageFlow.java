@@ -16,9 +16,7 @@
 
 package com.nebhale.r2dbc.postgresql.client;
 
-import com.nebhale.r2dbc.postgresql.message.backend.BackendMessage;
 import com.nebhale.r2dbc.postgresql.message.frontend.CancelRequest;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Objects;
@@ -32,19 +30,21 @@ public final class CancelRequestMessageFlow {
     }
 
     /**
-     * Execute the <a href="https://www.postgresql.org/docs/10/static/protocol-flow.html#idm46428663888448">Cancel Request</a> message flow.
+     * Execute the <a href="https://www.postgresql.org/docs/10/static/protocol-flow.html#idm46428663888448">Cancel Request</a> message flow.  The request is sent on a new connection, as the protocol
+     * requires, and cancels the command that the server is processing for {@code client} when the request arrives, if any.  The server does not report whether a command was cancelled.
      *
-     * @param client the {@link Client} to exchange messages with
-     * @return the messages received after authentication is complete, in response to this exchange
-     * @throws NullPointerException if {@code Client} is {@code null}
+     * @param client the {@link Client} whose command to cancel
+     * @return a {@link Mono} that indicates that the server has received the request
+     * @throws IllegalStateException if {@code client} has not yet received its process id or secret key
+     * @throws NullPointerException  if {@code Client} is {@code null}
      */
-    public static Flux<BackendMessage> exchange(Client client) {
+    public static Mono<Void> exchange(Client client) {
         Objects.requireNonNull(client, "client must not be null");
 
         int processId = client.getProcessId().orElseThrow(() -> new IllegalStateException("Connection does not yet have a processId"));
         int secretKey = client.getSecretKey().orElseThrow(() -> new IllegalStateException("Connection does not yet have a secretKey"));
 
-        return client.exchange(Mono.just(new CancelRequest(processId, secretKey)));
+        return client.sendOnNewConnection(Mono.just(new CancelRequest(processId, secretKey)));
     }
 
 }
@@ -17,6 +17,7 @@
 package com.nebhale.r2dbc.postgresql.client;
 
 import com.nebhale.r2dbc.postgresql.message.backend.BackendMessage;
+import com.nebhale.r2dbc.postgresql.message.backend.NotificationResponse;
 import com.nebhale.r2dbc.postgresql.message.backend.ReadyForQuery;
 import com.nebhale.r2dbc.postgresql.message.frontend.FrontendMessage;
 import io.netty.buffer.ByteBufAllocator;
@@ -32,6 +33,13 @@ import java.util.Optional;
  */
 public interface Client {
 
+    /**
+     * Returns a {@link Mono} that completes once the messages that have already been received from the server have been dispatched to their exchanges.
+     *
+     * @return a {@link Mono} that completes once the messages that have already been received have been dispatched
+     */
+    Mono<Void> awaitDispatch();
+
     /**
      * Release any resources held by the {@link Client}.
      *
@@ -40,7 +48,8 @@ public interface Client {
     Mono<Void> close();
 
     /**
-     * Perform an exchange of messages.
+     * Perform an exchange of messages.  Exchanges are pipelined: the requests of an exchange are written as soon as it is subscribed to, without waiting for earlier exchanges to complete, and
+     * responses are delivered to exchanges in the order in which they were subscribed to.
      *
      * @param requests the publisher of outbound messages
      * @return a {@link Flux} of incoming messages that ends with the end of the frame (i.e. reception of a {@link ReadyForQuery} message.
@@ -55,6 +64,15 @@ public interface Client {
      */
     ByteBufAllocator getByteBufAllocator();
 
+    /**
+     * Returns the asynchronous notifications received by the connection.  Notifications are delivered separately from the responses to exchanges, regardless of when they arrive.  The
+     * {@link Flux} is hot and may have many subscribers.  Subscribers only receive notifications that arrive after they subscribe, and a subscriber that cannot keep up should apply its own
+     * backpressure strategy.
+     *
+     * @return the asynchronous notifications received by the connection
+     */
+    Flux<NotificationResponse> getNotifications();
+
     /**
      * Returns a snapshot of the current parameter statuses.
      *
@@ -83,4 +101,21 @@ public interface Client {
      */
     TransactionStatus getTransactionStatus();
 
+    /**
+     * Returns whether other exchanges are waiting for responses behind the exchange that is currently receiving them.
+     *
+     * @return whether other exchanges are waiting for responses behind the exchange that is currently receiving them
+     */
+    boolean hasQueuedExchanges();
+
+    /**
+     * Send messages on a new connection to the same server.  The new connection does not perform a startup and is closed once the server closes it.  This is used for messages, such as a
+     * {@code CancelRequest}, that the protocol requires to be sent on a connection other than the one they apply to.
+     *
+     * @param requests the publisher of outbound messages
+     * @return a {@link Mono} that indicates that the server has closed the new connection
+     * @throws NullPointerException if {@code requests} is {@code null}
+     */
+    Mono<Void> sendOnNewConnection(Publisher<FrontendMessage> requests);
+
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql.client;
+
+import com.nebhale.r2dbc.postgresql.message.backend.BackendMessage;
+import com.nebhale.r2dbc.postgresql.message.backend.CopyInResponse;
+import com.nebhale.r2dbc.postgresql.message.frontend.CopyData;
+import com.nebhale.r2dbc.postgresql.message.frontend.CopyDone;
+import com.nebhale.r2dbc.postgresql.message.frontend.CopyFail;
+import com.nebhale.r2dbc.postgresql.message.frontend.FrontendMessage;
+import com.nebhale.r2dbc.postgresql.message.frontend.Query;
+import io.netty.buffer.ByteBuf;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+
+import java.util.Objects;
+
+/**
+ * A utility class that encapsulates the <a href="https://www.postgresql.org/docs/current/static/protocol-flow.html#PROTOCOL-COPY">COPY Operations</a> message flows.
+ */
+public final class CopyMessageFlow {
+
+    private CopyMessageFlow() {
+    }
+
+    /**
+     * Execute the <a href="https://www.postgresql.org/docs/current/static/protocol-flow.html#PROTOCOL-COPY">COPY-in</a> message flow.  {@code data} is not subscribed to until the server has
+     * responded with a {@link CopyInResponse}.  Each {@link ByteBuf} it emits is sent to the server as a single {@link CopyData} message and released once it has been written.  If {@code data}
+     * completes, the flow ends with a {@link CopyDone} and if it fails, the flow ends with a {@link CopyFail}.
+     *
+     * @param client the {@link Client} to exchange messages with
+     * @param query  the {@code COPY ... FROM STDIN} query to execute
+     * @param data   the data to copy to the server
+     * @return the messages received in response to this exchange
+     * @throws NullPointerException if {@code client}, {@code query}, or {@code data} is {@code null}
+     */
+    public static Flux<BackendMessage> copyIn(Client client, String query, Publisher<ByteBuf> data) {
+        Objects.requireNonNull(client, "client must not be null");
+        Objects.requireNonNull(query, "query must not be null");
+        Objects.requireNonNull(data, "data must not be null");
+
+        return Flux.defer(() -> {
+            MonoProcessor<Void> copyInResponse = MonoProcessor.create();
+
+            Flux<FrontendMessage> copyData = Flux.from(data)
+                .<FrontendMessage>map(CopyData::new)
+                .concatWith(Mono.just(CopyDone.INSTANCE))
+                .onErrorResume(throwable -> Mono.just(new CopyFail(throwable.toString())));
+
+            return client.exchange(Flux.just((FrontendMessage) new Query(query))
+                .concatWith(copyInResponse.thenMany(copyData)))
+                .doOnNext(message -> {
+                    if (message instanceof CopyInResponse) {
+                        copyInResponse.onComplete();
+                    }
+                });
+        });
+    }
+
+    /**
+     * Execute the <a href="https://www.postgresql.org/docs/current/static/protocol-flow.html#PROTOCOL-COPY">COPY-out</a> message flow.  The data is received as
+     * {@link com.nebhale.r2dbc.postgresql.message.backend.CopyData} messages, each of which must be released once it has been consumed.
+     *
+     * @param client the {@link Client} to exchange messages with
+     * @param query  the {@code COPY ... TO STDOUT} query to execute
+     * @return the messages received in response to this exchange
+     * @throws NullPointerException if {@code client} or {@code query} is {@code null}
+     */
+    public static Flux<BackendMessage> copyOut(Client client, String query) {
+        Objects.requireNonNull(client, "client must not be null");
+        Objects.requireNonNull(query, "query must not be null");
+
+        return client.exchange(Mono.just(new Query(query)));
+    }
+
+}
@@ -16,21 +16,32 @@
 
 package com.nebhale.r2dbc.postgresql.client;
 
+import com.nebhale.r2dbc.core.nullability.Nullable;
+import com.nebhale.r2dbc.postgresql.message.Format;
 import com.nebhale.r2dbc.postgresql.message.backend.BackendMessage;
+import com.nebhale.r2dbc.postgresql.message.backend.BindComplete;
+import com.nebhale.r2dbc.postgresql.message.backend.CommandComplete;
+import com.nebhale.r2dbc.postgresql.message.backend.EmptyQueryResponse;
+import com.nebhale.r2dbc.postgresql.message.backend.ErrorResponse;
 import com.nebhale.r2dbc.postgresql.message.backend.NoData;
+import com.nebhale.r2dbc.postgresql.message.backend.PortalSuspended;
 import com.nebhale.r2dbc.postgresql.message.backend.RowDescription;
 import com.nebhale.r2dbc.postgresql.message.frontend.Bind;
 import com.nebhale.r2dbc.postgresql.message.frontend.Close;
 import com.nebhale.r2dbc.postgresql.message.frontend.Describe;
 import com.nebhale.r2dbc.postgresql.message.frontend.Execute;
+import com.nebhale.r2dbc.postgresql.message.frontend.Flush;
 import com.nebhale.r2dbc.postgresql.message.frontend.FrontendMessage;
 import com.nebhale.r2dbc.postgresql.message.frontend.Parse;
 import com.nebhale.r2dbc.postgresql.message.frontend.Sync;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.UnicastProcessor;
 
-import java.util.Collections;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.regex.Pattern;
@@ -50,28 +61,98 @@ public final class ExtendedQueryMessageFlow {
      */
     public static final Pattern PARAMETER_SYMBOL = Pattern.compile(".*\\$([\\d]+).*");
 
+    private static final String UNNAMED_PORTAL = "";
+
     private ExtendedQueryMessageFlow() {
     }
 
     /**
-     * Execute the execute portion of the <a href="https://www.postgresql.org/docs/current/static/protocol-flow.html#PROTOCOL-FLOW-EXT-QUERY">Extended query</a> message flow.
+     * Execute the close portion of the <a href="https://www.postgresql.org/docs/current/static/protocol-flow.html#PROTOCOL-FLOW-EXT-QUERY">Extended query</a> message flow for a prepared statement.
+     *
+     * @param client the {@link Client} to exchange messages with
+     * @param name   the name of the statement to close
+     * @return the messages received in response to this exchange
+     * @throws NullPointerException if {@code client} or {@code name} is {@code null}
+     */
+    public static Flux<BackendMessage> closeStatement(Client client, String name) {
+        Objects.requireNonNull(client, "client must not be null");
+        Objects.requireNonNull(name, "name must not be null");
+
+        return client.exchange(Flux.just(new Close(name, STATEMENT), Sync.INSTANCE));
+    }
+
+    /**
+     * Execute the execute portion of the <a href="https://www.postgresql.org/docs/current/static/protocol-flow.html#PROTOCOL-FLOW-EXT-QUERY">Extended query</a> message flow.  Portals are not
+     * described; instead the {@link BindComplete} of each binding is replaced with the already known description of the rows that the portal returns.  Without a fetch size, the bindings are
+     * executed as a {@linkplain #executeBatch(Publisher, Client, String, RowDescription, List) batch}.
      *
      * @param bindings           the {@link Binding}s to bind
      * @param client             the {@link Client} to exchange messages with
      * @param portalNameSupplier supplier unique portal names for each binding
      * @param statement          the name of the statement to execute
+     * @param rowDescription     the description of the rows returned by a portal of the statement, or {@code null} if the statement returns no rows
+     * @param resultFormats      the formats to return result columns in.  An empty list returns all columns in {@link Format#TEXT}, a single format applies to all columns, otherwise there is one
+     *                           format per column.
+     * @param fetchSize          the maximum number of rows to request from the server at a time.  {@link Execute#NO_LIMIT} requests all rows at once, otherwise each portal is executed
+     *                           repeatedly, requesting further rows only once the previous ones have been consumed.
      * @return the messages received in response to the exchange
-     * @throws NullPointerException if {@code bindings}, {@code client}, {@code portalNameSupplier}, or {@code statement} is {@code null}
+     * @throws IllegalArgumentException if {@code fetchSize} is negative
+     * @throws NullPointerException     if {@code bindings}, {@code client}, {@code portalNameSupplier}, {@code statement}, or {@code resultFormats} is {@code null}
      */
-    public static Flux<BackendMessage> execute(Publisher<Binding> bindings, Client client, PortalNameSupplier portalNameSupplier, String statement) {
+    public static Flux<BackendMessage> execute(Publisher<Binding> bindings, Client client, PortalNameSupplier portalNameSupplier, String statement, @Nullable RowDescription rowDescription,
+                                               List<Format> resultFormats, int fetchSize) {
         Objects.requireNonNull(bindings, "bindings must not be null");
         Objects.requireNonNull(client, "client must not be null");
         Objects.requireNonNull(portalNameSupplier, "portalNameSupplier must not be null");
         Objects.requireNonNull(statement, "statement must not be null");
+        Objects.requireNonNull(resultFormats, "resultFormats must not be null");
+
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("fetchSize must be greater than or equal to zero");
+        }
+
+        if (NO_LIMIT == fetchSize) {
+            return executeBatch(bindings, client, statement, rowDescription, resultFormats);
+        }
+
+        return Flux.from(bindings)
+            .collectList()
+            .flatMapMany(list -> {
+                FetchingBindFlow bindFlow = new FetchingBindFlow(list.iterator(), portalNameSupplier, statement, resultFormats, fetchSize);
+
+                return describe(client.exchange(bindFlow.start())
+                    .doOnNext(bindFlow::onMessage)
+                    .doOnCancel(bindFlow::cancel)
+                    .filter(message -> !(message instanceof PortalSuspended)), rowDescription);
+            });
+    }
+
+    /**
+     * Execute the execute portion of the <a href="https://www.postgresql.org/docs/current/static/protocol-flow.html#PROTOCOL-FLOW-EXT-QUERY">Extended query</a> message flow for a batch of
+     * bindings.  Each binding is bound to the unnamed portal and executed for all of its rows, without describing or closing the portal, and all bindings are sent ahead of a single {@link Sync}.
+     * As the portals are not described, the {@link BindComplete} of each binding is replaced with the already known description of the rows that the portal returns.  The results of
+     * consecutive bindings are delimited by {@link CommandComplete} rather than by {@link com.nebhale.r2dbc.postgresql.message.backend.CloseComplete}.
+     *
+     * @param bindings       the {@link Binding}s to bind
+     * @param client         the {@link Client} to exchange messages with
+     * @param statement      the name of the statement to execute
+     * @param rowDescription the description of the rows returned by a portal of the statement, or {@code null} if the statement returns no rows
+     * @param resultFormats  the formats to return result columns in.  An empty list returns all columns in {@link Format#TEXT}, a single format applies to all columns, otherwise there is one
+     *                       format per column.
+     * @return the messages received in response to the exchange
+     * @throws NullPointerException if {@code bindings}, {@code client}, {@code statement}, or {@code resultFormats} is {@code null}
+     */
+    public static Flux<BackendMessage> executeBatch(Publisher<Binding> bindings, Client client, String statement, @Nullable RowDescription rowDescription, List<Format> resultFormats) {
+        Objects.requireNonNull(bindings, "bindings must not be null");
+        Objects.requireNonNull(client, "client must not be null");
+        Objects.requireNonNull(statement, "statement must not be null");
+        Objects.requireNonNull(resultFormats, "resultFormats must not be null");
 
-        return client.exchange(Flux.from(bindings)
-            .flatMap(binding -> toBindFlow(binding, portalNameSupplier, statement))
-            .concatWith(Mono.just(Sync.INSTANCE)));
+        return describe(client.exchange(Flux.from(bindings)
+            .flatMapIterable(binding -> Arrays.asList(
+                new Bind(UNNAMED_PORTAL, binding.getParameterFormats(), binding.getParameterValues(), resultFormats, statement),
+                new Execute(UNNAMED_PORTAL, NO_LIMIT)))
+            .concatWith(Mono.just(Sync.INSTANCE))), rowDescription);
     }
 
     /**
@@ -94,13 +175,92 @@ public final class ExtendedQueryMessageFlow {
             .takeUntil(or(RowDescription.class::isInstance, NoData.class::isInstance));
     }
 
-    private static Flux<FrontendMessage> toBindFlow(Binding binding, PortalNameSupplier portalNameSupplier, String statement) {
-        String portal = portalNameSupplier.get();
+    private static Flux<BackendMessage> describe(Flux<BackendMessage> messages, @Nullable RowDescription rowDescription) {
+        return rowDescription == null ? messages : messages.map(message -> message instanceof BindComplete ? rowDescription : message);
+    }
+
+    /**
+     * The requests of an execution with a fetch size.  Each binding is bound to a portal that is executed for at most {@code fetchSize} rows before the connection is flushed.  When the server
+     * suspends the portal, it is executed again once the {@link PortalSuspended} has been consumed.  Once the portal completes it is closed and the next binding is started.  The flow ends with a
+     * {@link Sync} once all bindings have completed, the server reports an error, or the consumer cancels.
+     */
+    private static final class FetchingBindFlow {
+
+        private final Iterator<Binding> bindings;
+
+        private final int fetchSize;
+
+        private final PortalNameSupplier portalNameSupplier;
+
+        private final UnicastProcessor<FrontendMessage> requests = UnicastProcessor.create();
+
+        private final List<Format> resultFormats;
+
+        private final FluxSink<FrontendMessage> sink = this.requests.sink();
+
+        private final String statement;
+
+        private boolean finished = false;
+
+        private String portal;
+
+        private FetchingBindFlow(Iterator<Binding> bindings, PortalNameSupplier portalNameSupplier, String statement, List<Format> resultFormats, int fetchSize) {
+            this.bindings = bindings;
+            this.fetchSize = fetchSize;
+            this.portalNameSupplier = portalNameSupplier;
+            this.resultFormats = resultFormats;
+            this.statement = statement;
+        }
+
+        private synchronized void cancel() {
+            finish();
+        }
+
+        private void finish() {
+            if (this.finished) {
+                return;
+            }
+
+            this.finished = true;
+            this.sink.next(Sync.INSTANCE);
+            this.sink.complete();
+        }
+
+        private void next() {
+            if (!this.bindings.hasNext()) {
+                finish();
+                return;
+            }
+
+            Binding binding = this.bindings.next();
+            this.portal = this.portalNameSupplier.get();
+
+            this.sink.next(new Bind(this.portal, binding.getParameterFormats(), binding.getParameterValues(), this.resultFormats, this.statement));
+            this.sink.next(new Execute(this.portal, this.fetchSize));
+            this.sink.next(Flush.INSTANCE);
+        }
+
+        private synchronized void onMessage(BackendMessage message) {
+            if (this.finished) {
+                return;
+            }
+
+            if (message instanceof PortalSuspended) {
+                this.sink.next(new Execute(this.portal, this.fetchSize));
+                this.sink.next(Flush.INSTANCE);
+            } else if (message instanceof CommandComplete || message instanceof EmptyQueryResponse) {
+                this.sink.next(new Close(this.portal, PORTAL));
+                next();
+            } else if (message instanceof ErrorResponse) {
+                finish();
+            }
+        }
 
-        // TODO: Specify Return Types
-        Bind bind = new Bind(portal, binding.getParameterFormats(), binding.getParameterValues(), Collections.emptyList(), statement);
+        private synchronized Flux<FrontendMessage> start() {
+            next();
+            return this.requests;
+        }
 
-        return Flux.just(bind, new Describe(portal, PORTAL), new Execute(portal, NO_LIMIT), new Close(portal, PORTAL));
     }
 
 }
@@ -80,7 +80,7 @@ public final class Parameter {
      *
      * @return the format of the parameter
      */
-    Format getFormat() {
+    public Format getFormat() {
         return this.format;
     }
 
@@ -89,7 +89,7 @@ public final class Parameter {
      *
      * @return the type of the parameter
      */
-    Integer getType() {
+    public Integer getType() {
         return this.type;
     }
 
@@ -99,7 +99,7 @@ public final class Parameter {
      * @return the value of the parameter
      */
     @Nullable
-    ByteBuf getValue() {
+    public ByteBuf getValue() {
         return this.value;
     }
 
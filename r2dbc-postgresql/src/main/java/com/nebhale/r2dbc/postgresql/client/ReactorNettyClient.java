@@ -19,21 +19,39 @@ package com.nebhale.r2dbc.postgresql.client;
 import com.nebhale.r2dbc.postgresql.message.backend.BackendKeyData;
 import com.nebhale.r2dbc.postgresql.message.backend.BackendMessage;
 import com.nebhale.r2dbc.postgresql.message.backend.BackendMessageDecoder;
+import com.nebhale.r2dbc.postgresql.message.backend.CopyData;
+import com.nebhale.r2dbc.postgresql.message.backend.DataRow;
 import com.nebhale.r2dbc.postgresql.message.backend.ErrorResponse;
 import com.nebhale.r2dbc.postgresql.message.backend.Field;
 import com.nebhale.r2dbc.postgresql.message.backend.NoticeResponse;
+import com.nebhale.r2dbc.postgresql.message.backend.NotificationResponse;
 import com.nebhale.r2dbc.postgresql.message.backend.ParameterStatus;
 import com.nebhale.r2dbc.postgresql.message.backend.ReadyForQuery;
+import com.nebhale.r2dbc.postgresql.message.frontend.Bind;
+import com.nebhale.r2dbc.postgresql.message.frontend.Close;
+import com.nebhale.r2dbc.postgresql.message.frontend.Describe;
+import com.nebhale.r2dbc.postgresql.message.frontend.Execute;
 import com.nebhale.r2dbc.postgresql.message.frontend.FrontendMessage;
+import com.nebhale.r2dbc.postgresql.message.frontend.Parse;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.EventLoop;
 import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.DirectProcessor;
 import reactor.core.publisher.EmitterProcessor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
 import reactor.core.publisher.SynchronousSink;
+import reactor.ipc.netty.NettyContext;
+import reactor.ipc.netty.NettyPipeline;
 import reactor.ipc.netty.tcp.BlockingNettyContext;
 import reactor.ipc.netty.tcp.TcpClient;
 
@@ -42,16 +60,19 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.nebhale.r2dbc.postgresql.client.TransactionStatus.IDLE;
-import static com.nebhale.r2dbc.postgresql.util.PredicateUtils.not;
 
 /**
  * An implementation of client based on the Reactor Netty project.
@@ -60,10 +81,16 @@ import static com.nebhale.r2dbc.postgresql.util.PredicateUtils.not;
  */
 public final class ReactorNettyClient implements Client {
 
+    private static final ByteBuf FLUSH = Unpooled.unreleasableBuffer(Unpooled.buffer(0, 0));
+
+    private static final long MESSAGE_PREFETCH = 256;
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private final AtomicReference<ByteBufAllocator> byteBufAllocator = new AtomicReference<>();
 
+    private final AtomicReference<EventLoop> eventLoop = new AtomicReference<>();
+
     private final BiConsumer<BackendMessage, SynchronousSink<BackendMessage>> handleErrorResponse = handleBackendMessage(ErrorResponse.class,
         (message, sink) -> {
             this.logger.error("Error: {}", toString(message.getFields()));
@@ -77,6 +104,11 @@ public final class ReactorNettyClient implements Client {
 
     private final AtomicReference<BlockingNettyContext> nettyContext = new AtomicReference<>();
 
+    private final DirectProcessor<NotificationResponse> notificationProcessor = DirectProcessor.create();
+
+    private final BiConsumer<BackendMessage, SynchronousSink<BackendMessage>> handleNotificationResponse = handleBackendMessage(NotificationResponse.class,
+        (message, sink) -> this.notificationProcessor.onNext(message));
+
     private final ConcurrentMap<String, String> parameterStatus = new ConcurrentHashMap<>();
 
     private final BiConsumer<BackendMessage, SynchronousSink<BackendMessage>> handleParameterStatus = handleBackendMessage(ParameterStatus.class,
@@ -84,11 +116,11 @@ public final class ReactorNettyClient implements Client {
 
     private final AtomicReference<Integer> processId = new AtomicReference<>();
 
-    private final EmitterProcessor<FrontendMessage> requestProcessor = EmitterProcessor.create(false);
+    private final Queue<Conversation> conversations = new ConcurrentLinkedQueue<>();
 
-    private final FluxSink<FrontendMessage> requests = this.requestProcessor.sink();
+    private final EmitterProcessor<Flux<FrontendMessage>> requestProcessor = EmitterProcessor.create(false);
 
-    private final EmitterProcessor<Flux<BackendMessage>> responseProcessor = EmitterProcessor.create(false);
+    private final FluxSink<Flux<FrontendMessage>> requests = this.requestProcessor.sink();
 
     private final AtomicReference<Integer> secretKey = new AtomicReference<>();
 
@@ -98,6 +130,8 @@ public final class ReactorNettyClient implements Client {
             this.secretKey.set(message.getSecretKey());
         });
 
+    private final TcpClient tcpClient;
+
     private final AtomicReference<TransactionStatus> transactionStatus = new AtomicReference<>(IDLE);
 
     private final BiConsumer<BackendMessage, SynchronousSink<BackendMessage>> handleReadyForQuery = handleBackendMessage(ReadyForQuery.class,
@@ -116,33 +150,65 @@ public final class ReactorNettyClient implements Client {
     public ReactorNettyClient(String host, int port) {
         Objects.requireNonNull(host, "host must not be null");
 
-        BackendMessageDecoder decoder = new BackendMessageDecoder();
-        FluxSink<Flux<BackendMessage>> responses = this.responseProcessor.sink();
+        this.tcpClient = TcpClient.create(host, port);
 
-        BlockingNettyContext nettyContext = TcpClient.create(host, port)
+        BlockingNettyContext nettyContext = this.tcpClient
             .start((inbound, outbound) -> {
                 this.byteBufAllocator.set(outbound.alloc());
+                this.eventLoop.set(inbound.context().channel().eventLoop());
+
+                inbound.context().channel().config().setAutoRead(false);
+                inbound.context().addHandlerFirst(new BackendMessageDecoder());
 
-                inbound.receive()
-                    .retain()
-                    .concatMap(decoder::decode)
+                inbound.receiveObject()
+                    .cast(BackendMessage.class)
                     .doOnNext(message -> this.logger.debug("Response: {}", message))
                     .handle(this.handleNoticeResponse)
+                    .handle(this.handleNotificationResponse)
                     .handle(this.handleErrorResponse)
                     .handle(this.handleBackendKeyData)
                     .handle(this.handleParameterStatus)
                     .handle(this.handleReadyForQuery)
-                    .windowWhile(not(ReadyForQuery.class::isInstance))
-                    .subscribe(responses::next, responses::error, responses::complete);
+                    .subscribe(new BackendMessageSubscriber());
 
-                return this.requestProcessor
+                outbound.options(NettyPipeline.SendOptions::flushOnEach);
+
+                WriteBatcher writeBatcher = new WriteBatcher(outbound.alloc());
+
+                return outbound.send(this.requestProcessor
+                    .concatMap(Function.identity())
                     .doOnNext(message -> this.logger.debug("Request:  {}", message))
-                    .concatMap(message -> outbound.send(message.encode(outbound.alloc())));
+                    .concatMap(message -> encode(message, outbound.alloc()))
+                    .handle(writeBatcher)
+                    .doFinally(signalType -> writeBatcher.release()));
             });
 
         this.nettyContext.set(nettyContext);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Messages are received and dispatched on the event loop of the connection, so a task submitted to it runs after every message that has already been read from the connection.
+     */
+    @Override
+    public Mono<Void> awaitDispatch() {
+        return Mono.create(sink -> {
+            EventLoop eventLoop = this.eventLoop.get();
+
+            if (eventLoop == null || this.isClosed.get()) {
+                sink.success();
+                return;
+            }
+
+            try {
+                eventLoop.execute(sink::success);
+            } catch (RejectedExecutionException e) {
+                sink.success();
+            }
+        });
+    }
+
     @Override
     public Mono<Void> close() {
         return Mono.defer(() -> {
@@ -165,17 +231,19 @@ public final class ReactorNettyClient implements Client {
     public Flux<BackendMessage> exchange(Publisher<FrontendMessage> requests) {
         Objects.requireNonNull(requests, "requests must not be null");
 
-        return Flux.defer(() -> {
+        return Flux.create(sink -> {
             if (this.isClosed.get()) {
-                return Flux.error(new IllegalStateException("Cannot exchange messages because the connection is closed"));
+                sink.error(new IllegalStateException("Cannot exchange messages because the connection is closed"));
+                return;
             }
 
-            return this.responseProcessor
-                .doOnSubscribe(s ->
-                    Flux.from(requests)
-                        .subscribe(this.requests::next, this.requests::error))
-                .next()
-                .flatMapMany(Function.identity());
+            Conversation conversation = new Conversation(sink);
+
+            synchronized (this.conversations) {
+                this.conversations.add(conversation);
+                this.requests.next(Flux.from(requests)
+                    .takeUntilOther(conversation.onComplete()));
+            }
         });
     }
 
@@ -184,6 +252,11 @@ public final class ReactorNettyClient implements Client {
         return this.byteBufAllocator.get();
     }
 
+    @Override
+    public Flux<NotificationResponse> getNotifications() {
+        return this.notificationProcessor;
+    }
+
     @Override
     public Map<String, String> getParameterStatus() {
         return new HashMap<>(this.parameterStatus);
@@ -204,6 +277,64 @@ public final class ReactorNettyClient implements Client {
         return this.transactionStatus.get();
     }
 
+    @Override
+    public boolean hasQueuedExchanges() {
+        return this.conversations.size() > 1;
+    }
+
+    @Override
+    public Mono<Void> sendOnNewConnection(Publisher<FrontendMessage> requests) {
+        Objects.requireNonNull(requests, "requests must not be null");
+
+        return Mono.defer(() -> {
+            if (this.isClosed.get()) {
+                return Mono.error(new IllegalStateException("Cannot send messages because the connection is closed"));
+            }
+
+            return this.tcpClient
+                .newHandler((inbound, outbound) -> outbound.send(Flux.from(requests)
+                    .doOnNext(message -> this.logger.debug("Request:  {}", message))
+                    .concatMap(message -> message.encode(outbound.alloc())))
+                    .then(inbound.receive().then()))
+                .flatMap(NettyContext::onClose);
+        });
+    }
+
+    private void dispatch(BackendMessage message) {
+        Conversation conversation = this.conversations.peek();
+
+        if (conversation == null) {
+            this.logger.warn("Discarding message without a conversation: {}", message);
+            release(message);
+            return;
+        }
+
+        if (message instanceof ReadyForQuery) {
+            this.conversations.poll();
+            conversation.complete();
+        } else {
+            conversation.next(message);
+        }
+    }
+
+    private void dispatchComplete() {
+        Conversation conversation;
+        while ((conversation = this.conversations.poll()) != null) {
+            conversation.complete();
+        }
+
+        this.notificationProcessor.onComplete();
+    }
+
+    private void dispatchError(Throwable throwable) {
+        Conversation conversation;
+        while ((conversation = this.conversations.poll()) != null) {
+            conversation.error(throwable);
+        }
+
+        this.notificationProcessor.onError(throwable);
+    }
+
     @SuppressWarnings("unchecked")
     private static <T extends BackendMessage> BiConsumer<BackendMessage, SynchronousSink<BackendMessage>> handleBackendMessage(Class<T> type, BiConsumer<T, SynchronousSink<BackendMessage>> consumer) {
         return (message, sink) -> {
@@ -215,10 +346,191 @@ public final class ReactorNettyClient implements Client {
         };
     }
 
+    private static Publisher<ByteBuf> encode(FrontendMessage message, ByteBufAllocator byteBufAllocator) {
+        Publisher<ByteBuf> encoded = message.encode(byteBufAllocator);
+        return isFlushBoundary(message) ? Flux.from(encoded).concatWith(Mono.just(FLUSH)) : encoded;
+    }
+
+    /**
+     * Returns whether a message ends a batch of writes.  Messages of the extended query protocol do not cause the server to respond until a later {@code Sync} or {@code Flush} so they are written
+     * without flushing the connection.  All other messages are flushed along with any messages that were written before them.  {@code CopyData} messages are flushed individually so that a
+     * {@code COPY} data stream is written as it is produced rather than being buffered until its {@code CopyDone}.
+     */
+    private static boolean isFlushBoundary(FrontendMessage message) {
+        return !(message instanceof Bind
+            || message instanceof Close
+            || message instanceof Describe
+            || message instanceof Execute
+            || message instanceof Parse);
+    }
+
+    private static void release(BackendMessage message) {
+        if (message instanceof CopyData) {
+            ((CopyData) message).release();
+        } else if (message instanceof DataRow) {
+            ((DataRow) message).release();
+        }
+    }
+
     private static String toString(List<Field> fields) {
         return fields.stream()
             .map(field -> String.format("%s=%s", field.getType().name(), field.getValue()))
             .collect(Collectors.joining(", "));
     }
 
+    /**
+     * Requests backend messages only as quickly as conversations consume them.  The connection is read with auto-read disabled so that it is only read while there is demand for messages.  Messages
+     * are requested in batches of at most {@value #MESSAGE_PREFETCH} and once a batch has been received, the next one is only requested when the conversation receiving messages has demand for
+     * them.  A slow consumer therefore stops the connection from being read instead of responses being buffered without bound.
+     */
+    private final class BackendMessageSubscriber extends BaseSubscriber<BackendMessage> {
+
+        private final AtomicLong outstanding = new AtomicLong();
+
+        @Override
+        protected void hookOnComplete() {
+            dispatchComplete();
+        }
+
+        @Override
+        protected void hookOnError(Throwable throwable) {
+            dispatchError(throwable);
+        }
+
+        @Override
+        protected void hookOnNext(BackendMessage message) {
+            dispatch(message);
+
+            if (this.outstanding.decrementAndGet() == 0) {
+                requestMore();
+            }
+        }
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            requestMore();
+        }
+
+        private void requestMore() {
+            Conversation conversation = ReactorNettyClient.this.conversations.peek();
+            long demand = conversation == null ? MESSAGE_PREFETCH : conversation.getDemand();
+
+            if (demand == 0) {
+                conversation.onDemand(this::requestMore);
+                return;
+            }
+
+            long n = Math.min(demand, MESSAGE_PREFETCH);
+            if (this.outstanding.compareAndSet(0, n)) {
+                request(n);
+            }
+        }
+
+    }
+
+    /**
+     * A single request/response exchange with the server.  Conversations are queued in the order that their requests are written and each one receives the responses up to, but not including, the
+     * {@link ReadyForQuery} that ends it.  A conversation whose subscriber has cancelled remains in the queue so that the rest of its responses are consumed.
+     */
+    private static final class Conversation {
+
+        private final MonoProcessor<Void> complete = MonoProcessor.create();
+
+        private final AtomicReference<Runnable> onDemand = new AtomicReference<>();
+
+        private final FluxSink<BackendMessage> sink;
+
+        private Conversation(FluxSink<BackendMessage> sink) {
+            this.sink = sink;
+            this.sink.onRequest(n -> signalDemand());
+            this.sink.onCancel(this::signalDemand);
+        }
+
+        private void complete() {
+            this.sink.complete();
+            this.complete.onComplete();
+        }
+
+        private void error(Throwable throwable) {
+            this.sink.error(throwable);
+            this.complete.onComplete();
+        }
+
+        /**
+         * Returns the number of messages the subscriber has requested but not yet received.  A conversation whose subscriber has cancelled discards its messages and so has unbounded demand.
+         */
+        private long getDemand() {
+            return this.sink.isCancelled() ? Long.MAX_VALUE : this.sink.requestedFromDownstream();
+        }
+
+        private void next(BackendMessage message) {
+            if (this.sink.isCancelled()) {
+                release(message);
+            } else {
+                this.sink.next(message);
+            }
+        }
+
+        private Mono<Void> onComplete() {
+            return this.complete;
+        }
+
+        /**
+         * Runs a callback once the subscriber has demand for messages.  The callback is run immediately if demand has arrived since it was last checked.
+         */
+        private void onDemand(Runnable callback) {
+            this.onDemand.set(callback);
+
+            if (getDemand() > 0) {
+                signalDemand();
+            }
+        }
+
+        private void signalDemand() {
+            Runnable callback = this.onDemand.getAndSet(null);
+
+            if (callback != null) {
+                callback.run();
+            }
+        }
+
+    }
+
+    /**
+     * Gathers encoded messages into a single buffer until a flush boundary is reached.  Each gathered buffer is written with a single flush, so that a batch of extended query messages costs one
+     * system call while each message is still requested only as quickly as the connection can write it.
+     */
+    private static final class WriteBatcher implements BiConsumer<ByteBuf, SynchronousSink<ByteBuf>> {
+
+        private final ByteBufAllocator byteBufAllocator;
+
+        private CompositeByteBuf batch;
+
+        private WriteBatcher(ByteBufAllocator byteBufAllocator) {
+            this.byteBufAllocator = byteBufAllocator;
+        }
+
+        @Override
+        public void accept(ByteBuf byteBuf, SynchronousSink<ByteBuf> sink) {
+            if (byteBuf != FLUSH) {
+                if (this.batch == null) {
+                    this.batch = this.byteBufAllocator.compositeBuffer();
+                }
+
+                this.batch.addComponent(true, byteBuf);
+            } else if (this.batch != null) {
+                sink.next(this.batch);
+                this.batch = null;
+            }
+        }
+
+        private void release() {
+            if (this.batch != null) {
+                this.batch.release();
+                this.batch = null;
+            }
+        }
+
+    }
+
 }
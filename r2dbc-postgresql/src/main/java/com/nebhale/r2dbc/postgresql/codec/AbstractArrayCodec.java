@@ -0,0 +1,181 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql.codec;
+
+import com.nebhale.r2dbc.core.nullability.Nullable;
+import com.nebhale.r2dbc.postgresql.client.Parameter;
+import com.nebhale.r2dbc.postgresql.message.Format;
+import com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static io.netty.util.CharsetUtil.UTF_8;
+
+/**
+ * A base class for codecs that decode and encode one-dimensional arrays in the binary array format.  The format consists of a header (number of dimensions, has-nulls flag, element type, and
+ * the length and lower bound of each dimension) followed by each element prefixed with its length, or {@code -1} for a {@code NULL} element.
+ *
+ * @param <T> the type that is handled by this codec
+ */
+abstract class AbstractArrayCodec<T> extends AbstractCodec<T> {
+
+    private static final int NULL = -1;
+
+    private final ByteBufAllocator byteBufAllocator;
+
+    AbstractArrayCodec(Class<T> type, ByteBufAllocator byteBufAllocator) {
+        super(type);
+        this.byteBufAllocator = Objects.requireNonNull(byteBufAllocator, "byteBufAllocator must not be null");
+    }
+
+    @Override
+    public final T decode(ByteBuf byteBuf, @Nullable Format format, @Nullable Class<? extends T> type) {
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        int dimensions = byteBuf.readInt();
+        byteBuf.skipBytes(Integer.BYTES);  // has-nulls flag
+        int elementType = byteBuf.readInt();
+
+        if (dimensions == 0) {
+            return doDecode(byteBuf, elementType, 0);
+        }
+
+        if (dimensions != 1) {
+            throw new IllegalArgumentException(String.format("Cannot decode array with %d dimensions", dimensions));
+        }
+
+        int length = byteBuf.readInt();
+        byteBuf.skipBytes(Integer.BYTES);  // lower bound
+        return doDecode(byteBuf, elementType, length);
+    }
+
+    @Override
+    public final Parameter doEncode(T value) {
+        Objects.requireNonNull(value, "value must not be null");
+
+        PostgresqlObjectId type = getArrayType(value);
+        ByteBuf encoded = this.byteBufAllocator.buffer();
+        doEncodeBinary(value, type, encoded);
+        return create(BINARY, type, encoded);
+    }
+
+    @Override
+    final void doEncodeBinary(T value, PostgresqlObjectId type, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        PostgresqlObjectId elementType = getElementType(type);
+        int length = getLength(value);
+
+        if (length == 0) {
+            byteBuf.writeInt(0).writeInt(0).writeInt(elementType.getObjectId());
+            return;
+        }
+
+        byteBuf.writeInt(1);
+        int hasNullsIndex = byteBuf.writerIndex();
+        byteBuf.writeInt(0).writeInt(elementType.getObjectId()).writeInt(length).writeInt(1);
+
+        if (doEncodeElements(value, elementType, byteBuf)) {
+            byteBuf.setInt(hasNullsIndex, 1);
+        }
+    }
+
+    static PostgresqlObjectId getElementType(PostgresqlObjectId arrayType) {
+        Objects.requireNonNull(arrayType, "arrayType must not be null");
+
+        switch (arrayType) {
+            case BPCHAR_ARRAY:
+                return PostgresqlObjectId.BPCHAR;
+            case FLOAT8_ARRAY:
+                return PostgresqlObjectId.FLOAT8;
+            case INT4_ARRAY:
+                return PostgresqlObjectId.INT4;
+            case INT8_ARRAY:
+                return PostgresqlObjectId.INT8;
+            case TEXT_ARRAY:
+                return PostgresqlObjectId.TEXT;
+            case UUID_ARRAY:
+                return PostgresqlObjectId.UUID;
+            case VARCHAR_ARRAY:
+                return PostgresqlObjectId.VARCHAR;
+            default:
+                throw new IllegalArgumentException(String.format("Cannot encode array of type %s", arrayType));
+        }
+    }
+
+    static boolean isNull(ByteBuf byteBuf) {
+        return byteBuf.readInt() == NULL;
+    }
+
+    static int readLength(ByteBuf byteBuf, String type) {
+        int length = byteBuf.readInt();
+
+        if (length == NULL) {
+            throw new IllegalArgumentException(String.format("Cannot decode null element as %s", type));
+        }
+
+        return length;
+    }
+
+    @Nullable
+    static String readString(ByteBuf byteBuf) {
+        int length = byteBuf.readInt();
+        return length == NULL ? null : byteBuf.readCharSequence(length, UTF_8).toString();
+    }
+
+    @Nullable
+    static UUID readUuid(ByteBuf byteBuf) {
+        return isNull(byteBuf) ? null : new UUID(byteBuf.readLong(), byteBuf.readLong());
+    }
+
+    static void writeNull(ByteBuf byteBuf) {
+        byteBuf.writeInt(NULL);
+    }
+
+    static void writeString(ByteBuf byteBuf, String value) {
+        int lengthIndex = byteBuf.writerIndex();
+        byteBuf.writeInt(0);
+        byteBuf.setInt(lengthIndex, byteBuf.writeCharSequence(value, UTF_8));
+    }
+
+    static void writeUuid(ByteBuf byteBuf, UUID value) {
+        byteBuf.writeInt(16).writeLong(value.getMostSignificantBits()).writeLong(value.getLeastSignificantBits());
+    }
+
+    abstract T doDecode(ByteBuf byteBuf, int elementType, int length);
+
+    /**
+     * Encodes the elements of an array.
+     *
+     * @param value       the array to encode
+     * @param elementType the type of the elements
+     * @param byteBuf     the buffer to encode into
+     * @return {@code true} if any of the elements were {@code NULL}, otherwise {@code false}
+     */
+    abstract boolean doEncodeElements(T value, PostgresqlObjectId elementType, ByteBuf byteBuf);
+
+    abstract PostgresqlObjectId getArrayType(T value);
+
+    abstract int getLength(T value);
+
+}
@@ -37,9 +37,22 @@ abstract class AbstractCodec<T> implements Codec<T> {
         Objects.requireNonNull(format, "format must not be null");
         Objects.requireNonNull(type, "type must not be null");
 
-        return byteBuf != null &&
-            this.type.isAssignableFrom(type) &&
-            doCanDecode(format, PostgresqlObjectId.valueOf(dataType));
+        return byteBuf != null && canDecode(dataType, format, type);
+    }
+
+    @Override
+    public final boolean canDecode(int dataType, Format format, Class<?> type) {
+        Objects.requireNonNull(format, "format must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+
+        return this.type.isAssignableFrom(type) && canDecode(dataType, format);
+    }
+
+    @Override
+    public final boolean canDecode(int dataType, Format format) {
+        Objects.requireNonNull(format, "format must not be null");
+
+        return PostgresqlObjectId.isValid(dataType) && doCanDecode(format, PostgresqlObjectId.valueOf(dataType));
     }
 
     @Override
@@ -49,6 +62,13 @@ abstract class AbstractCodec<T> implements Codec<T> {
         return this.type.isInstance(value);
     }
 
+    @Override
+    public final boolean canEncodeBinary(Object value, int dataType) {
+        Objects.requireNonNull(value, "value must not be null");
+
+        return this.type.isInstance(value) && PostgresqlObjectId.isValid(dataType) && doCanEncodeBinary(PostgresqlObjectId.valueOf(dataType));
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public final Parameter encode(Object value) {
@@ -57,6 +77,15 @@ abstract class AbstractCodec<T> implements Codec<T> {
         return doEncode((T) value);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public final void encodeBinary(Object value, int dataType, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        doEncodeBinary((T) value, PostgresqlObjectId.valueOf(dataType), byteBuf);
+    }
+
     static Parameter create(Format format, PostgresqlObjectId type, ByteBuf value) {
         Objects.requireNonNull(format, "format must not be null");
         Objects.requireNonNull(type, "type must not be null");
@@ -66,6 +95,14 @@ abstract class AbstractCodec<T> implements Codec<T> {
 
     abstract boolean doCanDecode(Format format, PostgresqlObjectId type);
 
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        return false;
+    }
+
     abstract Parameter doEncode(T value);
 
+    void doEncodeBinary(T value, PostgresqlObjectId type, ByteBuf byteBuf) {
+        throw new UnsupportedOperationException(String.format("Cannot encode value of type %s as binary %s", value.getClass().getName(), type));
+    }
+
 }
@@ -25,13 +25,34 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
 import java.util.Objects;
 
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.NUMERIC;
 
 final class BigDecimalCodec extends AbstractCodec<BigDecimal> {
 
+    private static final BigInteger BIG_NUMERIC_BASE = BigInteger.valueOf(10000);
+
+    private static final double LOG10_2 = Math.log10(2);
+
+    private static final int LONG_DIGIT_LIMIT = 4;
+
+    private static final int NUMERIC_BASE = 10000;
+
+    private static final int NUMERIC_NAN = 0xC000;
+
+    private static final int NUMERIC_NEGATIVE = 0x4000;
+
+    private static final int NUMERIC_NEGATIVE_INFINITY = 0xF000;
+
+    private static final int NUMERIC_POSITIVE = 0x0000;
+
+    private static final int NUMERIC_POSITIVE_INFINITY = 0xD000;
+
     private final ByteBufAllocator byteBufAllocator;
 
     BigDecimalCodec(ByteBufAllocator byteBufAllocator) {
@@ -40,10 +61,15 @@ final class BigDecimalCodec extends AbstractCodec<BigDecimal> {
     }
 
     @Override
-    public BigDecimal decode(ByteBuf byteBuf, @Nullable Format format, @Nullable Class<? extends BigDecimal> type) {
+    public BigDecimal decode(ByteBuf byteBuf, Format format, @Nullable Class<? extends BigDecimal> type) {
         Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+        Objects.requireNonNull(format, "format must not be null");
 
-        return new BigDecimal(ByteBufUtils.decode(byteBuf));
+        if (BINARY == format) {
+            return decodeBinary(byteBuf);
+        } else {
+            return new BigDecimal(ByteBufUtils.decode(byteBuf));
+        }
     }
 
     @Override
@@ -59,7 +85,101 @@ final class BigDecimalCodec extends AbstractCodec<BigDecimal> {
         Objects.requireNonNull(format, "format must not be null");
         Objects.requireNonNull(type, "type must not be null");
 
-        return TEXT == format && NUMERIC == type;
+        return NUMERIC == type;
+    }
+
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type, "type must not be null");
+
+        return NUMERIC == type;
+    }
+
+    @Override
+    void doEncodeBinary(BigDecimal value, PostgresqlObjectId type, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        encodeBinary(value, byteBuf);
+    }
+
+    private static BigDecimal decodeBinary(ByteBuf byteBuf) {
+        int digitCount = byteBuf.readUnsignedShort();
+        int weight = byteBuf.readShort();
+        int sign = byteBuf.readUnsignedShort();
+        int scale = byteBuf.readUnsignedShort();
+
+        if (NUMERIC_NAN == sign) {
+            throw new IllegalArgumentException("Cannot decode NaN as a BigDecimal");
+        } else if (NUMERIC_POSITIVE_INFINITY == sign) {
+            throw new IllegalArgumentException("Cannot decode Infinity as a BigDecimal");
+        } else if (NUMERIC_NEGATIVE_INFINITY == sign) {
+            throw new IllegalArgumentException("Cannot decode -Infinity as a BigDecimal");
+        } else if (NUMERIC_POSITIVE != sign && NUMERIC_NEGATIVE != sign) {
+            throw new IllegalArgumentException(String.format("Cannot decode numeric with sign 0x%04X as a BigDecimal", sign));
+        }
+
+        BigInteger unscaled;
+        if (digitCount <= LONG_DIGIT_LIMIT) {
+            long value = 0;
+            for (int i = 0; i < digitCount; i++) {
+                value = value * NUMERIC_BASE + byteBuf.readShort();
+            }
+            unscaled = BigInteger.valueOf(value);
+        } else {
+            unscaled = BigInteger.ZERO;
+            for (int i = 0; i < digitCount; i++) {
+                unscaled = unscaled.multiply(BIG_NUMERIC_BASE).add(BigInteger.valueOf(byteBuf.readShort()));
+            }
+        }
+
+        if (NUMERIC_NEGATIVE == sign) {
+            unscaled = unscaled.negate();
+        }
+
+        // Each base-10000 digit is four decimal digits and the last digit is at position (weight - digitCount + 1)
+        BigDecimal value = new BigDecimal(unscaled, 4 * (digitCount - weight - 1));
+        return value.setScale(scale, RoundingMode.UNNECESSARY);
+    }
+
+    private static void encodeBinary(BigDecimal value, ByteBuf byteBuf) {
+        BigDecimal normalized = value.scale() < 0 ? value.setScale(0) : value;
+        int scale = normalized.scale();
+
+        // Pad the unscaled value so that the decimal point falls on a base-10000 digit boundary
+        int fractionalDigitCount = (scale + 3) / 4;
+        BigInteger unscaled = normalized.unscaledValue().abs().multiply(BigInteger.TEN.pow(4 * fractionalDigitCount - scale));
+
+        // Digits are collected least significant first
+        short[] digits = new short[(int) (unscaled.bitLength() * LOG10_2) / 4 + 2];
+        int digitCount = 0;
+
+        if (unscaled.bitLength() < Long.SIZE - 1) {
+            for (long remaining = unscaled.longValue(); remaining != 0; remaining /= NUMERIC_BASE) {
+                digits[digitCount++] = (short) (remaining % NUMERIC_BASE);
+            }
+        } else {
+            for (BigInteger remaining = unscaled; remaining.signum() != 0; ) {
+                BigInteger[] quotientAndRemainder = remaining.divideAndRemainder(BIG_NUMERIC_BASE);
+                digits[digitCount++] = quotientAndRemainder[1].shortValue();
+                remaining = quotientAndRemainder[0];
+            }
+        }
+
+        int trailingZeroCount = 0;
+        while (trailingZeroCount < digitCount && digits[trailingZeroCount] == 0) {
+            trailingZeroCount++;
+        }
+
+        byteBuf.writeShort(digitCount - trailingZeroCount);
+        byteBuf.writeShort(digitCount == 0 ? 0 : digitCount - fractionalDigitCount - 1);
+        byteBuf.writeShort(normalized.signum() < 0 ? NUMERIC_NEGATIVE : NUMERIC_POSITIVE);
+        byteBuf.writeShort(scale);
+
+        for (int i = digitCount - 1; i >= trailingZeroCount; i--) {
+            byteBuf.writeShort(digits[i]);
+        }
     }
 
 }
@@ -26,6 +26,7 @@ import io.netty.buffer.ByteBufAllocator;
 
 import java.util.Objects;
 
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.BOOL;
 
@@ -39,10 +40,15 @@ final class BooleanCodec extends AbstractCodec<Boolean> {
     }
 
     @Override
-    public Boolean decode(ByteBuf byteBuf, @Nullable Format format, @Nullable Class<? extends Boolean> type) {
+    public Boolean decode(ByteBuf byteBuf, Format format, @Nullable Class<? extends Boolean> type) {
         Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+        Objects.requireNonNull(format, "format must not be null");
 
-        return Boolean.valueOf(ByteBufUtils.decode(byteBuf));
+        if (BINARY == format) {
+            return byteBuf.readBoolean();
+        } else {
+            return Boolean.valueOf(ByteBufUtils.decode(byteBuf));
+        }
     }
 
     @Override
@@ -58,7 +64,23 @@ final class BooleanCodec extends AbstractCodec<Boolean> {
         Objects.requireNonNull(format, "format must not be null");
         Objects.requireNonNull(type, "type must not be null");
 
-        return TEXT == format && BOOL == type;
+        return BOOL == type;
+    }
+
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type, "type must not be null");
+
+        return BOOL == type;
+    }
+
+    @Override
+    void doEncodeBinary(Boolean value, PostgresqlObjectId type, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        byteBuf.writeBoolean(value);
     }
 
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql.codec;
+
+import com.nebhale.r2dbc.core.nullability.Nullable;
+import com.nebhale.r2dbc.postgresql.client.Parameter;
+import com.nebhale.r2dbc.postgresql.message.Format;
+import com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+
+import java.util.Objects;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.BYTEA;
+
+final class ByteArrayCodec extends AbstractCodec<byte[]> {
+
+    ByteArrayCodec() {
+        super(byte[].class);
+    }
+
+    @Override
+    public byte[] decode(ByteBuf byteBuf, @Nullable Format format, @Nullable Class<? extends byte[]> type) {
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        return ByteBufUtil.getBytes(byteBuf);
+    }
+
+    @Override
+    public Parameter doEncode(byte[] value) {
+        Objects.requireNonNull(value, "value must not be null");
+
+        return create(BINARY, BYTEA, Unpooled.wrappedBuffer(value));
+    }
+
+    @Override
+    boolean doCanDecode(Format format, PostgresqlObjectId type) {
+        Objects.requireNonNull(format, "format must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+
+        return BINARY == format && BYTEA == type;
+    }
+
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type, "type must not be null");
+
+        return BYTEA == type;
+    }
+
+    @Override
+    void doEncodeBinary(byte[] value, PostgresqlObjectId type, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        byteBuf.writeBytes(value);
+    }
+
+}
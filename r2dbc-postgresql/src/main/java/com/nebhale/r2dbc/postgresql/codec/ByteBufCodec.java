@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql.codec;
+
+import com.nebhale.r2dbc.core.nullability.Nullable;
+import com.nebhale.r2dbc.postgresql.client.Parameter;
+import com.nebhale.r2dbc.postgresql.message.Format;
+import com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId;
+import io.netty.buffer.ByteBuf;
+
+import java.util.Objects;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.BYTEA;
+
+/**
+ * A codec for {@link ByteBuf}s that does not copy values.  A decoded value is a retained slice of the row it was read from and must be released by the caller.  An encoded value is a retained
+ * duplicate of the caller's buffer, so the caller may release its reference once the value has been bound, but must not modify the contents until the statement has been executed.
+ */
+final class ByteBufCodec extends AbstractCodec<ByteBuf> {
+
+    ByteBufCodec() {
+        super(ByteBuf.class);
+    }
+
+    @Override
+    public ByteBuf decode(ByteBuf byteBuf, @Nullable Format format, @Nullable Class<? extends ByteBuf> type) {
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        return byteBuf.retainedSlice();
+    }
+
+    @Override
+    public Parameter doEncode(ByteBuf value) {
+        Objects.requireNonNull(value, "value must not be null");
+
+        return create(BINARY, BYTEA, value.retainedDuplicate());
+    }
+
+    @Override
+    boolean doCanDecode(Format format, PostgresqlObjectId type) {
+        Objects.requireNonNull(format, "format must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+
+        return BINARY == format && BYTEA == type;
+    }
+
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type, "type must not be null");
+
+        return BYTEA == type;
+    }
+
+    @Override
+    void doEncodeBinary(ByteBuf value, PostgresqlObjectId type, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        byteBuf.writeBytes(value, value.readerIndex(), value.readableBytes());
+    }
+
+}
@@ -58,5 +58,21 @@ final class CharacterCodec extends AbstractCodec<Character> {
         return this.delegate.doCanDecode(format, type);
     }
 
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type, "type must not be null");
+
+        return this.delegate.doCanEncodeBinary(type);
+    }
+
+    @Override
+    void doEncodeBinary(Character value, PostgresqlObjectId type, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        this.delegate.doEncodeBinary(value.toString(), type, byteBuf);
+    }
+
 
 }
@@ -25,11 +25,19 @@ interface Codec<T> {
 
     boolean canDecode(@Nullable ByteBuf byteBuf, int dataType, Format format, Class<?> type);
 
+    boolean canDecode(int dataType, Format format);
+
+    boolean canDecode(int dataType, Format format, Class<?> type);
+
     boolean canEncode(@Nullable Object value);
 
+    boolean canEncodeBinary(@Nullable Object value, int dataType);
+
     @Nullable
     T decode(@Nullable ByteBuf byteBuf, Format format, Class<? extends T> type);
 
     Parameter encode(@Nullable Object value);
 
+    void encodeBinary(@Nullable Object value, int dataType, ByteBuf byteBuf);
+
 }
@@ -48,4 +48,24 @@ public interface Codecs {
      */
     Parameter encode(@Nullable Object value);
 
+    /**
+     * Encode a value in the binary representation of a data type, as used by binary {@code COPY}.
+     *
+     * @param value    the value to encode
+     * @param dataType the data type to encode the value as
+     * @param byteBuf  the {@link ByteBuf} to write the encoded value to
+     * @throws NullPointerException     if {@code value} or {@code byteBuf} is {@code null}
+     * @throws IllegalArgumentException if {@code value} cannot be encoded in the binary representation of {@code dataType}
+     */
+    void encodeBinary(Object value, int dataType, ByteBuf byteBuf);
+
+    /**
+     * Returns the format that values of a data type should be requested in.  Values are requested in {@link Format#BINARY} when every codec that decodes the data type can decode the binary
+     * representation, otherwise they are requested in {@link Format#TEXT}.
+     *
+     * @param dataType the data type of the data
+     * @return the format that values of the data type should be requested in
+     */
+    Format getPreferredFormat(int dataType);
+
 }
@@ -60,4 +60,20 @@ final class DateCodec extends AbstractCodec<Date> {
         return this.delegate.doCanDecode(format, type);
     }
 
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type, "type must not be null");
+
+        return this.delegate.doCanEncodeBinary(type);
+    }
+
+    @Override
+    void doEncodeBinary(Date value, PostgresqlObjectId type, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        this.delegate.doEncodeBinary(value.toInstant(), type, byteBuf);
+    }
+
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql.codec;
+
+import io.netty.buffer.ByteBuf;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Objects;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.time.temporal.ChronoUnit.MICROS;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Utilities for decoding and encoding the binary representations of PostgreSQL date and time values.  PostgreSQL counts dates in days and timestamps in microseconds from {@code 2000-01-01}, and represents
+ * {@code infinity} and {@code -infinity} with the largest and smallest values of those counts.
+ */
+final class DateTimeUtils {
+
+    private static final LocalDate EPOCH_DATE = LocalDate.of(2000, 1, 1);
+
+    private static final LocalDateTime EPOCH_TIMESTAMP = EPOCH_DATE.atStartOfDay();
+
+    private DateTimeUtils() {
+    }
+
+    static LocalDate decodeDate(ByteBuf byteBuf) {
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        int days = byteBuf.readInt();
+
+        if (days == Integer.MAX_VALUE) {
+            return LocalDate.MAX;
+        } else if (days == Integer.MIN_VALUE) {
+            return LocalDate.MIN;
+        } else {
+            return EPOCH_DATE.plusDays(days);
+        }
+    }
+
+    static LocalTime decodeTime(ByteBuf byteBuf) {
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        return LocalTime.ofNanoOfDay(MICROSECONDS.toNanos(byteBuf.readLong()));
+    }
+
+    static LocalDateTime decodeTimestamp(ByteBuf byteBuf) {
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        long micros = byteBuf.readLong();
+
+        if (micros == Long.MAX_VALUE) {
+            return LocalDateTime.MAX;
+        } else if (micros == Long.MIN_VALUE) {
+            return LocalDateTime.MIN;
+        } else {
+            return EPOCH_TIMESTAMP.plus(micros, MICROS);
+        }
+    }
+
+    static void encodeDate(LocalDate value, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        if (LocalDate.MAX.equals(value)) {
+            byteBuf.writeInt(Integer.MAX_VALUE);
+        } else if (LocalDate.MIN.equals(value)) {
+            byteBuf.writeInt(Integer.MIN_VALUE);
+        } else {
+            byteBuf.writeInt(Math.toIntExact(DAYS.between(EPOCH_DATE, value)));
+        }
+    }
+
+    static void encodeTime(LocalTime value, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        byteBuf.writeLong(NANOSECONDS.toMicros(value.toNanoOfDay()));
+    }
+
+    static void encodeTimestamp(LocalDateTime value, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        if (LocalDateTime.MAX.equals(value)) {
+            byteBuf.writeLong(Long.MAX_VALUE);
+        } else if (LocalDateTime.MIN.equals(value)) {
+            byteBuf.writeLong(Long.MIN_VALUE);
+        } else {
+            byteBuf.writeLong(MICROS.between(EPOCH_TIMESTAMP, value));
+        }
+    }
+
+}
@@ -19,54 +19,105 @@ package com.nebhale.r2dbc.postgresql.codec;
 import com.nebhale.r2dbc.core.nullability.Nullable;
 import com.nebhale.r2dbc.postgresql.client.Parameter;
 import com.nebhale.r2dbc.postgresql.message.Format;
+import com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
 
 /**
- * The default {@link Codec} implementation.  Delegates to type-specific codec implementations.
+ * The default {@link Codec} implementation.  Delegates to type-specific codec implementations.  The codec for each combination of data type, format, and Java type is resolved
+ * once and cached so that subsequent lookups do not scan the codecs.
  */
 public final class DefaultCodecs implements Codecs {
 
+    private static final Format[] FORMATS = Format.values();
+
+    private static final PostgresqlObjectId[] OBJECT_IDS = PostgresqlObjectId.values();
+
     private final List<Codec<?>> codecs;
 
+    private final Map<Class<?>, Codec<?>[]> binaryEncoders = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, Codec<?>[]> decoders = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, Codec<?>> encoders = new ConcurrentHashMap<>();
+
+    private final NullCodec nullCodec = new NullCodec();
+
+    private final Format[] preferredFormats;
+
     /**
      * Creates a new instance of {@link DefaultCodecs}.
      *
      * @param byteBufAllocator the {@link ByteBufAllocator} to use for encoding
      */
     public DefaultCodecs(ByteBufAllocator byteBufAllocator) {
+        this(byteBufAllocator, null);
+    }
+
+    /**
+     * Creates a new instance of {@link DefaultCodecs}.
+     *
+     * @param byteBufAllocator the {@link ByteBufAllocator} to use for encoding
+     * @param jsonMapper       the {@link JsonMapper} to use for {@code json} and {@code jsonb} values, or {@code null} if they should not be supported
+     */
+    public DefaultCodecs(ByteBufAllocator byteBufAllocator, @Nullable JsonMapper jsonMapper) {
         Objects.requireNonNull(byteBufAllocator, "byteBufAllocator must not be null");
 
-        this.codecs = Arrays.asList(
-            new NullCodec(),
+        List<Codec<?>> codecs = new ArrayList<>(Arrays.asList(
+            this.nullCodec,
             new BigDecimalCodec(byteBufAllocator),
             new BooleanCodec(byteBufAllocator),
+            new ByteArrayCodec(),
+            new ByteBufCodec(),
+            new ByteBufferCodec(),
             new ByteCodec(byteBufAllocator),
             new CharacterCodec(byteBufAllocator),
             new DateCodec(byteBufAllocator),
+            new DoubleArrayCodec(byteBufAllocator),
             new DoubleCodec(byteBufAllocator),
             new EnumCodec(byteBufAllocator),
             new FloatCodec(byteBufAllocator),
             new InetAddressCodec(byteBufAllocator),
             new InstantCodec(byteBufAllocator),
+            new IntArrayCodec(byteBufAllocator),
             new IntegerCodec(byteBufAllocator),
             new LocalDateCodec(byteBufAllocator),
             new LocalDateTimeCodec(byteBufAllocator),
             new LocalTimeCodec(byteBufAllocator),
+            new LongArrayCodec(byteBufAllocator),
             new LongCodec(byteBufAllocator),
             new OffsetDateTimeCodec(byteBufAllocator),
             new ShortCodec(byteBufAllocator),
+            new StringArrayCodec(byteBufAllocator),
             new StringCodec(byteBufAllocator),
             new UriCodec(byteBufAllocator),
             new UrlCodec(byteBufAllocator),
+            new UuidArrayCodec(byteBufAllocator),
             new UuidCodec(byteBufAllocator),
             new ZoneIdCodec(byteBufAllocator),
-            new ZonedDateTimeCodec(byteBufAllocator)
-        );
+            new ZonedDateTimeCodec(byteBufAllocator),
+            new ListCodec(byteBufAllocator)
+        ));
+
+        if (jsonMapper != null) {
+            codecs.add(new JsonCodec(byteBufAllocator, jsonMapper));
+        }
+
+        this.codecs = codecs;
+
+        this.preferredFormats = Arrays.stream(OBJECT_IDS)
+            .map(this::resolvePreferredFormat)
+            .toArray(Format[]::new);
     }
 
     @Override
@@ -76,20 +127,123 @@ public final class DefaultCodecs implements Codecs {
         Objects.requireNonNull(format, "format must not be null");
         Objects.requireNonNull(type, "type must not be null");
 
-        return this.codecs.stream()
-            .filter(codec -> codec.canDecode(byteBuf, dataType, format, type))
-            .map(codec -> ((Codec<T>) codec).decode(byteBuf, format, type))
-            .findFirst()
-            .orElseThrow(() -> new IllegalArgumentException(String.format("Cannot decode value of type %s", type.getName())));
+        if (byteBuf == null) {
+            return null;
+        }
+
+        Codec<T> codec = (Codec<T>) getDecoder(dataType, format, type);
+        if (codec == null) {
+            throw new IllegalArgumentException(String.format("Cannot decode value of type %s", type.getName()));
+        }
+
+        return codec.decode(byteBuf, format, type);
     }
 
     @Override
     public Parameter encode(@Nullable Object value) {
-        return this.codecs.stream()
-            .filter(codec -> codec.canEncode(value))
-            .map(codec -> codec.encode(value))
-            .findFirst()
-            .orElseThrow(() -> new IllegalArgumentException(String.format("Cannot encode parameter of type %s", value == null ? "null" : value.getClass().getName())));
+        if (value == null) {
+            return this.nullCodec.encode(null);
+        }
+
+        Codec<?> codec = this.encoders.get(value.getClass());
+        if (codec == null) {
+            codec = this.codecs.stream()
+                .filter(candidate -> candidate.canEncode(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(String.format("Cannot encode parameter of type %s", value.getClass().getName())));
+
+            this.encoders.putIfAbsent(value.getClass(), codec);
+        }
+
+        return codec.encode(value);
+    }
+
+    @Override
+    public void encodeBinary(Object value, int dataType, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        Codec<?> codec = getBinaryEncoder(value, dataType);
+        if (codec == null) {
+            throw new IllegalArgumentException(String.format("Cannot encode value of type %s as binary data type %d", value.getClass().getName(), dataType));
+        }
+
+        codec.encodeBinary(value, dataType, byteBuf);
+    }
+
+    @Override
+    public Format getPreferredFormat(int dataType) {
+        return PostgresqlObjectId.isValid(dataType) ? this.preferredFormats[PostgresqlObjectId.valueOf(dataType).ordinal()] : TEXT;
+    }
+
+    @Nullable
+    private Codec<?> getBinaryEncoder(Object value, int dataType) {
+        if (!PostgresqlObjectId.isValid(dataType)) {
+            return null;
+        }
+
+        Codec<?>[] binaryEncoders = this.binaryEncoders.get(value.getClass());
+        if (binaryEncoders == null) {
+            binaryEncoders = this.binaryEncoders.computeIfAbsent(value.getClass(), type -> resolveBinaryEncoders(value));
+        }
+
+        return binaryEncoders[PostgresqlObjectId.valueOf(dataType).ordinal()];
+    }
+
+    @Nullable
+    private Codec<?> getDecoder(int dataType, Format format, Class<?> type) {
+        if (!PostgresqlObjectId.isValid(dataType)) {
+            return null;
+        }
+
+        Codec<?>[] decoders = this.decoders.get(type);
+        if (decoders == null) {
+            decoders = this.decoders.computeIfAbsent(type, this::resolveDecoders);
+        }
+
+        return decoders[getIndex(PostgresqlObjectId.valueOf(dataType), format)];
+    }
+
+    private Format resolvePreferredFormat(PostgresqlObjectId type) {
+        int dataType = type.getObjectId();
+
+        if (this.codecs.stream().anyMatch(codec -> codec.canDecode(dataType, TEXT) && !codec.canDecode(dataType, BINARY))) {
+            return TEXT;
+        }
+
+        return this.codecs.stream().anyMatch(codec -> codec.canDecode(dataType, BINARY)) ? BINARY : TEXT;
+    }
+
+    private Codec<?>[] resolveBinaryEncoders(Object value) {
+        Codec<?>[] binaryEncoders = new Codec<?>[OBJECT_IDS.length];
+
+        for (PostgresqlObjectId objectId : OBJECT_IDS) {
+            binaryEncoders[objectId.ordinal()] = this.codecs.stream()
+                .filter(codec -> codec.canEncodeBinary(value, objectId.getObjectId()))
+                .findFirst()
+                .orElse(null);
+        }
+
+        return binaryEncoders;
+    }
+
+    private Codec<?>[] resolveDecoders(Class<?> type) {
+        Codec<?>[] decoders = new Codec<?>[OBJECT_IDS.length * FORMATS.length];
+
+        for (PostgresqlObjectId objectId : OBJECT_IDS) {
+            for (Format format : FORMATS) {
+                decoders[getIndex(objectId, format)] = this.codecs.stream()
+                    .filter(codec -> codec.canDecode(objectId.getObjectId(), format, type))
+                    .findFirst()
+                    .orElse(null);
+            }
+        }
+
+        return decoders;
+    }
+
+    private static int getIndex(PostgresqlObjectId objectId, Format format) {
+        return objectId.ordinal() * FORMATS.length + format.ordinal();
     }
 
 }
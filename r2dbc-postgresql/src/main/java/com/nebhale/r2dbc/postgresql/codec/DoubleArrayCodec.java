@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql.codec;
+
+import com.nebhale.r2dbc.postgresql.message.Format;
+import com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+import java.util.Objects;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.FLOAT8_ARRAY;
+
+final class DoubleArrayCodec extends AbstractArrayCodec<double[]> {
+
+    DoubleArrayCodec(ByteBufAllocator byteBufAllocator) {
+        super(double[].class, byteBufAllocator);
+    }
+
+    @Override
+    boolean doCanDecode(Format format, PostgresqlObjectId type) {
+        Objects.requireNonNull(format, "format must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+
+        return BINARY == format && FLOAT8_ARRAY == type;
+    }
+
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type, "type must not be null");
+
+        return FLOAT8_ARRAY == type;
+    }
+
+    @Override
+    double[] doDecode(ByteBuf byteBuf, int elementType, int length) {
+        double[] values = new double[length];
+
+        for (int i = 0; i < length; i++) {
+            readLength(byteBuf, "double");
+            values[i] = byteBuf.readDouble();
+        }
+
+        return values;
+    }
+
+    @Override
+    boolean doEncodeElements(double[] value, PostgresqlObjectId elementType, ByteBuf byteBuf) {
+        for (double element : value) {
+            byteBuf.writeInt(Double.BYTES).writeDouble(element);
+        }
+
+        return false;
+    }
+
+    @Override
+    PostgresqlObjectId getArrayType(double[] value) {
+        return FLOAT8_ARRAY;
+    }
+
+    @Override
+    int getLength(double[] value) {
+        return value.length;
+    }
+
+}
@@ -65,4 +65,20 @@ final class DoubleCodec extends AbstractCodec<Double> {
         return FLOAT8 == type;
     }
 
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type, "type must not be null");
+
+        return FLOAT8 == type;
+    }
+
+    @Override
+    void doEncodeBinary(Double value, PostgresqlObjectId type, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        byteBuf.writeDouble(value);
+    }
+
 }
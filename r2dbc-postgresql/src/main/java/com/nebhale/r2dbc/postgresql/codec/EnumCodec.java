@@ -62,4 +62,20 @@ final class EnumCodec extends AbstractCodec<Enum> {
         return this.delegate.doCanDecode(format, type);
     }
 
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type, "type must not be null");
+
+        return this.delegate.doCanEncodeBinary(type);
+    }
+
+    @Override
+    void doEncodeBinary(Enum value, PostgresqlObjectId type, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        this.delegate.doEncodeBinary(value.name(), type, byteBuf);
+    }
+
 }
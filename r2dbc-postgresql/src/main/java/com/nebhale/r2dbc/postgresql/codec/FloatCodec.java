@@ -28,6 +28,7 @@ import java.util.Objects;
 
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.FLOAT4;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.FLOAT8;
 
 final class FloatCodec extends AbstractCodec<Float> {
 
@@ -65,4 +66,24 @@ final class FloatCodec extends AbstractCodec<Float> {
         return FLOAT4 == type;
     }
 
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type, "type must not be null");
+
+        return FLOAT4 == type || FLOAT8 == type;
+    }
+
+    @Override
+    void doEncodeBinary(Float value, PostgresqlObjectId type, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        if (FLOAT4 == type) {
+            byteBuf.writeFloat(value);
+        } else {
+            byteBuf.writeDouble(value);
+        }
+    }
+
 }
@@ -25,10 +25,14 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.Objects;
 
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.TIMESTAMP;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.TIMESTAMPTZ;
+import static java.time.ZoneOffset.UTC;
 
 final class InstantCodec extends AbstractCodec<Instant> {
 
@@ -40,10 +44,15 @@ final class InstantCodec extends AbstractCodec<Instant> {
     }
 
     @Override
-    public Instant decode(ByteBuf byteBuf, @Nullable Format format, @Nullable Class<? extends Instant> type) {
+    public Instant decode(ByteBuf byteBuf, Format format, @Nullable Class<? extends Instant> type) {
         Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+        Objects.requireNonNull(format, "format must not be null");
 
-        return Instant.parse(ByteBufUtils.decode(byteBuf));
+        if (BINARY == format) {
+            return DateTimeUtils.decodeTimestamp(byteBuf).toInstant(UTC);
+        } else {
+            return Instant.parse(ByteBufUtils.decode(byteBuf));
+        }
     }
 
     @Override
@@ -59,7 +68,23 @@ final class InstantCodec extends AbstractCodec<Instant> {
         Objects.requireNonNull(format, "format must not be null");
         Objects.requireNonNull(type, "type must not be null");
 
-        return TEXT == format && TIMESTAMP == type;
+        return TIMESTAMP == type;
+    }
+
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type, "type must not be null");
+
+        return TIMESTAMP == type || TIMESTAMPTZ == type;
+    }
+
+    @Override
+    void doEncodeBinary(Instant value, PostgresqlObjectId type, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        DateTimeUtils.encodeTimestamp(LocalDateTime.ofInstant(value, UTC), byteBuf);
     }
 
 }
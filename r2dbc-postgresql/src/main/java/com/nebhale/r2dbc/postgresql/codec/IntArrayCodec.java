@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql.codec;
+
+import com.nebhale.r2dbc.postgresql.message.Format;
+import com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+import java.util.Objects;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT4_ARRAY;
+
+final class IntArrayCodec extends AbstractArrayCodec<int[]> {
+
+    IntArrayCodec(ByteBufAllocator byteBufAllocator) {
+        super(int[].class, byteBufAllocator);
+    }
+
+    @Override
+    boolean doCanDecode(Format format, PostgresqlObjectId type) {
+        Objects.requireNonNull(format, "format must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+
+        return BINARY == format && INT4_ARRAY == type;
+    }
+
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type, "type must not be null");
+
+        return INT4_ARRAY == type;
+    }
+
+    @Override
+    int[] doDecode(ByteBuf byteBuf, int elementType, int length) {
+        int[] values = new int[length];
+
+        for (int i = 0; i < length; i++) {
+            readLength(byteBuf, "int");
+            values[i] = byteBuf.readInt();
+        }
+
+        return values;
+    }
+
+    @Override
+    boolean doEncodeElements(int[] value, PostgresqlObjectId elementType, ByteBuf byteBuf) {
+        for (int element : value) {
+            byteBuf.writeInt(Integer.BYTES).writeInt(element);
+        }
+
+        return false;
+    }
+
+    @Override
+    PostgresqlObjectId getArrayType(int[] value) {
+        return INT4_ARRAY;
+    }
+
+    @Override
+    int getLength(int[] value) {
+        return value.length;
+    }
+
+}
@@ -28,6 +28,7 @@ import java.util.Objects;
 
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT4;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT8;
 
 final class IntegerCodec extends AbstractCodec<Integer> {
 
@@ -65,4 +66,24 @@ final class IntegerCodec extends AbstractCodec<Integer> {
         return INT4 == type;
     }
 
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type, "type must not be null");
+
+        return INT4 == type || INT8 == type;
+    }
+
+    @Override
+    void doEncodeBinary(Integer value, PostgresqlObjectId type, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        if (INT4 == type) {
+            byteBuf.writeInt(value);
+        } else {
+            byteBuf.writeLong(value);
+        }
+    }
+
 }
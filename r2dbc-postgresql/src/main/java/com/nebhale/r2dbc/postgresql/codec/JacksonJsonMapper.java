@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * A {@link JsonMapper} backed by a Jackson {@link ObjectMapper}.  Requires {@code com.fasterxml.jackson.core:jackson-databind}, which is an optional dependency of this driver.
+ */
+public final class JacksonJsonMapper implements JsonMapper {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Creates a new instance with a default {@link ObjectMapper}.
+     */
+    public JacksonJsonMapper() {
+        this(new ObjectMapper());
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param objectMapper the {@link ObjectMapper} to read and write documents with
+     * @throws NullPointerException if {@code objectMapper} is {@code null}
+     */
+    public JacksonJsonMapper(ObjectMapper objectMapper) {
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper must not be null");
+    }
+
+    @Override
+    public <T> T read(InputStream in, Class<? extends T> type) throws IOException {
+        Objects.requireNonNull(in, "in must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+
+        return this.objectMapper.readValue(in, type);
+    }
+
+    @Override
+    public String toString() {
+        return "JacksonJsonMapper{" +
+            "objectMapper=" + this.objectMapper +
+            '}';
+    }
+
+    @Override
+    public void write(OutputStream out, Object value) throws IOException {
+        Objects.requireNonNull(out, "out must not be null");
+        Objects.requireNonNull(value, "value must not be null");
+
+        this.objectMapper.writeValue(out, value);
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql.codec;
+
+import java.util.Objects;
+
+/**
+ * A value to be bound as a {@code jsonb} parameter.  The value is written as a document by the configured {@link JsonMapper}.
+ */
+public final class Json {
+
+    private final Object value;
+
+    private Json(Object value) {
+        this.value = Objects.requireNonNull(value, "value must not be null");
+    }
+
+    /**
+     * Returns a new {@link Json} for a value.
+     *
+     * @param value the value to be written as a document
+     * @return a new {@link Json}
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    public static Json of(Object value) {
+        return new Json(value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Json that = (Json) o;
+        return Objects.equals(this.value, that.value);
+    }
+
+    /**
+     * Returns the value to be written as a document.
+     *
+     * @return the value to be written as a document
+     */
+    public Object getValue() {
+        return this.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.value);
+    }
+
+    @Override
+    public String toString() {
+        return "Json{" +
+            "value=" + this.value +
+            '}';
+    }
+
+}
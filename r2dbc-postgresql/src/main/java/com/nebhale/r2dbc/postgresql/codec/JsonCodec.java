@@ -0,0 +1,148 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql.codec;
+
+import com.nebhale.r2dbc.core.nullability.Nullable;
+import com.nebhale.r2dbc.postgresql.client.Parameter;
+import com.nebhale.r2dbc.postgresql.message.Format;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.JSON;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.JSONB;
+import static io.netty.util.CharsetUtil.UTF_8;
+
+/**
+ * A codec for {@code json} and {@code jsonb} values that delegates to a {@link JsonMapper}.  Values can be decoded as any type that the mapper can read, or as a {@link String} containing the
+ * document itself.  Only {@link Json} values are encoded, as {@code jsonb} in the binary format.  The binary format of {@code jsonb} is a version byte followed by the text of the document, so
+ * {@code json} values, whose binary format is identical to their text format, are only decoded in the text format.
+ */
+final class JsonCodec implements Codec<Object> {
+
+    private static final byte JSONB_VERSION = 1;
+
+    private final ByteBufAllocator byteBufAllocator;
+
+    private final JsonMapper jsonMapper;
+
+    JsonCodec(ByteBufAllocator byteBufAllocator, JsonMapper jsonMapper) {
+        this.byteBufAllocator = Objects.requireNonNull(byteBufAllocator, "byteBufAllocator must not be null");
+        this.jsonMapper = Objects.requireNonNull(jsonMapper, "jsonMapper must not be null");
+    }
+
+    @Override
+    public boolean canDecode(@Nullable ByteBuf byteBuf, int dataType, Format format, Class<?> type) {
+        Objects.requireNonNull(format, "format must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+
+        return byteBuf != null && canDecode(dataType, format);
+    }
+
+    @Override
+    public boolean canDecode(int dataType, Format format) {
+        Objects.requireNonNull(format, "format must not be null");
+
+        return (JSON.getObjectId() == dataType && TEXT == format) || JSONB.getObjectId() == dataType;
+    }
+
+    @Override
+    public boolean canDecode(int dataType, Format format, Class<?> type) {
+        Objects.requireNonNull(format, "format must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+
+        return canDecode(dataType, format);
+    }
+
+    @Override
+    public boolean canEncode(Object value) {
+        Objects.requireNonNull(value, "value must not be null");
+
+        return value instanceof Json;
+    }
+
+    @Override
+    public boolean canEncodeBinary(Object value, int dataType) {
+        Objects.requireNonNull(value, "value must not be null");
+
+        return value instanceof Json && (JSON.getObjectId() == dataType || JSONB.getObjectId() == dataType);
+    }
+
+    @Override
+    public Object decode(ByteBuf byteBuf, Format format, Class<?> type) {
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+        Objects.requireNonNull(format, "format must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+
+        if (BINARY == format) {
+            byte version = byteBuf.readByte();
+            if (JSONB_VERSION != version) {
+                throw new IllegalArgumentException(String.format("Cannot decode jsonb version %d", version));
+            }
+        }
+
+        if (String.class == type) {
+            return byteBuf.readCharSequence(byteBuf.readableBytes(), UTF_8).toString();
+        }
+
+        try {
+            return this.jsonMapper.read(new ByteBufInputStream(byteBuf), type);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(String.format("Cannot decode value of type %s", type.getName()), e);
+        }
+    }
+
+    @Override
+    public Parameter encode(Object value) {
+        Objects.requireNonNull(value, "value must not be null");
+
+        ByteBuf encoded = this.byteBufAllocator.buffer();
+        try {
+            encodeBinary(value, JSONB.getObjectId(), encoded);
+        } catch (RuntimeException e) {
+            encoded.release();
+            throw e;
+        }
+
+        return new Parameter(BINARY, JSONB.getObjectId(), encoded);
+    }
+
+    @Override
+    public void encodeBinary(Object value, int dataType, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        Object document = ((Json) value).getValue();
+
+        if (JSONB.getObjectId() == dataType) {
+            byteBuf.writeByte(JSONB_VERSION);
+        }
+
+        try {
+            this.jsonMapper.write(new ByteBufOutputStream(byteBuf), document);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(String.format("Cannot encode value of type %s", document.getClass().getName()), e);
+        }
+    }
+
+}
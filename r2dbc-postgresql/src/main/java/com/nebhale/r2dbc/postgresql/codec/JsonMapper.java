@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A mapper between JSON documents and Java objects.  Used to decode {@code json} and {@code jsonb} values into arbitrary types and to encode {@link Json} parameters.  Documents are streamed
+ * directly from and to the network buffers so that no intermediate {@link String} is created.
+ *
+ * @see JacksonJsonMapper
+ */
+public interface JsonMapper {
+
+    /**
+     * Read a JSON document.
+     *
+     * @param in   the UTF-8 encoded document
+     * @param type the type to read the document as
+     * @param <T>  the type to read the document as
+     * @return the document read as {@code type}
+     * @throws IOException          if the document cannot be read as {@code type}
+     * @throws NullPointerException if {@code in} or {@code type} is {@code null}
+     */
+    <T> T read(InputStream in, Class<? extends T> type) throws IOException;
+
+    /**
+     * Write a JSON document.
+     *
+     * @param out   the stream to write the UTF-8 encoded document to
+     * @param value the value to write as a document
+     * @throws IOException          if {@code value} cannot be written as a document
+     * @throws NullPointerException if {@code out} or {@code value} is {@code null}
+     */
+    void write(OutputStream out, Object value) throws IOException;
+
+}
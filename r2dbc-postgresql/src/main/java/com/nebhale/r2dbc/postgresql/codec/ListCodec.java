@@ -0,0 +1,190 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql.codec;
+
+import com.nebhale.r2dbc.postgresql.message.Format;
+import com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.BPCHAR_ARRAY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.FLOAT8_ARRAY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT4_ARRAY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT8_ARRAY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.TEXT_ARRAY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.UUID_ARRAY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR_ARRAY;
+
+/**
+ * A codec for {@link List}s of {@link Integer}, {@link Long}, {@link Double}, {@link String}, or {@link UUID} elements.  Unlike the primitive array codecs, {@code NULL} elements are supported.  The
+ * array type used when encoding is determined by the non-{@code null} elements, which must all be of the same type.
+ */
+@SuppressWarnings("rawtypes")
+final class ListCodec extends AbstractArrayCodec<List> {
+
+    ListCodec(ByteBufAllocator byteBufAllocator) {
+        super(List.class, byteBufAllocator);
+    }
+
+    @Override
+    boolean doCanDecode(Format format, PostgresqlObjectId type) {
+        Objects.requireNonNull(format, "format must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+
+        return BINARY == format && isSupported(type);
+    }
+
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type, "type must not be null");
+
+        return isSupported(type);
+    }
+
+    @Override
+    List doDecode(ByteBuf byteBuf, int elementType, int length) {
+        List<Object> values = new ArrayList<>(length);
+
+        for (int i = 0; i < length; i++) {
+            values.add(readElement(byteBuf, PostgresqlObjectId.valueOf(elementType)));
+        }
+
+        return values;
+    }
+
+    @Override
+    boolean doEncodeElements(List value, PostgresqlObjectId elementType, ByteBuf byteBuf) {
+        Class<?> elementClass = getElementClass(elementType);
+
+        for (Object element : value) {
+            if (element != null && !elementClass.isInstance(element)) {
+                throw new IllegalArgumentException(String.format("Cannot encode List with elements of type %s as %s", element.getClass().getName(), elementType));
+            }
+        }
+
+        boolean hasNulls = false;
+
+        for (Object element : value) {
+            if (element == null) {
+                writeNull(byteBuf);
+                hasNulls = true;
+            } else {
+                writeElement(byteBuf, elementType, element);
+            }
+        }
+
+        return hasNulls;
+    }
+
+    @Override
+    PostgresqlObjectId getArrayType(List value) {
+        Class<?> elementClass = null;
+
+        for (Object element : value) {
+            if (element == null) {
+                continue;
+            }
+
+            if (elementClass == null) {
+                elementClass = element.getClass();
+            } else if (elementClass != element.getClass()) {
+                throw new IllegalArgumentException(String.format("Cannot encode List with elements of both type %s and %s", elementClass.getName(), element.getClass().getName()));
+            }
+        }
+
+        if (elementClass == null) {
+            throw new IllegalArgumentException("Cannot determine the array type of a List without non-null elements");
+        } else if (Integer.class == elementClass) {
+            return INT4_ARRAY;
+        } else if (Long.class == elementClass) {
+            return INT8_ARRAY;
+        } else if (Double.class == elementClass) {
+            return FLOAT8_ARRAY;
+        } else if (String.class == elementClass) {
+            return TEXT_ARRAY;
+        } else if (UUID.class == elementClass) {
+            return UUID_ARRAY;
+        } else {
+            throw new IllegalArgumentException(String.format("Cannot encode List with elements of type %s", elementClass.getName()));
+        }
+    }
+
+    @Override
+    int getLength(List value) {
+        return value.size();
+    }
+
+    private static Class<?> getElementClass(PostgresqlObjectId elementType) {
+        switch (elementType) {
+            case FLOAT8:
+                return Double.class;
+            case INT4:
+                return Integer.class;
+            case INT8:
+                return Long.class;
+            case UUID:
+                return UUID.class;
+            default:
+                return String.class;
+        }
+    }
+
+    private static boolean isSupported(PostgresqlObjectId type) {
+        return BPCHAR_ARRAY == type || FLOAT8_ARRAY == type || INT4_ARRAY == type || INT8_ARRAY == type || TEXT_ARRAY == type || UUID_ARRAY == type || VARCHAR_ARRAY == type;
+    }
+
+    private static Object readElement(ByteBuf byteBuf, PostgresqlObjectId elementType) {
+        switch (elementType) {
+            case FLOAT8:
+                return isNull(byteBuf) ? null : byteBuf.readDouble();
+            case INT4:
+                return isNull(byteBuf) ? null : byteBuf.readInt();
+            case INT8:
+                return isNull(byteBuf) ? null : byteBuf.readLong();
+            case UUID:
+                return readUuid(byteBuf);
+            default:
+                return readString(byteBuf);
+        }
+    }
+
+    private static void writeElement(ByteBuf byteBuf, PostgresqlObjectId elementType, Object element) {
+        switch (elementType) {
+            case FLOAT8:
+                byteBuf.writeInt(Double.BYTES).writeDouble((Double) element);
+                break;
+            case INT4:
+                byteBuf.writeInt(Integer.BYTES).writeInt((Integer) element);
+                break;
+            case INT8:
+                byteBuf.writeInt(Long.BYTES).writeLong((Long) element);
+                break;
+            case UUID:
+                writeUuid(byteBuf, (UUID) element);
+                break;
+            default:
+                writeString(byteBuf, (String) element);
+        }
+    }
+
+}
@@ -27,6 +27,7 @@ import io.netty.buffer.ByteBufAllocator;
 import java.time.LocalDate;
 import java.util.Objects;
 
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.DATE;
 
@@ -40,10 +41,15 @@ final class LocalDateCodec extends AbstractCodec<LocalDate> {
     }
 
     @Override
-    public LocalDate decode(ByteBuf byteBuf, @Nullable Format format, @Nullable Class<? extends LocalDate> type) {
+    public LocalDate decode(ByteBuf byteBuf, Format format, @Nullable Class<? extends LocalDate> type) {
         Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+        Objects.requireNonNull(format, "format must not be null");
 
-        return LocalDate.parse(ByteBufUtils.decode(byteBuf));
+        if (BINARY == format) {
+            return DateTimeUtils.decodeDate(byteBuf);
+        } else {
+            return LocalDate.parse(ByteBufUtils.decode(byteBuf));
+        }
     }
 
     @Override
@@ -59,7 +65,23 @@ final class LocalDateCodec extends AbstractCodec<LocalDate> {
         Objects.requireNonNull(format, "format must not be null");
         Objects.requireNonNull(type, "type must not be null");
 
-        return TEXT == format && DATE == type;
+        return DATE == type;
+    }
+
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type, "type must not be null");
+
+        return DATE == type;
+    }
+
+    @Override
+    void doEncodeBinary(LocalDate value, PostgresqlObjectId type, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        DateTimeUtils.encodeDate(value, byteBuf);
     }
 
 }
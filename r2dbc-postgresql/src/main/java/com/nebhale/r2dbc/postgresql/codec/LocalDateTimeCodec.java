@@ -27,6 +27,7 @@ import io.netty.buffer.ByteBufAllocator;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.TIMESTAMP;
 
@@ -40,10 +41,15 @@ final class LocalDateTimeCodec extends AbstractCodec<LocalDateTime> {
     }
 
     @Override
-    public LocalDateTime decode(ByteBuf byteBuf, @Nullable Format format, @Nullable Class<? extends LocalDateTime> type) {
+    public LocalDateTime decode(ByteBuf byteBuf, Format format, @Nullable Class<? extends LocalDateTime> type) {
         Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+        Objects.requireNonNull(format, "format must not be null");
 
-        return LocalDateTime.parse(ByteBufUtils.decode(byteBuf));
+        if (BINARY == format) {
+            return DateTimeUtils.decodeTimestamp(byteBuf);
+        } else {
+            return LocalDateTime.parse(ByteBufUtils.decode(byteBuf));
+        }
     }
 
     @Override
@@ -59,7 +65,23 @@ final class LocalDateTimeCodec extends AbstractCodec<LocalDateTime> {
         Objects.requireNonNull(format, "format must not be null");
         Objects.requireNonNull(type, "type must not be null");
 
-        return TEXT == format && TIMESTAMP == type;
+        return TIMESTAMP == type;
+    }
+
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type, "type must not be null");
+
+        return TIMESTAMP == type;
+    }
+
+    @Override
+    void doEncodeBinary(LocalDateTime value, PostgresqlObjectId type, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        DateTimeUtils.encodeTimestamp(value, byteBuf);
     }
 
 }
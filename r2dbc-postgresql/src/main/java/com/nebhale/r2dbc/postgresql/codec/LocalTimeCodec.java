@@ -27,6 +27,7 @@ import io.netty.buffer.ByteBufAllocator;
 import java.time.LocalTime;
 import java.util.Objects;
 
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.TIME;
 
@@ -40,10 +41,15 @@ final class LocalTimeCodec extends AbstractCodec<LocalTime> {
     }
 
     @Override
-    public LocalTime decode(ByteBuf byteBuf, @Nullable Format format, @Nullable Class<? extends LocalTime> type) {
+    public LocalTime decode(ByteBuf byteBuf, Format format, @Nullable Class<? extends LocalTime> type) {
         Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+        Objects.requireNonNull(format, "format must not be null");
 
-        return LocalTime.parse(ByteBufUtils.decode(byteBuf));
+        if (BINARY == format) {
+            return DateTimeUtils.decodeTime(byteBuf);
+        } else {
+            return LocalTime.parse(ByteBufUtils.decode(byteBuf));
+        }
     }
 
     @Override
@@ -59,7 +65,23 @@ final class LocalTimeCodec extends AbstractCodec<LocalTime> {
         Objects.requireNonNull(format, "format must not be null");
         Objects.requireNonNull(type, "type must not be null");
 
-        return TEXT == format && TIME == type;
+        return TIME == type;
+    }
+
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type, "type must not be null");
+
+        return TIME == type;
+    }
+
+    @Override
+    void doEncodeBinary(LocalTime value, PostgresqlObjectId type, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        DateTimeUtils.encodeTime(value, byteBuf);
     }
 
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql.codec;
+
+import com.nebhale.r2dbc.postgresql.message.Format;
+import com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+import java.util.Objects;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT8_ARRAY;
+
+final class LongArrayCodec extends AbstractArrayCodec<long[]> {
+
+    LongArrayCodec(ByteBufAllocator byteBufAllocator) {
+        super(long[].class, byteBufAllocator);
+    }
+
+    @Override
+    boolean doCanDecode(Format format, PostgresqlObjectId type) {
+        Objects.requireNonNull(format, "format must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+
+        return BINARY == format && INT8_ARRAY == type;
+    }
+
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type, "type must not be null");
+
+        return INT8_ARRAY == type;
+    }
+
+    @Override
+    long[] doDecode(ByteBuf byteBuf, int elementType, int length) {
+        long[] values = new long[length];
+
+        for (int i = 0; i < length; i++) {
+            readLength(byteBuf, "long");
+            values[i] = byteBuf.readLong();
+        }
+
+        return values;
+    }
+
+    @Override
+    boolean doEncodeElements(long[] value, PostgresqlObjectId elementType, ByteBuf byteBuf) {
+        for (long element : value) {
+            byteBuf.writeInt(Long.BYTES).writeLong(element);
+        }
+
+        return false;
+    }
+
+    @Override
+    PostgresqlObjectId getArrayType(long[] value) {
+        return INT8_ARRAY;
+    }
+
+    @Override
+    int getLength(long[] value) {
+        return value.length;
+    }
+
+}
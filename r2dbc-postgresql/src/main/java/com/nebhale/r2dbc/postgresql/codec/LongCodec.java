@@ -65,4 +65,20 @@ final class LongCodec extends AbstractCodec<Long> {
         return INT8 == type;
     }
 
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type, "type must not be null");
+
+        return INT8 == type;
+    }
+
+    @Override
+    void doEncodeBinary(Long value, PostgresqlObjectId type, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        byteBuf.writeLong(value);
+    }
+
 }
@@ -31,11 +31,26 @@ final class NullCodec implements Codec<Object> {
         return byteBuf == null;
     }
 
+    @Override
+    public boolean canDecode(int dataType, @Nullable Format format) {
+        return false;
+    }
+
+    @Override
+    public boolean canDecode(int dataType, @Nullable Format format, @Nullable Class<?> type) {
+        return false;
+    }
+
     @Override
     public boolean canEncode(@Nullable Object value) {
         return value == null;
     }
 
+    @Override
+    public boolean canEncodeBinary(@Nullable Object value, int dataType) {
+        return false;
+    }
+
     @Nullable
     @Override
     public Object decode(@Nullable ByteBuf byteBuf, @Nullable Format format, @Nullable Class<?> type) {
@@ -47,4 +62,9 @@ final class NullCodec implements Codec<Object> {
         return new Parameter(BINARY, UNSPECIFIED.getObjectId(), null);
     }
 
+    @Override
+    public void encodeBinary(@Nullable Object value, int dataType, @Nullable ByteBuf byteBuf) {
+        throw new UnsupportedOperationException("Cannot encode null as a binary value");
+    }
+
 }
@@ -27,8 +27,10 @@ import io.netty.buffer.ByteBufAllocator;
 import java.time.OffsetDateTime;
 import java.util.Objects;
 
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.TIMESTAMPTZ;
+import static java.time.ZoneOffset.UTC;
 
 final class OffsetDateTimeCodec extends AbstractCodec<OffsetDateTime> {
 
@@ -40,10 +42,15 @@ final class OffsetDateTimeCodec extends AbstractCodec<OffsetDateTime> {
     }
 
     @Override
-    public OffsetDateTime decode(ByteBuf byteBuf, @Nullable Format format, @Nullable Class<? extends OffsetDateTime> type) {
+    public OffsetDateTime decode(ByteBuf byteBuf, Format format, @Nullable Class<? extends OffsetDateTime> type) {
         Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+        Objects.requireNonNull(format, "format must not be null");
 
-        return OffsetDateTime.parse(ByteBufUtils.decode(byteBuf));
+        if (BINARY == format) {
+            return DateTimeUtils.decodeTimestamp(byteBuf).atOffset(UTC);
+        } else {
+            return OffsetDateTime.parse(ByteBufUtils.decode(byteBuf));
+        }
     }
 
     @Override
@@ -59,7 +66,23 @@ final class OffsetDateTimeCodec extends AbstractCodec<OffsetDateTime> {
         Objects.requireNonNull(format, "format must not be null");
         Objects.requireNonNull(type, "type must not be null");
 
-        return TEXT == format && TIMESTAMPTZ == type;
+        return TIMESTAMPTZ == type;
+    }
+
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type, "type must not be null");
+
+        return TIMESTAMPTZ == type;
+    }
+
+    @Override
+    void doEncodeBinary(OffsetDateTime value, PostgresqlObjectId type, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        DateTimeUtils.encodeTimestamp(value.withOffsetSameInstant(UTC).toLocalDateTime(), byteBuf);
     }
 
 }
@@ -28,6 +28,8 @@ import java.util.Objects;
 
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT2;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT4;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT8;
 
 final class ShortCodec extends AbstractCodec<Short> {
 
@@ -65,4 +67,26 @@ final class ShortCodec extends AbstractCodec<Short> {
         return INT2 == type;
     }
 
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type, "type must not be null");
+
+        return INT2 == type || INT4 == type || INT8 == type;
+    }
+
+    @Override
+    void doEncodeBinary(Short value, PostgresqlObjectId type, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        if (INT2 == type) {
+            byteBuf.writeShort(value);
+        } else if (INT4 == type) {
+            byteBuf.writeInt(value);
+        } else {
+            byteBuf.writeLong(value);
+        }
+    }
+
 }
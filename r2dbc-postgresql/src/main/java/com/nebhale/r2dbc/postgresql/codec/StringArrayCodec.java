@@ -0,0 +1,89 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql.codec;
+
+import com.nebhale.r2dbc.postgresql.message.Format;
+import com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+import java.util.Objects;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.BPCHAR_ARRAY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.TEXT_ARRAY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR_ARRAY;
+
+final class StringArrayCodec extends AbstractArrayCodec<String[]> {
+
+    StringArrayCodec(ByteBufAllocator byteBufAllocator) {
+        super(String[].class, byteBufAllocator);
+    }
+
+    @Override
+    boolean doCanDecode(Format format, PostgresqlObjectId type) {
+        Objects.requireNonNull(format, "format must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+
+        return BINARY == format && (BPCHAR_ARRAY == type || TEXT_ARRAY == type || VARCHAR_ARRAY == type);
+    }
+
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type, "type must not be null");
+
+        return BPCHAR_ARRAY == type || TEXT_ARRAY == type || VARCHAR_ARRAY == type;
+    }
+
+    @Override
+    String[] doDecode(ByteBuf byteBuf, int elementType, int length) {
+        String[] values = new String[length];
+
+        for (int i = 0; i < length; i++) {
+            values[i] = readString(byteBuf);
+        }
+
+        return values;
+    }
+
+    @Override
+    boolean doEncodeElements(String[] value, PostgresqlObjectId elementType, ByteBuf byteBuf) {
+        boolean hasNulls = false;
+
+        for (String element : value) {
+            if (element == null) {
+                writeNull(byteBuf);
+                hasNulls = true;
+            } else {
+                writeString(byteBuf, element);
+            }
+        }
+
+        return hasNulls;
+    }
+
+    @Override
+    PostgresqlObjectId getArrayType(String[] value) {
+        return TEXT_ARRAY;
+    }
+
+    @Override
+    int getLength(String[] value) {
+        return value.length;
+    }
+
+}
@@ -27,7 +27,9 @@ import io.netty.buffer.ByteBufAllocator;
 import java.util.Objects;
 
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.BPCHAR;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
+import static io.netty.util.CharsetUtil.UTF_8;
 
 final class StringCodec extends AbstractCodec<String> {
 
@@ -61,4 +63,20 @@ final class StringCodec extends AbstractCodec<String> {
         return VARCHAR == type && TEXT == format;
     }
 
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type, "type must not be null");
+
+        return BPCHAR == type || PostgresqlObjectId.TEXT == type || VARCHAR == type;
+    }
+
+    @Override
+    void doEncodeBinary(String value, PostgresqlObjectId type, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        byteBuf.writeCharSequence(value, UTF_8);
+    }
+
 }
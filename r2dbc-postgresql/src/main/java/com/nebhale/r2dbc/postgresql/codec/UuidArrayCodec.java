@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql.codec;
+
+import com.nebhale.r2dbc.postgresql.message.Format;
+import com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.UUID_ARRAY;
+
+final class UuidArrayCodec extends AbstractArrayCodec<UUID[]> {
+
+    UuidArrayCodec(ByteBufAllocator byteBufAllocator) {
+        super(UUID[].class, byteBufAllocator);
+    }
+
+    @Override
+    boolean doCanDecode(Format format, PostgresqlObjectId type) {
+        Objects.requireNonNull(format, "format must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+
+        return BINARY == format && UUID_ARRAY == type;
+    }
+
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type, "type must not be null");
+
+        return UUID_ARRAY == type;
+    }
+
+    @Override
+    UUID[] doDecode(ByteBuf byteBuf, int elementType, int length) {
+        UUID[] values = new UUID[length];
+
+        for (int i = 0; i < length; i++) {
+            values[i] = readUuid(byteBuf);
+        }
+
+        return values;
+    }
+
+    @Override
+    boolean doEncodeElements(UUID[] value, PostgresqlObjectId elementType, ByteBuf byteBuf) {
+        boolean hasNulls = false;
+
+        for (UUID element : value) {
+            if (element == null) {
+                writeNull(byteBuf);
+                hasNulls = true;
+            } else {
+                writeUuid(byteBuf, element);
+            }
+        }
+
+        return hasNulls;
+    }
+
+    @Override
+    PostgresqlObjectId getArrayType(UUID[] value) {
+        return UUID_ARRAY;
+    }
+
+    @Override
+    int getLength(UUID[] value) {
+        return value.length;
+    }
+
+}
@@ -60,4 +60,20 @@ final class UuidCodec extends AbstractCodec<UUID> {
         return BINARY == format && PostgresqlObjectId.UUID == type;
     }
 
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type, "type must not be null");
+
+        return PostgresqlObjectId.UUID == type;
+    }
+
+    @Override
+    void doEncodeBinary(UUID value, PostgresqlObjectId type, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        byteBuf.writeLong(value.getMostSignificantBits()).writeLong(value.getLeastSignificantBits());
+    }
+
 }
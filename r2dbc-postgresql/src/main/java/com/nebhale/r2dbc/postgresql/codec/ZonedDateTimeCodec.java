@@ -27,8 +27,10 @@ import io.netty.buffer.ByteBufAllocator;
 import java.time.ZonedDateTime;
 import java.util.Objects;
 
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.TIMESTAMPTZ;
+import static java.time.ZoneOffset.UTC;
 
 final class ZonedDateTimeCodec extends AbstractCodec<ZonedDateTime> {
 
@@ -40,10 +42,15 @@ final class ZonedDateTimeCodec extends AbstractCodec<ZonedDateTime> {
     }
 
     @Override
-    public ZonedDateTime decode(ByteBuf byteBuf, @Nullable Format format, @Nullable Class<? extends ZonedDateTime> type) {
+    public ZonedDateTime decode(ByteBuf byteBuf, Format format, @Nullable Class<? extends ZonedDateTime> type) {
         Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+        Objects.requireNonNull(format, "format must not be null");
 
-        return ZonedDateTime.parse(ByteBufUtils.decode(byteBuf));
+        if (BINARY == format) {
+            return DateTimeUtils.decodeTimestamp(byteBuf).atZone(UTC);
+        } else {
+            return ZonedDateTime.parse(ByteBufUtils.decode(byteBuf));
+        }
     }
 
     @Override
@@ -59,7 +66,23 @@ final class ZonedDateTimeCodec extends AbstractCodec<ZonedDateTime> {
         Objects.requireNonNull(format, "format must not be null");
         Objects.requireNonNull(type, "type must not be null");
 
-        return TEXT == format && TIMESTAMPTZ == type;
+        return TIMESTAMPTZ == type;
+    }
+
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type, "type must not be null");
+
+        return TIMESTAMPTZ == type;
+    }
+
+    @Override
+    void doEncodeBinary(ZonedDateTime value, PostgresqlObjectId type, ByteBuf byteBuf) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(byteBuf, "byteBuf must not be null");
+
+        DateTimeUtils.encodeTimestamp(value.withZoneSameInstant(UTC).toLocalDateTime(), byteBuf);
     }
 
 }
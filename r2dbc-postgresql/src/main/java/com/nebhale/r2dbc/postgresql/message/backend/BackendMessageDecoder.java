@@ -17,174 +17,118 @@
 package com.nebhale.r2dbc.postgresql.message.backend;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
-import io.netty.util.ReferenceCountUtil;
-import reactor.core.publisher.Flux;
-import reactor.core.publisher.SynchronousSink;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
 
-import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicReference;
 
 import static com.nebhale.r2dbc.postgresql.message.backend.BackendMessageUtils.getBody;
 import static com.nebhale.r2dbc.postgresql.message.backend.BackendMessageUtils.getEnvelope;
 
 /**
- * A decoder that reads {@link ByteBuf}s and returns a {@link Flux} of decoded {@link BackendMessage}s.
+ * A frame decoder that reads {@link ByteBuf}s and emits decoded {@link BackendMessage}s.  Incoming {@link ByteBuf}s are accumulated in a single cumulation buffer until a complete
+ * {@link BackendMessage} is available and messages are decoded from slices of that buffer.
+ * <p>
+ * <i>This class is not threadsafe and must be used by a single channel</i>
  */
-public final class BackendMessageDecoder {
-
-    private final AtomicReference<ByteBuf> remainder = new AtomicReference<>();
-
-    /**
-     * Decode a {@link ByteBuf} into a {@link Flux} of {@link BackendMessage}s.  If the {@link ByteBuf} does not end on a {@link BackendMessage} boundary, the {@link ByteBuf} will be retained until
-     * an the concatenated contents of all retained {@link ByteBuf}s is a {@link BackendMessage} boundary.
-     *
-     * @param in the {@link ByteBuf} to decode
-     * @return a {@link Flux} of {@link BackendMessage}s
-     */
-    public Flux<BackendMessage> decode(ByteBuf in) {
+public final class BackendMessageDecoder extends ByteToMessageDecoder {
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
         Objects.requireNonNull(in, "in must not be null");
+        Objects.requireNonNull(out, "out must not be null");
 
-        return Flux.generate(
-            () -> {
-                ByteBuf remainder = this.remainder.getAndSet(null);
-                return remainder == null ? in : Unpooled.wrappedBuffer(remainder, in);
-            },
-            (byteBuf, sink) -> {
-                ByteBuf envelope = getEnvelope(byteBuf);
-
-                if (envelope == null) {
-                    if (byteBuf.readableBytes() > 0) {
-                        this.remainder.set(byteBuf.retain());
-                    }
-
-                    sink.complete();
-                    return byteBuf;
-                }
-
-                MessageType messageType = MessageType.valueOf(envelope.readByte());
-                ByteBuf body = getBody(envelope);
-
-                switch (messageType) {
-                    case AUTHENTICATION:
-                        decodeAuthentication(body, sink);
-                        break;
-                    case BACKEND_KEY_DATA:
-                        sink.next(BackendKeyData.decode(body));
-                        break;
-                    case BIND_COMPLETE:
-                        sink.next(BindComplete.INSTANCE);
-                        break;
-                    case CLOSE_COMPLETE:
-                        sink.next(CloseComplete.INSTANCE);
-                        break;
-                    case COMMAND_COMPLETE:
-                        sink.next(CommandComplete.decode(body));
-                        break;
-                    case COPY_DATA:
-                        sink.next(CopyData.decode(body));
-                        break;
-                    case COPY_DONE:
-                        sink.next(CopyDone.INSTANCE);
-                        break;
-                    case COPY_BOTH_RESPONSE:
-                        sink.next(CopyBothResponse.decode(body));
-                        break;
-                    case COPY_IN_RESPONSE:
-                        sink.next(CopyInResponse.decode(body));
-                        break;
-                    case COPY_OUT_RESPONSE:
-                        sink.next(CopyOutResponse.decode(body));
-                        break;
-                    case DATA_ROW:
-                        sink.next(DataRow.decode(body));
-                        break;
-                    case EMPTY_QUERY_RESPONSE:
-                        sink.next(EmptyQueryResponse.INSTANCE);
-                        break;
-                    case ERROR_RESPONSE:
-                        sink.next(ErrorResponse.decode(body));
-                        break;
-                    case FUNCTION_CALL_RESPONSE:
-                        sink.next(FunctionCallResponse.decode(body));
-                        break;
-                    case NO_DATA:
-                        sink.next(NoData.INSTANCE);
-                        break;
-                    case NOTICE_RESPONSE:
-                        sink.next(NoticeResponse.decode(body));
-                        break;
-                    case NOTIFICATION_RESPONSE:
-                        sink.next(NotificationResponse.decode(body));
-                        break;
-                    case PARAMETER_DESCRIPTION:
-                        sink.next(ParameterDescription.decode(body));
-                        break;
-                    case PARAMETER_STATUS:
-                        sink.next(ParameterStatus.decode(body));
-                        break;
-                    case PARSE_COMPLETE:
-                        sink.next(ParseComplete.INSTANCE);
-                        break;
-                    case PORTAL_SUSPENDED:
-                        sink.next(PortalSuspended.INSTANCE);
-                        break;
-                    case READY_FOR_QUERY:
-                        sink.next(ReadyForQuery.decode(body));
-                        break;
-                    case ROW_DESCRIPTION:
-                        sink.next(RowDescription.decode(body));
-                        break;
-                    default:
-                        sink.error(new IllegalArgumentException(String.format("%s is not a supported message type", messageType)));
-                }
-
-                return byteBuf;
-            },
-            ReferenceCountUtil::release);
+        ByteBuf envelope;
+        while ((envelope = getEnvelope(in)) != null) {
+            out.add(decode(envelope));
+        }
+    }
 
+    private static BackendMessage decode(ByteBuf envelope) {
+        MessageType messageType = MessageType.valueOf(envelope.readByte());
+        ByteBuf body = getBody(envelope);
+
+        switch (messageType) {
+            case AUTHENTICATION:
+                return decodeAuthentication(body);
+            case BACKEND_KEY_DATA:
+                return BackendKeyData.decode(body);
+            case BIND_COMPLETE:
+                return BindComplete.INSTANCE;
+            case CLOSE_COMPLETE:
+                return CloseComplete.INSTANCE;
+            case COMMAND_COMPLETE:
+                return CommandComplete.decode(body);
+            case COPY_DATA:
+                return CopyData.decode(body);
+            case COPY_DONE:
+                return CopyDone.INSTANCE;
+            case COPY_BOTH_RESPONSE:
+                return CopyBothResponse.decode(body);
+            case COPY_IN_RESPONSE:
+                return CopyInResponse.decode(body);
+            case COPY_OUT_RESPONSE:
+                return CopyOutResponse.decode(body);
+            case DATA_ROW:
+                return DataRow.decode(body);
+            case EMPTY_QUERY_RESPONSE:
+                return EmptyQueryResponse.INSTANCE;
+            case ERROR_RESPONSE:
+                return ErrorResponse.decode(body);
+            case FUNCTION_CALL_RESPONSE:
+                return FunctionCallResponse.decode(body);
+            case NO_DATA:
+                return NoData.INSTANCE;
+            case NOTICE_RESPONSE:
+                return NoticeResponse.decode(body);
+            case NOTIFICATION_RESPONSE:
+                return NotificationResponse.decode(body);
+            case PARAMETER_DESCRIPTION:
+                return ParameterDescription.decode(body);
+            case PARAMETER_STATUS:
+                return ParameterStatus.decode(body);
+            case PARSE_COMPLETE:
+                return ParseComplete.INSTANCE;
+            case PORTAL_SUSPENDED:
+                return PortalSuspended.INSTANCE;
+            case READY_FOR_QUERY:
+                return ReadyForQuery.decode(body);
+            case ROW_DESCRIPTION:
+                return RowDescription.decode(body);
+            default:
+                throw new IllegalArgumentException(String.format("%s is not a supported message type", messageType));
+        }
     }
 
-    private static void decodeAuthentication(ByteBuf in, SynchronousSink<BackendMessage> sink) {
+    private static BackendMessage decodeAuthentication(ByteBuf in) {
         AuthenticationType authenticationType = AuthenticationType.valueOf(in.readInt());
 
         switch (authenticationType) {
             case OK:
-                sink.next(AuthenticationOk.INSTANCE);
-                break;
+                return AuthenticationOk.INSTANCE;
             case KERBEROS_V5:
-                sink.next(AuthenticationKerberosV5.INSTANCE);
-                break;
+                return AuthenticationKerberosV5.INSTANCE;
             case CLEARTEXT_PASSWORD:
-                sink.next(AuthenticationCleartextPassword.INSTANCE);
-                break;
+                return AuthenticationCleartextPassword.INSTANCE;
             case GSS:
-                sink.next(AuthenticationGSS.INSTANCE);
-                break;
+                return AuthenticationGSS.INSTANCE;
             case GSS_CONTINUE:
-                sink.next(AuthenticationGSSContinue.decode(in));
-                break;
+                return AuthenticationGSSContinue.decode(in);
             case MD5_PASSWORD:
-                sink.next(AuthenticationMD5Password.decode(in));
-                break;
+                return AuthenticationMD5Password.decode(in);
             case SCMC_CREDENTIAL:
-                sink.next(AuthenticationSCMCredential.INSTANCE);
-                break;
+                return AuthenticationSCMCredential.INSTANCE;
             case SASL:
-                sink.next(AuthenticationSASL.decode(in));
-                break;
+                return AuthenticationSASL.decode(in);
             case SASL_CONTINUE:
-                sink.next(AuthenticationSASLContinue.decode(in));
-                break;
+                return AuthenticationSASLContinue.decode(in);
             case SASL_FINAL:
-                sink.next(AuthenticationSASLFinal.decode(in));
-                break;
+                return AuthenticationSASLFinal.decode(in);
             case SSPI:
-                sink.next(AuthenticationSSPI.INSTANCE);
-                break;
+                return AuthenticationSSPI.INSTANCE;
             default:
-                sink.error(new IllegalArgumentException(String.format("%s is not a supported authentication type", authenticationType)));
+                throw new IllegalArgumentException(String.format("%s is not a supported authentication type", authenticationType));
         }
     }
 
@@ -202,6 +146,14 @@ public final class BackendMessageDecoder {
         SASL_FINAL(12),
         SSPI(9);
 
+        private static final AuthenticationType[] CACHE = new AuthenticationType[256];
+
+        static {
+            for (AuthenticationType type : values()) {
+                CACHE[type.discriminator] = type;
+            }
+        }
+
         private final int discriminator;
 
         AuthenticationType(int discriminator) {
@@ -209,10 +161,13 @@ public final class BackendMessageDecoder {
         }
 
         static AuthenticationType valueOf(int i) {
-            return Arrays.stream(values())
-                .filter(type -> type.discriminator == i)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(String.format("%d is not a valid authentication type", i)));
+            AuthenticationType type = i >= 0 && i < CACHE.length ? CACHE[i] : null;
+
+            if (type == null) {
+                throw new IllegalArgumentException(String.format("%d is not a valid authentication type", i));
+            }
+
+            return type;
         }
 
     }
@@ -243,6 +198,14 @@ public final class BackendMessageDecoder {
         READY_FOR_QUERY('Z'),
         ROW_DESCRIPTION('T');
 
+        private static final MessageType[] CACHE = new MessageType[256];
+
+        static {
+            for (MessageType type : values()) {
+                CACHE[type.discriminator] = type;
+            }
+        }
+
         private final char discriminator;
 
         MessageType(char discriminator) {
@@ -250,10 +213,13 @@ public final class BackendMessageDecoder {
         }
 
         static MessageType valueOf(byte b) {
-            return Arrays.stream(values())
-                .filter(type -> type.discriminator == b)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(String.format("%c is not a valid message type", b)));
+            MessageType type = CACHE[b & 0xFF];
+
+            if (type == null) {
+                throw new IllegalArgumentException(String.format("%c is not a valid message type", b));
+            }
+
+            return type;
         }
 
     }
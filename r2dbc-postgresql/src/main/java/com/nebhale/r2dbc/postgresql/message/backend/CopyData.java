@@ -18,7 +18,6 @@ package com.nebhale.r2dbc.postgresql.message.backend;
 
 import io.netty.buffer.ByteBuf;
 
-import java.nio.ByteBuffer;
 import java.util.Objects;
 
 /**
@@ -26,7 +25,7 @@ import java.util.Objects;
  */
 public final class CopyData implements BackendMessage {
 
-    private final ByteBuffer data;
+    private final ByteBuf data;
 
     /**
      * Creates a new message.
@@ -35,9 +34,7 @@ public final class CopyData implements BackendMessage {
      * @throws NullPointerException if {@code data} is {@code null}
      */
     public CopyData(ByteBuf data) {
-        Objects.requireNonNull(data, "data must not be null");
-
-        this.data = data.nioBuffer();
+        this.data = Objects.requireNonNull(data, "data must not be null").retain();
     }
 
     @Override
@@ -57,7 +54,7 @@ public final class CopyData implements BackendMessage {
      *
      * @return data that forms part of a {@code COPY} data stream.
      */
-    public ByteBuffer getData() {
+    public ByteBuf getData() {
         return this.data;
     }
 
@@ -66,6 +63,13 @@ public final class CopyData implements BackendMessage {
         return Objects.hash(this.data);
     }
 
+    /**
+     * Release the data encapsulated by the message.
+     */
+    public void release() {
+        this.data.release();
+    }
+
     @Override
     public String toString() {
         return "CopyData{" +
@@ -19,10 +19,9 @@ package com.nebhale.r2dbc.postgresql.message.backend;
 import com.nebhale.r2dbc.core.nullability.Nullable;
 import io.netty.buffer.ByteBuf;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * The DataRow message.
@@ -42,9 +41,11 @@ public final class DataRow implements BackendMessage {
     public DataRow(List<ByteBuf> columns) {
         this.columns = Objects.requireNonNull(columns, "columns must not be null");
 
-        this.columns.stream()
-            .filter(Objects::nonNull)
-            .forEach(ByteBuf::retain);
+        for (ByteBuf column : this.columns) {
+            if (column != null) {
+                column.retain();
+            }
+        }
     }
 
     @Override
@@ -77,9 +78,11 @@ public final class DataRow implements BackendMessage {
      * Release the data encapsulated by the message.
      */
     public void release() {
-        this.columns.stream()
-            .filter(Objects::nonNull)
-            .forEach(ByteBuf::release);
+        for (ByteBuf column : this.columns) {
+            if (column != null) {
+                column.release();
+            }
+        }
     }
 
     @Override
@@ -92,9 +95,12 @@ public final class DataRow implements BackendMessage {
     static DataRow decode(ByteBuf in) {
         Objects.requireNonNull(in, "in must not be null");
 
-        List<ByteBuf> columns = IntStream.range(0, in.readShort())
-            .mapToObj(i -> decodeColumn(in))
-            .collect(Collectors.toList());
+        int count = in.readShort();
+
+        List<ByteBuf> columns = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            columns.add(decodeColumn(in));
+        }
 
         return new DataRow(columns);
     }
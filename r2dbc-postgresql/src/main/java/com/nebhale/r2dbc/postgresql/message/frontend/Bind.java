@@ -19,6 +19,7 @@ package com.nebhale.r2dbc.postgresql.message.frontend;
 import com.nebhale.r2dbc.postgresql.message.Format;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 
@@ -34,7 +35,8 @@ import static com.nebhale.r2dbc.postgresql.message.frontend.FrontendMessageUtils
 import static com.nebhale.r2dbc.postgresql.message.frontend.FrontendMessageUtils.writeSize;
 
 /**
- * The Bind message.
+ * The Bind message.  Parameter values smaller than {@value #COMPOSITE_THRESHOLD} bytes are copied into the encoded message.  Larger values are not copied.  Instead, the encoded message is a
+ * composite of the message fields and those values.  In either case, the values are released once they have been encoded.
  */
 public final class Bind implements FrontendMessage {
 
@@ -48,6 +50,8 @@ public final class Bind implements FrontendMessage {
      */
     public static final String UNNAMED_STATEMENT = "";
 
+    static final int COMPOSITE_THRESHOLD = 8 * 1024;
+
     private static final int NULL = -1;
 
     private final String name;
@@ -85,6 +89,7 @@ public final class Bind implements FrontendMessage {
         Objects.requireNonNull(byteBufAllocator, "byteBufAllocator must not be null");
 
         return Mono.defer(() -> {
+            CompositeByteBuf composite = null;
             ByteBuf out = byteBufAllocator.ioBuffer();
 
             writeByte(out, 'B');
@@ -93,23 +98,41 @@ public final class Bind implements FrontendMessage {
             writeCStringUTF8(out, this.source);
 
             writeShort(out, this.parameterFormats.size());
-            this.parameterFormats.forEach(format -> writeShort(out, format.getDiscriminator()));
+            for (Format format : this.parameterFormats) {
+                writeShort(out, format.getDiscriminator());
+            }
 
             writeShort(out, this.parameters.size());
-            this.parameters.forEach(parameters -> {
-                if (parameters == null) {
+            for (ByteBuf parameter : this.parameters) {
+                if (parameter == null) {
                     writeInt(out, NULL);
                 } else {
-                    writeInt(out, parameters.readableBytes());
-                    writeBytes(out, parameters);
-                    parameters.release();
+                    writeInt(out, parameter.readableBytes());
+
+                    if (parameter.readableBytes() < COMPOSITE_THRESHOLD) {
+                        writeBytes(out, parameter);
+                        parameter.release();
+                    } else {
+                        if (composite == null) {
+                            composite = byteBufAllocator.compositeBuffer((2 * this.parameters.size()) + 1);
+                        }
+
+                        composite.addComponents(true, out, parameter);
+                        out = byteBufAllocator.ioBuffer();
+                    }
                 }
-            });
+            }
 
             writeShort(out, this.resultFormats.size());
-            this.resultFormats.forEach(format -> writeShort(out, format.getDiscriminator()));
+            for (Format format : this.resultFormats) {
+                writeShort(out, format.getDiscriminator());
+            }
+
+            if (composite == null) {
+                return Mono.just(writeSize(out));
+            }
 
-            return Mono.just(writeSize(out));
+            return Mono.just(writeSize(composite.addComponent(true, out)));
         });
     }
 
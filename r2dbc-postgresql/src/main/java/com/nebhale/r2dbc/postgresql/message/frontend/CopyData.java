@@ -21,21 +21,19 @@ import io.netty.buffer.ByteBufAllocator;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 
-import java.nio.ByteBuffer;
 import java.util.Objects;
 
 import static com.nebhale.r2dbc.postgresql.message.frontend.FrontendMessageUtils.MESSAGE_OVERHEAD;
 import static com.nebhale.r2dbc.postgresql.message.frontend.FrontendMessageUtils.writeByte;
-import static com.nebhale.r2dbc.postgresql.message.frontend.FrontendMessageUtils.writeBytes;
-import static com.nebhale.r2dbc.postgresql.message.frontend.FrontendMessageUtils.writeLengthPlaceholder;
-import static com.nebhale.r2dbc.postgresql.message.frontend.FrontendMessageUtils.writeSize;
+import static com.nebhale.r2dbc.postgresql.message.frontend.FrontendMessageUtils.writeInt;
 
 /**
- * The CopyData message.
+ * The CopyData message.  The data is not copied when the message is encoded.  Instead, the encoded message is a composite of the message header and the data, and the data is released once the
+ * message has been written.
  */
 public final class CopyData implements FrontendMessage {
 
-    private final ByteBuffer data;
+    private final ByteBuf data;
 
     /**
      * Creates a new message.
@@ -43,10 +41,8 @@ public final class CopyData implements FrontendMessage {
      * @param data data that forms part of a {@code COPY} data stream
      * @throws NullPointerException if {@code data} is {@code null}
      */
-    public CopyData(ByteBuffer data) {
-        Objects.requireNonNull(data, "data must not be null");
-
-        this.data = (ByteBuffer) data.flip();
+    public CopyData(ByteBuf data) {
+        this.data = Objects.requireNonNull(data, "data must not be null");
     }
 
     @Override
@@ -54,13 +50,12 @@ public final class CopyData implements FrontendMessage {
         Objects.requireNonNull(byteBufAllocator, "byteBufAllocator must not be null");
 
         return Mono.defer(() -> {
-            ByteBuf out = byteBufAllocator.ioBuffer(MESSAGE_OVERHEAD + (this.data.remaining()));
+            ByteBuf header = byteBufAllocator.ioBuffer(MESSAGE_OVERHEAD);
 
-            writeByte(out, 'd');
-            writeLengthPlaceholder(out);
-            writeBytes(out, this.data);
+            writeByte(header, 'd');
+            writeInt(header, MESSAGE_OVERHEAD - 1 + this.data.readableBytes());
 
-            return Mono.just(writeSize(out));
+            return Mono.just(byteBufAllocator.compositeBuffer(2).addComponents(true, header, this.data));
         });
     }
 
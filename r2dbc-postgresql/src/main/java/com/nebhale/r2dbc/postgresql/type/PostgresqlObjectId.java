@@ -158,6 +158,11 @@ public enum PostgresqlObjectId {
      */
     JSON_ARRAY(199),
 
+    /**
+     * The JSONB object id.
+     */
+    JSONB(3802),
+
     /**
      * The JSONB array object id.
      */
@@ -323,12 +328,32 @@ public enum PostgresqlObjectId {
      */
     XML_ARRAY(143);
 
+    private static final PostgresqlObjectId[] CACHE;
+
+    static {
+        CACHE = new PostgresqlObjectId[Arrays.stream(values()).mapToInt(PostgresqlObjectId::getObjectId).max().orElse(0) + 1];
+
+        for (PostgresqlObjectId type : values()) {
+            CACHE[type.objectId] = type;
+        }
+    }
+
     private final int objectId;
 
     PostgresqlObjectId(int objectId) {
         this.objectId = objectId;
     }
 
+    /**
+     * Returns whether a given object id is represented by a {@link PostgresqlObjectId}.
+     *
+     * @param objectId the object id to check
+     * @return {@code true} if {@code objectId} is a valid object id, otherwise {@code false}
+     */
+    public static boolean isValid(int objectId) {
+        return objectId >= 0 && objectId < CACHE.length && CACHE[objectId] != null;
+    }
+
     /**
      * Returns the {@link PostgresqlObjectId} matching a given object id.
      *
@@ -337,10 +362,11 @@ public enum PostgresqlObjectId {
      * @throws IllegalArgumentException if {@code objectId} isn't a valid object id
      */
     public static PostgresqlObjectId valueOf(int objectId) {
-        return Arrays.stream(values())
-            .filter(type -> type.objectId == objectId)
-            .findFirst()
-            .orElseThrow(() -> new IllegalArgumentException(String.format("%d is not a valid object id", objectId)));
+        if (!isValid(objectId)) {
+            throw new IllegalArgumentException(String.format("%d is not a valid object id", objectId));
+        }
+
+        return CACHE[objectId];
     }
 
     /**
@@ -28,20 +28,47 @@ import static io.netty.util.CharsetUtil.UTF_8;
  */
 public final class ByteBufUtils {
 
+    private static final int SCRATCH_SIZE = 1024;
+
+    private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[SCRATCH_SIZE]);
+
     private ByteBufUtils() {
     }
 
     /**
-     * Decode a {@link ByteBuf} into a {@link String}.
+     * Decode a {@link ByteBuf} into a {@link String}.  ASCII content, the common case, is copied directly into the {@link String} without being passed through a UTF-8 decoder.
      *
      * @param byteBuf the {@link ByteBuf} to decode
      * @return the {@link String} decoded from the {@link ByteBuf}
      * @throws NullPointerException if {@code byteBuf} is {@code null}
      */
+    @SuppressWarnings("deprecation")
     public static String decode(ByteBuf byteBuf) {
         Objects.requireNonNull(byteBuf, "byteBuf must not be null");
 
-        return byteBuf.readCharSequence(byteBuf.readableBytes(), UTF_8).toString();
+        int length = byteBuf.readableBytes();
+
+        byte[] bytes;
+        int offset;
+
+        if (byteBuf.hasArray()) {
+            bytes = byteBuf.array();
+            offset = byteBuf.arrayOffset() + byteBuf.readerIndex();
+        } else if (length <= SCRATCH_SIZE) {
+            bytes = SCRATCH.get();
+            offset = 0;
+            byteBuf.getBytes(byteBuf.readerIndex(), bytes, 0, length);
+        } else {
+            return byteBuf.readCharSequence(length, UTF_8).toString();
+        }
+
+        byteBuf.skipBytes(length);
+
+        if (isAscii(bytes, offset, length)) {
+            return new String(bytes, 0, offset, length);
+        }
+
+        return new String(bytes, offset, length, UTF_8);
     }
 
     /**
@@ -61,4 +88,14 @@ public final class ByteBufUtils {
         return byteBuf;
     }
 
+    private static boolean isAscii(byte[] bytes, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            if (bytes[i] < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+import com.nebhale.r2dbc.postgresql.codec.MockCodecs;
+import com.nebhale.r2dbc.postgresql.message.backend.DataRow;
+import com.nebhale.r2dbc.postgresql.message.backend.RowDescription.Field;
+import io.netty.buffer.ByteBuf;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT4;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
+import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
+import static io.netty.util.CharsetUtil.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public final class BinaryCopyRowDecoderTest {
+
+    private final List<CopyColumn> columns = Arrays.asList(new CopyColumn("test-name-1", INT4), new CopyColumn("test-name-2", VARCHAR));
+
+    private final Columns expectedColumns = new Columns(Arrays.asList(
+        new Field((short) 1, INT4.getObjectId(), -1, (short) -1, BINARY, "test-name-1", 0),
+        new Field((short) 2, VARCHAR.getObjectId(), -1, (short) -1, TEXT, "test-name-2", 0)
+    ));
+
+    @Test
+    public void constructorNoCodecs() {
+        assertThatNullPointerException().isThrownBy(() -> new BinaryCopyRowDecoder(null, this.columns))
+            .withMessage("codecs must not be null");
+    }
+
+    @Test
+    public void constructorNoColumns() {
+        assertThatNullPointerException().isThrownBy(() -> new BinaryCopyRowDecoder(MockCodecs.empty(), null))
+            .withMessage("columns must not be null");
+    }
+
+    @Test
+    public void decode() {
+        BinaryCopyRowDecoder decoder = new BinaryCopyRowDecoder(MockCodecs.empty(), this.columns);
+
+        ByteBuf first = header()
+            .writeShort(2).writeInt(4).writeInt(100).writeInt(10).writeBytes("test-value".getBytes(UTF_8));
+        assertThat(decoder.decode(first))
+            .isEqualTo(new PostgresqlRow(MockCodecs.empty(), this.expectedColumns,
+                new DataRow(Arrays.asList(TEST.buffer(4).writeInt(100), TEST.buffer().writeBytes("test-value".getBytes(UTF_8))))));
+
+        ByteBuf second = TEST.buffer()
+            .writeShort(2).writeInt(4).writeInt(200).writeInt(-1);
+        assertThat(decoder.decode(second))
+            .isEqualTo(new PostgresqlRow(MockCodecs.empty(), this.expectedColumns, new DataRow(Arrays.asList(TEST.buffer(4).writeInt(200), null))));
+
+        assertThat(decoder.decode(TEST.buffer().writeShort(-1))).isNull();
+    }
+
+    @Test
+    public void decodeHeader() {
+        assertThat(new BinaryCopyRowDecoder(MockCodecs.empty(), this.columns).decode(header())).isNull();
+    }
+
+    @Test
+    public void decodeHeaderExtension() {
+        ByteBuf data = TEST.buffer().writeBytes("PGCOPY\n".getBytes(UTF_8)).writeByte(0xFF).writeByte('\r').writeByte('\n').writeByte(0).writeInt(0).writeInt(4).writeInt(100)
+            .writeShort(-1);
+
+        assertThat(new BinaryCopyRowDecoder(MockCodecs.empty(), this.columns).decode(data)).isNull();
+    }
+
+    @Test
+    public void decodeInvalidSignature() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BinaryCopyRowDecoder(MockCodecs.empty(), this.columns).decode(TEST.buffer().writeBytes("PGCOPY".getBytes(UTF_8))))
+            .withMessage("Data does not start with the binary COPY signature");
+    }
+
+    @Test
+    public void decodeNoData() {
+        assertThatNullPointerException().isThrownBy(() -> new BinaryCopyRowDecoder(MockCodecs.empty(), this.columns).decode(null))
+            .withMessage("data must not be null");
+    }
+
+    @Test
+    public void decodeOids() {
+        ByteBuf data = TEST.buffer().writeBytes("PGCOPY\n".getBytes(UTF_8)).writeByte(0xFF).writeByte('\r').writeByte('\n').writeByte(0).writeInt(1 << 16).writeInt(0);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new BinaryCopyRowDecoder(MockCodecs.empty(), this.columns).decode(data))
+            .withMessage("Binary COPY data that includes OIDs is not supported");
+    }
+
+    @Test
+    public void decodeReleases() {
+        ByteBuf data = header().writeShort(-1);
+
+        new BinaryCopyRowDecoder(MockCodecs.empty(), this.columns).decode(data);
+
+        assertThat(data.refCnt()).isZero();
+    }
+
+    @Test
+    public void decodeWrongValueCount() {
+        ByteBuf data = header().writeShort(1).writeInt(4).writeInt(100);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new BinaryCopyRowDecoder(MockCodecs.empty(), this.columns).decode(data))
+            .withMessage("Tuple has 1 values but there are 2 columns");
+    }
+
+    @Test
+    public void getRowMetadata() {
+        PostgresqlRowMetadata rowMetadata = new BinaryCopyRowDecoder(MockCodecs.empty(), this.columns).getRowMetadata();
+
+        assertThat(rowMetadata.getColumnMetadatas()).containsExactly(
+            new PostgresqlColumnMetadata("test-name-1", (short) -1, INT4.getObjectId()),
+            new PostgresqlColumnMetadata("test-name-2", (short) -1, VARCHAR.getObjectId()));
+    }
+
+    private static ByteBuf header() {
+        return TEST.buffer().writeBytes("PGCOPY\n".getBytes(UTF_8)).writeByte(0xFF).writeByte('\r').writeByte('\n').writeByte(0).writeInt(0).writeInt(0);
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+import com.nebhale.r2dbc.postgresql.codec.MockCodecs;
+import io.netty.buffer.ByteBuf;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT4;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
+import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
+import static io.netty.util.CharsetUtil.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public final class BinaryCopyRowEncoderTest {
+
+    private final List<CopyColumn> columns = Arrays.asList(new CopyColumn("test-name-1", INT4), new CopyColumn("test-name-2", VARCHAR));
+
+    @Test
+    public void constructorNoByteBufAllocator() {
+        assertThatNullPointerException().isThrownBy(() -> new BinaryCopyRowEncoder(null, MockCodecs.empty(), this.columns))
+            .withMessage("byteBufAllocator must not be null");
+    }
+
+    @Test
+    public void constructorNoCodecs() {
+        assertThatNullPointerException().isThrownBy(() -> new BinaryCopyRowEncoder(TEST, null, this.columns))
+            .withMessage("codecs must not be null");
+    }
+
+    @Test
+    public void constructorNoColumns() {
+        assertThatNullPointerException().isThrownBy(() -> new BinaryCopyRowEncoder(TEST, MockCodecs.empty(), null))
+            .withMessage("columns must not be null");
+    }
+
+    @Test
+    public void encode() {
+        MockCodecs codecs = MockCodecs.builder()
+            .binaryEncoding(100, INT4.getObjectId(), TEST.buffer(4).writeInt(100))
+            .binaryEncoding(200, INT4.getObjectId(), TEST.buffer(4).writeInt(200))
+            .binaryEncoding("test-value", VARCHAR.getObjectId(), TEST.buffer().writeBytes("test-value".getBytes(UTF_8)))
+            .build();
+
+        BinaryCopyRowEncoder encoder = new BinaryCopyRowEncoder(TEST, codecs, this.columns);
+
+        assertThat(encoder.encode(Collections.singletonList(new Object[]{100, "test-value"})))
+            .isEqualTo(header()
+                .writeShort(2).writeInt(4).writeInt(100).writeInt(10).writeBytes("test-value".getBytes(UTF_8)));
+
+        assertThat(encoder.encode(Collections.singletonList(new Object[]{200, null})))
+            .isEqualTo(TEST.buffer()
+                .writeShort(2).writeInt(4).writeInt(200).writeInt(-1));
+    }
+
+    @Test
+    public void encodeNoRows() {
+        assertThatNullPointerException().isThrownBy(() -> new BinaryCopyRowEncoder(TEST, MockCodecs.empty(), this.columns).encode(null))
+            .withMessage("rows must not be null");
+    }
+
+    @Test
+    public void encodeTrailer() {
+        BinaryCopyRowEncoder encoder = new BinaryCopyRowEncoder(TEST, MockCodecs.empty(), this.columns);
+
+        assertThat(encoder.encodeTrailer()).isEqualTo(header().writeShort(-1));
+    }
+
+    @Test
+    public void encodeTrailerAfterRows() {
+        BinaryCopyRowEncoder encoder = new BinaryCopyRowEncoder(TEST, MockCodecs.empty(), this.columns);
+        encoder.encode(Collections.emptyList()).release();
+
+        assertThat(encoder.encodeTrailer()).isEqualTo(TEST.buffer().writeShort(-1));
+    }
+
+    @Test
+    public void encodeWrongValueCount() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BinaryCopyRowEncoder(TEST, MockCodecs.empty(), this.columns).encode(Collections.singletonList(new Object[]{100})))
+            .withMessage("Row has 1 values but there are 2 columns");
+    }
+
+    private static ByteBuf header() {
+        return TEST.buffer().writeBytes("PGCOPY\n".getBytes(UTF_8)).writeByte(0xFF).writeByte('\r').writeByte('\n').writeByte(0).writeInt(0).writeInt(0);
+    }
+
+}
@@ -0,0 +1,397 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.nebhale.r2dbc.postgresql;
+
+import com.nebhale.r2dbc.postgresql.client.Binding;
+import com.nebhale.r2dbc.postgresql.client.Client;
+import com.nebhale.r2dbc.postgresql.client.Parameter;
+import com.nebhale.r2dbc.postgresql.client.TestClient;
+import com.nebhale.r2dbc.postgresql.message.backend.BackendMessage;
+import com.nebhale.r2dbc.postgresql.message.backend.CloseComplete;
+import com.nebhale.r2dbc.postgresql.message.backend.ErrorResponse;
+import com.nebhale.r2dbc.postgresql.message.backend.ParameterDescription;
+import com.nebhale.r2dbc.postgresql.message.backend.ParseComplete;
+import com.nebhale.r2dbc.postgresql.message.frontend.Close;
+import com.nebhale.r2dbc.postgresql.message.frontend.Describe;
+import com.nebhale.r2dbc.postgresql.message.frontend.ExecutionType;
+import com.nebhale.r2dbc.postgresql.message.frontend.Parse;
+import com.nebhale.r2dbc.postgresql.message.frontend.Sync;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.PublisherProbe;
+import reactor.util.function.Tuples;
+
+import java.util.Collections;
+
+import static com.nebhale.r2dbc.postgresql.client.TestClient.NO_OP;
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class BoundedStatementCacheTest {
+
+    @Test
+    public void constructorInvalidLimit() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BoundedStatementCache(NO_OP, new RecentStatements(0), 0))
+            .withMessage("limit must be greater than zero");
+    }
+
+    @Test
+    public void constructorNoClient() {
+        assertThatNullPointerException().isThrownBy(() -> new BoundedStatementCache(null, new RecentStatements(0), 1))
+            .withMessage("client must not be null");
+    }
+
+    @Test
+    public void constructorNoRecentStatements() {
+        assertThatNullPointerException().isThrownBy(() -> new BoundedStatementCache(NO_OP, null, 1))
+            .withMessage("recentStatements must not be null");
+    }
+
+    @Test
+    public void getPreparedStatement() {
+        // @formatter:off
+        Client client = TestClient.builder()
+            .expectRequest(new Parse("S_0", Collections.singletonList(100), "test-query"), new Describe("S_0", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(ParseComplete.INSTANCE, new ParameterDescription(Collections.singletonList(100)))
+            .expectRequest(new Parse("S_1", Collections.singletonList(200), "test-query"), new Describe("S_1", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(ParseComplete.INSTANCE)
+            .build();
+        // @formatter:on
+
+        BoundedStatementCache statementCache = new BoundedStatementCache(client, new RecentStatements(0), 2);
+
+        statementCache.getPreparedStatement(new Binding().add(0, new Parameter(BINARY, 100, TEST.buffer(4).writeInt(100))), "test-query")
+            .as(StepVerifier::create)
+            .expectNext(new PreparedStatement("S_0", Collections.singletonList(100), null))
+            .verifyComplete();
+
+        statementCache.getPreparedStatement(new Binding().add(0, new Parameter(BINARY, 100, TEST.buffer(4).writeInt(200))), "test-query")
+            .as(StepVerifier::create)
+            .expectNext(new PreparedStatement("S_0", Collections.singletonList(100), null))
+            .verifyComplete();
+
+        statementCache.getPreparedStatement(new Binding().add(0, new Parameter(BINARY, 200, TEST.buffer(2).writeShort(300))), "test-query")
+            .as(StepVerifier::create)
+            .expectNext(new PreparedStatement("S_1", Collections.emptyList(), null))
+            .verifyComplete();
+
+        assertThat(statementCache.getStatistics()).isEqualTo(new StatementCacheStatistics(0, 1, 2));
+    }
+
+    @Test
+    public void getPreparedStatementErrorResponse() {
+        // @formatter:off
+        Client client = TestClient.builder()
+            .expectRequest(new Parse("S_0", Collections.singletonList(100), "test-query"), new Describe("S_0", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(new ErrorResponse(Collections.emptyList()))
+            .expectRequest(new Parse("S_1", Collections.singletonList(100), "test-query"), new Describe("S_1", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(ParseComplete.INSTANCE)
+            .build();
+        // @formatter:on
+
+        BoundedStatementCache statementCache = new BoundedStatementCache(client, new RecentStatements(0), 2);
+
+        statementCache.getPreparedStatement(new Binding().add(0, new Parameter(BINARY, 100, TEST.buffer(4).writeInt(200))), "test-query")
+            .as(StepVerifier::create)
+            .verifyError(PostgresqlServerErrorException.class);
+
+        statementCache.getPreparedStatement(new Binding().add(0, new Parameter(BINARY, 100, TEST.buffer(4).writeInt(200))), "test-query")
+            .as(StepVerifier::create)
+            .expectNext(new PreparedStatement("S_1", Collections.emptyList(), null))
+            .verifyComplete();
+    }
+
+    @Test
+    public void getPreparedStatementEviction() {
+        // @formatter:off
+        Client client = TestClient.builder()
+            .expectRequest(new Parse("S_0", Collections.singletonList(100), "test-query"), new Describe("S_0", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(ParseComplete.INSTANCE)
+            .expectRequest(new Parse("S_1", Collections.singletonList(100), "test-query-2"), new Describe("S_1", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(ParseComplete.INSTANCE)
+            .expectRequest(new Close("S_0", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(CloseComplete.INSTANCE)
+            .expectRequest(new Parse("S_2", Collections.singletonList(100), "test-query-3"), new Describe("S_2", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(ParseComplete.INSTANCE)
+            .build();
+        // @formatter:on
+
+        BoundedStatementCache statementCache = new BoundedStatementCache(client, new RecentStatements(0), 2);
+
+        statementCache.getPreparedStatement(new Binding().add(0, new Parameter(BINARY, 100, TEST.buffer(4).writeInt(100))), "test-query")
+            .as(StepVerifier::create)
+            .expectNext(new PreparedStatement("S_0", Collections.emptyList(), null))
+            .verifyComplete();
+
+        statementCache.getPreparedStatement(new Binding().add(0, new Parameter(BINARY, 100, TEST.buffer(4).writeInt(100))), "test-query-2")
+            .as(StepVerifier::create)
+            .expectNext(new PreparedStatement("S_1", Collections.emptyList(), null))
+            .verifyComplete();
+
+        statementCache.getPreparedStatement(new Binding().add(0, new Parameter(BINARY, 100, TEST.buffer(4).writeInt(100))), "test-query-2")
+            .as(StepVerifier::create)
+            .expectNext(new PreparedStatement("S_1", Collections.emptyList(), null))
+            .verifyComplete();
+
+        statementCache.getPreparedStatement(new Binding().add(0, new Parameter(BINARY, 100, TEST.buffer(4).writeInt(100))), "test-query-3")
+            .as(StepVerifier::create)
+            .expectNext(new PreparedStatement("S_2", Collections.emptyList(), null))
+            .verifyComplete();
+
+        assertThat(statementCache.getStatistics()).isEqualTo(new StatementCacheStatistics(1, 1, 3));
+    }
+
+    @Test
+    public void getPreparedStatementEvictionLeastRecentlyUsed() {
+        // @formatter:off
+        Client client = TestClient.builder()
+            .expectRequest(new Parse("S_0", Collections.singletonList(100), "test-query"), new Describe("S_0", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(ParseComplete.INSTANCE)
+            .expectRequest(new Parse("S_1", Collections.singletonList(100), "test-query-2"), new Describe("S_1", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(ParseComplete.INSTANCE)
+            .expectRequest(new Close("S_1", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(CloseComplete.INSTANCE)
+            .expectRequest(new Parse("S_2", Collections.singletonList(100), "test-query-3"), new Describe("S_2", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(ParseComplete.INSTANCE)
+            .build();
+        // @formatter:on
+
+        BoundedStatementCache statementCache = new BoundedStatementCache(client, new RecentStatements(0), 2);
+
+        Flux.just("test-query", "test-query-2", "test-query", "test-query-3", "test-query")
+            .concatMap(sql -> statementCache.getPreparedStatement(sql, Collections.singletonList(100)))
+            .map(PreparedStatement::getName)
+            .as(StepVerifier::create)
+            .expectNext("S_0", "S_1", "S_0", "S_2", "S_0")
+            .verifyComplete();
+
+        assertThat(statementCache.getStatistics()).isEqualTo(new StatementCacheStatistics(1, 2, 3));
+    }
+
+    @Test
+    public void getPreparedStatementEvictionNotParsed() {
+        PublisherProbe<BackendMessage> parse = PublisherProbe.empty();
+
+        Client client = mock(Client.class);
+        when(client.exchange(any())).thenReturn(parse.flux());
+
+        BoundedStatementCache statementCache = new BoundedStatementCache(client, new RecentStatements(0), 1);
+
+        statementCache.getPreparedStatement("test-query", Collections.singletonList(100));
+        statementCache.getPreparedStatement("test-query-2", Collections.singletonList(100));
+
+        assertThat(statementCache.getStatistics()).isEqualTo(new StatementCacheStatistics(1, 0, 2));
+        parse.assertWasNotSubscribed();
+    }
+
+    @Test
+    public void getPreparedStatementNoBinding() {
+        assertThatNullPointerException().isThrownBy(() -> new BoundedStatementCache(NO_OP, new RecentStatements(0), 1).getPreparedStatement(null, "test-query"))
+            .withMessage("binding must not be null");
+    }
+
+    @Test
+    public void getPreparedStatementNoSql() {
+        assertThatNullPointerException().isThrownBy(() -> new BoundedStatementCache(NO_OP, new RecentStatements(0), 1).getPreparedStatement(new Binding(), null))
+            .withMessage("sql must not be null");
+    }
+
+    @Test
+    public void getPreparedStatementRecentStatements() {
+        // @formatter:off
+        Client client = TestClient.builder()
+            .expectRequest(new Parse("S_0", Collections.singletonList(100), "test-query"), new Describe("S_0", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(ParseComplete.INSTANCE)
+            .expectRequest(new Parse("S_1", Collections.singletonList(100), "test-query-2"), new Describe("S_1", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(new ErrorResponse(Collections.emptyList()))
+            .build();
+        // @formatter:on
+
+        RecentStatements recentStatements = new RecentStatements(10);
+        recentStatements.add("test-query-2", Collections.singletonList(100));
+
+        BoundedStatementCache statementCache = new BoundedStatementCache(client, recentStatements, 2);
+
+        statementCache.getPreparedStatement("test-query", Collections.singletonList(100))
+            .as(StepVerifier::create)
+            .expectNext(new PreparedStatement("S_0", Collections.emptyList(), null))
+            .verifyComplete();
+
+        statementCache.getPreparedStatement("test-query-2", Collections.singletonList(100))
+            .as(StepVerifier::create)
+            .verifyError(PostgresqlServerErrorException.class);
+
+        assertThat(recentStatements.getStatements()).containsExactly(Tuples.of("test-query", Collections.singletonList(100)));
+    }
+
+    @Test
+    public void prepare() {
+        // @formatter:off
+        Client client = TestClient.builder()
+            .expectRequest(new Parse("S_0", Collections.singletonList(100), "test-query"), new Describe("S_0", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(ParseComplete.INSTANCE)
+            .build();
+        // @formatter:on
+
+        BoundedStatementCache statementCache = new BoundedStatementCache(client, new RecentStatements(0), 1);
+
+        statementCache.prepare("test-query", Collections.singletonList(100))
+            .as(StepVerifier::create)
+            .verifyComplete();
+
+        assertThat(statementCache.getStatistics()).isEqualTo(new StatementCacheStatistics(0, 0, 0));
+
+        statementCache.getPreparedStatement("test-query", Collections.singletonList(100))
+            .as(StepVerifier::create)
+            .expectNext(new PreparedStatement("S_0", Collections.emptyList(), null))
+            .verifyComplete();
+
+        assertThat(statementCache.getStatistics()).isEqualTo(new StatementCacheStatistics(0, 1, 0));
+    }
+
+    @Test
+    public void prepareNoParameterTypes() {
+        assertThatNullPointerException().isThrownBy(() -> new BoundedStatementCache(NO_OP, new RecentStatements(0), 1).prepare("test-query", null))
+            .withMessage("parameterTypes must not be null");
+    }
+
+    @Test
+    public void prepareNoSql() {
+        assertThatNullPointerException().isThrownBy(() -> new BoundedStatementCache(NO_OP, new RecentStatements(0), 1).prepare(null, Collections.emptyList()))
+            .withMessage("sql must not be null");
+    }
+
+    @Test
+    public void usePreparedStatement() {
+        // @formatter:off
+        Client client = TestClient.builder()
+            .expectRequest(new Parse("S_0", Collections.singletonList(100), "test-query-2"), new Describe("S_0", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(ParseComplete.INSTANCE)
+            .expectRequest(new Close("S_0", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(CloseComplete.INSTANCE)
+            .expectRequest(new Parse("S_1", Collections.singletonList(100), "test-query"), new Describe("S_1", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(ParseComplete.INSTANCE)
+            .build();
+        // @formatter:on
+
+        BoundedStatementCache statementCache = new BoundedStatementCache(client, new RecentStatements(0), 1);
+        Binding binding = new Binding().add(0, new Parameter(BINARY, 100, TEST.buffer(4).writeInt(100)));
+
+        Flux<PreparedStatement> first = statementCache.usePreparedStatement(binding, "test-query", Mono::just);
+
+        statementCache.usePreparedStatement(binding, "test-query-2", Mono::just)
+            .as(StepVerifier::create)
+            .expectNext(new PreparedStatement("S_0", Collections.emptyList(), null))
+            .verifyComplete();
+
+        first
+            .as(StepVerifier::create)
+            .expectNext(new PreparedStatement("S_1", Collections.emptyList(), null))
+            .verifyComplete();
+    }
+
+    @Test
+    public void usePreparedStatementConcurrent() {
+        // @formatter:off
+        Client client = TestClient.builder()
+            .expectRequest(new Parse("S_0", Collections.singletonList(100), "test-query"), new Describe("S_0", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(ParseComplete.INSTANCE)
+            .build();
+        // @formatter:on
+
+        BoundedStatementCache statementCache = new BoundedStatementCache(client, new RecentStatements(0), 1);
+
+        Flux.range(0, 1_000)
+            .parallel()
+            .runOn(Schedulers.parallel())
+            .flatMap(i -> statementCache.usePreparedStatement(new Binding().add(0, new Parameter(BINARY, 100, TEST.buffer(4).writeInt(i))), "test-query", Mono::just))
+            .sequential()
+            .as(StepVerifier::create)
+            .expectNextCount(1_000)
+            .verifyComplete();
+
+        assertThat(statementCache.getStatistics()).isEqualTo(new StatementCacheStatistics(0, 999, 1));
+    }
+
+    @Test
+    public void usePreparedStatementEvictionInUse() {
+        // @formatter:off
+        Client client = TestClient.builder()
+            .expectRequest(new Parse("S_0", Collections.singletonList(100), "test-query"), new Describe("S_0", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(ParseComplete.INSTANCE)
+            .expectRequest(new Parse("S_1", Collections.singletonList(100), "test-query-2"), new Describe("S_1", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(ParseComplete.INSTANCE)
+            .expectRequest(new Close("S_0", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(CloseComplete.INSTANCE)
+            .expectRequest(new Close("S_1", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(CloseComplete.INSTANCE)
+            .expectRequest(new Parse("S_2", Collections.singletonList(100), "test-query-3"), new Describe("S_2", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(ParseComplete.INSTANCE)
+            .build();
+        // @formatter:on
+
+        BoundedStatementCache statementCache = new BoundedStatementCache(client, new RecentStatements(0), 1);
+        Binding binding = new Binding().add(0, new Parameter(BINARY, 100, TEST.buffer(4).writeInt(100)));
+        MonoProcessor<PreparedStatement> execution = MonoProcessor.create();
+
+        statementCache.usePreparedStatement(binding, "test-query", preparedStatement -> execution)
+            .as(StepVerifier::create)
+            .then(() -> statementCache.usePreparedStatement(binding, "test-query-2", Mono::just)
+                .as(StepVerifier::create)
+                .expectNext(new PreparedStatement("S_1", Collections.emptyList(), null))
+                .verifyComplete())
+            .then(execution::onComplete)
+            .verifyComplete();
+
+        statementCache.usePreparedStatement(binding, "test-query-3", Mono::just)
+            .as(StepVerifier::create)
+            .expectNext(new PreparedStatement("S_2", Collections.emptyList(), null))
+            .verifyComplete();
+
+        assertThat(statementCache.getStatistics()).isEqualTo(new StatementCacheStatistics(2, 0, 3));
+    }
+
+    @Test
+    public void usePreparedStatementNoBinding() {
+        assertThatNullPointerException().isThrownBy(() -> new BoundedStatementCache(NO_OP, new RecentStatements(0), 1).usePreparedStatement(null, "test-query", Mono::just))
+            .withMessage("binding must not be null");
+    }
+
+    @Test
+    public void usePreparedStatementNoF() {
+        assertThatNullPointerException().isThrownBy(() -> new BoundedStatementCache(NO_OP, new RecentStatements(0), 1).usePreparedStatement(new Binding(), "test-query", null))
+            .withMessage("f must not be null");
+    }
+
+    @Test
+    public void usePreparedStatementNoSql() {
+        assertThatNullPointerException().isThrownBy(() -> new BoundedStatementCache(NO_OP, new RecentStatements(0), 1).usePreparedStatement(new Binding(), null, Mono::just))
+            .withMessage("sql must not be null");
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.nebhale.r2dbc.postgresql;
+
+import com.nebhale.r2dbc.postgresql.message.backend.RowDescription;
+import com.nebhale.r2dbc.postgresql.message.backend.RowDescription.Field;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public final class ColumnsTest {
+
+    private final Columns columns = new Columns(Arrays.asList(
+        new Field((short) 100, 200, 300, (short) 400, BINARY, "test-name-1", 500),
+        new Field((short) 100, 600, 300, (short) 400, TEXT, "test-name-2", 500),
+        new Field((short) 100, 700, 300, (short) 400, TEXT, "test-name-1", 500)
+    ));
+
+    @Test
+    public void constructorNoFields() {
+        assertThatNullPointerException().isThrownBy(() -> new Columns(null))
+            .withMessage("fields must not be null");
+    }
+
+    @Test
+    public void getDataType() {
+        assertThat(this.columns.getDataType(1)).isEqualTo(600);
+    }
+
+    @Test
+    public void getFormat() {
+        assertThat(this.columns.getFormat(0)).isEqualTo(BINARY);
+    }
+
+    @Test
+    public void getIndex() {
+        assertThat(this.columns.getIndex(1)).isEqualTo(1);
+    }
+
+    @Test
+    public void getIndexDuplicateName() {
+        assertThat(this.columns.getIndex("test-name-1")).isEqualTo(0);
+    }
+
+    @Test
+    public void getIndexInvalidIndex() {
+        assertThatIllegalArgumentException().isThrownBy(() -> this.columns.getIndex(3))
+            .withMessage("Column index 3 is larger than the number of columns 3");
+    }
+
+    @Test
+    public void getIndexInvalidName() {
+        assertThatIllegalArgumentException().isThrownBy(() -> this.columns.getIndex("test-name-3"))
+            .withMessage("Column name 'test-name-3' does not exist in column names [test-name-1, test-name-2]");
+    }
+
+    @Test
+    public void getIndexName() {
+        assertThat(this.columns.getIndex("test-name-2")).isEqualTo(1);
+    }
+
+    @Test
+    public void getIndexWrongIdentifierType() {
+        Object identifier = new Object();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> this.columns.getIndex(identifier))
+            .withMessage("Identifier '%s' is not a valid identifier. Should either be an Integer index or a String column name.", identifier);
+    }
+
+    @Test
+    public void getStringCache() {
+        AtomicReferenceArray<StringCache> stringCaches = new AtomicReferenceArray<>(3);
+        Columns columns = new Columns(Arrays.asList(
+            new Field((short) 100, 200, 300, (short) 400, BINARY, "test-name-1", 500),
+            new Field((short) 100, 600, 300, (short) 400, TEXT, "test-name-2", 500),
+            new Field((short) 100, 700, 300, (short) 400, TEXT, "test-name-1", 500)
+        ), stringCaches);
+
+        StringCache stringCache = columns.getStringCache(1);
+
+        assertThat(stringCache).isNotNull();
+        assertThat(stringCaches.get(1)).isSameAs(stringCache);
+        assertThat(columns.getStringCache(1)).isSameAs(stringCache);
+        assertThat(columns.getStringCache(2)).isNotSameAs(stringCache);
+    }
+
+    @Test
+    public void getStringCacheNoStringCaches() {
+        assertThat(this.columns.getStringCache(1)).isNull();
+    }
+
+    @Test
+    public void toColumns() {
+        assertThat(Columns.toColumns(new RowDescription(Arrays.asList(new Field((short) 100, 200, 300, (short) 400, BINARY, "test-name-1", 500)))).getIndex("test-name-1")).isEqualTo(0);
+    }
+
+    @Test
+    public void toColumnsNoRowDescription() {
+        assertThatNullPointerException().isThrownBy(() -> Columns.toColumns(null))
+            .withMessage("rowDescription must not be null");
+    }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+import org.junit.Test;
+
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT4;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public final class CopyColumnTest {
+
+    @Test
+    public void constructor() {
+        CopyColumn column = new CopyColumn("test-name", INT4);
+
+        assertThat(column.getName()).isEqualTo("test-name");
+        assertThat(column.getType()).isEqualTo(INT4);
+    }
+
+    @Test
+    public void constructorNoName() {
+        assertThatNullPointerException().isThrownBy(() -> new CopyColumn(null, INT4))
+            .withMessage("name must not be null");
+    }
+
+    @Test
+    public void constructorNoType() {
+        assertThatNullPointerException().isThrownBy(() -> new CopyColumn("test-name", null))
+            .withMessage("type must not be null");
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+import com.nebhale.r2dbc.postgresql.client.Parameter;
+import com.nebhale.r2dbc.postgresql.codec.DefaultCodecs;
+import com.nebhale.r2dbc.postgresql.codec.JacksonJsonMapper;
+import com.nebhale.r2dbc.postgresql.codec.Json;
+import com.nebhale.r2dbc.postgresql.codec.MockCodecs;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import static com.nebhale.r2dbc.postgresql.CopyFormat.CSV;
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT4;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.POINT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.POINT_ARRAY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
+import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
+import static io.netty.util.CharsetUtil.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public final class CopyRowEncoderTest {
+
+    @Test
+    public void constructorNoByteBufAllocator() {
+        assertThatNullPointerException().isThrownBy(() -> new CopyRowEncoder(null, MockCodecs.empty(), CSV))
+            .withMessage("byteBufAllocator must not be null");
+    }
+
+    @Test
+    public void constructorNoCodecs() {
+        assertThatNullPointerException().isThrownBy(() -> new CopyRowEncoder(TEST, null, CSV))
+            .withMessage("codecs must not be null");
+    }
+
+    @Test
+    public void constructorNoFormat() {
+        assertThatNullPointerException().isThrownBy(() -> new CopyRowEncoder(TEST, MockCodecs.empty(), null))
+            .withMessage("format must not be null");
+    }
+
+    @Test
+    public void encodeCsv() {
+        MockCodecs codecs = MockCodecs.builder()
+            .encoding(100, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(100)))
+            .encoding("", text(""))
+            .encoding("test-value", text("test-value"))
+            .encoding("test,value", text("test,value"))
+            .encoding("test\"value\"", text("test\"value\""))
+            .encoding("test\nvalue", text("test\nvalue"))
+            .encoding("\\.", text("\\."))
+            .build();
+
+        ByteBuf encoded = new CopyRowEncoder(TEST, codecs, CSV).encode(Arrays.asList(
+            new Object[]{100, null, "", "test-value"},
+            new Object[]{"test,value", "test\"value\"", "test\nvalue", "\\."}));
+
+        assertThat(encoded.toString(UTF_8)).isEqualTo("100,,\"\",test-value\n\"test,value\",\"test\"\"value\"\"\",\"test\nvalue\",\"\\.\"\n");
+    }
+
+    @Test
+    public void encodeCsvBinaryValues() {
+        DefaultCodecs codecs = new DefaultCodecs(TEST, new JacksonJsonMapper());
+
+        ByteBuf encoded = new CopyRowEncoder(TEST, codecs, CSV).encode(Collections.singletonList(
+            new Object[]{new String[]{"test value", "test,value"}, Json.of(Collections.singletonMap("test-key", "test-value"))}));
+
+        assertThat(encoded.toString(UTF_8)).isEqualTo("\"{\"\"test value\"\",\"\"test,value\"\"}\",\"{\"\"test-key\"\":\"\"test-value\"\"}\"\n");
+    }
+
+    @Test
+    public void encodeNoRows() {
+        assertThatNullPointerException().isThrownBy(() -> new CopyRowEncoder(TEST, MockCodecs.empty(), CSV).encode(null))
+            .withMessage("rows must not be null");
+    }
+
+    @Test
+    public void encodeText() {
+        MockCodecs codecs = MockCodecs.builder()
+            .encoding(100, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(100)))
+            .encoding("", text(""))
+            .encoding("test-value", text("test-value"))
+            .encoding("test\\value", text("test\\value"))
+            .encoding("test\tvalue\r\n", text("test\tvalue\r\n"))
+            .build();
+
+        ByteBuf encoded = new CopyRowEncoder(TEST, codecs, CopyFormat.TEXT).encode(Arrays.asList(
+            new Object[]{100, null, "", "test-value"},
+            new Object[]{"test\\value", "test\tvalue\r\n"}));
+
+        assertThat(encoded.toString(UTF_8)).isEqualTo("100\t\\N\t\ttest-value\ntest\\\\value\ttest\\tvalue\\r\\n\n");
+    }
+
+    @Test
+    public void encodeTextBinaryValues() {
+        DefaultCodecs codecs = new DefaultCodecs(TEST, new JacksonJsonMapper());
+        UUID uuid = UUID.randomUUID();
+
+        ByteBuf encoded = new CopyRowEncoder(TEST, codecs, CopyFormat.TEXT).encode(Arrays.asList(
+            new Object[]{1, (short) 2, 3L, 4.5f, 6.5d, uuid},
+            new Object[]{new byte[]{1, 2, 3}, ByteBuffer.wrap(new byte[]{4, 5}), Unpooled.wrappedBuffer(new byte[]{6})},
+            new Object[]{new int[]{1, 2}, new long[0], new double[]{1.5}, Arrays.asList(1, 2), new String[]{"a", null, "", "NULL", "b\"c\\d"}, new UUID[]{uuid}},
+            new Object[]{Json.of(Collections.singletonMap("test-key", "test\tvalue"))}));
+
+        assertThat(encoded.toString(UTF_8)).isEqualTo(
+            "1\t2\t3\t4.5\t6.5\t" + uuid + "\n" +
+                "\\\\x010203\t\\\\x0405\t\\\\x06\n" +
+                "{1,2}\t{}\t{1.5}\t{1,2}\t{a,NULL,\"\",\"NULL\",\"b\\\\\"c\\\\\\\\d\"}\t{" + uuid + "}\n" +
+                "{\"test-key\":\"test\\\\tvalue\"}\n");
+    }
+
+    @Test
+    public void encodeTextEmpty() {
+        assertThat(new CopyRowEncoder(TEST, MockCodecs.empty(), CopyFormat.TEXT).encode(Collections.emptyList()).readableBytes()).isZero();
+    }
+
+    @Test
+    public void encodeUnsupportedBinaryArrayElement() {
+        Object value = new Object();
+        ByteBuf array = TEST.buffer().writeInt(1).writeInt(0).writeInt(POINT.getObjectId()).writeInt(1).writeInt(1).writeInt(16).writeDouble(1).writeDouble(2);
+
+        MockCodecs codecs = MockCodecs.builder()
+            .encoding(value, new Parameter(BINARY, POINT_ARRAY.getObjectId(), array))
+            .build();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new CopyRowEncoder(TEST, codecs, CSV).encode(Collections.singletonList(new Object[]{value})))
+            .withMessage("Cannot encode value of type java.lang.Object in a CSV COPY data stream");
+    }
+
+    @Test
+    public void encodeUnsupportedBinaryValue() {
+        Object value = new Object();
+
+        MockCodecs codecs = MockCodecs.builder()
+            .encoding(value, new Parameter(BINARY, POINT.getObjectId(), TEST.buffer(16).writeDouble(1).writeDouble(2)))
+            .build();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new CopyRowEncoder(TEST, codecs, CopyFormat.TEXT).encode(Collections.singletonList(new Object[]{value})))
+            .withMessage("Cannot encode value of type java.lang.Object in a TEXT COPY data stream");
+    }
+
+    private static Parameter text(String value) {
+        return new Parameter(TEXT, VARCHAR.getObjectId(), TEST.buffer().writeBytes(value.getBytes(UTF_8)));
+    }
+
+}
@@ -19,36 +19,45 @@ package com.nebhale.r2dbc.postgresql;
 import com.nebhale.r2dbc.postgresql.client.Binding;
 import com.nebhale.r2dbc.postgresql.client.Client;
 import com.nebhale.r2dbc.postgresql.client.Parameter;
-import com.nebhale.r2dbc.postgresql.client.PortalNameSupplier;
 import com.nebhale.r2dbc.postgresql.client.TestClient;
 import com.nebhale.r2dbc.postgresql.codec.MockCodecs;
 import com.nebhale.r2dbc.postgresql.message.backend.BindComplete;
 import com.nebhale.r2dbc.postgresql.message.backend.CloseComplete;
 import com.nebhale.r2dbc.postgresql.message.backend.CommandComplete;
-import com.nebhale.r2dbc.postgresql.message.backend.NoData;
+import com.nebhale.r2dbc.postgresql.message.backend.DataRow;
+import com.nebhale.r2dbc.postgresql.message.backend.ErrorResponse;
+import com.nebhale.r2dbc.postgresql.message.backend.PortalSuspended;
+import com.nebhale.r2dbc.postgresql.message.backend.RowDescription;
 import com.nebhale.r2dbc.postgresql.message.frontend.Bind;
 import com.nebhale.r2dbc.postgresql.message.frontend.Close;
 import com.nebhale.r2dbc.postgresql.message.frontend.Describe;
 import com.nebhale.r2dbc.postgresql.message.frontend.Execute;
 import com.nebhale.r2dbc.postgresql.message.frontend.ExecutionType;
+import com.nebhale.r2dbc.postgresql.message.frontend.Flush;
+import com.nebhale.r2dbc.postgresql.message.frontend.Parse;
 import com.nebhale.r2dbc.postgresql.message.frontend.Sync;
+import com.nebhale.r2dbc.postgresql.util.ByteBufUtils;
+import org.junit.Before;
 import org.junit.Test;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.Optional;
 
 import static com.nebhale.r2dbc.postgresql.client.TestClient.NO_OP;
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT4;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
 import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_SMART_NULLS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -63,6 +72,11 @@ public final class ExtendedQueryPostgresqlStatementTest {
 
     private final ExtendedQueryPostgresqlStatement statement = new ExtendedQueryPostgresqlStatement(NO_OP, this.codecs, () -> "", "test-query-$1", this.statementCache);
 
+    @Before
+    public void usePreparedStatement() {
+        when(this.statementCache.usePreparedStatement(any(), any(), any())).thenCallRealMethod();
+    }
+
     @Test
     public void bind() {
         assertThat(this.statement.bind("$1", 100).getCurrentBinding()).isEqualTo(new Binding().add(0, this.parameter));
@@ -186,18 +200,14 @@ public final class ExtendedQueryPostgresqlStatementTest {
     public void execute() {
         Client client = TestClient.builder()
             .expectRequest(
-                new Bind("B_0", Collections.singletonList(BINARY), Collections.singletonList(TEST.buffer(4).writeInt(100)), Collections.emptyList(), "test-name"),
-                new Describe("B_0", ExecutionType.PORTAL),
-                new Execute("B_0", 0),
-                new Close("B_0", ExecutionType.PORTAL),
-                new Bind("B_1", Collections.singletonList(BINARY), Collections.singletonList(TEST.buffer(4).writeInt(200)), Collections.emptyList(), "test-name"),
-                new Describe("B_1", ExecutionType.PORTAL),
-                new Execute("B_1", 0),
-                new Close("B_1", ExecutionType.PORTAL),
+                new Bind("", Collections.singletonList(BINARY), Collections.singletonList(TEST.buffer(4).writeInt(100)), Collections.emptyList(), "test-name"),
+                new Execute("", 0),
+                new Bind("", Collections.singletonList(BINARY), Collections.singletonList(TEST.buffer(4).writeInt(200)), Collections.emptyList(), "test-name"),
+                new Execute("", 0),
                 Sync.INSTANCE)
             .thenRespond(
-                BindComplete.INSTANCE, NoData.INSTANCE, new CommandComplete("test", null, null), CloseComplete.INSTANCE,
-                BindComplete.INSTANCE, NoData.INSTANCE, new CommandComplete("test", null, null), CloseComplete.INSTANCE
+                BindComplete.INSTANCE, new CommandComplete("test", null, null),
+                BindComplete.INSTANCE, new CommandComplete("test", null, null)
             )
             .build();
 
@@ -206,12 +216,10 @@ public final class ExtendedQueryPostgresqlStatementTest {
             .encoding(200, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(200)))
             .build();
 
-        PortalNameSupplier portalNameSupplier = new LinkedList<>(Arrays.asList("B_0", "B_1"))::remove;
+        when(this.statementCache.getPreparedStatement(new Binding().add(0, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(100))), "test-query-$1")).thenReturn(Mono.just(new PreparedStatement("test-name", Collections.emptyList(), null)));
+        when(this.statementCache.getPreparedStatement(new Binding().add(0, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(200))), "test-query-$1")).thenReturn(Mono.just(new PreparedStatement("test-name", Collections.emptyList(), null)));
 
-        when(this.statementCache.getName(new Binding().add(0, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(100))), "test-query-$1")).thenReturn(Mono.just("test-name"));
-        when(this.statementCache.getName(new Binding().add(0, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(200))), "test-query-$1")).thenReturn(Mono.just("test-name"));
-
-        new ExtendedQueryPostgresqlStatement(client, codecs, portalNameSupplier, "test-query-$1", this.statementCache)
+        new ExtendedQueryPostgresqlStatement(client, codecs, () -> "", "test-query-$1", this.statementCache)
             .bind("$1", 100)
             .add()
             .bind("$1", 200)
@@ -222,23 +230,176 @@ public final class ExtendedQueryPostgresqlStatementTest {
             .verifyComplete();
     }
 
+    @Test
+    public void executeCacheStrings() {
+        RowDescription rowDescription = new RowDescription(Collections.singletonList(new RowDescription.Field((short) 100, VARCHAR.getObjectId(), 300, (short) 400, TEXT, "test-name", 500)));
+
+        Client client = TestClient.builder()
+            .expectRequest(new Bind("", Collections.emptyList(), Collections.emptyList(), Collections.singletonList(TEXT), "test-name"), new Execute("", 0), Sync.INSTANCE)
+            .thenRespond(BindComplete.INSTANCE, new DataRow(Collections.singletonList(ByteBufUtils.encode(TEST, "test-value"))), new CommandComplete("test", null, null))
+            .expectRequest(new Bind("", Collections.emptyList(), Collections.emptyList(), Collections.singletonList(TEXT), "test-name"), new Execute("", 0), Sync.INSTANCE)
+            .thenRespond(BindComplete.INSTANCE, new DataRow(Collections.singletonList(ByteBufUtils.encode(TEST, "test-value"))), new CommandComplete("test", null, null))
+            .build();
+
+        MockCodecs codecs = MockCodecs.builder()
+            .preferredFormat(VARCHAR.getObjectId(), TEXT)
+            .build();
+
+        when(this.statementCache.getPreparedStatement(new Binding(), "test-query")).thenReturn(Mono.just(new PreparedStatement("test-name", Collections.emptyList(), rowDescription)));
+
+        ExtendedQueryPostgresqlStatement statement = new ExtendedQueryPostgresqlStatement(client, codecs, () -> "", "test-query", this.statementCache)
+            .cacheStrings(true);
+
+        String first = statement.execute()
+            .flatMap(result -> result.map((row, rowMetadata) -> row.get(0, String.class)))
+            .blockLast();
+
+        statement.execute()
+            .flatMap(result -> result.map((row, rowMetadata) -> row.get(0, String.class)))
+            .as(StepVerifier::create)
+            .assertNext(value -> assertThat(value).isSameAs(first))
+            .verifyComplete();
+    }
+
+    @Test
+    public void executeFetchSize() {
+        // @formatter:off
+        Client client = TestClient.builder()
+            .window()
+                .expectRequest(new Bind("B_0", Collections.singletonList(BINARY), Collections.singletonList(TEST.buffer(4).writeInt(100)), Collections.emptyList(), "test-name")).thenRespond()
+                .expectRequest(new Execute("B_0", 10)).thenRespond()
+                .expectRequest(Flush.INSTANCE).thenRespond(BindComplete.INSTANCE, PortalSuspended.INSTANCE)
+                .expectRequest(new Execute("B_0", 10)).thenRespond()
+                .expectRequest(Flush.INSTANCE).thenRespond(new CommandComplete("test", null, null))
+                .expectRequest(new Close("B_0", ExecutionType.PORTAL)).thenRespond()
+                .expectRequest(Sync.INSTANCE).thenRespond(CloseComplete.INSTANCE)
+                .done()
+            .build();
+        // @formatter:on
+
+        MockCodecs codecs = MockCodecs.builder()
+            .encoding(100, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(100)))
+            .build();
+
+        when(this.statementCache.getPreparedStatement(new Binding().add(0, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(100))), "test-query-$1")).thenReturn(Mono.just(new PreparedStatement("test-name", Collections.emptyList(), null)));
+
+        new ExtendedQueryPostgresqlStatement(client, codecs, () -> "B_0", "test-query-$1", this.statementCache)
+            .bind("$1", 100)
+            .fetchSize(10)
+            .execute()
+            .as(StepVerifier::create)
+            .expectNextCount(2)  // TODO: Decrease by 1 when https://github.com/reactor/reactor-core/issues/1033
+            .verifyComplete();
+    }
+
+    @Test
+    public void executeFetchSizeNoParameters() {
+        // @formatter:off
+        Client client = TestClient.builder()
+            .window()
+                .expectRequest(new Bind("B_0", Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), "test-name")).thenRespond()
+                .expectRequest(new Execute("B_0", 10)).thenRespond()
+                .expectRequest(Flush.INSTANCE).thenRespond(BindComplete.INSTANCE, PortalSuspended.INSTANCE)
+                .expectRequest(new Execute("B_0", 10)).thenRespond()
+                .expectRequest(Flush.INSTANCE).thenRespond(new CommandComplete("test", null, null))
+                .expectRequest(new Close("B_0", ExecutionType.PORTAL)).thenRespond()
+                .expectRequest(Sync.INSTANCE).thenRespond(CloseComplete.INSTANCE)
+                .done()
+            .build();
+        // @formatter:on
+
+        when(this.statementCache.getPreparedStatement(new Binding(), "test-query")).thenReturn(Mono.just(new PreparedStatement("test-name", Collections.emptyList(), null)));
+
+        new ExtendedQueryPostgresqlStatement(client, MockCodecs.empty(), () -> "B_0", "test-query", this.statementCache)
+            .fetchSize(10)
+            .execute()
+            .as(StepVerifier::create)
+            .expectNextCount(2)  // TODO: Decrease by 1 when https://github.com/reactor/reactor-core/issues/1033
+            .verifyComplete();
+    }
+
+    @Test
+    public void executeResultFormats() {
+        RowDescription rowDescription = new RowDescription(Arrays.asList(
+            new RowDescription.Field((short) 100, INT4.getObjectId(), 300, (short) 400, TEXT, "test-name-1", 500),
+            new RowDescription.Field((short) 100, VARCHAR.getObjectId(), 300, (short) 400, TEXT, "test-name-2", 500)
+        ));
+
+        Client client = TestClient.builder()
+            .expectRequest(
+                new Bind("", Collections.singletonList(BINARY), Collections.singletonList(TEST.buffer(4).writeInt(100)), Arrays.asList(BINARY, TEXT), "test-name"),
+                new Execute("", 0),
+                Sync.INSTANCE)
+            .thenRespond(
+                BindComplete.INSTANCE, new CommandComplete("test", null, null)
+            )
+            .build();
+
+        MockCodecs codecs = MockCodecs.builder()
+            .encoding(100, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(100)))
+            .preferredFormat(INT4.getObjectId(), BINARY)
+            .preferredFormat(VARCHAR.getObjectId(), TEXT)
+            .build();
+
+        when(this.statementCache.getPreparedStatement(new Binding().add(0, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(100))), "test-query-$1"))
+            .thenReturn(Mono.just(new PreparedStatement("test-name", Collections.emptyList(), rowDescription)));
+
+        new ExtendedQueryPostgresqlStatement(client, codecs, () -> "", "test-query-$1", this.statementCache)
+            .bind("$1", 100)
+            .add()
+            .execute()
+            .as(StepVerifier::create)
+            .expectNextCount(2)  // TODO: Decrease by 1 when https://github.com/reactor/reactor-core/issues/1033
+            .verifyComplete();
+    }
+
     @Test
     public void executeEmpty() {
         assertThatIllegalStateException().isThrownBy(this.statement::execute)
             .withMessage("No parameters have been bound");
     }
 
+    @Test
+    public void executePrepareError() {
+        MockCodecs codecs = MockCodecs.builder()
+            .encoding(100, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(100)))
+            .build();
+
+        when(this.statementCache.getPreparedStatement(new Binding().add(0, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(100))), "test-query-$1"))
+            .thenReturn(Mono.error(new IllegalStateException()));
+
+        new ExtendedQueryPostgresqlStatement(NO_OP, codecs, () -> "", "test-query-$1", this.statementCache)
+            .bind("$1", 100)
+            .execute()
+            .flatMap(PostgresqlResult::getRowsUpdated)
+            .as(StepVerifier::create)
+            .verifyError(IllegalStateException.class);
+    }
+
+    @Test
+    public void executePrepareErrorResponse() {
+        Client client = TestClient.builder()
+            .expectRequest(new Parse("S_0", Collections.singletonList(INT4.getObjectId()), "test-query-$1"), new Describe("S_0", ExecutionType.STATEMENT), Sync.INSTANCE)
+            .thenRespond(new ErrorResponse(Collections.emptyList()))
+            .build();
+
+        new ExtendedQueryPostgresqlStatement(client, this.codecs, () -> "", "test-query-$1", new IndefiniteStatementCache(client, new RecentStatements(0)))
+            .bind("$1", 100)
+            .execute()
+            .then()
+            .as(StepVerifier::create)
+            .verifyError(PostgresqlServerErrorException.class);
+    }
+
     @Test
     public void executeReturningGeneratedKeys() {
         Client client = TestClient.builder()
             .expectRequest(
-                new Bind("B_0", Collections.singletonList(BINARY), Collections.singletonList(TEST.buffer(4).writeInt(100)), Collections.emptyList(), "test-name"),
-                new Describe("B_0", ExecutionType.PORTAL),
-                new Execute("B_0", 0),
-                new Close("B_0", ExecutionType.PORTAL),
+                new Bind("", Collections.singletonList(BINARY), Collections.singletonList(TEST.buffer(4).writeInt(100)), Collections.emptyList(), "test-name"),
+                new Execute("", 0),
                 Sync.INSTANCE)
             .thenRespond(
-                BindComplete.INSTANCE, NoData.INSTANCE, new CommandComplete("test", null, null), CloseComplete.INSTANCE
+                BindComplete.INSTANCE, new CommandComplete("test", null, null)
             )
             .build();
 
@@ -246,12 +407,9 @@ public final class ExtendedQueryPostgresqlStatementTest {
             .encoding(100, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(100)))
             .build();
 
-        PortalNameSupplier portalNameSupplier = new LinkedList<>(Arrays.asList("B_0", "B_1"))::remove;
+        when(this.statementCache.getPreparedStatement(new Binding().add(0, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(100))), "INSERT test-query-$1 RETURNING *")).thenReturn(Mono.just(new PreparedStatement("test-name", Collections.emptyList(), null)));
 
-        when(this.statementCache.getName(new Binding().add(0, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(100))), "INSERT test-query-$1 RETURNING *")).thenReturn(Mono.just
-            ("test-name"));
-
-        new ExtendedQueryPostgresqlStatement(client, codecs, portalNameSupplier, "INSERT test-query-$1", this.statementCache)
+        new ExtendedQueryPostgresqlStatement(client, codecs, () -> "", "INSERT test-query-$1", this.statementCache)
             .bind("$1", 100)
             .add()
             .executeReturningGeneratedKeys()
@@ -264,13 +422,11 @@ public final class ExtendedQueryPostgresqlStatementTest {
     public void executeReturningGeneratedKeysNoInsert() {
         Client client = TestClient.builder()
             .expectRequest(
-                new Bind("B_0", Collections.singletonList(BINARY), Collections.singletonList(TEST.buffer(4).writeInt(100)), Collections.emptyList(), "test-name"),
-                new Describe("B_0", ExecutionType.PORTAL),
-                new Execute("B_0", 0),
-                new Close("B_0", ExecutionType.PORTAL),
+                new Bind("", Collections.singletonList(BINARY), Collections.singletonList(TEST.buffer(4).writeInt(100)), Collections.emptyList(), "test-name"),
+                new Execute("", 0),
                 Sync.INSTANCE)
             .thenRespond(
-                BindComplete.INSTANCE, NoData.INSTANCE, new CommandComplete("test", null, null), CloseComplete.INSTANCE
+                BindComplete.INSTANCE, new CommandComplete("test", null, null)
             )
             .build();
 
@@ -278,11 +434,9 @@ public final class ExtendedQueryPostgresqlStatementTest {
             .encoding(100, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(100)))
             .build();
 
-        PortalNameSupplier portalNameSupplier = new LinkedList<>(Arrays.asList("B_0", "B_1"))::remove;
-
-        when(this.statementCache.getName(new Binding().add(0, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(100))), "SELECT test-query-$1")).thenReturn(Mono.just("test-name"));
+        when(this.statementCache.getPreparedStatement(new Binding().add(0, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(100))), "SELECT test-query-$1")).thenReturn(Mono.just(new PreparedStatement("test-name", Collections.emptyList(), null)));
 
-        new ExtendedQueryPostgresqlStatement(client, codecs, portalNameSupplier, "SELECT test-query-$1", this.statementCache)
+        new ExtendedQueryPostgresqlStatement(client, codecs, () -> "", "SELECT test-query-$1", this.statementCache)
             .bind("$1", 100)
             .add()
             .executeReturningGeneratedKeys()
@@ -295,13 +449,11 @@ public final class ExtendedQueryPostgresqlStatementTest {
     public void executeReturningGeneratedKeysWithReturning() {
         Client client = TestClient.builder()
             .expectRequest(
-                new Bind("B_0", Collections.singletonList(BINARY), Collections.singletonList(TEST.buffer(4).writeInt(100)), Collections.emptyList(), "test-name"),
-                new Describe("B_0", ExecutionType.PORTAL),
-                new Execute("B_0", 0),
-                new Close("B_0", ExecutionType.PORTAL),
+                new Bind("", Collections.singletonList(BINARY), Collections.singletonList(TEST.buffer(4).writeInt(100)), Collections.emptyList(), "test-name"),
+                new Execute("", 0),
                 Sync.INSTANCE)
             .thenRespond(
-                BindComplete.INSTANCE, NoData.INSTANCE, new CommandComplete("test", null, null), CloseComplete.INSTANCE
+                BindComplete.INSTANCE, new CommandComplete("test", null, null)
             )
             .build();
 
@@ -309,12 +461,9 @@ public final class ExtendedQueryPostgresqlStatementTest {
             .encoding(100, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(100)))
             .build();
 
-        PortalNameSupplier portalNameSupplier = new LinkedList<>(Arrays.asList("B_0", "B_1"))::remove;
+        when(this.statementCache.getPreparedStatement(new Binding().add(0, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(100))), "INSERT test-query-$1 RETURNING id")).thenReturn(Mono.just(new PreparedStatement("test-name", Collections.emptyList(), null)));
 
-        when(this.statementCache.getName(new Binding().add(0, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(100))), "INSERT test-query-$1 RETURNING id")).thenReturn(Mono.just
-            ("test-name"));
-
-        new ExtendedQueryPostgresqlStatement(client, codecs, portalNameSupplier, "INSERT test-query-$1 RETURNING id", this.statementCache)
+        new ExtendedQueryPostgresqlStatement(client, codecs, () -> "", "INSERT test-query-$1 RETURNING id", this.statementCache)
             .bind("$1", 100)
             .add()
             .executeReturningGeneratedKeys()
@@ -327,24 +476,20 @@ public final class ExtendedQueryPostgresqlStatementTest {
     public void executeWithoutAdd() {
         Client client = TestClient.builder()
             .expectRequest(
-                new Bind("B_0", Collections.singletonList(BINARY), Collections.singletonList(TEST.buffer(4).writeInt(100)), Collections.emptyList(), "test-name"),
-                new Describe("B_0", ExecutionType.PORTAL),
-                new Execute("B_0", 0),
-                new Close("B_0", ExecutionType.PORTAL),
+                new Bind("", Collections.singletonList(BINARY), Collections.singletonList(TEST.buffer(4).writeInt(100)), Collections.emptyList(), "test-name"),
+                new Execute("", 0),
                 Sync.INSTANCE)
             .thenRespond(
-                BindComplete.INSTANCE, NoData.INSTANCE, new CommandComplete("test", null, null), CloseComplete.INSTANCE)
+                BindComplete.INSTANCE, new CommandComplete("test", null, null))
             .build();
 
         MockCodecs codecs = MockCodecs.builder()
             .encoding(100, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(100)))
             .build();
 
-        PortalNameSupplier portalNameSupplier = new LinkedList<>(Arrays.asList("B_0", "B_1"))::remove;
-
-        when(this.statementCache.getName(new Binding().add(0, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(100))), "test-query-$1")).thenReturn(Mono.just("test-name"));
+        when(this.statementCache.getPreparedStatement(new Binding().add(0, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(100))), "test-query-$1")).thenReturn(Mono.just(new PreparedStatement("test-name", Collections.emptyList(), null)));
 
-        new ExtendedQueryPostgresqlStatement(client, codecs, portalNameSupplier, "test-query-$1", this.statementCache)
+        new ExtendedQueryPostgresqlStatement(client, codecs, () -> "", "test-query-$1", this.statementCache)
             .bind("$1", 100)
             .execute()
             .as(StepVerifier::create)
@@ -352,6 +497,12 @@ public final class ExtendedQueryPostgresqlStatementTest {
             .verifyComplete();
     }
 
+    @Test
+    public void fetchSizeNegative() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ExtendedQueryPostgresqlStatement(NO_OP, MockCodecs.empty(), () -> "", "test-query-$1", this.statementCache).fetchSize(-1))
+            .withMessage("rows must be greater than or equal to zero");
+    }
+
     @Test
     public void supportsNoSql() {
         assertThatNullPointerException().isThrownBy(() -> ExtendedQueryPostgresqlStatement.supports(null))
@@ -378,4 +529,37 @@ public final class ExtendedQueryPostgresqlStatementTest {
         assertThat(ExtendedQueryPostgresqlStatement.supports("test-query")).isFalse();
     }
 
+    @Test
+    public void supportsFetchSizeNoParameters() {
+        assertThat(ExtendedQueryPostgresqlStatement.supportsFetchSize("test-query")).isTrue();
+    }
+
+    @Test
+    public void supportsFetchSizeNoSql() {
+        assertThatNullPointerException().isThrownBy(() -> ExtendedQueryPostgresqlStatement.supportsFetchSize(null))
+            .withMessage("sql must not be null");
+    }
+
+    @Test
+    public void supportsFetchSizeQueryEmpty() {
+        assertThat(ExtendedQueryPostgresqlStatement.supportsFetchSize(" ")).isFalse();
+    }
+
+    @Test
+    public void supportsFetchSizeSemicolon() {
+        assertThat(ExtendedQueryPostgresqlStatement.supportsFetchSize("test-query-1; test-query-2")).isFalse();
+    }
+
+    @Test
+    public void timeoutNegative() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ExtendedQueryPostgresqlStatement(NO_OP, MockCodecs.empty(), () -> "", "test-query-$1", this.statementCache).timeout(Duration.ofSeconds(-1)))
+            .withMessage("timeout must be greater than or equal to zero");
+    }
+
+    @Test
+    public void timeoutNoTimeout() {
+        assertThatNullPointerException().isThrownBy(() -> new ExtendedQueryPostgresqlStatement(NO_OP, MockCodecs.empty(), () -> "", "test-query-$1", this.statementCache).timeout(null))
+            .withMessage("timeout must not be null");
+    }
+
 }
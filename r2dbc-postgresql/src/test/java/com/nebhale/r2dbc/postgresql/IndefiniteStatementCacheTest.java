@@ -21,31 +21,44 @@ import com.nebhale.r2dbc.postgresql.client.Client;
 import com.nebhale.r2dbc.postgresql.client.Parameter;
 import com.nebhale.r2dbc.postgresql.client.TestClient;
 import com.nebhale.r2dbc.postgresql.message.backend.ErrorResponse;
+import com.nebhale.r2dbc.postgresql.message.backend.ParameterDescription;
 import com.nebhale.r2dbc.postgresql.message.backend.ParseComplete;
+import com.nebhale.r2dbc.postgresql.message.backend.RowDescription;
 import com.nebhale.r2dbc.postgresql.message.frontend.Describe;
 import com.nebhale.r2dbc.postgresql.message.frontend.ExecutionType;
 import com.nebhale.r2dbc.postgresql.message.frontend.Parse;
 import com.nebhale.r2dbc.postgresql.message.frontend.Sync;
 import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
+import reactor.util.function.Tuples;
 
 import java.util.Collections;
 
 import static com.nebhale.r2dbc.postgresql.client.TestClient.NO_OP;
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
 import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
 public final class IndefiniteStatementCacheTest {
 
     @Test
     public void constructorNoClient() {
-        assertThatNullPointerException().isThrownBy(() -> new IndefiniteStatementCache(null))
+        assertThatNullPointerException().isThrownBy(() -> new IndefiniteStatementCache(null, new RecentStatements(0)))
             .withMessage("client must not be null");
     }
 
     @Test
-    public void getName() {
+    public void constructorNoRecentStatements() {
+        assertThatNullPointerException().isThrownBy(() -> new IndefiniteStatementCache(NO_OP, null))
+            .withMessage("recentStatements must not be null");
+    }
+
+    @Test
+    public void getPreparedStatement() {
         // @formatter:off
         Client client = TestClient.builder()
             .expectRequest(new Parse("S_0", Collections.singletonList(100), "test-query"), new Describe("S_0", ExecutionType.STATEMENT), Sync.INSTANCE)
@@ -57,54 +70,166 @@ public final class IndefiniteStatementCacheTest {
             .build();
         // @formatter:on
 
-        IndefiniteStatementCache statementCache = new IndefiniteStatementCache(client);
+        IndefiniteStatementCache statementCache = new IndefiniteStatementCache(client, new RecentStatements(0));
 
-        statementCache.getName(new Binding().add(0, new Parameter(BINARY, 100, TEST.buffer(4).writeInt(100))), "test-query")
+        statementCache.getPreparedStatement(new Binding().add(0, new Parameter(BINARY, 100, TEST.buffer(4).writeInt(100))), "test-query")
             .as(StepVerifier::create)
-            .expectNext("S_0")
+            .expectNext(new PreparedStatement("S_0", Collections.emptyList(), null))
             .verifyComplete();
 
-        statementCache.getName(new Binding().add(0, new Parameter(BINARY, 100, TEST.buffer(4).writeInt(200))), "test-query")
+        statementCache.getPreparedStatement(new Binding().add(0, new Parameter(BINARY, 100, TEST.buffer(4).writeInt(200))), "test-query")
             .as(StepVerifier::create)
-            .expectNext("S_0")
+            .expectNext(new PreparedStatement("S_0", Collections.emptyList(), null))
             .verifyComplete();
 
-        statementCache.getName(new Binding().add(0, new Parameter(BINARY, 200, TEST.buffer(2).writeShort(300))), "test-query")
+        statementCache.getPreparedStatement(new Binding().add(0, new Parameter(BINARY, 200, TEST.buffer(2).writeShort(300))), "test-query")
             .as(StepVerifier::create)
-            .expectNext("S_1")
+            .expectNext(new PreparedStatement("S_1", Collections.emptyList(), null))
             .verifyComplete();
 
-        statementCache.getName(new Binding().add(0, new Parameter(BINARY, 200, TEST.buffer(4).writeShort(300))), "test-query-2")
+        statementCache.getPreparedStatement(new Binding().add(0, new Parameter(BINARY, 200, TEST.buffer(4).writeShort(300))), "test-query-2")
             .as(StepVerifier::create)
-            .expectNext("S_2")
+            .expectNext(new PreparedStatement("S_2", Collections.emptyList(), null))
             .verifyComplete();
+
+        assertThat(statementCache.getStatistics()).isEqualTo(new StatementCacheStatistics(0, 1, 3));
     }
 
     @Test
-    public void getNameErrorResponse() {
+    public void getPreparedStatementRecentStatements() {
         // @formatter:off
         Client client = TestClient.builder()
             .expectRequest(new Parse("S_0", Collections.singletonList(100), "test-query"), new Describe("S_0", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(ParseComplete.INSTANCE)
+            .expectRequest(new Parse("S_1", Collections.singletonList(100), "test-query-2"), new Describe("S_1", ExecutionType.STATEMENT), Sync.INSTANCE)
                 .thenRespond(new ErrorResponse(Collections.emptyList()))
             .build();
         // @formatter:on
 
-        IndefiniteStatementCache statementCache = new IndefiniteStatementCache(client);
+        RecentStatements recentStatements = new RecentStatements(10);
+        recentStatements.add("test-query-2", Collections.singletonList(100));
 
-        statementCache.getName(new Binding().add(0, new Parameter(BINARY, 100, TEST.buffer(4).writeInt(200))), "test-query")
+        IndefiniteStatementCache statementCache = new IndefiniteStatementCache(client, recentStatements);
+
+        statementCache.getPreparedStatement("test-query", Collections.singletonList(100))
+            .as(StepVerifier::create)
+            .expectNext(new PreparedStatement("S_0", Collections.emptyList(), null))
+            .verifyComplete();
+
+        statementCache.getPreparedStatement("test-query-2", Collections.singletonList(100))
             .as(StepVerifier::create)
             .verifyError(PostgresqlServerErrorException.class);
+
+        assertThat(recentStatements.getStatements()).containsExactly(Tuples.of("test-query", Collections.singletonList(100)));
     }
 
     @Test
-    public void getNameNoBinding() {
-        assertThatNullPointerException().isThrownBy(() -> new IndefiniteStatementCache(NO_OP).getName(null, "test-query"))
+    public void getPreparedStatementRowDescription() {
+        RowDescription rowDescription = new RowDescription(Collections.singletonList(new RowDescription.Field((short) 100, 200, 300, (short) 400, TEXT, "test-name", 500)));
+
+        // @formatter:off
+        Client client = TestClient.builder()
+            .expectRequest(new Parse("S_0", Collections.singletonList(100), "test-query"), new Describe("S_0", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(ParseComplete.INSTANCE, new ParameterDescription(Collections.singletonList(100)), rowDescription)
+            .build();
+        // @formatter:on
+
+        new IndefiniteStatementCache(client, new RecentStatements(0)).getPreparedStatement(new Binding().add(0, new Parameter(BINARY, 100, TEST.buffer(4).writeInt(100))), "test-query")
+            .as(StepVerifier::create)
+            .expectNext(new PreparedStatement("S_0", Collections.singletonList(100), rowDescription))
+            .verifyComplete();
+    }
+
+    @Test
+    public void getPreparedStatementConcurrent() {
+        // @formatter:off
+        Client client = TestClient.builder()
+            .expectRequest(new Parse("S_0", Collections.singletonList(100), "test-query"), new Describe("S_0", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(ParseComplete.INSTANCE)
+            .build();
+        // @formatter:on
+
+        IndefiniteStatementCache statementCache = new IndefiniteStatementCache(client, new RecentStatements(0));
+
+        Flux.range(0, 1_000)
+            .parallel()
+            .runOn(Schedulers.parallel())
+            .flatMap(i -> statementCache.getPreparedStatement(new Binding().add(0, new Parameter(BINARY, 100, TEST.buffer(4).writeInt(i))), "test-query"))
+            .sequential()
+            .as(StepVerifier::create)
+            .expectNextCount(1_000)
+            .verifyComplete();
+    }
+
+    @Test
+    public void getPreparedStatementErrorResponse() {
+        // @formatter:off
+        Client client = TestClient.builder()
+            .expectRequest(new Parse("S_0", Collections.singletonList(100), "test-query"), new Describe("S_0", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(new ErrorResponse(Collections.emptyList()))
+            .expectRequest(new Parse("S_1", Collections.singletonList(100), "test-query"), new Describe("S_1", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(ParseComplete.INSTANCE)
+            .build();
+        // @formatter:on
+
+        IndefiniteStatementCache statementCache = new IndefiniteStatementCache(client, new RecentStatements(0));
+
+        statementCache.getPreparedStatement(new Binding().add(0, new Parameter(BINARY, 100, TEST.buffer(4).writeInt(200))), "test-query")
+            .as(StepVerifier::create)
+            .verifyError(PostgresqlServerErrorException.class);
+
+        statementCache.getPreparedStatement(new Binding().add(0, new Parameter(BINARY, 100, TEST.buffer(4).writeInt(200))), "test-query")
+            .as(StepVerifier::create)
+            .expectNext(new PreparedStatement("S_1", Collections.emptyList(), null))
+            .verifyComplete();
+    }
+
+    @Test
+    public void getPreparedStatementNoBinding() {
+        assertThatNullPointerException().isThrownBy(() -> new IndefiniteStatementCache(NO_OP, new RecentStatements(0)).getPreparedStatement(null, "test-query"))
             .withMessage("binding must not be null");
     }
 
     @Test
-    public void getNameNoSql() {
-        assertThatNullPointerException().isThrownBy(() -> new IndefiniteStatementCache(NO_OP).getName(new Binding(), null))
+    public void getPreparedStatementNoSql() {
+        assertThatNullPointerException().isThrownBy(() -> new IndefiniteStatementCache(NO_OP, new RecentStatements(0)).getPreparedStatement(new Binding(), null))
+            .withMessage("sql must not be null");
+    }
+
+    @Test
+    public void prepare() {
+        // @formatter:off
+        Client client = TestClient.builder()
+            .expectRequest(new Parse("S_0", Collections.singletonList(100), "test-query"), new Describe("S_0", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(ParseComplete.INSTANCE)
+            .build();
+        // @formatter:on
+
+        IndefiniteStatementCache statementCache = new IndefiniteStatementCache(client, new RecentStatements(0));
+
+        statementCache.prepare("test-query", Collections.singletonList(100))
+            .as(StepVerifier::create)
+            .verifyComplete();
+
+        assertThat(statementCache.getStatistics()).isEqualTo(new StatementCacheStatistics(0, 0, 0));
+
+        statementCache.getPreparedStatement("test-query", Collections.singletonList(100))
+            .as(StepVerifier::create)
+            .expectNext(new PreparedStatement("S_0", Collections.emptyList(), null))
+            .verifyComplete();
+
+        assertThat(statementCache.getStatistics()).isEqualTo(new StatementCacheStatistics(0, 1, 0));
+    }
+
+    @Test
+    public void prepareNoParameterTypes() {
+        assertThatNullPointerException().isThrownBy(() -> new IndefiniteStatementCache(NO_OP, new RecentStatements(0)).prepare("test-query", null))
+            .withMessage("parameterTypes must not be null");
+    }
+
+    @Test
+    public void prepareNoSql() {
+        assertThatNullPointerException().isThrownBy(() -> new IndefiniteStatementCache(NO_OP, new RecentStatements(0)).prepare(null, Collections.emptyList()))
             .withMessage("sql must not be null");
     }
 
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+import com.nebhale.r2dbc.postgresql.message.backend.BackendMessage;
+import com.nebhale.r2dbc.postgresql.message.backend.BindComplete;
+import com.nebhale.r2dbc.postgresql.message.backend.CommandComplete;
+import com.nebhale.r2dbc.postgresql.message.backend.EmptyQueryResponse;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public final class MessageWindowsTest {
+
+    @Test
+    public void split() {
+        MessageWindows.split(Flux.just(BindComplete.INSTANCE, new CommandComplete("test", null, 1), BindComplete.INSTANCE, new CommandComplete("test", null, 2)),
+            CommandComplete.class::isInstance)
+            .concatMap(Flux::collectList)
+            .as(StepVerifier::create)
+            .expectNext(Arrays.asList(BindComplete.INSTANCE, new CommandComplete("test", null, 1)))
+            .expectNext(Arrays.asList(BindComplete.INSTANCE, new CommandComplete("test", null, 2)))
+            .expectNext(Collections.emptyList())  // TODO: Remove when https://github.com/reactor/reactor-core/issues/1033
+            .verifyComplete();
+    }
+
+    @Test
+    public void splitErrorAfterDelimiter() {
+        MessageWindows.split(Flux.<BackendMessage>just(BindComplete.INSTANCE, new CommandComplete("test", null, 1)).concatWith(Flux.error(new IllegalStateException())),
+            CommandComplete.class::isInstance)
+            .flatMap(window -> window)
+            .as(StepVerifier::create)
+            .expectNext(BindComplete.INSTANCE, new CommandComplete("test", null, 1))
+            .verifyError(IllegalStateException.class);
+    }
+
+    @Test
+    public void splitErrorBeforeMessages() {
+        MessageWindows.split(Flux.error(new IllegalStateException()), CommandComplete.class::isInstance)
+            .flatMap(window -> window)
+            .as(StepVerifier::create)
+            .verifyError(IllegalStateException.class);
+    }
+
+    @Test
+    public void splitErrorInWindow() {
+        MessageWindows.split(Flux.<BackendMessage>just(BindComplete.INSTANCE).concatWith(Flux.error(new IllegalStateException())), CommandComplete.class::isInstance)
+            .flatMap(window -> window.onErrorReturn(IllegalStateException.class, EmptyQueryResponse.INSTANCE))
+            .as(StepVerifier::create)
+            .expectNext(BindComplete.INSTANCE, EmptyQueryResponse.INSTANCE)
+            .verifyComplete();
+    }
+
+    @Test
+    public void splitNoDelimiter() {
+        assertThatNullPointerException().isThrownBy(() -> MessageWindows.split(Flux.empty(), null))
+            .withMessage("delimiter must not be null");
+    }
+
+    @Test
+    public void splitNoMessages() {
+        assertThatNullPointerException().isThrownBy(() -> MessageWindows.split(null, CommandComplete.class::isInstance))
+            .withMessage("messages must not be null");
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+import com.nebhale.r2dbc.postgresql.message.backend.NotificationResponse;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public final class NotificationTest {
+
+    @Test
+    public void constructor() {
+        Notification notification = new Notification("test-name", "test-payload", 100);
+
+        assertThat(notification.getName()).isEqualTo("test-name");
+        assertThat(notification.getPayload()).isEqualTo("test-payload");
+        assertThat(notification.getProcessId()).isEqualTo(100);
+    }
+
+    @Test
+    public void constructorNoName() {
+        assertThatNullPointerException().isThrownBy(() -> new Notification(null, "test-payload", 100))
+            .withMessage("name must not be null");
+    }
+
+    @Test
+    public void constructorNoPayload() {
+        assertThatNullPointerException().isThrownBy(() -> new Notification("test-name", null, 100))
+            .withMessage("payload must not be null");
+    }
+
+    @Test
+    public void toNotification() {
+        assertThat(Notification.toNotification(new NotificationResponse("test-name", "test-payload", 100)))
+            .isEqualTo(new Notification("test-name", "test-payload", 100));
+    }
+
+    @Test
+    public void toNotificationNoMessage() {
+        assertThatNullPointerException().isThrownBy(() -> Notification.toNotification(null))
+            .withMessage("message must not be null");
+    }
+
+}
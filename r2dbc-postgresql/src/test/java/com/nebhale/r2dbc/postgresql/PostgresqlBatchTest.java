@@ -26,6 +26,7 @@ import com.nebhale.r2dbc.postgresql.message.frontend.Query;
 import org.junit.Test;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.Collections;
 
 import static com.nebhale.r2dbc.postgresql.client.TestClient.NO_OP;
@@ -40,7 +41,7 @@ public final class PostgresqlBatchTest {
             .expectRequest(new Query("test-query-1; test-query-2")).thenRespond(new CommandComplete("test", null, null))
             .build();
 
-        new PostgresqlBatch(client, MockCodecs.empty())
+        new PostgresqlBatch(client, MockCodecs.empty(), Duration.ZERO)
             .add("test-query-1")
             .add("test-query-2")
             .execute()
@@ -51,35 +52,41 @@ public final class PostgresqlBatchTest {
 
     @Test
     public void addNoSql() {
-        assertThatNullPointerException().isThrownBy(() -> new PostgresqlBatch(NO_OP, MockCodecs.empty()).add(null))
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlBatch(NO_OP, MockCodecs.empty(), Duration.ZERO).add(null))
             .withMessage("sql must not be null");
     }
 
     @Test
     public void addWithParameter() {
-        assertThatIllegalArgumentException().isThrownBy(() -> new PostgresqlBatch(NO_OP, MockCodecs.empty()).add("test-query-$1"))
+        assertThatIllegalArgumentException().isThrownBy(() -> new PostgresqlBatch(NO_OP, MockCodecs.empty(), Duration.ZERO).add("test-query-$1"))
             .withMessage("Statement 'test-query-$1' is not supported.  This is often due to the presence of parameters.");
     }
 
     @Test
     public void constructorNoClient() {
-        assertThatNullPointerException().isThrownBy(() -> new PostgresqlBatch(null, MockCodecs.empty()))
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlBatch(null, MockCodecs.empty(), Duration.ZERO))
             .withMessage("client must not be null");
     }
 
     @Test
     public void constructorNoCodecs() {
-        assertThatNullPointerException().isThrownBy(() -> new PostgresqlBatch(NO_OP, null))
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlBatch(NO_OP, null, Duration.ZERO))
             .withMessage("codecs must not be null");
     }
 
+    @Test
+    public void constructorNoStatementTimeout() {
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlBatch(NO_OP, MockCodecs.empty(), null))
+            .withMessage("statementTimeout must not be null");
+    }
+
     @Test
     public void executeCommandComplete() {
         Client client = TestClient.builder()
             .expectRequest(new Query("test-query")).thenRespond(new CommandComplete("test", null, null))
             .build();
 
-        new PostgresqlBatch(client, MockCodecs.empty())
+        new PostgresqlBatch(client, MockCodecs.empty(), Duration.ZERO)
             .add("test-query")
             .execute()
             .as(StepVerifier::create)
@@ -93,7 +100,7 @@ public final class PostgresqlBatchTest {
             .expectRequest(new Query("test-query")).thenRespond(EmptyQueryResponse.INSTANCE)
             .build();
 
-        new PostgresqlBatch(client, MockCodecs.empty())
+        new PostgresqlBatch(client, MockCodecs.empty(), Duration.ZERO)
             .add("test-query")
             .execute()
             .as(StepVerifier::create)
@@ -107,7 +114,7 @@ public final class PostgresqlBatchTest {
             .expectRequest(new Query("test-query")).thenRespond(new ErrorResponse(Collections.emptyList()))
             .build();
 
-        new PostgresqlBatch(client, MockCodecs.empty())
+        new PostgresqlBatch(client, MockCodecs.empty(), Duration.ZERO)
             .add("test-query")
             .execute()
             .as(StepVerifier::create)
@@ -16,9 +16,14 @@
 
 package com.nebhale.r2dbc.postgresql;
 
+import com.nebhale.r2dbc.postgresql.codec.JacksonJsonMapper;
+import com.nebhale.r2dbc.postgresql.codec.JsonMapper;
 import org.junit.Test;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
 public final class PostgresqlConnectionConfigurationTest {
@@ -29,18 +34,42 @@ public final class PostgresqlConnectionConfigurationTest {
             .withMessage("applicationName must not be null");
     }
 
+    @Test
+    public void builderNegativeFetchSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> PostgresqlConnectionConfiguration.builder().fetchSize(-1))
+            .withMessage("fetchSize must be greater than or equal to zero");
+    }
+
+    @Test
+    public void builderNegativeStatementTimeout() {
+        assertThatIllegalArgumentException().isThrownBy(() -> PostgresqlConnectionConfiguration.builder().statementTimeout(Duration.ofSeconds(-1)))
+            .withMessage("statementTimeout must be greater than or equal to zero");
+    }
+
     @Test
     public void builderNoHost() {
         assertThatNullPointerException().isThrownBy(() -> PostgresqlConnectionConfiguration.builder().host(null))
             .withMessage("host must not be null");
     }
 
+    @Test
+    public void builderNoJsonMapper() {
+        assertThatNullPointerException().isThrownBy(() -> PostgresqlConnectionConfiguration.builder().jsonMapper(null))
+            .withMessage("jsonMapper must not be null");
+    }
+
     @Test
     public void builderNoPassword() {
         assertThatNullPointerException().isThrownBy(() -> PostgresqlConnectionConfiguration.builder().password(null))
             .withMessage("password must not be null");
     }
 
+    @Test
+    public void builderNoStatementTimeout() {
+        assertThatNullPointerException().isThrownBy(() -> PostgresqlConnectionConfiguration.builder().statementTimeout(null))
+            .withMessage("statementTimeout must not be null");
+    }
+
     @Test
     public void builderNoUsername() {
         assertThatNullPointerException().isThrownBy(() -> PostgresqlConnectionConfiguration.builder().username(null))
@@ -49,21 +78,31 @@ public final class PostgresqlConnectionConfigurationTest {
 
     @Test
     public void configuration() {
+        JsonMapper jsonMapper = new JacksonJsonMapper();
+
         PostgresqlConnectionConfiguration configuration = PostgresqlConnectionConfiguration.builder()
             .applicationName("test-application-name")
             .database("test-database")
+            .fetchSize(300)
             .host("test-host")
+            .jsonMapper(jsonMapper)
             .password("test-password")
             .port(100)
+            .statementCacheSize(200)
+            .statementTimeout(Duration.ofSeconds(5))
             .username("test-username")
             .build();
 
         assertThat(configuration)
             .hasFieldOrPropertyWithValue("applicationName", "test-application-name")
             .hasFieldOrPropertyWithValue("database", "test-database")
+            .hasFieldOrPropertyWithValue("fetchSize", 300)
             .hasFieldOrPropertyWithValue("host", "test-host")
+            .hasFieldOrPropertyWithValue("jsonMapper", jsonMapper)
             .hasFieldOrPropertyWithValue("password", "test-password")
             .hasFieldOrPropertyWithValue("port", 100)
+            .hasFieldOrPropertyWithValue("statementCacheSize", 200)
+            .hasFieldOrPropertyWithValue("statementTimeout", Duration.ofSeconds(5))
             .hasFieldOrPropertyWithValue("username", "test-username");
     }
 
@@ -79,9 +118,13 @@ public final class PostgresqlConnectionConfigurationTest {
         assertThat(configuration)
             .hasFieldOrPropertyWithValue("applicationName", "postgresql-r2dbc")
             .hasFieldOrPropertyWithValue("database", "test-database")
+            .hasFieldOrPropertyWithValue("fetchSize", 0)
             .hasFieldOrPropertyWithValue("host", "test-host")
+            .hasFieldOrPropertyWithValue("jsonMapper", null)
             .hasFieldOrPropertyWithValue("password", "test-password")
             .hasFieldOrPropertyWithValue("port", 5432)
+            .hasFieldOrPropertyWithValue("statementCacheSize", 256)
+            .hasFieldOrPropertyWithValue("statementTimeout", Duration.ZERO)
             .hasFieldOrPropertyWithValue("username", "test-username");
     }
 
@@ -20,11 +20,21 @@ import com.nebhale.r2dbc.postgresql.client.Client;
 import com.nebhale.r2dbc.postgresql.client.TestClient;
 import com.nebhale.r2dbc.postgresql.message.backend.AuthenticationMD5Password;
 import com.nebhale.r2dbc.postgresql.message.backend.AuthenticationOk;
+import com.nebhale.r2dbc.postgresql.message.backend.BackendMessage;
+import com.nebhale.r2dbc.postgresql.message.backend.ParseComplete;
+import com.nebhale.r2dbc.postgresql.message.frontend.Describe;
+import com.nebhale.r2dbc.postgresql.message.frontend.ExecutionType;
+import com.nebhale.r2dbc.postgresql.message.frontend.Parse;
 import com.nebhale.r2dbc.postgresql.message.frontend.PasswordMessage;
 import com.nebhale.r2dbc.postgresql.message.frontend.StartupMessage;
+import com.nebhale.r2dbc.postgresql.message.frontend.Sync;
 import org.junit.Test;
+import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
@@ -47,6 +57,16 @@ public final class PostgresqlConnectionFactoryTest {
             .withMessage("configuration must not be null");
     }
 
+    @Test
+    public void constructorNoRecentStatements() {
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnectionFactory(() -> TestClient.NO_OP, PostgresqlConnectionConfiguration.builder()
+            .host("test-host")
+            .password("test-password")
+            .username("test-username")
+            .build(), null))
+            .withMessage("recentStatements must not be null");
+    }
+
     @Test
     public void createAuthenticationMD5Password() {
         // @formatter:off
@@ -76,4 +96,37 @@ public final class PostgresqlConnectionFactoryTest {
             .verifyComplete();
     }
 
+    @Test
+    public void createRecentStatements() {
+        AtomicBoolean prepared = new AtomicBoolean();
+
+        // @formatter:off
+        Client client = TestClient.builder()
+            .window()
+                .expectRequest(new StartupMessage("test-application-name", null, "test-username")).thenRespond(AuthenticationOk.INSTANCE)
+                .done()
+            .expectRequest(new Parse("S_0", Collections.singletonList(100), "test-query"), new Describe("S_0", ExecutionType.STATEMENT), Sync.INSTANCE)
+                .thenRespond(Flux.<BackendMessage>just(ParseComplete.INSTANCE).doOnSubscribe(s -> prepared.set(true)))
+            .build();
+        // @formatter:on
+
+        PostgresqlConnectionConfiguration configuration = PostgresqlConnectionConfiguration.builder()
+            .applicationName("test-application-name")
+            .host("test-host")
+            .username("test-username")
+            .password("test-password")
+            .build();
+
+        RecentStatements recentStatements = new RecentStatements(10);
+        recentStatements.add("test-query", Collections.singletonList(100));
+
+        new PostgresqlConnectionFactory(() -> client, configuration, recentStatements)
+            .create()
+            .as(StepVerifier::create)
+            .assertNext(connection -> assertThat(connection.getStatementCacheStatistics()).isEqualTo(new StatementCacheStatistics(0, 0, 0)))
+            .verifyComplete();
+
+        assertThat(prepared).isTrue();
+    }
+
 }
@@ -17,30 +17,51 @@
 package com.nebhale.r2dbc.postgresql;
 
 import com.nebhale.r2dbc.postgresql.client.Client;
+import com.nebhale.r2dbc.postgresql.client.Parameter;
 import com.nebhale.r2dbc.postgresql.client.TestClient;
 import com.nebhale.r2dbc.postgresql.codec.MockCodecs;
 import com.nebhale.r2dbc.postgresql.message.backend.CommandComplete;
+import com.nebhale.r2dbc.postgresql.message.backend.CopyInResponse;
+import com.nebhale.r2dbc.postgresql.message.backend.CopyOutResponse;
 import com.nebhale.r2dbc.postgresql.message.backend.ErrorResponse;
+import com.nebhale.r2dbc.postgresql.message.backend.NotificationResponse;
+import com.nebhale.r2dbc.postgresql.message.frontend.CopyData;
+import com.nebhale.r2dbc.postgresql.message.frontend.CopyDone;
 import com.nebhale.r2dbc.postgresql.message.frontend.Query;
 import com.nebhale.r2dbc.postgresql.message.frontend.Terminate;
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
+import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static com.nebhale.r2dbc.postgresql.client.TestClient.NO_OP;
+import static com.nebhale.r2dbc.postgresql.client.TransactionStatus.FAILED;
 import static com.nebhale.r2dbc.postgresql.client.TransactionStatus.IDLE;
 import static com.nebhale.r2dbc.postgresql.client.TransactionStatus.OPEN;
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT4;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
+import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
 import static com.nebhale.r2dbc.spi.IsolationLevel.READ_COMMITTED;
 import static com.nebhale.r2dbc.spi.Mutability.READ_ONLY;
+import static io.netty.util.CharsetUtil.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.mockito.Mockito.RETURNS_SMART_NULLS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public final class PostgresqlConnectionTest {
 
+    private final List<CopyColumn> copyColumns = Arrays.asList(new CopyColumn("test-name-1", INT4), new CopyColumn("test-name-2", VARCHAR));
+
     private final StatementCache statementCache = mock(StatementCache.class, RETURNS_SMART_NULLS);
 
     @Test
@@ -49,7 +70,7 @@ public final class PostgresqlConnectionTest {
             .expectRequest(new Query("BEGIN")).thenRespond(new CommandComplete("BEGIN", null, null))
             .build();
 
-        new PostgresqlConnection(client, MockCodecs.empty(), () -> "", this.statementCache)
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
             .beginTransaction()
             .as(StepVerifier::create)
             .verifyComplete();
@@ -61,7 +82,7 @@ public final class PostgresqlConnectionTest {
             .expectRequest(new Query("BEGIN")).thenRespond(new ErrorResponse(Collections.emptyList()))
             .build();
 
-        new PostgresqlConnection(client, MockCodecs.empty(), () -> "", this.statementCache)
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
             .beginTransaction()
             .as(StepVerifier::create)
             .verifyErrorMatches(PostgresqlServerErrorException.class::isInstance);
@@ -73,7 +94,7 @@ public final class PostgresqlConnectionTest {
             .transactionStatus(OPEN)
             .build();
 
-        new PostgresqlConnection(client, MockCodecs.empty(), () -> "", this.statementCache)
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
             .beginTransaction()
             .as(StepVerifier::create)
             .verifyComplete();
@@ -86,7 +107,7 @@ public final class PostgresqlConnectionTest {
             .expectClose()
             .build();
 
-        new PostgresqlConnection(client, MockCodecs.empty(), () -> "", this.statementCache)
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
             .close()
             .as(StepVerifier::create)
             .verifyComplete();
@@ -99,7 +120,7 @@ public final class PostgresqlConnectionTest {
             .expectRequest(new Query("COMMIT")).thenRespond(new CommandComplete("COMMIT", null, null))
             .build();
 
-        new PostgresqlConnection(client, MockCodecs.empty(), () -> "", this.statementCache)
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
             .commitTransaction()
             .as(StepVerifier::create)
             .verifyComplete();
@@ -112,7 +133,7 @@ public final class PostgresqlConnectionTest {
             .expectRequest(new Query("COMMIT")).thenRespond(new ErrorResponse(Collections.emptyList()))
             .build();
 
-        new PostgresqlConnection(client, MockCodecs.empty(), () -> "", this.statementCache)
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
             .commitTransaction()
             .as(StepVerifier::create)
             .verifyErrorMatches(PostgresqlServerErrorException.class::isInstance);
@@ -124,7 +145,7 @@ public final class PostgresqlConnectionTest {
             .transactionStatus(IDLE)
             .build();
 
-        new PostgresqlConnection(client, MockCodecs.empty(), () -> "", this.statementCache)
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
             .commitTransaction()
             .as(StepVerifier::create)
             .verifyComplete();
@@ -132,31 +153,211 @@ public final class PostgresqlConnectionTest {
 
     @Test
     public void constructorNoClient() {
-        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(null, MockCodecs.empty(), () -> "", this.statementCache))
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(null, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO))
             .withMessage("client must not be null");
     }
 
     @Test
     public void constructorNoCodec() {
-        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, null, () -> "", this.statementCache))
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, null, 0, () -> "", this.statementCache, Duration.ZERO))
             .withMessage("codecs must not be null");
     }
 
     @Test
     public void constructorNoPortalNameSupplier() {
-        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), null, this.statementCache))
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), 0, null, this.statementCache, Duration.ZERO))
             .withMessage("portalNameSupplier must not be null");
     }
 
     @Test
     public void constructorNoStatementCache() {
-        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), () -> "", null))
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), 0, () -> "", null, Duration.ZERO))
             .withMessage("statementCache must not be null");
     }
 
+    @Test
+    public void constructorNoStatementTimeout() {
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), 0, () -> "", this.statementCache, null))
+            .withMessage("statementTimeout must not be null");
+    }
+
+    @Test
+    public void copyIn() {
+        Client client = TestClient.builder()
+            .window()
+            .expectRequest(new Query("test-query")).thenRespond(new CopyInResponse(Collections.emptyList(), TEXT))
+            .expectRequest(new CopyData(TEST.buffer(4).writeInt(100))).thenRespond()
+            .expectRequest(CopyDone.INSTANCE).thenRespond(new CommandComplete("COPY", null, 1))
+            .done()
+            .build();
+
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
+            .copyIn("test-query", Flux.just(TEST.buffer(4).writeInt(100)))
+            .as(StepVerifier::create)
+            .expectNext(1)
+            .verifyComplete();
+    }
+
+    @Test
+    public void copyInBinary() {
+        Client client = TestClient.builder()
+            .window()
+            .expectRequest(new Query("test-query")).thenRespond(new CopyInResponse(Collections.emptyList(), BINARY))
+            .expectRequest(new CopyData(binaryHeader().writeShort(2).writeInt(4).writeInt(100).writeInt(10).writeBytes("test-value".getBytes(UTF_8)).writeShort(2).writeInt(4).writeInt(200).writeInt(-1)))
+            .thenRespond()
+            .expectRequest(new CopyData(TEST.buffer(2).writeShort(-1))).thenRespond()
+            .expectRequest(CopyDone.INSTANCE).thenRespond(new CommandComplete("COPY", null, 2))
+            .done()
+            .build();
+
+        MockCodecs codecs = MockCodecs.builder()
+            .binaryEncoding(100, INT4.getObjectId(), TEST.buffer(4).writeInt(100))
+            .binaryEncoding(200, INT4.getObjectId(), TEST.buffer(4).writeInt(200))
+            .binaryEncoding("test-value", VARCHAR.getObjectId(), TEST.buffer().writeBytes("test-value".getBytes(UTF_8)))
+            .build();
+
+        new PostgresqlConnection(client, codecs, 0, () -> "", this.statementCache, Duration.ZERO)
+            .copyInBinary("test-query", Flux.just(new Object[]{100, "test-value"}, new Object[]{200, null}), this.copyColumns)
+            .as(StepVerifier::create)
+            .expectNext(2)
+            .verifyComplete();
+    }
+
+    @Test
+    public void copyInBinaryNoColumns() {
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO).copyInBinary("test-query", Flux.empty(), null))
+            .withMessage("columns must not be null");
+    }
+
+    @Test
+    public void copyInErrorResponse() {
+        Client client = TestClient.builder()
+            .expectRequest(new Query("test-query")).thenRespond(new ErrorResponse(Collections.emptyList()))
+            .build();
+
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
+            .copyIn("test-query", Flux.just(TEST.buffer(4).writeInt(100)))
+            .as(StepVerifier::create)
+            .verifyErrorMatches(PostgresqlServerErrorException.class::isInstance);
+    }
+
+    @Test
+    public void copyInNoData() {
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO).copyIn("test-query", null))
+            .withMessage("data must not be null");
+    }
+
+    @Test
+    public void copyInNoSql() {
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO).copyIn(null, Flux.empty()))
+            .withMessage("sql must not be null");
+    }
+
+    @Test
+    public void copyInRows() {
+        Client client = TestClient.builder()
+            .window()
+            .expectRequest(new Query("test-query")).thenRespond(new CopyInResponse(Collections.emptyList(), TEXT))
+            .expectRequest(new CopyData(TEST.buffer().writeBytes("100\ttest-value\n200\t\\N\n".getBytes(UTF_8)))).thenRespond()
+            .expectRequest(CopyDone.INSTANCE).thenRespond(new CommandComplete("COPY", null, 2))
+            .done()
+            .build();
+
+        MockCodecs codecs = MockCodecs.builder()
+            .encoding(100, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(100)))
+            .encoding(200, new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(200)))
+            .encoding("test-value", new Parameter(TEXT, VARCHAR.getObjectId(), TEST.buffer().writeBytes("test-value".getBytes(UTF_8))))
+            .build();
+
+        new PostgresqlConnection(client, codecs, 0, () -> "", this.statementCache, Duration.ZERO)
+            .copyIn("test-query", Flux.just(new Object[]{100, "test-value"}, new Object[]{200, null}), CopyFormat.TEXT)
+            .as(StepVerifier::create)
+            .expectNext(2)
+            .verifyComplete();
+    }
+
+    @Test
+    public void copyInRowsNoFormat() {
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO).copyIn("test-query", Flux.empty(), null))
+            .withMessage("format must not be null");
+    }
+
+    @Test
+    public void copyInRowsNoRows() {
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO).copyIn("test-query", null, CopyFormat.TEXT))
+            .withMessage("rows must not be null");
+    }
+
+    @Test
+    public void copyOut() {
+        Client client = TestClient.builder()
+            .expectRequest(new Query("test-query")).thenRespond(new CopyOutResponse(Collections.emptyList(), TEXT),
+                new com.nebhale.r2dbc.postgresql.message.backend.CopyData(TEST.buffer(4).writeInt(100)), new com.nebhale.r2dbc.postgresql.message.backend.CopyData(TEST.buffer(4).writeInt(200)),
+                com.nebhale.r2dbc.postgresql.message.backend.CopyDone.INSTANCE, new CommandComplete("COPY", null, 2))
+            .build();
+
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
+            .copyOut("test-query")
+            .as(StepVerifier::create)
+            .expectNext(TEST.buffer(4).writeInt(100))
+            .expectNext(TEST.buffer(4).writeInt(200))
+            .verifyComplete();
+    }
+
+    @Test
+    public void copyOutBinary() {
+        Client client = TestClient.builder()
+            .expectRequest(new Query("test-query")).thenRespond(new CopyOutResponse(Collections.emptyList(), BINARY),
+                new com.nebhale.r2dbc.postgresql.message.backend.CopyData(binaryHeader().writeShort(2).writeInt(4).writeInt(100).writeInt(-1)),
+                new com.nebhale.r2dbc.postgresql.message.backend.CopyData(TEST.buffer(2).writeShort(-1)),
+                com.nebhale.r2dbc.postgresql.message.backend.CopyDone.INSTANCE, new CommandComplete("COPY", null, 1))
+            .build();
+
+        MockCodecs codecs = MockCodecs.builder()
+            .decoding(TEST.buffer(4).writeInt(100), INT4.getObjectId(), BINARY, Integer.class, 100)
+            .decoding(null, VARCHAR.getObjectId(), TEXT, String.class, null)
+            .build();
+
+        new PostgresqlConnection(client, codecs, 0, () -> "", this.statementCache, Duration.ZERO)
+            .copyOutBinary("test-query", this.copyColumns, (row, rowMetadata) -> row.get("test-name-1", Integer.class) + ":" + row.get("test-name-2", String.class))
+            .as(StepVerifier::create)
+            .expectNext("100:null")
+            .verifyComplete();
+    }
+
+    @Test
+    public void copyOutBinaryNoColumns() {
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO).copyOutBinary("test-query", null, (row, rowMetadata) -> row))
+            .withMessage("columns must not be null");
+    }
+
+    @Test
+    public void copyOutBinaryNoF() {
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO).copyOutBinary("test-query", this.copyColumns, null))
+            .withMessage("f must not be null");
+    }
+
+    @Test
+    public void copyOutErrorResponse() {
+        Client client = TestClient.builder()
+            .expectRequest(new Query("test-query")).thenRespond(new ErrorResponse(Collections.emptyList()))
+            .build();
+
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
+            .copyOut("test-query")
+            .as(StepVerifier::create)
+            .verifyErrorMatches(PostgresqlServerErrorException.class::isInstance);
+    }
+
+    @Test
+    public void copyOutNoSql() {
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO).copyOut(null))
+            .withMessage("sql must not be null");
+    }
+
     @Test
     public void createBatch() {
-        assertThat(new PostgresqlConnection(NO_OP, MockCodecs.empty(), () -> "", this.statementCache).createBatch()).isInstanceOf(PostgresqlBatch.class);
+        assertThat(new PostgresqlConnection(NO_OP, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO).createBatch()).isInstanceOf(PostgresqlBatch.class);
     }
 
     @Test
@@ -165,7 +366,7 @@ public final class PostgresqlConnectionTest {
             .transactionStatus(IDLE)
             .build();
 
-        new PostgresqlConnection(client, MockCodecs.empty(), () -> "", this.statementCache)
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
             .createSavepoint("test-name")
             .as(StepVerifier::create)
             .verifyComplete();
@@ -178,7 +379,7 @@ public final class PostgresqlConnectionTest {
             .expectRequest(new Query("SAVEPOINT test-name")).thenRespond(new CommandComplete("SAVEPOINT", null, null))
             .build();
 
-        new PostgresqlConnection(client, MockCodecs.empty(), () -> "", this.statementCache)
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
             .createSavepoint("test-name")
             .as(StepVerifier::create)
             .verifyComplete();
@@ -191,7 +392,7 @@ public final class PostgresqlConnectionTest {
             .expectRequest(new Query("SAVEPOINT test-name")).thenRespond(new ErrorResponse(Collections.emptyList()))
             .build();
 
-        new PostgresqlConnection(client, MockCodecs.empty(), () -> "", this.statementCache)
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
             .createSavepoint("test-name")
             .as(StepVerifier::create)
             .verifyErrorMatches(PostgresqlServerErrorException.class::isInstance);
@@ -199,24 +400,68 @@ public final class PostgresqlConnectionTest {
 
     @Test
     public void createSavepointNoName() {
-        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), () -> "", this.statementCache).createSavepoint(null))
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO).createSavepoint(null))
             .withMessage("name must not be null");
     }
 
     @Test
     public void createStatementExtended() {
-        assertThat(new PostgresqlConnection(NO_OP, MockCodecs.empty(), () -> "", this.statementCache).createStatement("test-query-$1")).isInstanceOf(ExtendedQueryPostgresqlStatement.class);
+        assertThat(new PostgresqlConnection(NO_OP, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO).createStatement("test-query-$1")).isInstanceOf(ExtendedQueryPostgresqlStatement.class);
+    }
+
+    @Test
+    public void createStatementExtendedTimeout() {
+        assertThat(new PostgresqlConnection(NO_OP, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ofSeconds(1)).createStatement("test-query-$1"))
+            .hasFieldOrPropertyWithValue("timeout", Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void createStatementFetchSize() {
+        assertThat(new PostgresqlConnection(NO_OP, MockCodecs.empty(), 100, () -> "", this.statementCache, Duration.ZERO).createStatement("test-query-$1"))
+            .hasFieldOrPropertyWithValue("fetchSize", 100);
+    }
+
+    @Test
+    public void createStatementFetchSizeMultipleStatements() {
+        assertThat(new PostgresqlConnection(NO_OP, MockCodecs.empty(), 100, () -> "", this.statementCache, Duration.ZERO).createStatement("test-query-1; test-query-2"))
+            .isInstanceOf(SimpleQueryPostgresqlStatement.class);
+    }
+
+    @Test
+    public void createStatementFetchSizeNoParameters() {
+        assertThat(new PostgresqlConnection(NO_OP, MockCodecs.empty(), 100, () -> "", this.statementCache, Duration.ZERO).createStatement("test-query"))
+            .isInstanceOf(ExtendedQueryPostgresqlStatement.class)
+            .hasFieldOrPropertyWithValue("fetchSize", 100);
     }
 
     @Test
     public void createStatementIllegal() {
-        assertThatIllegalArgumentException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), () -> "", this.statementCache).createStatement("test-query-$1-1 ; test-query-$1-2"))
+        assertThatIllegalArgumentException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO).createStatement("test-query-$1-1 ; test-query-$1-2"))
             .withMessage("Statement 'test-query-$1-1 ; test-query-$1-2' cannot be created. This is often due to the presence of both multiple statements and parameters at the same time.");
     }
 
     @Test
     public void createStatementSimple() {
-        assertThat(new PostgresqlConnection(NO_OP, MockCodecs.empty(), () -> "", this.statementCache).createStatement("test-query-1; test-query-2")).isInstanceOf(SimpleQueryPostgresqlStatement.class);
+        assertThat(new PostgresqlConnection(NO_OP, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO).createStatement("test-query-1; test-query-2")).isInstanceOf(SimpleQueryPostgresqlStatement.class);
+    }
+
+    @Test
+    public void createStatementSimpleTimeout() {
+        assertThat(new PostgresqlConnection(NO_OP, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ofSeconds(1)).createStatement("test-query"))
+            .hasFieldOrPropertyWithValue("timeout", Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void getNotifications() {
+        Client client = TestClient.builder()
+            .notification(new NotificationResponse("test-name", "test-payload", 100))
+            .build();
+
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
+            .getNotifications()
+            .as(StepVerifier::create)
+            .expectNext(new Notification("test-name", "test-payload", 100))
+            .verifyComplete();
     }
 
     @Test
@@ -225,7 +470,45 @@ public final class PostgresqlConnectionTest {
             .parameterStatus("test-key", "test-value")
             .build();
 
-        assertThat(new PostgresqlConnection(client, MockCodecs.empty(), () -> "", this.statementCache).getParameterStatus()).containsEntry("test-key", "test-value");
+        assertThat(new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO).getParameterStatus()).containsEntry("test-key", "test-value");
+    }
+
+    @Test
+    public void getStatementCacheStatistics() {
+        when(this.statementCache.getStatistics()).thenReturn(new StatementCacheStatistics(100, 200, 300));
+
+        assertThat(new PostgresqlConnection(NO_OP, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO).getStatementCacheStatistics())
+            .isEqualTo(new StatementCacheStatistics(100, 200, 300));
+    }
+
+    @Test
+    public void listen() {
+        Client client = TestClient.builder()
+            .expectRequest(new Query("LISTEN test_channel")).thenRespond(new CommandComplete("LISTEN", null, null))
+            .build();
+
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
+            .listen("test_channel")
+            .as(StepVerifier::create)
+            .verifyComplete();
+    }
+
+    @Test
+    public void listenErrorResponse() {
+        Client client = TestClient.builder()
+            .expectRequest(new Query("LISTEN test_channel")).thenRespond(new ErrorResponse(Collections.emptyList()))
+            .build();
+
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
+            .listen("test_channel")
+            .as(StepVerifier::create)
+            .verifyErrorMatches(PostgresqlServerErrorException.class::isInstance);
+    }
+
+    @Test
+    public void listenNoChannel() {
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO).listen(null))
+            .withMessage("channel must not be null");
     }
 
     @Test
@@ -235,7 +518,7 @@ public final class PostgresqlConnectionTest {
             .expectRequest(new Query("RELEASE SAVEPOINT test-name")).thenRespond(new CommandComplete("RELEASE", null, null))
             .build();
 
-        new PostgresqlConnection(client, MockCodecs.empty(), () -> "", this.statementCache)
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
             .releaseSavepoint("test-name")
             .as(StepVerifier::create)
             .verifyComplete();
@@ -248,7 +531,7 @@ public final class PostgresqlConnectionTest {
             .expectRequest(new Query("RELEASE SAVEPOINT test-name")).thenRespond(new ErrorResponse(Collections.emptyList()))
             .build();
 
-        new PostgresqlConnection(client, MockCodecs.empty(), () -> "", this.statementCache)
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
             .releaseSavepoint("test-name")
             .as(StepVerifier::create)
             .verifyErrorMatches(PostgresqlServerErrorException.class::isInstance);
@@ -256,7 +539,7 @@ public final class PostgresqlConnectionTest {
 
     @Test
     public void releaseSavepointNoName() {
-        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), () -> "", this.statementCache).releaseSavepoint(null))
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO).releaseSavepoint(null))
             .withMessage("name must not be null");
     }
 
@@ -266,7 +549,7 @@ public final class PostgresqlConnectionTest {
             .transactionStatus(IDLE)
             .build();
 
-        new PostgresqlConnection(client, MockCodecs.empty(), () -> "", this.statementCache)
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
             .releaseSavepoint("test-name")
             .as(StepVerifier::create)
             .verifyComplete();
@@ -279,7 +562,7 @@ public final class PostgresqlConnectionTest {
             .expectRequest(new Query("ROLLBACK")).thenRespond(new CommandComplete("ROLLBACK", null, null))
             .build();
 
-        new PostgresqlConnection(client, MockCodecs.empty(), () -> "", this.statementCache)
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
             .rollbackTransaction()
             .as(StepVerifier::create)
             .verifyComplete();
@@ -292,19 +575,32 @@ public final class PostgresqlConnectionTest {
             .expectRequest(new Query("ROLLBACK")).thenRespond(new ErrorResponse(Collections.emptyList()))
             .build();
 
-        new PostgresqlConnection(client, MockCodecs.empty(), () -> "", this.statementCache)
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
             .rollbackTransaction()
             .as(StepVerifier::create)
             .verifyErrorMatches(PostgresqlServerErrorException.class::isInstance);
     }
 
+    @Test
+    public void rollbackTransactionFailed() {
+        Client client = TestClient.builder()
+            .transactionStatus(FAILED)
+            .expectRequest(new Query("ROLLBACK")).thenRespond(new CommandComplete("ROLLBACK", null, null))
+            .build();
+
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
+            .rollbackTransaction()
+            .as(StepVerifier::create)
+            .verifyComplete();
+    }
+
     @Test
     public void rollbackTransactionNonOpen() {
         Client client = TestClient.builder()
             .transactionStatus(IDLE)
             .build();
 
-        new PostgresqlConnection(client, MockCodecs.empty(), () -> "", this.statementCache)
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
             .rollbackTransaction()
             .as(StepVerifier::create)
             .verifyComplete();
@@ -317,7 +613,7 @@ public final class PostgresqlConnectionTest {
             .expectRequest(new Query("ROLLBACK TO SAVEPOINT test-name")).thenRespond(new CommandComplete("ROLLBACK", null, null))
             .build();
 
-        new PostgresqlConnection(client, MockCodecs.empty(), () -> "", this.statementCache)
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
             .rollbackTransactionToSavepoint("test-name")
             .as(StepVerifier::create)
             .verifyComplete();
@@ -330,7 +626,7 @@ public final class PostgresqlConnectionTest {
             .expectRequest(new Query("ROLLBACK TO SAVEPOINT test-name")).thenRespond(new ErrorResponse(Collections.emptyList()))
             .build();
 
-        new PostgresqlConnection(client, MockCodecs.empty(), () -> "", this.statementCache)
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
             .rollbackTransactionToSavepoint("test-name")
             .as(StepVerifier::create)
             .verifyErrorMatches(PostgresqlServerErrorException.class::isInstance);
@@ -338,7 +634,7 @@ public final class PostgresqlConnectionTest {
 
     @Test
     public void rollbackTransactionToSavepointNoName() {
-        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), () -> "", this.statementCache).rollbackTransactionToSavepoint(null))
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO).rollbackTransactionToSavepoint(null))
             .withMessage("name must not be null");
     }
 
@@ -348,7 +644,7 @@ public final class PostgresqlConnectionTest {
             .transactionStatus(IDLE)
             .build();
 
-        new PostgresqlConnection(client, MockCodecs.empty(), () -> "", this.statementCache)
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
             .rollbackTransactionToSavepoint("test-name")
             .as(StepVerifier::create)
             .verifyComplete();
@@ -361,7 +657,7 @@ public final class PostgresqlConnectionTest {
             .expectRequest(new Query("SET SESSION CHARACTERISTICS AS TRANSACTION ISOLATION LEVEL READ COMMITTED")).thenRespond(new ErrorResponse(Collections.emptyList()))
             .build();
 
-        new PostgresqlConnection(client, MockCodecs.empty(), () -> "", this.statementCache)
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
             .setTransactionIsolationLevel(READ_COMMITTED)
             .as(StepVerifier::create)
             .verifyErrorMatches(PostgresqlServerErrorException.class::isInstance);
@@ -374,7 +670,7 @@ public final class PostgresqlConnectionTest {
             .expectRequest(new Query("SET SESSION CHARACTERISTICS AS TRANSACTION ISOLATION LEVEL READ COMMITTED")).thenRespond(new CommandComplete("SET", null, null))
             .build();
 
-        new PostgresqlConnection(client, MockCodecs.empty(), () -> "", this.statementCache)
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
             .setTransactionIsolationLevel(READ_COMMITTED)
             .as(StepVerifier::create)
             .verifyComplete();
@@ -382,7 +678,7 @@ public final class PostgresqlConnectionTest {
 
     @Test
     public void setTransactionIsolationLevelNoIsolationLevel() {
-        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), () -> "", this.statementCache).setTransactionIsolationLevel(null))
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO).setTransactionIsolationLevel(null))
             .withMessage("isolationLevel must not be null");
     }
 
@@ -393,7 +689,7 @@ public final class PostgresqlConnectionTest {
             .expectRequest(new Query("SET TRANSACTION ISOLATION LEVEL READ COMMITTED")).thenRespond(new CommandComplete("SET", null, null))
             .build();
 
-        new PostgresqlConnection(client, MockCodecs.empty(), () -> "", this.statementCache)
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
             .setTransactionIsolationLevel(READ_COMMITTED)
             .as(StepVerifier::create)
             .verifyComplete();
@@ -406,7 +702,7 @@ public final class PostgresqlConnectionTest {
             .expectRequest(new Query("SET TRANSACTION ISOLATION LEVEL READ COMMITTED")).thenRespond(new ErrorResponse(Collections.emptyList()))
             .build();
 
-        new PostgresqlConnection(client, MockCodecs.empty(), () -> "", this.statementCache)
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
             .setTransactionIsolationLevel(READ_COMMITTED)
             .as(StepVerifier::create)
             .verifyErrorMatches(PostgresqlServerErrorException.class::isInstance);
@@ -419,7 +715,7 @@ public final class PostgresqlConnectionTest {
             .expectRequest(new Query("SET SESSION CHARACTERISTICS AS TRANSACTION READ ONLY")).thenRespond(new CommandComplete("SET", null, null))
             .build();
 
-        new PostgresqlConnection(client, MockCodecs.empty(), () -> "", this.statementCache)
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
             .setTransactionMutability(READ_ONLY)
             .as(StepVerifier::create)
             .verifyComplete();
@@ -427,7 +723,7 @@ public final class PostgresqlConnectionTest {
 
     @Test
     public void setTransactionMutabilityNoMutability() {
-        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), () -> "", this.statementCache).setTransactionMutability(null))
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO).setTransactionMutability(null))
             .withMessage("mutability must not be null");
     }
 
@@ -438,10 +734,44 @@ public final class PostgresqlConnectionTest {
             .expectRequest(new Query("SET TRANSACTION READ ONLY")).thenRespond(new CommandComplete("SET", null, null))
             .build();
 
-        new PostgresqlConnection(client, MockCodecs.empty(), () -> "", this.statementCache)
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
             .setTransactionMutability(READ_ONLY)
             .as(StepVerifier::create)
             .verifyComplete();
     }
 
+    private static ByteBuf binaryHeader() {
+        return TEST.buffer().writeBytes("PGCOPY\n".getBytes(UTF_8)).writeByte(0xFF).writeByte('\r').writeByte('\n').writeByte(0).writeInt(0).writeInt(0);
+    }
+
+    @Test
+    public void unlisten() {
+        Client client = TestClient.builder()
+            .expectRequest(new Query("UNLISTEN test_channel")).thenRespond(new CommandComplete("UNLISTEN", null, null))
+            .build();
+
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
+            .unlisten("test_channel")
+            .as(StepVerifier::create)
+            .verifyComplete();
+    }
+
+    @Test
+    public void unlistenErrorResponse() {
+        Client client = TestClient.builder()
+            .expectRequest(new Query("UNLISTEN test_channel")).thenRespond(new ErrorResponse(Collections.emptyList()))
+            .build();
+
+        new PostgresqlConnection(client, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO)
+            .unlisten("test_channel")
+            .as(StepVerifier::create)
+            .verifyErrorMatches(PostgresqlServerErrorException.class::isInstance);
+    }
+
+    @Test
+    public void unlistenNoChannel() {
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlConnection(NO_OP, MockCodecs.empty(), 0, () -> "", this.statementCache, Duration.ZERO).unlisten(null))
+            .withMessage("channel must not be null");
+    }
+
 }
@@ -16,20 +16,35 @@
 
 package com.nebhale.r2dbc.postgresql;
 
+import com.nebhale.r2dbc.postgresql.client.Client;
+import com.nebhale.r2dbc.postgresql.client.TestClient;
 import com.nebhale.r2dbc.postgresql.codec.MockCodecs;
+import com.nebhale.r2dbc.postgresql.message.backend.BackendMessage;
 import com.nebhale.r2dbc.postgresql.message.backend.CommandComplete;
 import com.nebhale.r2dbc.postgresql.message.backend.DataRow;
 import com.nebhale.r2dbc.postgresql.message.backend.EmptyQueryResponse;
 import com.nebhale.r2dbc.postgresql.message.backend.ErrorResponse;
 import com.nebhale.r2dbc.postgresql.message.backend.RowDescription;
+import com.nebhale.r2dbc.postgresql.message.frontend.CancelRequest;
 import org.junit.Test;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
 import reactor.test.StepVerifier;
+import reactor.test.publisher.TestPublisher;
 
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
 
+import static com.nebhale.r2dbc.postgresql.client.TestClient.NO_OP;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public final class PostgresqlResultTest {
 
@@ -57,9 +72,113 @@ public final class PostgresqlResultTest {
             .withMessage("rowsUpdated must not be null");
     }
 
+    @Test
+    public void toResultCancel() {
+        AtomicBoolean cancelRequested = new AtomicBoolean();
+
+        Client client = TestClient.builder()
+            .processId(100)
+            .secretKey(200)
+            .expectRequest(new CancelRequest(100, 200)).thenRespond(Flux.<BackendMessage>empty().doOnSubscribe(s -> cancelRequested.set(true)))
+            .build();
+
+        TestPublisher<BackendMessage> messages = TestPublisher.create();
+
+        PostgresqlResult.toResult(client, MockCodecs.empty(), messages.flux())
+            .map((row, rowMetadata) -> row)
+            .as(StepVerifier::create)
+            .then(() -> messages.next(new RowDescription(Collections.emptyList()), new DataRow(Collections.emptyList()), new DataRow(Collections.emptyList())))
+            .expectNextCount(1)
+            .thenCancel()
+            .verify();
+
+        IntStream.range(0, 1_000)
+            .forEach(i -> messages.next(new DataRow(Collections.emptyList())));
+
+        messages
+            .next(new CommandComplete("test", null, 1_002))
+            .complete()
+            .assertNotCancelled();
+
+        assertThat(cancelRequested).isTrue();
+    }
+
+    @Test
+    public void toResultCancelAfterComplete() {
+        Client client = mock(Client.class);
+
+        PostgresqlResult.toResult(client, MockCodecs.empty(), Flux.just(new RowDescription(Collections.emptyList()), new DataRow(Collections.emptyList()), new DataRow(Collections.emptyList()),
+            new CommandComplete("test", null, 2)))
+            .map((row, rowMetadata) -> row)
+            .as(StepVerifier::create)
+            .expectNextCount(1)
+            .thenCancel()
+            .verify();
+
+        verify(client, never()).sendOnNewConnection(any());
+    }
+
+    @Test
+    public void toResultCancelBeforeCommandCompleteDispatched() {
+        Client client = mock(Client.class);
+        MonoProcessor<Void> dispatched = MonoProcessor.create();
+        when(client.awaitDispatch()).thenReturn(dispatched);
+
+        TestPublisher<BackendMessage> messages = TestPublisher.create();
+
+        PostgresqlResult.toResult(client, MockCodecs.empty(), messages.flux())
+            .map((row, rowMetadata) -> row)
+            .next()
+            .as(StepVerifier::create)
+            .then(() -> messages.next(new RowDescription(Collections.emptyList()), new DataRow(Collections.emptyList()), new DataRow(Collections.emptyList())))
+            .expectNextCount(1)
+            .verifyComplete();
+
+        messages.next(new CommandComplete("test", null, 2));
+        dispatched.onComplete();
+
+        verify(client, never()).sendOnNewConnection(any());
+    }
+
+    @Test
+    public void toResultCancelOnCommandComplete() {
+        Client client = mock(Client.class);
+        TestPublisher<BackendMessage> messages = TestPublisher.create();
+
+        PostgresqlResult.toResult(client, MockCodecs.empty(), messages.flux())
+            .map((row, rowMetadata) -> row)
+            .next()
+            .as(StepVerifier::create)
+            .then(() -> messages.next(new RowDescription(Collections.emptyList()), new DataRow(Collections.emptyList()), new CommandComplete("test", null, 1)))
+            .expectNextCount(1)
+            .verifyComplete();
+
+        verify(client, never()).awaitDispatch();
+        verify(client, never()).sendOnNewConnection(any());
+    }
+
+    @Test
+    public void toResultCancelQueuedExchanges() {
+        Client client = mock(Client.class);
+        when(client.awaitDispatch()).thenReturn(Mono.empty());
+        when(client.hasQueuedExchanges()).thenReturn(true);
+
+        TestPublisher<BackendMessage> messages = TestPublisher.create();
+
+        PostgresqlResult.toResult(client, MockCodecs.empty(), messages.flux())
+            .map((row, rowMetadata) -> row)
+            .next()
+            .as(StepVerifier::create)
+            .then(() -> messages.next(new RowDescription(Collections.emptyList()), new DataRow(Collections.emptyList()), new DataRow(Collections.emptyList())))
+            .expectNextCount(1)
+            .verifyComplete();
+
+        verify(client, never()).sendOnNewConnection(any());
+    }
+
     @Test
     public void toResultCommandComplete() {
-        PostgresqlResult result = PostgresqlResult.toResult(MockCodecs.empty(), Flux.just(new CommandComplete("test", null, 1)));
+        PostgresqlResult result = PostgresqlResult.toResult(NO_OP, MockCodecs.empty(), Flux.just(new CommandComplete("test", null, 1)));
 
         result.map((row, rowMetadata) -> row)
             .as(StepVerifier::create)
@@ -73,7 +192,7 @@ public final class PostgresqlResultTest {
 
     @Test
     public void toResultEmptyQueryResponse() {
-        PostgresqlResult result = PostgresqlResult.toResult(MockCodecs.empty(), Flux.just(EmptyQueryResponse.INSTANCE));
+        PostgresqlResult result = PostgresqlResult.toResult(NO_OP, MockCodecs.empty(), Flux.just(EmptyQueryResponse.INSTANCE));
 
         result.map((row, rowMetadata) -> row)
             .as(StepVerifier::create)
@@ -86,7 +205,7 @@ public final class PostgresqlResultTest {
 
     @Test
     public void toResultErrorResponse() {
-        PostgresqlResult result = PostgresqlResult.toResult(MockCodecs.empty(), Flux.just(new ErrorResponse(Collections.emptyList())));
+        PostgresqlResult result = PostgresqlResult.toResult(NO_OP, MockCodecs.empty(), Flux.just(new ErrorResponse(Collections.emptyList())));
 
         result.map((row, rowMetadata) -> row)
             .as(StepVerifier::create)
@@ -98,26 +217,38 @@ public final class PostgresqlResultTest {
     }
 
 
+    @Test
+    public void toResultNoClient() {
+        assertThatNullPointerException().isThrownBy(() -> PostgresqlResult.toResult(null, MockCodecs.empty(), Flux.empty()))
+            .withMessage("client must not be null");
+    }
+
+    @Test
+    public void toResultNoColumnsFactory() {
+        assertThatNullPointerException().isThrownBy(() -> PostgresqlResult.toResult(NO_OP, MockCodecs.empty(), Flux.empty(), null))
+            .withMessage("columnsFactory must not be null");
+    }
+
     @Test
     public void toResultNoCodecs() {
-        assertThatNullPointerException().isThrownBy(() -> PostgresqlResult.toResult(null, Flux.empty()))
+        assertThatNullPointerException().isThrownBy(() -> PostgresqlResult.toResult(NO_OP, null, Flux.empty()))
             .withMessage("codecs must not be null");
     }
 
     @Test
     public void toResultNoMessages() {
-        assertThatNullPointerException().isThrownBy(() -> PostgresqlResult.toResult(MockCodecs.empty(), null))
+        assertThatNullPointerException().isThrownBy(() -> PostgresqlResult.toResult(NO_OP, MockCodecs.empty(), null))
             .withMessage("messages must not be null");
     }
 
     @Test
     public void toResultRowDescription() {
-        PostgresqlResult result = PostgresqlResult.toResult(MockCodecs.empty(), Flux.just(new RowDescription(Collections.emptyList()), new DataRow(Collections.emptyList()), new CommandComplete
+        PostgresqlResult result = PostgresqlResult.toResult(NO_OP, MockCodecs.empty(), Flux.just(new RowDescription(Collections.emptyList()), new DataRow(Collections.emptyList()), new CommandComplete
             ("test", null, null)));
 
         result.map((row, rowMetadata) -> row)
             .as(StepVerifier::create)
-            .expectNext(new PostgresqlRow(MockCodecs.empty(), Collections.emptyList()))
+            .expectNext(new PostgresqlRow(MockCodecs.empty(), new Columns(Collections.emptyList()), new DataRow(Collections.emptyList())))
             .verifyComplete();
 
         result.getRowsUpdated()
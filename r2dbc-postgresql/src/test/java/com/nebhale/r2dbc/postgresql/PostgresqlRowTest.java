@@ -16,44 +16,64 @@
 
 package com.nebhale.r2dbc.postgresql;
 
-import com.nebhale.r2dbc.postgresql.PostgresqlRow.Column;
 import com.nebhale.r2dbc.postgresql.codec.MockCodecs;
 import com.nebhale.r2dbc.postgresql.message.backend.DataRow;
-import com.nebhale.r2dbc.postgresql.message.backend.RowDescription;
+import com.nebhale.r2dbc.postgresql.message.Format;
+import com.nebhale.r2dbc.postgresql.message.backend.RowDescription.Field;
+import com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId;
+import com.nebhale.r2dbc.postgresql.util.ByteBufUtils;
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.BOOL;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.FLOAT4;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.FLOAT8;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT2;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT4;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT8;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
 import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
 public final class PostgresqlRowTest {
 
-    private final List<Column> columns = Arrays.asList(
-        new Column(TEST.buffer(4).writeInt(100), 200, BINARY, "test-name-1"),
-        new Column(TEST.buffer(4).writeInt(300), 400, TEXT, "test-name-2"),
-        new Column(null, 400, TEXT, "test-name-3")
-    );
+    private final Columns columns = new Columns(Arrays.asList(
+        new Field((short) 100, 200, 300, (short) 400, BINARY, "test-name-1", 500),
+        new Field((short) 100, 400, 300, (short) 400, TEXT, "test-name-2", 500),
+        new Field((short) 100, 400, 300, (short) 400, TEXT, "test-name-3", 500)
+    ));
+
+    private final DataRow dataRow = new DataRow(Arrays.asList(TEST.buffer(4).writeInt(100), TEST.buffer(4).writeInt(300), null));
 
     @Test
     public void constructorNoCodecs() {
-        assertThatNullPointerException().isThrownBy(() -> new PostgresqlRow(null, Collections.emptyList()))
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlRow(null, this.columns, this.dataRow))
             .withMessage("codecs must not be null");
     }
 
     @Test
     public void constructorNoColumns() {
-        assertThatNullPointerException().isThrownBy(() -> new PostgresqlRow(MockCodecs.empty(), null))
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlRow(MockCodecs.empty(), null, this.dataRow))
             .withMessage("columns must not be null");
     }
 
+    @Test
+    public void constructorNoDataRow() {
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlRow(MockCodecs.empty(), this.columns, null))
+            .withMessage("dataRow must not be null");
+    }
+
     @Test
     public void getAfterRelease() {
         Object value = new Object();
@@ -62,13 +82,49 @@ public final class PostgresqlRowTest {
             .decoding(TEST.buffer(4).writeInt(300), 400, TEXT, Object.class, value)
             .build();
 
-        PostgresqlRow row = new PostgresqlRow(codecs, this.columns);
+        PostgresqlRow row = new PostgresqlRow(codecs, this.columns, this.dataRow);
         row.release();
 
         assertThatIllegalStateException().isThrownBy(() -> row.get("test-name-2", Object.class))
             .withMessage("Value cannot be retrieved after row has been released");
     }
 
+    @Test
+    public void getBooleanBinary() {
+        assertThat(toRow(BOOL, BINARY, TEST.buffer(1).writeBoolean(true)).getBoolean(0)).isTrue();
+    }
+
+    @Test
+    public void getBooleanText() {
+        assertThat(toRow(BOOL, TEXT, TEST.buffer(1).writeByte('t')).getBoolean(0)).isTrue();
+        assertThat(toRow(BOOL, TEXT, TEST.buffer(1).writeByte('f')).getBoolean(0)).isFalse();
+    }
+
+    @Test
+    public void getDoubleBinary() {
+        assertThat(toRow(FLOAT4, BINARY, TEST.buffer(4).writeFloat(100.5f)).getDouble(0)).isEqualTo(100.5);
+        assertThat(toRow(FLOAT8, BINARY, TEST.buffer(8).writeDouble(100.5)).getDouble(0)).isEqualTo(100.5);
+    }
+
+    @Test
+    public void getDoubleText() {
+        assertThat(toRow(FLOAT8, TEXT, ByteBufUtils.encode(TEST, "-100.5")).getDouble(0)).isEqualTo(-100.5);
+    }
+
+    @Test
+    public void getDoubleTextFloat4() {
+        double binary = toRow(FLOAT4, BINARY, TEST.buffer(4).writeFloat(0.1f)).getDouble(0);
+
+        assertThat(toRow(FLOAT4, TEXT, ByteBufUtils.encode(TEST, "0.1")).getDouble(0)).isEqualTo(binary).isEqualTo((double) 0.1f);
+    }
+
+    @Test
+    public void getEnumVarchar() {
+        Columns columns = new Columns(Collections.singletonList(new Field((short) 100, VARCHAR.getObjectId(), 300, (short) 400, TEXT, "test-name", 500)), new AtomicReferenceArray<>(1));
+
+        assertThat(new PostgresqlRow(MockCodecs.empty(), columns, new DataRow(Collections.singletonList(ByteBufUtils.encode(TEST, "DAYS")))).get(0, TimeUnit.class)).isEqualTo(TimeUnit.DAYS);
+    }
+
     @Test
     public void getIndex() {
         Object value = new Object();
@@ -77,21 +133,96 @@ public final class PostgresqlRowTest {
             .decoding(TEST.buffer(4).writeInt(300), 400, TEXT, Object.class, value)
             .build();
 
-        assertThat(new PostgresqlRow(codecs, this.columns).get(1, Object.class)).isSameAs(value);
+        assertThat(new PostgresqlRow(codecs, this.columns, this.dataRow).get(1, Object.class)).isSameAs(value);
+    }
+
+    @Test
+    public void getIndexTwice() {
+        MockCodecs codecs = MockCodecs.builder()
+            .decoding(TEST.buffer(4).writeInt(300), 400, TEXT, Integer.class, 300)
+            .build();
+
+        PostgresqlRow row = new PostgresqlRow(codecs, this.columns, this.dataRow);
+
+        assertThat(row.get(1, Integer.class)).isEqualTo(300);
+        assertThat(row.get(1, Integer.class)).isEqualTo(300);
+    }
+
+    @Test
+    public void getIntAfterRelease() {
+        PostgresqlRow row = toRow(INT4, BINARY, TEST.buffer(4).writeInt(100));
+        row.release();
+
+        assertThatIllegalStateException().isThrownBy(() -> row.getInt(0))
+            .withMessage("Value cannot be retrieved after row has been released");
+    }
+
+    @Test
+    public void getIntBinary() {
+        assertThat(toRow(INT2, BINARY, TEST.buffer(2).writeShort(-100)).getInt(0)).isEqualTo(-100);
+        assertThat(toRow(INT4, BINARY, TEST.buffer(4).writeInt(100)).getInt(0)).isEqualTo(100);
+    }
+
+    @Test
+    public void getIntCodecs() {
+        MockCodecs codecs = MockCodecs.builder()
+            .decoding(TEST.buffer(4).writeInt(100), 200, BINARY, Integer.class, 300)
+            .build();
+
+        assertThat(new PostgresqlRow(codecs, this.columns, this.dataRow).getInt(0)).isEqualTo(300);
+    }
+
+    @Test
+    public void getIntInvalidIndex() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new PostgresqlRow(MockCodecs.empty(), this.columns, this.dataRow).getInt(3))
+            .withMessage("Column index 3 is larger than the number of columns 3");
+    }
+
+    @Test
+    public void getIntNull() {
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlRow(MockCodecs.empty(), this.columns, this.dataRow).getInt(2))
+            .withMessage("Value of column 2 is null");
+    }
+
+    @Test
+    public void getIntText() {
+        assertThat(toRow(INT4, TEXT, ByteBufUtils.encode(TEST, "-100")).getInt(0)).isEqualTo(-100);
     }
 
     @Test
     public void getInvalidIndex() {
-        assertThatIllegalArgumentException().isThrownBy(() -> new PostgresqlRow(MockCodecs.empty(), this.columns).get(3, Object.class))
+        assertThatIllegalArgumentException().isThrownBy(() -> new PostgresqlRow(MockCodecs.empty(), this.columns, this.dataRow).get(3, Object.class))
             .withMessage("Column index 3 is larger than the number of columns 3");
     }
 
     @Test
     public void getInvalidName() {
-        assertThatIllegalArgumentException().isThrownBy(() -> new PostgresqlRow(MockCodecs.empty(), this.columns).get("test-name-4", Object.class))
+        assertThatIllegalArgumentException().isThrownBy(() -> new PostgresqlRow(MockCodecs.empty(), this.columns, this.dataRow).get("test-name-4", Object.class))
             .withMessage("Column name 'test-name-4' does not exist in column names [test-name-1, test-name-2, test-name-3]");
     }
 
+    @Test
+    public void getLongBinary() {
+        assertThat(toRow(INT2, BINARY, TEST.buffer(2).writeShort(100)).getLong(0)).isEqualTo(100L);
+        assertThat(toRow(INT4, BINARY, TEST.buffer(4).writeInt(100)).getLong(0)).isEqualTo(100L);
+        assertThat(toRow(INT8, BINARY, TEST.buffer(8).writeLong(Long.MAX_VALUE)).getLong(0)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void getLongInvalidText() {
+        assertThatExceptionOfType(NumberFormatException.class).isThrownBy(() -> toRow(INT8, TEXT, ByteBufUtils.encode(TEST, "10x")).getLong(0))
+            .withMessage("'10x' is not a valid integer");
+        assertThatExceptionOfType(NumberFormatException.class).isThrownBy(() -> toRow(INT8, TEXT, ByteBufUtils.encode(TEST, "-")).getLong(0))
+            .withMessage("'-' is not a valid integer");
+    }
+
+    @Test
+    public void getLongText() {
+        assertThat(toRow(INT8, TEXT, ByteBufUtils.encode(TEST, "100")).getLong(0)).isEqualTo(100L);
+        assertThat(toRow(INT8, TEXT, ByteBufUtils.encode(TEST, String.valueOf(Long.MIN_VALUE))).getLong(0)).isEqualTo(Long.MIN_VALUE);
+        assertThat(toRow(INT8, TEXT, ByteBufUtils.encode(TEST, String.valueOf(Long.MAX_VALUE))).getLong(0)).isEqualTo(Long.MAX_VALUE);
+    }
+
     @Test
     public void getName() {
         Object value = new Object();
@@ -100,18 +231,18 @@ public final class PostgresqlRowTest {
             .decoding(TEST.buffer(4).writeInt(300), 400, TEXT, Object.class, value)
             .build();
 
-        assertThat(new PostgresqlRow(codecs, this.columns).get("test-name-2", Object.class)).isSameAs(value);
+        assertThat(new PostgresqlRow(codecs, this.columns, this.dataRow).get("test-name-2", Object.class)).isSameAs(value);
     }
 
     @Test
     public void getNoIdentifier() {
-        assertThatNullPointerException().isThrownBy(() -> new PostgresqlRow(MockCodecs.empty(), this.columns).get(null, Object.class))
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlRow(MockCodecs.empty(), this.columns, this.dataRow).get(null, Object.class))
             .withMessage("identifier must not be null");
     }
 
     @Test
     public void getNoType() {
-        assertThatNullPointerException().isThrownBy(() -> new PostgresqlRow(MockCodecs.empty(), this.columns).get(new Object(), null))
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlRow(MockCodecs.empty(), this.columns, this.dataRow).get(new Object(), null))
             .withMessage("type must not be null");
     }
 
@@ -121,48 +252,92 @@ public final class PostgresqlRowTest {
             .decoding(null, 400, TEXT, Object.class, null)
             .build();
 
-        assertThat(new PostgresqlRow(codecs, this.columns).get("test-name-3", Object.class)).isNull();
+        assertThat(new PostgresqlRow(codecs, this.columns, this.dataRow).get("test-name-3", Object.class)).isNull();
+    }
+
+    @Test
+    public void getStringVarchar() {
+        Columns columns = new Columns(Collections.singletonList(new Field((short) 100, VARCHAR.getObjectId(), 300, (short) 400, TEXT, "test-name", 500)), new AtomicReferenceArray<>(1));
+        ByteBuf value = ByteBufUtils.encode(TEST, "test-value");
+
+        PostgresqlRow row1 = new PostgresqlRow(MockCodecs.empty(), columns, new DataRow(Collections.singletonList(value)));
+        PostgresqlRow row2 = new PostgresqlRow(MockCodecs.empty(), columns, new DataRow(Collections.singletonList(ByteBufUtils.encode(TEST, "test-value"))));
+
+        String first = row1.get(0, String.class);
+
+        assertThat(first).isEqualTo("test-value");
+        assertThat(value.readerIndex()).isZero();
+        assertThat(row2.get(0, String.class)).isSameAs(first);
+    }
+
+    @Test
+    public void getStringVarcharNoStringCache() {
+        Columns columns = new Columns(Collections.singletonList(new Field((short) 100, VARCHAR.getObjectId(), 300, (short) 400, TEXT, "test-name", 500)));
+        String value = "test-value";
+
+        MockCodecs codecs = MockCodecs.builder()
+            .decoding(ByteBufUtils.encode(TEST, "test-value"), VARCHAR.getObjectId(), TEXT, String.class, value)
+            .build();
+
+        assertThat(new PostgresqlRow(codecs, columns, new DataRow(Collections.singletonList(ByteBufUtils.encode(TEST, "test-value")))).get(0, String.class)).isSameAs(value);
     }
 
     @Test
     public void getWrongIdentifierType() {
         Object identifier = new Object();
 
-        assertThatIllegalArgumentException().isThrownBy(() -> new PostgresqlRow(MockCodecs.empty(), this.columns).get(identifier, Object.class))
+        assertThatIllegalArgumentException().isThrownBy(() -> new PostgresqlRow(MockCodecs.empty(), this.columns, this.dataRow).get(identifier, Object.class))
             .withMessage("Identifier '%s' is not a valid identifier. Should either be an Integer index or a String column name.", identifier);
     }
 
+    @Test
+    public void isNull() {
+        PostgresqlRow row = new PostgresqlRow(MockCodecs.empty(), this.columns, this.dataRow);
+
+        assertThat(row.isNull(0)).isFalse();
+        assertThat(row.isNull(2)).isTrue();
+    }
+
+    @Test
+    public void release() {
+        new PostgresqlRow(MockCodecs.empty(), this.columns, this.dataRow).release();
+
+        assertThat(this.dataRow.getColumns().get(0).refCnt()).isEqualTo(1);
+    }
+
     @Test
     public void toRow() {
         Object value = new Object();
 
         MockCodecs codecs = MockCodecs.builder()
-            .decoding(TEST.buffer(4).writeInt(100), 300, TEXT, Object.class, value)
+            .decoding(TEST.buffer(4).writeInt(100), 200, BINARY, Object.class, value)
             .build();
 
-        PostgresqlRow row = PostgresqlRow.toRow(codecs, new DataRow(Collections.singletonList(TEST.buffer(4).writeInt(100))),
-            new RowDescription(Collections.singletonList(new RowDescription.Field((short) 200, 300, (short) 400, (short) 500, TEXT, "test-name-1", 600))));
+        PostgresqlRow row = PostgresqlRow.toRow(codecs, new DataRow(Collections.singletonList(TEST.buffer(4).writeInt(100))), this.columns);
 
         assertThat(row.get(0, Object.class)).isSameAs(value);
     }
 
     @Test
     public void toRowNoCodecs() {
-        assertThatNullPointerException().isThrownBy(() -> PostgresqlRow.toRow(null, new DataRow(Collections.singletonList(TEST.buffer(4).writeInt(100))),
-            new RowDescription(Collections.emptyList())))
+        assertThatNullPointerException().isThrownBy(() -> PostgresqlRow.toRow(null, new DataRow(Collections.singletonList(TEST.buffer(4).writeInt(100))), this.columns))
             .withMessage("codecs must not be null");
     }
 
     @Test
-    public void toRowNoDataRow() {
-        assertThatNullPointerException().isThrownBy(() -> PostgresqlRow.toRow(MockCodecs.empty(), null, new RowDescription(Collections.emptyList())))
-            .withMessage("dataRow must not be null");
+    public void toRowNoColumns() {
+        assertThatNullPointerException().isThrownBy(() -> PostgresqlRow.toRow(MockCodecs.empty(), new DataRow(Collections.singletonList(TEST.buffer(4).writeInt(100))), null))
+            .withMessage("columns must not be null");
     }
 
     @Test
-    public void toRowNoRowDescription() {
-        assertThatNullPointerException().isThrownBy(() -> PostgresqlRow.toRow(MockCodecs.empty(), new DataRow(Collections.singletonList(TEST.buffer(4).writeInt(100))), null))
-            .withMessage("rowDescription must not be null");
+    public void toRowNoDataRow() {
+        assertThatNullPointerException().isThrownBy(() -> PostgresqlRow.toRow(MockCodecs.empty(), null, this.columns))
+            .withMessage("dataRow must not be null");
     }
 
+    private static PostgresqlRow toRow(PostgresqlObjectId dataType, Format format, ByteBuf value) {
+        return new PostgresqlRow(MockCodecs.empty(), new Columns(Collections.singletonList(new Field((short) 100, dataType.getObjectId(), 300, (short) 400, format, "test-name", 500))),
+            new DataRow(Collections.singletonList(value)));
+    }
 }
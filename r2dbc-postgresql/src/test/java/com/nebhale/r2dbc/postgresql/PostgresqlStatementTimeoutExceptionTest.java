@@ -0,0 +1,41 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public final class PostgresqlStatementTimeoutExceptionTest {
+
+    @Test
+    public void constructor() {
+        assertThat(new PostgresqlStatementTimeoutException(Duration.ofSeconds(1)))
+            .hasMessage("Statement did not complete within PT1S")
+            .hasFieldOrPropertyWithValue("timeout", Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void constructorNoTimeout() {
+        assertThatNullPointerException().isThrownBy(() -> new PostgresqlStatementTimeoutException(null))
+            .withMessage("timeout must not be null");
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+import com.nebhale.r2dbc.postgresql.codec.MockCodecs;
+import com.nebhale.r2dbc.postgresql.message.backend.ParameterDescription;
+import com.nebhale.r2dbc.postgresql.message.backend.ParseComplete;
+import com.nebhale.r2dbc.postgresql.message.backend.RowDescription;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public final class PreparedStatementTest {
+
+    @Test
+    public void constructorNoName() {
+        assertThatNullPointerException().isThrownBy(() -> new PreparedStatement(null, Collections.emptyList(), null))
+            .withMessage("name must not be null");
+    }
+
+    @Test
+    public void constructorNoParameterTypes() {
+        assertThatNullPointerException().isThrownBy(() -> new PreparedStatement("test-name", null, null))
+            .withMessage("parameterTypes must not be null");
+    }
+
+    @Test
+    public void getParameterTypes() {
+        assertThat(new PreparedStatement("test-name", Arrays.asList(100, 200), null).getParameterTypes()).containsExactly(100, 200);
+    }
+
+    @Test
+    public void getPortalRowDescription() {
+        RowDescription rowDescription = new RowDescription(Arrays.asList(
+            new RowDescription.Field((short) 100, 200, 300, (short) 400, TEXT, "test-name-1", 500),
+            new RowDescription.Field((short) 100, 600, 300, (short) 400, TEXT, "test-name-2", 500)));
+
+        MockCodecs codecs = MockCodecs.builder()
+            .preferredFormat(200, BINARY)
+            .preferredFormat(600, TEXT)
+            .build();
+
+        assertThat(new PreparedStatement("test-name", Collections.emptyList(), rowDescription).getPortalRowDescription(codecs)).hasValue(new RowDescription(Arrays.asList(
+            new RowDescription.Field((short) 100, 200, 300, (short) 400, BINARY, "test-name-1", 500),
+            new RowDescription.Field((short) 100, 600, 300, (short) 400, TEXT, "test-name-2", 500))));
+    }
+
+    @Test
+    public void getPortalRowDescriptionNoCodecs() {
+        assertThatNullPointerException().isThrownBy(() -> new PreparedStatement("test-name", Collections.emptyList(), null).getPortalRowDescription(null))
+            .withMessage("codecs must not be null");
+    }
+
+    @Test
+    public void getPortalRowDescriptionNoRowDescription() {
+        assertThat(new PreparedStatement("test-name", Collections.emptyList(), null).getPortalRowDescription(MockCodecs.empty())).isEmpty();
+    }
+
+    @Test
+    public void getResultFormats() {
+        RowDescription rowDescription = new RowDescription(Arrays.asList(
+            new RowDescription.Field((short) 100, 200, 300, (short) 400, TEXT, "test-name-1", 500),
+            new RowDescription.Field((short) 100, 600, 300, (short) 400, TEXT, "test-name-2", 500)));
+
+        MockCodecs codecs = MockCodecs.builder()
+            .preferredFormat(200, BINARY)
+            .preferredFormat(600, TEXT)
+            .build();
+
+        PreparedStatement preparedStatement = new PreparedStatement("test-name", Collections.emptyList(), rowDescription);
+
+        assertThat(preparedStatement.getResultFormats(codecs)).containsExactly(BINARY, TEXT);
+        assertThat(preparedStatement.getResultFormats(codecs)).isSameAs(preparedStatement.getResultFormats(codecs));
+    }
+
+    @Test
+    public void getResultFormatsNoRowDescription() {
+        assertThat(new PreparedStatement("test-name", Collections.emptyList(), null).getResultFormats(MockCodecs.empty())).isEmpty();
+    }
+
+    @Test
+    public void getRowDescription() {
+        RowDescription rowDescription = new RowDescription(Collections.singletonList(new RowDescription.Field((short) 100, 200, 300, (short) 400, TEXT, "test-name", 500)));
+
+        assertThat(new PreparedStatement("test-name", Collections.emptyList(), rowDescription).getRowDescription()).hasValue(rowDescription);
+        assertThat(new PreparedStatement("test-name", Collections.emptyList(), null).getRowDescription()).isEmpty();
+    }
+
+    @Test
+    public void getStringCaches() {
+        RowDescription rowDescription = new RowDescription(Arrays.asList(
+            new RowDescription.Field((short) 100, 200, 300, (short) 400, TEXT, "test-name-1", 500),
+            new RowDescription.Field((short) 100, 600, 300, (short) 400, TEXT, "test-name-2", 500)));
+
+        PreparedStatement preparedStatement = new PreparedStatement("test-name", Collections.emptyList(), rowDescription);
+
+        assertThat(preparedStatement.getStringCaches().length()).isEqualTo(2);
+        assertThat(preparedStatement.getStringCaches()).isSameAs(preparedStatement.getStringCaches());
+    }
+
+    @Test
+    public void getStringCachesNoRowDescription() {
+        assertThat(new PreparedStatement("test-name", Collections.emptyList(), null).getStringCaches().length()).isZero();
+    }
+
+    @Test
+    public void toPreparedStatement() {
+        RowDescription rowDescription = new RowDescription(Collections.singletonList(new RowDescription.Field((short) 100, 200, 300, (short) 400, TEXT, "test-name", 500)));
+
+        assertThat(PreparedStatement.toPreparedStatement("test-name", Arrays.asList(ParseComplete.INSTANCE, new ParameterDescription(Arrays.asList(100, 200)), rowDescription)))
+            .isEqualTo(new PreparedStatement("test-name", Arrays.asList(100, 200), rowDescription));
+    }
+
+    @Test
+    public void toPreparedStatementNoData() {
+        assertThat(PreparedStatement.toPreparedStatement("test-name", Collections.singletonList(ParseComplete.INSTANCE)))
+            .isEqualTo(new PreparedStatement("test-name", Collections.emptyList(), null));
+    }
+
+    @Test
+    public void toPreparedStatementNoMessages() {
+        assertThatNullPointerException().isThrownBy(() -> PreparedStatement.toPreparedStatement("test-name", null))
+            .withMessage("messages must not be null");
+    }
+
+    @Test
+    public void toPreparedStatementNoName() {
+        assertThatNullPointerException().isThrownBy(() -> PreparedStatement.toPreparedStatement(null, Collections.emptyList()))
+            .withMessage("name must not be null");
+    }
+
+}
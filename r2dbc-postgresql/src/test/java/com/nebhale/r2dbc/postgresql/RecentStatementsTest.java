@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+import org.junit.Test;
+import reactor.util.function.Tuples;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public final class RecentStatementsTest {
+
+    @Test
+    public void add() {
+        RecentStatements recentStatements = new RecentStatements(10);
+        recentStatements.add("test-query-1", Collections.singletonList(100));
+        recentStatements.add("test-query-2", Collections.singletonList(100));
+        recentStatements.add("test-query-1", Collections.singletonList(100));
+
+        assertThat(recentStatements.getStatements()).containsExactly(
+            Tuples.of("test-query-2", Collections.singletonList(100)),
+            Tuples.of("test-query-1", Collections.singletonList(100)));
+    }
+
+    @Test
+    public void addLimit() {
+        RecentStatements recentStatements = new RecentStatements(2);
+        recentStatements.add("test-query-1", Collections.singletonList(100));
+        recentStatements.add("test-query-2", Collections.singletonList(100));
+        recentStatements.add("test-query-3", Collections.singletonList(100));
+
+        assertThat(recentStatements.getStatements()).containsExactly(
+            Tuples.of("test-query-2", Collections.singletonList(100)),
+            Tuples.of("test-query-3", Collections.singletonList(100)));
+    }
+
+    @Test
+    public void addNoLimit() {
+        RecentStatements recentStatements = new RecentStatements(0);
+        recentStatements.add("test-query", Collections.singletonList(100));
+
+        assertThat(recentStatements.getStatements()).isEmpty();
+    }
+
+    @Test
+    public void addNoParameterTypes() {
+        assertThatNullPointerException().isThrownBy(() -> new RecentStatements(0).add("test-query", null))
+            .withMessage("parameterTypes must not be null");
+    }
+
+    @Test
+    public void addNoSql() {
+        assertThatNullPointerException().isThrownBy(() -> new RecentStatements(0).add(null, Collections.emptyList()))
+            .withMessage("sql must not be null");
+    }
+
+    @Test
+    public void remove() {
+        RecentStatements recentStatements = new RecentStatements(10);
+        recentStatements.add("test-query", Collections.singletonList(100));
+        recentStatements.add("test-query", Collections.singletonList(200));
+        recentStatements.remove("test-query", Collections.singletonList(100));
+
+        assertThat(recentStatements.getStatements()).containsExactly(Tuples.of("test-query", Collections.singletonList(200)));
+    }
+
+    @Test
+    public void removeNoParameterTypes() {
+        assertThatNullPointerException().isThrownBy(() -> new RecentStatements(0).remove("test-query", null))
+            .withMessage("parameterTypes must not be null");
+    }
+
+    @Test
+    public void removeNoSql() {
+        assertThatNullPointerException().isThrownBy(() -> new RecentStatements(0).remove(null, Collections.emptyList()))
+            .withMessage("sql must not be null");
+    }
+
+}
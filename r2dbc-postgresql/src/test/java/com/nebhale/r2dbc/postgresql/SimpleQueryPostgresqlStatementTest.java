@@ -16,18 +16,30 @@
 
 package com.nebhale.r2dbc.postgresql;
 
+import com.nebhale.r2dbc.postgresql.client.Binding;
 import com.nebhale.r2dbc.postgresql.client.Client;
 import com.nebhale.r2dbc.postgresql.client.TestClient;
 import com.nebhale.r2dbc.postgresql.codec.MockCodecs;
+import com.nebhale.r2dbc.postgresql.message.backend.BindComplete;
+import com.nebhale.r2dbc.postgresql.message.backend.CloseComplete;
 import com.nebhale.r2dbc.postgresql.message.backend.CommandComplete;
 import com.nebhale.r2dbc.postgresql.message.backend.DataRow;
 import com.nebhale.r2dbc.postgresql.message.backend.EmptyQueryResponse;
 import com.nebhale.r2dbc.postgresql.message.backend.ErrorResponse;
 import com.nebhale.r2dbc.postgresql.message.backend.RowDescription;
+import com.nebhale.r2dbc.postgresql.message.frontend.Bind;
+import com.nebhale.r2dbc.postgresql.message.frontend.Close;
+import com.nebhale.r2dbc.postgresql.message.frontend.Execute;
+import com.nebhale.r2dbc.postgresql.message.frontend.ExecutionType;
+import com.nebhale.r2dbc.postgresql.message.frontend.Flush;
 import com.nebhale.r2dbc.postgresql.message.frontend.Query;
+import com.nebhale.r2dbc.postgresql.message.frontend.Sync;
 import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.Collections;
 
 import static com.nebhale.r2dbc.postgresql.client.TestClient.NO_OP;
@@ -35,7 +47,11 @@ import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
 import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public final class SimpleQueryPostgresqlStatementTest {
 
@@ -51,6 +67,19 @@ public final class SimpleQueryPostgresqlStatementTest {
             .withMessage("Binding parameters is not supported for the statement 'test-query'");
     }
 
+    @Test
+    public void cacheStrings() {
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> new SimpleQueryPostgresqlStatement(NO_OP, MockCodecs.empty(), "test-query").cacheStrings(true))
+            .withMessage("Caching strings is not supported for the statement 'test-query'");
+    }
+
+    @Test
+    public void cacheStringsMultipleStatements() {
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+            .isThrownBy(() -> new SimpleQueryPostgresqlStatement(NO_OP, MockCodecs.empty(), () -> "", "test-query-1; test-query-2", mock(StatementCache.class)).cacheStrings(true))
+            .withMessage("Caching strings is not supported for the statement 'test-query-1; test-query-2'");
+    }
+
     @Test
     public void constructorNoClient() {
         assertThatNullPointerException().isThrownBy(() -> new SimpleQueryPostgresqlStatement(null, MockCodecs.empty(), "test-query"))
@@ -69,6 +98,25 @@ public final class SimpleQueryPostgresqlStatementTest {
             .withMessage("sql must not be null");
     }
 
+    @Test
+    public void executeCacheStrings() {
+        Client client = TestClient.builder()
+            .expectRequest(new Bind("", Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), "test-name"), new Execute("", 0), Sync.INSTANCE)
+            .thenRespond(BindComplete.INSTANCE, new CommandComplete("test", null, null))
+            .build();
+
+        StatementCache statementCache = mock(StatementCache.class);
+        when(statementCache.getPreparedStatement(new Binding(), "test-query")).thenReturn(Mono.just(new PreparedStatement("test-name", Collections.emptyList(), null)));
+        when(statementCache.usePreparedStatement(any(), any(), any())).thenCallRealMethod();
+
+        new SimpleQueryPostgresqlStatement(client, MockCodecs.empty(), () -> "", "test-query", statementCache)
+            .cacheStrings(true)
+            .execute()
+            .as(StepVerifier::create)
+            .expectNextCount(2)  // TODO: Decrease by 1 when https://github.com/reactor/reactor-core/issues/1033
+            .verifyComplete();
+    }
+
     @Test
     public void executeCommandCompleteMap() {
         Client client = TestClient.builder()
@@ -148,6 +196,32 @@ public final class SimpleQueryPostgresqlStatementTest {
             .verifyError(PostgresqlServerErrorException.class);
     }
 
+    @Test
+    public void executeFetchSize() {
+        // @formatter:off
+        Client client = TestClient.builder()
+            .window()
+                .expectRequest(new Bind("B_0", Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), "test-name")).thenRespond()
+                .expectRequest(new Execute("B_0", 10)).thenRespond()
+                .expectRequest(Flush.INSTANCE).thenRespond(BindComplete.INSTANCE, new CommandComplete("test", null, null))
+                .expectRequest(new Close("B_0", ExecutionType.PORTAL)).thenRespond()
+                .expectRequest(Sync.INSTANCE).thenRespond(CloseComplete.INSTANCE)
+                .done()
+            .build();
+        // @formatter:on
+
+        StatementCache statementCache = mock(StatementCache.class);
+        when(statementCache.getPreparedStatement(new Binding(), "test-query")).thenReturn(Mono.just(new PreparedStatement("test-name", Collections.emptyList(), null)));
+        when(statementCache.usePreparedStatement(any(), any(), any())).thenCallRealMethod();
+
+        new SimpleQueryPostgresqlStatement(client, MockCodecs.empty(), () -> "B_0", "test-query", statementCache)
+            .fetchSize(10)
+            .execute()
+            .as(StepVerifier::create)
+            .expectNextCount(2)  // TODO: Decrease by 1 when https://github.com/reactor/reactor-core/issues/1033
+            .verifyComplete();
+    }
+
     @Test
     public void executeReturningGeneratedKeys() {
         assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> new SimpleQueryPostgresqlStatement(NO_OP, MockCodecs.empty(), "test-query").executeReturningGeneratedKeys())
@@ -168,7 +242,8 @@ public final class SimpleQueryPostgresqlStatementTest {
             .execute()
             .flatMap(result -> result.map((row, rowMetadata) -> row))
             .as(StepVerifier::create)
-            .expectNext(new PostgresqlRow(MockCodecs.empty(), Collections.singletonList(new PostgresqlRow.Column(TEST.buffer(4).writeInt(100), 200, TEXT, "test-name"))))
+            .expectNext(new PostgresqlRow(MockCodecs.empty(), new Columns(Collections.singletonList(new RowDescription.Field((short) 100, 200, 300, (short) 400, TEXT, "test-name", 500))),
+                new DataRow(Collections.singletonList(TEST.buffer(4).writeInt(100)))))
             .verifyComplete();
     }
 
@@ -189,6 +264,40 @@ public final class SimpleQueryPostgresqlStatementTest {
             .verifyComplete();
     }
 
+    @Test
+    public void executeTimeout() {
+        Client client = TestClient.builder()
+            .expectRequest(new Query("test-query")).thenRespond(Flux.never())
+            .build();
+
+        new SimpleQueryPostgresqlStatement(client, MockCodecs.empty(), "test-query")
+            .timeout(Duration.ofMillis(100))
+            .execute()
+            .flatMap(PostgresqlResult::getRowsUpdated)
+            .as(StepVerifier::create)
+            .expectError(PostgresqlStatementTimeoutException.class)
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void fetchSize() {
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> new SimpleQueryPostgresqlStatement(NO_OP, MockCodecs.empty(), "test-query").fetchSize(10))
+            .withMessage("Fetch size is not supported for the statement 'test-query'");
+    }
+
+    @Test
+    public void fetchSizeMultipleStatements() {
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+            .isThrownBy(() -> new SimpleQueryPostgresqlStatement(NO_OP, MockCodecs.empty(), () -> "", "test-query-1; test-query-2", mock(StatementCache.class)).fetchSize(10))
+            .withMessage("Fetch size is not supported for the statement 'test-query-1; test-query-2'");
+    }
+
+    @Test
+    public void fetchSizeNegative() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new SimpleQueryPostgresqlStatement(NO_OP, MockCodecs.empty(), () -> "", "test-query", mock(StatementCache.class)).fetchSize(-1))
+            .withMessage("rows must be greater than or equal to zero");
+    }
+
     @Test
     public void supportsNoSql() {
         assertThatNullPointerException().isThrownBy(() -> SimpleQueryPostgresqlStatement.supports(null))
@@ -215,4 +324,16 @@ public final class SimpleQueryPostgresqlStatementTest {
         assertThat(SimpleQueryPostgresqlStatement.supports("test-query")).isTrue();
     }
 
+    @Test
+    public void timeoutNegative() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new SimpleQueryPostgresqlStatement(NO_OP, MockCodecs.empty(), "test-query").timeout(Duration.ofSeconds(-1)))
+            .withMessage("timeout must be greater than or equal to zero");
+    }
+
+    @Test
+    public void timeoutNoTimeout() {
+        assertThatNullPointerException().isThrownBy(() -> new SimpleQueryPostgresqlStatement(NO_OP, MockCodecs.empty(), "test-query").timeout(null))
+            .withMessage("timeout must not be null");
+    }
+
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class StatementCacheStatisticsTest {
+
+    @Test
+    public void constructor() {
+        StatementCacheStatistics statistics = new StatementCacheStatistics(100, 200, 300);
+
+        assertThat(statistics.getEvictions()).isEqualTo(100);
+        assertThat(statistics.getHits()).isEqualTo(200);
+        assertThat(statistics.getMisses()).isEqualTo(300);
+    }
+
+}
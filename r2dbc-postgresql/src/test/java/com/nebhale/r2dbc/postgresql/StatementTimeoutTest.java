@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+import com.nebhale.r2dbc.postgresql.client.Client;
+import org.junit.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.TestPublisher;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static com.nebhale.r2dbc.postgresql.client.TestClient.NO_OP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class StatementTimeoutTest {
+
+    private final Client client = mock(Client.class);
+
+    @Test
+    public void timeout() {
+        when(this.client.awaitDispatch()).thenReturn(Mono.empty());
+        when(this.client.getProcessId()).thenReturn(Optional.of(100));
+        when(this.client.getSecretKey()).thenReturn(Optional.of(200));
+        when(this.client.sendOnNewConnection(any())).thenReturn(Mono.empty());
+
+        TestPublisher<String> messages = TestPublisher.create();
+
+        StatementTimeout.timeout(this.client, Duration.ofMillis(100), messages.flux())
+            .as(StepVerifier::create)
+            .then(() -> messages.next("test-message"))
+            .expectNext("test-message")
+            .expectErrorSatisfies(throwable -> assertThat(throwable).isInstanceOf(PostgresqlStatementTimeoutException.class)
+                .hasFieldOrPropertyWithValue("timeout", Duration.ofMillis(100)))
+            .verify(Duration.ofSeconds(5));
+
+        messages.assertCancelled();
+        verify(this.client, Mockito.timeout(5_000)).sendOnNewConnection(any());
+    }
+
+    @Test
+    public void timeoutComplete() {
+        StatementTimeout.timeout(this.client, Duration.ofSeconds(10), Flux.just("test-message"))
+            .as(StepVerifier::create)
+            .expectNext("test-message")
+            .verifyComplete();
+
+        verify(this.client, never()).sendOnNewConnection(any());
+    }
+
+    @Test
+    public void timeoutNoClient() {
+        assertThatNullPointerException().isThrownBy(() -> StatementTimeout.timeout(null, Duration.ZERO, Flux.empty()))
+            .withMessage("client must not be null");
+    }
+
+    @Test
+    public void timeoutNoMessages() {
+        assertThatNullPointerException().isThrownBy(() -> StatementTimeout.timeout(NO_OP, Duration.ZERO, null))
+            .withMessage("messages must not be null");
+    }
+
+    @Test
+    public void timeoutNoTimeout() {
+        assertThatNullPointerException().isThrownBy(() -> StatementTimeout.timeout(NO_OP, null, Flux.empty()))
+            .withMessage("timeout must not be null");
+    }
+
+    @Test
+    public void timeoutQueuedExchanges() {
+        when(this.client.awaitDispatch()).thenReturn(Mono.empty());
+        when(this.client.hasQueuedExchanges()).thenReturn(true);
+
+        TestPublisher<String> messages = TestPublisher.create();
+
+        StatementTimeout.timeout(this.client, Duration.ofMillis(100), messages.flux())
+            .as(StepVerifier::create)
+            .expectError(PostgresqlStatementTimeoutException.class)
+            .verify(Duration.ofSeconds(5));
+
+        messages.assertCancelled();
+        verify(this.client).awaitDispatch();
+        verify(this.client, never()).sendOnNewConnection(any());
+    }
+
+    @Test
+    public void timeoutZero() {
+        Flux<String> messages = Flux.just("test-message");
+
+        assertThat(StatementTimeout.timeout(NO_OP, Duration.ZERO, messages)).isSameAs(messages);
+    }
+
+}
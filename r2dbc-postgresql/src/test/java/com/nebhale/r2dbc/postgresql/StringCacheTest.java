@@ -0,0 +1,129 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql;
+
+import com.nebhale.r2dbc.postgresql.util.ByteBufUtils;
+import io.netty.buffer.ByteBuf;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public final class StringCacheTest {
+
+    @Test
+    public void decode() {
+        StringCache stringCache = new StringCache();
+        ByteBuf value = ByteBufUtils.encode(TEST, "test-value");
+
+        String first = stringCache.decode(value);
+
+        assertThat(first).isEqualTo("test-value");
+        assertThat(value.readableBytes()).isZero();
+        assertThat(stringCache.decode(ByteBufUtils.encode(TEST, "test-value"))).isSameAs(first);
+        assertThat(stringCache.decode(ByteBufUtils.encode(TEST, "test-other-value"))).isEqualTo("test-other-value");
+    }
+
+    @Test
+    public void decodeConcurrent() {
+        StringCache stringCache = new StringCache();
+        Set<String> values = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        IntStream.range(0, 10_000).parallel()
+            .mapToObj(i -> stringCache.decode(ByteBufUtils.encode(TEST, String.valueOf(i % 10))))
+            .forEach(value -> {
+                synchronized (values) {
+                    values.add(value);
+                }
+            });
+
+        assertThat(values).hasSize(10);
+    }
+
+    @Test
+    public void decodeConcurrentFull() {
+        StringCache stringCache = new StringCache();
+
+        IntStream.range(0, 2 * StringCache.CAPACITY).parallel()
+            .forEach(i -> stringCache.decode(ByteBufUtils.encode(TEST, String.valueOf(i))));
+
+        long cached = IntStream.range(0, 2 * StringCache.CAPACITY)
+            .filter(i -> stringCache.decode(ByteBufUtils.encode(TEST, String.valueOf(i))) == stringCache.decode(ByteBufUtils.encode(TEST, String.valueOf(i))))
+            .count();
+
+        assertThat(cached).isEqualTo(StringCache.CAPACITY);
+    }
+
+    @Test
+    public void decodeFull() {
+        StringCache stringCache = new StringCache();
+
+        IntStream.range(0, StringCache.CAPACITY)
+            .forEach(i -> stringCache.decode(ByteBufUtils.encode(TEST, String.valueOf(i))));
+
+        String uncached = stringCache.decode(ByteBufUtils.encode(TEST, "test-value"));
+
+        assertThat(uncached).isEqualTo("test-value");
+        assertThat(stringCache.decode(ByteBufUtils.encode(TEST, "test-value"))).isNotSameAs(uncached);
+        assertThat(stringCache.decode(ByteBufUtils.encode(TEST, "0"))).isSameAs(stringCache.decode(ByteBufUtils.encode(TEST, "0")));
+    }
+
+    @Test
+    public void decodeHighCardinality() {
+        StringCache stringCache = new StringCache();
+
+        IntStream.range(0, 2_000)
+            .forEach(i -> stringCache.decode(ByteBufUtils.encode(TEST, String.valueOf(i))));
+
+        assertThat(stringCache.isDisabled()).isTrue();
+        assertThat(stringCache.decode(ByteBufUtils.encode(TEST, "0"))).isEqualTo("0");
+    }
+
+    @Test
+    public void decodeLongValue() {
+        StringCache stringCache = new StringCache();
+        String value = new String(new char[StringCache.MAXIMUM_LENGTH + 1]).replace('\0', 'a');
+
+        String first = stringCache.decode(ByteBufUtils.encode(TEST, value));
+
+        assertThat(first).isEqualTo(value);
+        assertThat(stringCache.decode(ByteBufUtils.encode(TEST, value))).isNotSameAs(first);
+    }
+
+    @Test
+    public void decodeLowCardinality() {
+        StringCache stringCache = new StringCache();
+
+        IntStream.range(0, 2_000)
+            .forEach(i -> stringCache.decode(ByteBufUtils.encode(TEST, String.valueOf(i % 10))));
+
+        assertThat(stringCache.isDisabled()).isFalse();
+    }
+
+    @Test
+    public void decodeNoByteBuf() {
+        assertThatNullPointerException().isThrownBy(() -> new StringCache().decode(null))
+            .withMessage("byteBuf must not be null");
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql.client;
+
+import com.nebhale.r2dbc.postgresql.message.backend.CommandComplete;
+import com.nebhale.r2dbc.postgresql.message.backend.CopyInResponse;
+import com.nebhale.r2dbc.postgresql.message.backend.CopyOutResponse;
+import com.nebhale.r2dbc.postgresql.message.backend.ErrorResponse;
+import com.nebhale.r2dbc.postgresql.message.frontend.CopyData;
+import com.nebhale.r2dbc.postgresql.message.frontend.CopyDone;
+import com.nebhale.r2dbc.postgresql.message.frontend.CopyFail;
+import com.nebhale.r2dbc.postgresql.message.frontend.Query;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.Collections;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.Mockito.mock;
+
+public final class CopyMessageFlowTest {
+
+    @Test
+    public void copyIn() {
+        Client client = TestClient.builder()
+            .window()
+            .expectRequest(new Query("test-query")).thenRespond(new CopyInResponse(Collections.emptyList(), TEXT))
+            .expectRequest(new CopyData(TEST.buffer(4).writeInt(100))).thenRespond()
+            .expectRequest(new CopyData(TEST.buffer(4).writeInt(200))).thenRespond()
+            .expectRequest(CopyDone.INSTANCE).thenRespond(new CommandComplete("COPY", null, 2))
+            .done()
+            .build();
+
+        CopyMessageFlow
+            .copyIn(client, "test-query", Flux.just(TEST.buffer(4).writeInt(100), TEST.buffer(4).writeInt(200)))
+            .as(StepVerifier::create)
+            .expectNext(new CopyInResponse(Collections.emptyList(), TEXT))
+            .expectNext(new CommandComplete("COPY", null, 2))
+            .verifyComplete();
+    }
+
+    @Test
+    public void copyInDataError() {
+        Client client = TestClient.builder()
+            .window()
+            .expectRequest(new Query("test-query")).thenRespond(new CopyInResponse(Collections.emptyList(), TEXT))
+            .expectRequest(new CopyData(TEST.buffer(4).writeInt(100))).thenRespond()
+            .expectRequest(new CopyFail("java.lang.IllegalStateException: test-message")).thenRespond(new ErrorResponse(Collections.emptyList()))
+            .done()
+            .build();
+
+        CopyMessageFlow
+            .copyIn(client, "test-query", Flux.just(TEST.buffer(4).writeInt(100)).concatWith(Flux.error(new IllegalStateException("test-message"))))
+            .as(StepVerifier::create)
+            .expectNext(new CopyInResponse(Collections.emptyList(), TEXT))
+            .expectNext(new ErrorResponse(Collections.emptyList()))
+            .verifyComplete();
+    }
+
+    @Test
+    public void copyInErrorResponse() {
+        Client client = TestClient.builder()
+            .expectRequest(new Query("test-query")).thenRespond(new ErrorResponse(Collections.emptyList()))
+            .build();
+
+        CopyMessageFlow
+            .copyIn(client, "test-query", Flux.error(new AssertionError("data subscribed to before CopyInResponse")))
+            .as(StepVerifier::create)
+            .expectNext(new ErrorResponse(Collections.emptyList()))
+            .verifyComplete();
+    }
+
+    @Test
+    public void copyInNoClient() {
+        assertThatNullPointerException().isThrownBy(() -> CopyMessageFlow.copyIn(null, "test-query", Flux.empty()))
+            .withMessage("client must not be null");
+    }
+
+    @Test
+    public void copyInNoData() {
+        assertThatNullPointerException().isThrownBy(() -> CopyMessageFlow.copyIn(mock(Client.class), "test-query", null))
+            .withMessage("data must not be null");
+    }
+
+    @Test
+    public void copyInNoQuery() {
+        assertThatNullPointerException().isThrownBy(() -> CopyMessageFlow.copyIn(mock(Client.class), null, Flux.empty()))
+            .withMessage("query must not be null");
+    }
+
+    @Test
+    public void copyOut() {
+        Client client = TestClient.builder()
+            .expectRequest(new Query("test-query")).thenRespond(new CopyOutResponse(Collections.emptyList(), TEXT),
+                new com.nebhale.r2dbc.postgresql.message.backend.CopyData(TEST.buffer(4).writeInt(100)),
+                com.nebhale.r2dbc.postgresql.message.backend.CopyDone.INSTANCE, new CommandComplete("COPY", null, 1))
+            .build();
+
+        CopyMessageFlow
+            .copyOut(client, "test-query")
+            .as(StepVerifier::create)
+            .expectNext(new CopyOutResponse(Collections.emptyList(), TEXT))
+            .expectNext(new com.nebhale.r2dbc.postgresql.message.backend.CopyData(TEST.buffer(4).writeInt(100)))
+            .expectNext(com.nebhale.r2dbc.postgresql.message.backend.CopyDone.INSTANCE)
+            .expectNext(new CommandComplete("COPY", null, 1))
+            .verifyComplete();
+    }
+
+    @Test
+    public void copyOutNoClient() {
+        assertThatNullPointerException().isThrownBy(() -> CopyMessageFlow.copyOut(null, "test-query"))
+            .withMessage("client must not be null");
+    }
+
+    @Test
+    public void copyOutNoQuery() {
+        assertThatNullPointerException().isThrownBy(() -> CopyMessageFlow.copyOut(mock(Client.class), null))
+            .withMessage("query must not be null");
+    }
+
+}
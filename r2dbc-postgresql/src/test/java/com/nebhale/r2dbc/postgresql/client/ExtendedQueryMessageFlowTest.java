@@ -17,14 +17,19 @@
 package com.nebhale.r2dbc.postgresql.client;
 
 import com.nebhale.r2dbc.postgresql.message.backend.BindComplete;
+import com.nebhale.r2dbc.postgresql.message.backend.CloseComplete;
 import com.nebhale.r2dbc.postgresql.message.backend.CommandComplete;
-import com.nebhale.r2dbc.postgresql.message.backend.NoData;
+import com.nebhale.r2dbc.postgresql.message.backend.DataRow;
+import com.nebhale.r2dbc.postgresql.message.backend.ErrorResponse;
 import com.nebhale.r2dbc.postgresql.message.backend.ParseComplete;
+import com.nebhale.r2dbc.postgresql.message.backend.PortalSuspended;
+import com.nebhale.r2dbc.postgresql.message.backend.RowDescription;
 import com.nebhale.r2dbc.postgresql.message.frontend.Bind;
 import com.nebhale.r2dbc.postgresql.message.frontend.Close;
 import com.nebhale.r2dbc.postgresql.message.frontend.Describe;
 import com.nebhale.r2dbc.postgresql.message.frontend.Execute;
 import com.nebhale.r2dbc.postgresql.message.frontend.ExecutionType;
+import com.nebhale.r2dbc.postgresql.message.frontend.Flush;
 import com.nebhale.r2dbc.postgresql.message.frontend.Parse;
 import com.nebhale.r2dbc.postgresql.message.frontend.Sync;
 import org.junit.Test;
@@ -33,15 +38,42 @@ import reactor.test.StepVerifier;
 
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedList;
 
 import static com.nebhale.r2dbc.postgresql.client.TestClient.NO_OP;
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
 import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
 public final class ExtendedQueryMessageFlowTest {
 
+    @Test
+    public void closeStatement() {
+        Client client = TestClient.builder()
+            .expectRequest(new Close("test-name", ExecutionType.STATEMENT), Sync.INSTANCE)
+            .thenRespond(CloseComplete.INSTANCE)
+            .build();
+
+        ExtendedQueryMessageFlow
+            .closeStatement(client, "test-name")
+            .as(StepVerifier::create)
+            .expectNext(CloseComplete.INSTANCE)
+            .verifyComplete();
+    }
+
+    @Test
+    public void closeStatementNoClient() {
+        assertThatNullPointerException().isThrownBy(() -> ExtendedQueryMessageFlow.closeStatement(null, "test-name"))
+            .withMessage("client must not be null");
+    }
+
+    @Test
+    public void closeStatementNoName() {
+        assertThatNullPointerException().isThrownBy(() -> ExtendedQueryMessageFlow.closeStatement(NO_OP, null))
+            .withMessage("name must not be null");
+    }
+
     @Test
     public void execute() {
         Flux<Binding> bindings = Flux.just(
@@ -51,52 +83,193 @@ public final class ExtendedQueryMessageFlowTest {
 
         Client client = TestClient.builder()
             .expectRequest(
-                new Bind("B_0", Collections.singletonList(BINARY), Collections.singletonList(TEST.buffer(4).writeInt(200)), Collections.emptyList(), "test-name"),
-                new Describe("B_0", ExecutionType.PORTAL),
-                new Execute("B_0", 0),
-                new Close("B_0", ExecutionType.PORTAL),
-                new Bind("B_1", Collections.singletonList(BINARY), Collections.singletonList(TEST.buffer(4).writeInt(300)), Collections.emptyList(), "test-name"),
-                new Describe("B_1", ExecutionType.PORTAL),
-                new Execute("B_1", 0),
-                new Close("B_1", ExecutionType.PORTAL),
+                new Bind("", Collections.singletonList(BINARY), Collections.singletonList(TEST.buffer(4).writeInt(200)), Collections.singletonList(BINARY), "test-name"),
+                new Execute("", 0),
+                new Bind("", Collections.singletonList(BINARY), Collections.singletonList(TEST.buffer(4).writeInt(300)), Collections.singletonList(BINARY), "test-name"),
+                new Execute("", 0),
                 Sync.INSTANCE)
             .thenRespond(
-                BindComplete.INSTANCE, NoData.INSTANCE, new CommandComplete("test", null, null),
-                BindComplete.INSTANCE, NoData.INSTANCE, new CommandComplete("test", null, null)
+                BindComplete.INSTANCE, new CommandComplete("test", null, null),
+                BindComplete.INSTANCE, new CommandComplete("test", null, null)
             )
             .build();
 
-        PortalNameSupplier portalNameSupplier = new LinkedList<>(Arrays.asList("B_0", "B_1"))::remove;
+        ExtendedQueryMessageFlow
+            .execute(bindings, client, () -> {
+                throw new AssertionError("Portal names should not be requested without a fetch size");
+            }, "test-name", null, Collections.singletonList(BINARY), 0)
+            .as(StepVerifier::create)
+            .expectNext(BindComplete.INSTANCE, new CommandComplete("test", null, null))
+            .expectNext(BindComplete.INSTANCE, new CommandComplete("test", null, null))
+            .verifyComplete();
+    }
+
+    @Test
+    public void executeBatch() {
+        Flux<Binding> bindings = Flux.just(
+            new Binding().add(0, new Parameter(BINARY, 100, TEST.buffer(4).writeInt(200))),
+            new Binding().add(0, new Parameter(BINARY, 100, TEST.buffer(4).writeInt(300)))
+        );
+
+        Client client = TestClient.builder()
+            .expectRequest(
+                new Bind("", Collections.singletonList(BINARY), Collections.singletonList(TEST.buffer(4).writeInt(200)), Collections.singletonList(BINARY), "test-name"),
+                new Execute("", 0),
+                new Bind("", Collections.singletonList(BINARY), Collections.singletonList(TEST.buffer(4).writeInt(300)), Collections.singletonList(BINARY), "test-name"),
+                new Execute("", 0),
+                Sync.INSTANCE)
+            .thenRespond(
+                BindComplete.INSTANCE, new CommandComplete("test", null, 1),
+                BindComplete.INSTANCE, new CommandComplete("test", null, 1)
+            )
+            .build();
 
         ExtendedQueryMessageFlow
-            .execute(bindings, client, portalNameSupplier, "test-name")
+            .executeBatch(bindings, client, "test-name", null, Collections.singletonList(BINARY))
             .as(StepVerifier::create)
-            .expectNext(BindComplete.INSTANCE, NoData.INSTANCE, new CommandComplete("test", null, null))
-            .expectNext(BindComplete.INSTANCE, NoData.INSTANCE, new CommandComplete("test", null, null))
+            .expectNext(BindComplete.INSTANCE, new CommandComplete("test", null, 1))
+            .expectNext(BindComplete.INSTANCE, new CommandComplete("test", null, 1))
             .verifyComplete();
     }
 
+    @Test
+    public void executeBatchNoBindings() {
+        assertThatNullPointerException().isThrownBy(() -> ExtendedQueryMessageFlow.executeBatch(null, NO_OP, "test-statement", null, Collections.emptyList()))
+            .withMessage("bindings must not be null");
+    }
+
+    @Test
+    public void executeBatchNoClient() {
+        assertThatNullPointerException().isThrownBy(() -> ExtendedQueryMessageFlow.executeBatch(Flux.empty(), null, "test-statement", null, Collections.emptyList()))
+            .withMessage("client must not be null");
+    }
+
+    @Test
+    public void executeBatchNoResultFormats() {
+        assertThatNullPointerException().isThrownBy(() -> ExtendedQueryMessageFlow.executeBatch(Flux.empty(), NO_OP, "test-statement", null, null))
+            .withMessage("resultFormats must not be null");
+    }
+
+    @Test
+    public void executeBatchNoStatement() {
+        assertThatNullPointerException().isThrownBy(() -> ExtendedQueryMessageFlow.executeBatch(Flux.empty(), NO_OP, null, null, Collections.emptyList()))
+            .withMessage("statement must not be null");
+    }
+
+    @Test
+    public void executeBatchRowDescription() {
+        Flux<Binding> bindings = Flux.just(
+            new Binding().add(0, new Parameter(BINARY, 100, TEST.buffer(4).writeInt(200)))
+        );
+
+        Client client = TestClient.builder()
+            .expectRequest(
+                new Bind("", Collections.singletonList(BINARY), Collections.singletonList(TEST.buffer(4).writeInt(200)), Arrays.asList(BINARY, TEXT), "test-name"),
+                new Execute("", 0),
+                Sync.INSTANCE)
+            .thenRespond(
+                BindComplete.INSTANCE, new DataRow(Collections.emptyList()), new CommandComplete("test", null, 1)
+            )
+            .build();
+
+        RowDescription rowDescription = new RowDescription(Arrays.asList(
+            new RowDescription.Field((short) 100, 200, 300, (short) 400, BINARY, "test-name-1", 500),
+            new RowDescription.Field((short) 100, 200, 300, (short) 400, TEXT, "test-name-2", 500)
+        ));
+
+        ExtendedQueryMessageFlow
+            .executeBatch(bindings, client, "test-name", rowDescription, Arrays.asList(BINARY, TEXT))
+            .as(StepVerifier::create)
+            .expectNext(rowDescription)
+            .expectNext(new DataRow(Collections.emptyList()), new CommandComplete("test", null, 1))
+            .verifyComplete();
+    }
+
+    @Test
+    public void executeFetchSize() {
+        Flux<Binding> bindings = Flux.just(new Binding().add(0, new Parameter(BINARY, 100, TEST.buffer(4).writeInt(200))));
+
+        // @formatter:off
+        Client client = TestClient.builder()
+            .window()
+                .expectRequest(new Bind("B_0", Collections.singletonList(BINARY), Collections.singletonList(TEST.buffer(4).writeInt(200)), Collections.singletonList(BINARY), "test-name"))
+                    .thenRespond()
+                .expectRequest(new Execute("B_0", 1)).thenRespond()
+                .expectRequest(Flush.INSTANCE).thenRespond(BindComplete.INSTANCE, new DataRow(Collections.emptyList()), PortalSuspended.INSTANCE)
+                .expectRequest(new Execute("B_0", 1)).thenRespond()
+                .expectRequest(Flush.INSTANCE).thenRespond(new DataRow(Collections.emptyList()), new CommandComplete("test", null, null))
+                .expectRequest(new Close("B_0", ExecutionType.PORTAL)).thenRespond()
+                .expectRequest(Sync.INSTANCE).thenRespond(CloseComplete.INSTANCE)
+                .done()
+            .build();
+        // @formatter:on
+
+        RowDescription rowDescription = new RowDescription(Collections.singletonList(new RowDescription.Field((short) 100, 200, 300, (short) 400, BINARY, "test-name", 500)));
+
+        ExtendedQueryMessageFlow
+            .execute(bindings, client, () -> "B_0", "test-name", rowDescription, Collections.singletonList(BINARY), 1)
+            .as(StepVerifier::create)
+            .expectNext(rowDescription, new DataRow(Collections.emptyList()))
+            .expectNext(new DataRow(Collections.emptyList()), new CommandComplete("test", null, null), CloseComplete.INSTANCE)
+            .verifyComplete();
+    }
+
+    @Test
+    public void executeFetchSizeError() {
+        Flux<Binding> bindings = Flux.just(new Binding().add(0, new Parameter(BINARY, 100, TEST.buffer(4).writeInt(200))));
+
+        // @formatter:off
+        Client client = TestClient.builder()
+            .window()
+                .expectRequest(new Bind("B_0", Collections.singletonList(BINARY), Collections.singletonList(TEST.buffer(4).writeInt(200)), Collections.singletonList(BINARY), "test-name"))
+                    .thenRespond()
+                .expectRequest(new Execute("B_0", 1)).thenRespond()
+                .expectRequest(Flush.INSTANCE).thenRespond(new ErrorResponse(Collections.emptyList()))
+                .expectRequest(Sync.INSTANCE).thenRespond()
+                .done()
+            .build();
+        // @formatter:on
+
+        ExtendedQueryMessageFlow
+            .execute(bindings, client, () -> "B_0", "test-name", null, Collections.singletonList(BINARY), 1)
+            .as(StepVerifier::create)
+            .expectNext(new ErrorResponse(Collections.emptyList()))
+            .verifyComplete();
+    }
+
+    @Test
+    public void executeNegativeFetchSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> ExtendedQueryMessageFlow.execute(Flux.empty(), NO_OP, () -> "", "test-statement", null, Collections.emptyList(), -1))
+            .withMessage("fetchSize must be greater than or equal to zero");
+    }
+
     @Test
     public void executeNoBindings() {
-        assertThatNullPointerException().isThrownBy(() -> ExtendedQueryMessageFlow.execute(null, NO_OP, () -> "", "test-statement"))
+        assertThatNullPointerException().isThrownBy(() -> ExtendedQueryMessageFlow.execute(null, NO_OP, () -> "", "test-statement", null, Collections.emptyList(), 0))
             .withMessage("bindings must not be null");
     }
 
     @Test
     public void executeNoClient() {
-        assertThatNullPointerException().isThrownBy(() -> ExtendedQueryMessageFlow.execute(Flux.empty(), null, () -> "", "test-statement"))
+        assertThatNullPointerException().isThrownBy(() -> ExtendedQueryMessageFlow.execute(Flux.empty(), null, () -> "", "test-statement", null, Collections.emptyList(), 0))
             .withMessage("client must not be null");
     }
 
     @Test
     public void executeNoPortalNameSupplier() {
-        assertThatNullPointerException().isThrownBy(() -> ExtendedQueryMessageFlow.execute(Flux.empty(), NO_OP, null, "test-statement"))
+        assertThatNullPointerException().isThrownBy(() -> ExtendedQueryMessageFlow.execute(Flux.empty(), NO_OP, null, "test-statement", null, Collections.emptyList(), 0))
             .withMessage("portalNameSupplier must not be null");
     }
 
+    @Test
+    public void executeNoResultFormats() {
+        assertThatNullPointerException().isThrownBy(() -> ExtendedQueryMessageFlow.execute(Flux.empty(), NO_OP, () -> "", "test-statement", null, null, 0))
+            .withMessage("resultFormats must not be null");
+    }
+
     @Test
     public void executeNoStatement() {
-        assertThatNullPointerException().isThrownBy(() -> ExtendedQueryMessageFlow.execute(Flux.empty(), NO_OP, () -> "", null))
+        assertThatNullPointerException().isThrownBy(() -> ExtendedQueryMessageFlow.execute(Flux.empty(), NO_OP, () -> "", null, null, Collections.emptyList(), 0))
             .withMessage("statement must not be null");
     }
 
@@ -17,26 +17,44 @@
 package com.nebhale.r2dbc.postgresql.client;
 
 import com.nebhale.r2dbc.postgresql.message.backend.AuthenticationCleartextPassword;
+import com.nebhale.r2dbc.postgresql.message.backend.BindComplete;
 import com.nebhale.r2dbc.postgresql.message.backend.CommandComplete;
 import com.nebhale.r2dbc.postgresql.message.backend.DataRow;
+import com.nebhale.r2dbc.postgresql.message.backend.ErrorResponse;
+import com.nebhale.r2dbc.postgresql.message.backend.NotificationResponse;
+import com.nebhale.r2dbc.postgresql.message.backend.ParseComplete;
 import com.nebhale.r2dbc.postgresql.message.backend.ReadyForQuery;
 import com.nebhale.r2dbc.postgresql.message.backend.RowDescription;
+import com.nebhale.r2dbc.postgresql.message.frontend.Bind;
+import com.nebhale.r2dbc.postgresql.message.frontend.CancelRequest;
+import com.nebhale.r2dbc.postgresql.message.frontend.Describe;
+import com.nebhale.r2dbc.postgresql.message.frontend.Execute;
 import com.nebhale.r2dbc.postgresql.message.frontend.FrontendMessage;
+import com.nebhale.r2dbc.postgresql.message.frontend.Parse;
 import com.nebhale.r2dbc.postgresql.message.frontend.PasswordMessage;
 import com.nebhale.r2dbc.postgresql.message.frontend.Query;
 import com.nebhale.r2dbc.postgresql.message.frontend.StartupMessage;
+import com.nebhale.r2dbc.postgresql.message.frontend.Sync;
 import com.nebhale.r2dbc.postgresql.util.PostgresqlServerResource;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.ClassRule;
 import org.junit.Test;
+import reactor.core.Disposable;
 import reactor.core.publisher.EmitterProcessor;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.IntStream;
 
+import static com.nebhale.r2dbc.postgresql.message.frontend.Execute.NO_LIMIT;
+import static com.nebhale.r2dbc.postgresql.message.frontend.ExecutionType.PORTAL;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
@@ -109,18 +127,89 @@ public final class ReactorNettyClientTest {
             .verifyComplete();
     }
 
+    @Test
+    public void exchangeExtendedQuery() {
+        SERVER.getJdbcOperations().execute("INSERT INTO test VALUES (100)");
+
+        this.client
+            .exchange(Flux.just(
+                new Parse("", Collections.emptyList(), "SELECT value FROM test"),
+                new Bind("", Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), ""),
+                new Describe("", PORTAL),
+                new Execute("", NO_LIMIT),
+                Sync.INSTANCE))
+            .as(StepVerifier::create)
+            .expectNext(ParseComplete.INSTANCE)
+            .expectNext(BindComplete.INSTANCE)
+            .assertNext(message -> assertThat(message).isInstanceOf(RowDescription.class))
+            .assertNext(message -> assertThat(message).isInstanceOf(DataRow.class))
+            .expectNext(new CommandComplete("SELECT", null, 1))
+            .verifyComplete();
+    }
+
     @Test
     public void exchangeNoPublisher() {
         assertThatNullPointerException().isThrownBy(() -> this.client.exchange(null))
             .withMessage("requests must not be null");
     }
 
+    @Test
+    public void exchangePipelined() {
+        SERVER.getJdbcOperations().execute("INSERT INTO test VALUES (100)");
+
+        Flux.zip(
+            this.client.exchange(Mono.just(new Query("SELECT value FROM test"))).collectList(),
+            this.client.exchange(Mono.just(new Query("INSERT INTO test VALUES (200)"))).collectList(),
+            this.client.exchange(Mono.just(new Query("SELECT value FROM test"))).collectList())
+            .as(StepVerifier::create)
+            .assertNext(tuple -> {
+                assertThat(tuple.getT1()).hasSize(3).endsWith(new CommandComplete("SELECT", null, 1));
+                assertThat(tuple.getT2()).containsExactly(new CommandComplete("INSERT", 0, 1));
+                assertThat(tuple.getT3()).hasSize(4).endsWith(new CommandComplete("SELECT", null, 2));
+            })
+            .verifyComplete();
+    }
+
     @Test
     public void handleBackendData() {
         assertThat(this.client.getProcessId()).isNotEmpty();
         assertThat(this.client.getSecretKey()).isNotEmpty();
     }
 
+    @Test
+    public void handleNotificationResponse() {
+        this.client
+            .exchange(Mono.just(new Query("LISTEN test_channel")))
+            .blockLast();
+
+        this.client.getNotifications()
+            .as(StepVerifier::create)
+            .then(() -> SERVER.getJdbcOperations().execute("NOTIFY test_channel, 'test-payload'"))
+            .assertNext(notification -> {
+                assertThat(notification.getName()).isEqualTo("test_channel");
+                assertThat(notification.getPayload()).isEqualTo("test-payload");
+            })
+            .thenCancel()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void handleNotificationResponseDuringExchange() {
+        List<NotificationResponse> notifications = new CopyOnWriteArrayList<>();
+        Disposable subscription = this.client.getNotifications().subscribe(notifications::add);
+
+        this.client
+            .exchange(Mono.just(new Query("LISTEN test_channel; NOTIFY test_channel, 'test-payload'")))
+            .as(StepVerifier::create)
+            .expectNext(new CommandComplete("LISTEN", null, null))
+            .expectNext(new CommandComplete("NOTIFY", null, null))
+            .verifyComplete();
+
+        subscription.dispose();
+
+        assertThat(notifications).containsExactly(new NotificationResponse("test_channel", "test-payload", this.client.getProcessId().orElse(0)));
+    }
+
     @Test
     public void handleParameterStatus() {
         assertThat(this.client.getParameterStatus()).containsEntry("application_name", "test-application-name");
@@ -149,4 +238,27 @@ public final class ReactorNettyClientTest {
             .verifyComplete();
     }
 
+    @Test
+    public void sendOnNewConnection() {
+        int processId = this.client.getProcessId().orElseThrow(IllegalStateException::new);
+        int secretKey = this.client.getSecretKey().orElseThrow(IllegalStateException::new);
+
+        this.client
+            .exchange(Mono.just(new Query("SELECT pg_sleep(10)")))
+            .as(StepVerifier::create)
+            .then(() -> Mono.delay(Duration.ofMillis(500))
+                .then(this.client.sendOnNewConnection(Mono.just(new CancelRequest(processId, secretKey))))
+                .subscribe())
+            .thenConsumeWhile(message -> !(message instanceof ErrorResponse))
+            .assertNext(message -> assertThat(message).isInstanceOf(ErrorResponse.class))
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void sendOnNewConnectionNoRequests() {
+        assertThatNullPointerException().isThrownBy(() -> this.client.sendOnNewConnection(null))
+            .withMessage("requests must not be null");
+    }
+
 }
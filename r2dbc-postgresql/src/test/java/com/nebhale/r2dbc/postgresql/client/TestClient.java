@@ -18,6 +18,7 @@ package com.nebhale.r2dbc.postgresql.client;
 
 import com.nebhale.r2dbc.core.nullability.Nullable;
 import com.nebhale.r2dbc.postgresql.message.backend.BackendMessage;
+import com.nebhale.r2dbc.postgresql.message.backend.NotificationResponse;
 import com.nebhale.r2dbc.postgresql.message.frontend.FrontendMessage;
 import com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator;
 import io.netty.buffer.ByteBufAllocator;
@@ -40,10 +41,12 @@ import static com.nebhale.r2dbc.postgresql.client.TransactionStatus.IDLE;
 
 public final class TestClient implements Client {
 
-    public static final TestClient NO_OP = new TestClient(false, Collections.emptyMap(), null, null, Flux.empty(), IDLE);
+    public static final TestClient NO_OP = new TestClient(false, Collections.emptyList(), Collections.emptyMap(), null, null, Flux.empty(), IDLE);
 
     private final boolean expectClose;
 
+    private final List<NotificationResponse> notifications;
+
     private final Map<String, String> parameterStatus;
 
     private final Integer processId;
@@ -58,8 +61,9 @@ public final class TestClient implements Client {
 
     private final TransactionStatus transactionStatus;
 
-    private TestClient(boolean expectClose, Map<String, String> parameterStatus, @Nullable Integer processId, @Nullable Integer secretKey, Flux<Window> windows, TransactionStatus transactionStatus) {
+    private TestClient(boolean expectClose, List<NotificationResponse> notifications, Map<String, String> parameterStatus, @Nullable Integer processId, @Nullable Integer secretKey, Flux<Window> windows, TransactionStatus transactionStatus) {
         this.expectClose = expectClose;
+        this.notifications = Objects.requireNonNull(notifications);
         this.parameterStatus = Objects.requireNonNull(parameterStatus);
         this.processId = processId;
         this.secretKey = secretKey;
@@ -89,6 +93,11 @@ public final class TestClient implements Client {
         return new Builder();
     }
 
+    @Override
+    public Mono<Void> awaitDispatch() {
+        return Mono.empty();
+    }
+
     @Override
     public Mono<Void> close() {
         return this.expectClose ? Mono.empty() : Mono.error(new AssertionError("close called unexpectedly"));
@@ -111,6 +120,11 @@ public final class TestClient implements Client {
         return TestByteBufAllocator.TEST;
     }
 
+    @Override
+    public Flux<NotificationResponse> getNotifications() {
+        return Flux.fromIterable(this.notifications);
+    }
+
     @Override
     public Map<String, String> getParameterStatus() {
         return this.parameterStatus;
@@ -131,8 +145,22 @@ public final class TestClient implements Client {
         return this.transactionStatus;
     }
 
+    @Override
+    public boolean hasQueuedExchanges() {
+        return false;
+    }
+
+    @Override
+    public Mono<Void> sendOnNewConnection(Publisher<FrontendMessage> requests) {
+        Objects.requireNonNull(requests, "requests must not be null");
+
+        return exchange(requests).then();
+    }
+
     public static final class Builder {
 
+        private final List<NotificationResponse> notifications = new ArrayList<>();
+
         private final Map<String, String> parameterStatus = new HashMap<>();
 
         private final List<Window.Builder<?>> windows = new ArrayList<>();
@@ -149,7 +177,7 @@ public final class TestClient implements Client {
         }
 
         public TestClient build() {
-            return new TestClient(this.expectClose, parameterStatus, this.processId, this.secretKey, Flux.fromIterable(this.windows).map(Window.Builder::build), this.transactionStatus);
+            return new TestClient(this.expectClose, this.notifications, this.parameterStatus, this.processId, this.secretKey, Flux.fromIterable(this.windows).map(Window.Builder::build), this.transactionStatus);
         }
 
         public Builder expectClose() {
@@ -169,6 +197,11 @@ public final class TestClient implements Client {
             return exchange;
         }
 
+        public Builder notification(NotificationResponse notification) {
+            this.notifications.add(Objects.requireNonNull(notification));
+            return this;
+        }
+
         public Builder parameterStatus(String key, String value) {
             Objects.requireNonNull(key);
             Objects.requireNonNull(value);
@@ -17,6 +17,7 @@
 package com.nebhale.r2dbc.postgresql.codec;
 
 import com.nebhale.r2dbc.postgresql.client.Parameter;
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
 
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
@@ -52,6 +53,47 @@ public final class AbstractCodecTest {
             .withMessage("type must not be null");
     }
 
+    @Test
+    public void canDecodeDataType() {
+        MockCodec<String> codec = MockCodec.builder(String.class)
+            .canDecode(BINARY, VARCHAR)
+            .build();
+
+        assertThat(codec.canDecode(VARCHAR.getObjectId(), BINARY)).isTrue();
+        assertThat(codec.canDecode(VARCHAR.getObjectId(), TEXT)).isFalse();
+        assertThat(codec.canDecode(-1, BINARY)).isFalse();
+    }
+
+    @Test
+    public void canDecodeDataTypeNoFormat() {
+        assertThatNullPointerException().isThrownBy(() -> MockCodec.empty(String.class).canDecode(100, null))
+            .withMessage("format must not be null");
+    }
+
+    @Test
+    public void canDecodeJavaType() {
+        MockCodec<String> codec = MockCodec.builder(String.class)
+            .canDecode(BINARY, VARCHAR)
+            .build();
+
+        assertThat(codec.canDecode(VARCHAR.getObjectId(), BINARY, String.class)).isTrue();
+        assertThat(codec.canDecode(VARCHAR.getObjectId(), BINARY, Object.class)).isFalse();
+        assertThat(codec.canDecode(VARCHAR.getObjectId(), TEXT, String.class)).isFalse();
+        assertThat(codec.canDecode(-1, BINARY, String.class)).isFalse();
+    }
+
+    @Test
+    public void canDecodeJavaTypeNoFormat() {
+        assertThatNullPointerException().isThrownBy(() -> MockCodec.empty(String.class).canDecode(100, null, String.class))
+            .withMessage("format must not be null");
+    }
+
+    @Test
+    public void canDecodeJavaTypeNoType() {
+        assertThatNullPointerException().isThrownBy(() -> MockCodec.empty(String.class).canDecode(100, BINARY, null))
+            .withMessage("type must not be null");
+    }
+
     @Test
     public void canEncode() {
         assertThat(MockCodec.empty(String.class).canEncode("")).isTrue();
@@ -64,6 +106,24 @@ public final class AbstractCodecTest {
             .withMessage("value must not be null");
     }
 
+    @Test
+    public void canEncodeBinary() {
+        MockCodec<String> codec = MockCodec.builder(String.class)
+            .binaryEncoding("", VARCHAR, TEST.buffer(0))
+            .build();
+
+        assertThat(codec.canEncodeBinary("", VARCHAR.getObjectId())).isTrue();
+        assertThat(codec.canEncodeBinary("", INT4.getObjectId())).isFalse();
+        assertThat(codec.canEncodeBinary("", -1)).isFalse();
+        assertThat(codec.canEncodeBinary(new Object(), VARCHAR.getObjectId())).isFalse();
+    }
+
+    @Test
+    public void canEncodeBinaryNoValue() {
+        assertThatNullPointerException().isThrownBy(() -> MockCodec.empty(String.class).canEncodeBinary(null, VARCHAR.getObjectId()))
+            .withMessage("value must not be null");
+    }
+
     @Test
     public void constructorNoType() {
         assertThatNullPointerException().isThrownBy(() -> MockCodec.empty(null))
@@ -101,6 +161,32 @@ public final class AbstractCodecTest {
         assertThat(codec.doEncode(value)).isSameAs(parameter);
     }
 
+    @Test
+    public void encodeBinary() {
+        Object value = new Object();
+
+        MockCodec<Object> codec = MockCodec.builder(Object.class)
+            .binaryEncoding(value, INT4, TEST.buffer(4).writeInt(100))
+            .build();
+
+        ByteBuf byteBuf = TEST.buffer();
+        codec.encodeBinary(value, INT4.getObjectId(), byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer(4).writeInt(100));
+    }
+
+    @Test
+    public void encodeBinaryNoByteBuf() {
+        assertThatNullPointerException().isThrownBy(() -> MockCodec.empty(Object.class).encodeBinary(new Object(), INT4.getObjectId(), null))
+            .withMessage("byteBuf must not be null");
+    }
+
+    @Test
+    public void encodeBinaryNoValue() {
+        assertThatNullPointerException().isThrownBy(() -> MockCodec.empty(Object.class).encodeBinary(null, INT4.getObjectId(), TEST.buffer()))
+            .withMessage("value must not be null");
+    }
+
     @Test
     public void encodeNoValue() {
         assertThatNullPointerException().isThrownBy(() -> MockCodec.empty(Object.class).encode(null))
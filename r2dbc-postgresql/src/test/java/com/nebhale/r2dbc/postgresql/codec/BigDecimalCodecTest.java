@@ -17,18 +17,21 @@
 package com.nebhale.r2dbc.postgresql.codec;
 
 import com.nebhale.r2dbc.postgresql.client.Parameter;
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
 
 import java.math.BigDecimal;
 
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT4;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.MONEY;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.NUMERIC;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
 import static com.nebhale.r2dbc.postgresql.util.ByteBufUtils.encode;
 import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
 public final class BigDecimalCodecTest {
@@ -47,17 +50,59 @@ public final class BigDecimalCodecTest {
             .isEqualTo(bigDecimal);
     }
 
+    @Test
+    public void decodeBinary() {
+        BigDecimalCodec codec = new BigDecimalCodec(TEST);
+
+        assertThat(codec.decode(numeric(1, 0x0000, 3, 1, 2345, 6780), BINARY, BigDecimal.class)).isEqualTo(new BigDecimal("12345.678"));
+        assertThat(codec.decode(numeric(-1, 0x4000, 4, 1), BINARY, BigDecimal.class)).isEqualTo(new BigDecimal("-0.0001"));
+        assertThat(codec.decode(numeric(2, 0x0000, 0, 1), BINARY, BigDecimal.class)).isEqualTo(new BigDecimal("100000000"));
+        assertThat(codec.decode(numeric(0, 0x0000, 2), BINARY, BigDecimal.class)).isEqualTo(new BigDecimal("0.00"));
+        assertThat(codec.decode(numeric(5, 0x0000, 1, 12, 3456, 7890, 1234, 5678, 9012, 5000), BINARY, BigDecimal.class))
+            .isEqualTo(new BigDecimal("1234567890123456789012.5"));
+    }
+
+    @Test
+    public void decodeBinaryInfinity() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BigDecimalCodec(TEST).decode(numeric(0, 0xD000, 0), BINARY, BigDecimal.class))
+            .withMessage("Cannot decode Infinity as a BigDecimal");
+    }
+
+    @Test
+    public void decodeBinaryInvalidSign() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BigDecimalCodec(TEST).decode(numeric(0, 0x8000, 0), BINARY, BigDecimal.class))
+            .withMessage("Cannot decode numeric with sign 0x8000 as a BigDecimal");
+    }
+
+    @Test
+    public void decodeBinaryNaN() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BigDecimalCodec(TEST).decode(numeric(0, 0xC000, 0), BINARY, BigDecimal.class))
+            .withMessage("Cannot decode NaN as a BigDecimal");
+    }
+
+    @Test
+    public void decodeBinaryNegativeInfinity() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BigDecimalCodec(TEST).decode(numeric(0, 0xF000, 0), BINARY, BigDecimal.class))
+            .withMessage("Cannot decode -Infinity as a BigDecimal");
+    }
+
     @Test
     public void decodeNoByteBuf() {
         assertThatNullPointerException().isThrownBy(() -> new BigDecimalCodec(TEST).decode(null, TEXT, BigDecimal.class))
             .withMessage("byteBuf must not be null");
     }
 
+    @Test
+    public void decodeNoFormat() {
+        assertThatNullPointerException().isThrownBy(() -> new BigDecimalCodec(TEST).decode(TEST.buffer(0), null, BigDecimal.class))
+            .withMessage("format must not be null");
+    }
+
     @Test
     public void doCanDecode() {
         BigDecimalCodec codec = new BigDecimalCodec(TEST);
 
-        assertThat(codec.doCanDecode(BINARY, NUMERIC)).isFalse();
+        assertThat(codec.doCanDecode(BINARY, NUMERIC)).isTrue();
         assertThat(codec.doCanDecode(TEXT, MONEY)).isFalse();
         assertThat(codec.doCanDecode(TEXT, NUMERIC)).isTrue();
     }
@@ -74,6 +119,14 @@ public final class BigDecimalCodecTest {
             .withMessage("type must not be null");
     }
 
+    @Test
+    public void doCanEncodeBinary() {
+        BigDecimalCodec codec = new BigDecimalCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(INT4)).isFalse();
+        assertThat(codec.doCanEncodeBinary(NUMERIC)).isTrue();
+    }
+
     @Test
     public void doEncode() {
         BigDecimal bigDecimal = new BigDecimal("100");
@@ -82,10 +135,52 @@ public final class BigDecimalCodecTest {
             .isEqualTo(new Parameter(TEXT, NUMERIC.getObjectId(), encode(TEST, "100")));
     }
 
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new BigDecimalCodec(TEST).doEncodeBinary(new BigDecimal("-1234.5678"), NUMERIC, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer(12).writeShort(2).writeShort(0).writeShort(0x4000).writeShort(4).writeShort(1234).writeShort(5678));
+    }
+
+    @Test
+    public void doEncodeBinaryRoundTrip() {
+        BigDecimalCodec codec = new BigDecimalCodec(TEST);
+
+        assertThat(roundTrip(codec, new BigDecimal("0"))).isEqualTo(new BigDecimal("0"));
+        assertThat(roundTrip(codec, new BigDecimal("0.00"))).isEqualTo(new BigDecimal("0.00"));
+        assertThat(roundTrip(codec, new BigDecimal("0.0001"))).isEqualTo(new BigDecimal("0.0001"));
+        assertThat(roundTrip(codec, new BigDecimal("10000"))).isEqualTo(new BigDecimal("10000"));
+        assertThat(roundTrip(codec, new BigDecimal("1E+5"))).isEqualTo(new BigDecimal("100000"));
+        assertThat(roundTrip(codec, new BigDecimal("-1.5"))).isEqualTo(new BigDecimal("-1.5"));
+        assertThat(roundTrip(codec, new BigDecimal("12345678901234567890.123456789"))).isEqualTo(new BigDecimal("12345678901234567890.123456789"));
+    }
+
     @Test
     public void doEncodeNoValue() {
         assertThatNullPointerException().isThrownBy(() -> new BigDecimalCodec(TEST).doEncode(null))
             .withMessage("value must not be null");
     }
 
+    private static ByteBuf numeric(int weight, int sign, int scale, int... digits) {
+        ByteBuf byteBuf = TEST.buffer()
+            .writeShort(digits.length)
+            .writeShort(weight)
+            .writeShort(sign)
+            .writeShort(scale);
+
+        for (int digit : digits) {
+            byteBuf.writeShort(digit);
+        }
+
+        return byteBuf;
+    }
+
+    private static BigDecimal roundTrip(BigDecimalCodec codec, BigDecimal value) {
+        ByteBuf byteBuf = TEST.buffer();
+        codec.doEncodeBinary(value, NUMERIC, byteBuf);
+
+        return codec.decode(byteBuf, BINARY, BigDecimal.class);
+    }
+
 }
@@ -17,6 +17,7 @@
 package com.nebhale.r2dbc.postgresql.codec;
 
 import com.nebhale.r2dbc.postgresql.client.Parameter;
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
 
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
@@ -45,17 +46,31 @@ public final class BooleanCodecTest {
         assertThat(codec.decode(encode(TEST, "FALSE"), TEXT, Boolean.class)).isFalse();
     }
 
+    @Test
+    public void decodeBinary() {
+        BooleanCodec codec = new BooleanCodec(TEST);
+
+        assertThat(codec.decode(TEST.buffer(1).writeBoolean(true), BINARY, Boolean.class)).isTrue();
+        assertThat(codec.decode(TEST.buffer(1).writeBoolean(false), BINARY, Boolean.class)).isFalse();
+    }
+
     @Test
     public void decodeNoByteBuf() {
         assertThatNullPointerException().isThrownBy(() -> new BooleanCodec(TEST).decode(null, TEXT, Boolean.class))
             .withMessage("byteBuf must not be null");
     }
 
+    @Test
+    public void decodeNoFormat() {
+        assertThatNullPointerException().isThrownBy(() -> new BooleanCodec(TEST).decode(TEST.buffer(0), null, Boolean.class))
+            .withMessage("format must not be null");
+    }
+
     @Test
     public void doCanDecode() {
         BooleanCodec codec = new BooleanCodec(TEST);
 
-        assertThat(codec.doCanDecode(BINARY, BOOL)).isFalse();
+        assertThat(codec.doCanDecode(BINARY, BOOL)).isTrue();
         assertThat(codec.doCanDecode(TEXT, MONEY)).isFalse();
         assertThat(codec.doCanDecode(TEXT, BOOL)).isTrue();
     }
@@ -72,6 +87,14 @@ public final class BooleanCodecTest {
             .withMessage("type must not be null");
     }
 
+    @Test
+    public void doCanEncodeBinary() {
+        BooleanCodec codec = new BooleanCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(VARCHAR)).isFalse();
+        assertThat(codec.doCanEncodeBinary(BOOL)).isTrue();
+    }
+
     @Test
     public void doEncode() {
         BooleanCodec codec = new BooleanCodec(TEST);
@@ -83,6 +106,14 @@ public final class BooleanCodecTest {
             .isEqualTo(new Parameter(TEXT, BOOL.getObjectId(), encode(TEST, "FALSE")));
     }
 
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new BooleanCodec(TEST).doEncodeBinary(true, BOOL, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer(1).writeBoolean(true));
+    }
+
     @Test
     public void doEncodeNoValue() {
         assertThatNullPointerException().isThrownBy(() -> new BooleanCodec(TEST).doEncode(null))
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql.codec;
+
+import com.nebhale.r2dbc.postgresql.client.Parameter;
+import io.netty.buffer.ByteBuf;
+import org.junit.Test;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.BYTEA;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.MONEY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
+import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public final class ByteArrayCodecTest {
+
+    @Test
+    public void decode() {
+        assertThat(new ByteArrayCodec().decode(TEST.buffer(3).writeBytes(new byte[]{1, 2, 3}), BINARY, byte[].class))
+            .isEqualTo(new byte[]{1, 2, 3});
+    }
+
+    @Test
+    public void decodeNoByteBuf() {
+        assertThatNullPointerException().isThrownBy(() -> new ByteArrayCodec().decode(null, BINARY, byte[].class))
+            .withMessage("byteBuf must not be null");
+    }
+
+    @Test
+    public void doCanDecode() {
+        ByteArrayCodec codec = new ByteArrayCodec();
+
+        assertThat(codec.doCanDecode(TEXT, BYTEA)).isFalse();
+        assertThat(codec.doCanDecode(BINARY, MONEY)).isFalse();
+        assertThat(codec.doCanDecode(BINARY, BYTEA)).isTrue();
+    }
+
+    @Test
+    public void doCanDecodeNoFormat() {
+        assertThatNullPointerException().isThrownBy(() -> new ByteArrayCodec().doCanDecode(null, VARCHAR))
+            .withMessage("format must not be null");
+    }
+
+    @Test
+    public void doCanDecodeNoType() {
+        assertThatNullPointerException().isThrownBy(() -> new ByteArrayCodec().doCanDecode(BINARY, null))
+            .withMessage("type must not be null");
+    }
+
+    @Test
+    public void doCanEncodeBinary() {
+        ByteArrayCodec codec = new ByteArrayCodec();
+
+        assertThat(codec.doCanEncodeBinary(VARCHAR)).isFalse();
+        assertThat(codec.doCanEncodeBinary(BYTEA)).isTrue();
+    }
+
+    @Test
+    public void doEncode() {
+        assertThat(new ByteArrayCodec().doEncode(new byte[]{1, 2, 3}))
+            .isEqualTo(new Parameter(BINARY, BYTEA.getObjectId(), TEST.buffer(3).writeBytes(new byte[]{1, 2, 3})));
+    }
+
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new ByteArrayCodec().doEncodeBinary(new byte[]{1, 2, 3}, BYTEA, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer(3).writeBytes(new byte[]{1, 2, 3}));
+    }
+
+    @Test
+    public void doEncodeNoValue() {
+        assertThatNullPointerException().isThrownBy(() -> new ByteArrayCodec().doEncode(null))
+            .withMessage("value must not be null");
+    }
+
+}
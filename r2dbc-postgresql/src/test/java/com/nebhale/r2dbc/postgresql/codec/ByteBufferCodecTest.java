@@ -0,0 +1,107 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql.codec;
+
+import com.nebhale.r2dbc.postgresql.client.Parameter;
+import io.netty.buffer.ByteBuf;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.BYTEA;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.MONEY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
+import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public final class ByteBufferCodecTest {
+
+    @Test
+    public void decode() {
+        assertThat(new ByteBufferCodec().decode(TEST.buffer(3).writeBytes(new byte[]{1, 2, 3}), BINARY, ByteBuffer.class))
+            .isEqualTo(ByteBuffer.wrap(new byte[]{1, 2, 3}));
+    }
+
+    @Test
+    public void decodeNoByteBuf() {
+        assertThatNullPointerException().isThrownBy(() -> new ByteBufferCodec().decode(null, BINARY, ByteBuffer.class))
+            .withMessage("byteBuf must not be null");
+    }
+
+    @Test
+    public void doCanDecode() {
+        ByteBufferCodec codec = new ByteBufferCodec();
+
+        assertThat(codec.doCanDecode(TEXT, BYTEA)).isFalse();
+        assertThat(codec.doCanDecode(BINARY, MONEY)).isFalse();
+        assertThat(codec.doCanDecode(BINARY, BYTEA)).isTrue();
+    }
+
+    @Test
+    public void doCanDecodeNoFormat() {
+        assertThatNullPointerException().isThrownBy(() -> new ByteBufferCodec().doCanDecode(null, VARCHAR))
+            .withMessage("format must not be null");
+    }
+
+    @Test
+    public void doCanDecodeNoType() {
+        assertThatNullPointerException().isThrownBy(() -> new ByteBufferCodec().doCanDecode(BINARY, null))
+            .withMessage("type must not be null");
+    }
+
+    @Test
+    public void doCanEncodeBinary() {
+        ByteBufferCodec codec = new ByteBufferCodec();
+
+        assertThat(codec.doCanEncodeBinary(VARCHAR)).isFalse();
+        assertThat(codec.doCanEncodeBinary(BYTEA)).isTrue();
+    }
+
+    @Test
+    public void doEncode() {
+        assertThat(new ByteBufferCodec().doEncode(ByteBuffer.wrap(new byte[]{1, 2, 3})))
+            .isEqualTo(new Parameter(BINARY, BYTEA.getObjectId(), TEST.buffer(3).writeBytes(new byte[]{1, 2, 3})));
+    }
+
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new ByteBufferCodec().doEncodeBinary(ByteBuffer.wrap(new byte[]{1, 2, 3}), BYTEA, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer(3).writeBytes(new byte[]{1, 2, 3}));
+    }
+
+    @Test
+    public void doEncodeDoesNotMoveValue() {
+        ByteBuffer value = ByteBuffer.wrap(new byte[]{1, 2, 3});
+
+        new ByteBufferCodec().doEncode(value);
+        new ByteBufferCodec().doEncodeBinary(value, BYTEA, TEST.buffer());
+
+        assertThat(value.remaining()).isEqualTo(3);
+    }
+
+    @Test
+    public void doEncodeNoValue() {
+        assertThatNullPointerException().isThrownBy(() -> new ByteBufferCodec().doEncode(null))
+            .withMessage("value must not be null");
+    }
+
+}
@@ -18,11 +18,13 @@ package com.nebhale.r2dbc.postgresql.codec;
 
 import com.nebhale.r2dbc.postgresql.client.Parameter;
 import com.nebhale.r2dbc.postgresql.util.ByteBufUtils;
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
 
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT2;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT8;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
 import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -71,12 +73,29 @@ public final class ByteCodecTest {
             .withMessage("type must not be null");
     }
 
+    @Test
+    public void doCanEncodeBinary() {
+        ByteCodec codec = new ByteCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(VARCHAR)).isFalse();
+        assertThat(codec.doCanEncodeBinary(INT2)).isTrue();
+        assertThat(codec.doCanEncodeBinary(INT8)).isTrue();
+    }
+
     @Test
     public void doEncode() {
         assertThat(new ByteCodec(TEST).doEncode((byte) 100))
             .isEqualTo(new Parameter(BINARY, INT2.getObjectId(), TEST.buffer(2).writeShort(100)));
     }
 
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new ByteCodec(TEST).doEncodeBinary((byte) 100, INT2, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer(2).writeShort(100));
+    }
+
     @Test
     public void doEncodeNoValue() {
         assertThatNullPointerException().isThrownBy(() -> new ByteCodec(TEST).doEncode(null))
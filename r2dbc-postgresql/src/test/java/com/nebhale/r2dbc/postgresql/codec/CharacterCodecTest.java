@@ -17,10 +17,12 @@
 package com.nebhale.r2dbc.postgresql.codec;
 
 import com.nebhale.r2dbc.postgresql.client.Parameter;
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
 
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT4;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.MONEY;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
 import static com.nebhale.r2dbc.postgresql.util.ByteBufUtils.encode;
@@ -69,12 +71,28 @@ public final class CharacterCodecTest {
             .withMessage("type must not be null");
     }
 
+    @Test
+    public void doCanEncodeBinary() {
+        CharacterCodec codec = new CharacterCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(INT4)).isFalse();
+        assertThat(codec.doCanEncodeBinary(VARCHAR)).isTrue();
+    }
+
     @Test
     public void doEncode() {
         assertThat(new CharacterCodec(TEST).doEncode('A'))
             .isEqualTo(new Parameter(TEXT, VARCHAR.getObjectId(), encode(TEST, "A")));
     }
 
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new CharacterCodec(TEST).doEncodeBinary('A', VARCHAR, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(encode(TEST, "A"));
+    }
+
     @Test
     public void doEncodeNoValue() {
         assertThatNullPointerException().isThrownBy(() -> new CharacterCodec(TEST).doEncode(null))
@@ -17,17 +17,23 @@
 package com.nebhale.r2dbc.postgresql.codec;
 
 import com.nebhale.r2dbc.postgresql.client.Parameter;
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.Date;
 
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.MONEY;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.TIMESTAMP;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.TIMESTAMPTZ;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
 import static com.nebhale.r2dbc.postgresql.util.ByteBufUtils.encode;
 import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
+import static java.time.ZoneOffset.UTC;
+import static java.time.temporal.ChronoUnit.MICROS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
@@ -47,17 +53,32 @@ public final class DateCodecTest {
             .isEqualTo(date);
     }
 
+    @Test
+    public void decodeBinary() {
+        LocalDateTime localDateTime = LocalDateTime.of(2018, 3, 4, 5, 6, 7, 123_000_000);
+        long micros = MICROS.between(LocalDateTime.of(2000, 1, 1, 0, 0), localDateTime);
+
+        assertThat(new DateCodec(TEST).decode(TEST.buffer(8).writeLong(micros), BINARY, Date.class))
+            .isEqualTo(Date.from(localDateTime.toInstant(UTC)));
+    }
+
     @Test
     public void decodeNoByteBuf() {
         assertThatNullPointerException().isThrownBy(() -> new DateCodec(TEST).decode(null, TEXT, Date.class))
             .withMessage("byteBuf must not be null");
     }
 
+    @Test
+    public void decodeNoFormat() {
+        assertThatNullPointerException().isThrownBy(() -> new DateCodec(TEST).decode(TEST.buffer(0), null, Date.class))
+            .withMessage("format must not be null");
+    }
+
     @Test
     public void doCanDecode() {
         DateCodec codec = new DateCodec(TEST);
 
-        assertThat(codec.doCanDecode(BINARY, TIMESTAMP)).isFalse();
+        assertThat(codec.doCanDecode(BINARY, TIMESTAMP)).isTrue();
         assertThat(codec.doCanDecode(TEXT, MONEY)).isFalse();
         assertThat(codec.doCanDecode(TEXT, TIMESTAMP)).isTrue();
     }
@@ -74,6 +95,15 @@ public final class DateCodecTest {
             .withMessage("type must not be null");
     }
 
+    @Test
+    public void doCanEncodeBinary() {
+        DateCodec codec = new DateCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(VARCHAR)).isFalse();
+        assertThat(codec.doCanEncodeBinary(TIMESTAMP)).isTrue();
+        assertThat(codec.doCanEncodeBinary(TIMESTAMPTZ)).isTrue();
+    }
+
     @Test
     public void doEncode() {
         Date date = new Date();
@@ -82,6 +112,14 @@ public final class DateCodecTest {
             .isEqualTo(new Parameter(TEXT, TIMESTAMP.getObjectId(), encode(TEST, date.toInstant().toString())));
     }
 
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new DateCodec(TEST).doEncodeBinary(Date.from(Instant.parse("2000-01-01T00:00:01Z")), TIMESTAMPTZ, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer(8).writeLong(1_000_000));
+    }
+
     @Test
     public void doEncodeNoValue() {
         assertThatNullPointerException().isThrownBy(() -> new DateCodec(TEST).doEncode(null))
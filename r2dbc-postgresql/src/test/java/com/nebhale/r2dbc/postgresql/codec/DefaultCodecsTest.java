@@ -17,10 +17,21 @@
 package com.nebhale.r2dbc.postgresql.codec;
 
 import com.nebhale.r2dbc.postgresql.client.Parameter;
+import com.nebhale.r2dbc.postgresql.util.ByteBufUtils;
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
 
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.BYTEA;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT4;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT4_ARRAY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT8;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.MONEY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.NUMERIC;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.TIMESTAMPTZ;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.UNSPECIFIED;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
 import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -40,6 +51,26 @@ public final class DefaultCodecsTest {
             .isEqualTo(100);
     }
 
+    @Test
+    public void decodeCached() {
+        DefaultCodecs codecs = new DefaultCodecs(TEST);
+
+        assertThat(codecs.decode(TEST.buffer(4).writeInt(100), INT4.getObjectId(), BINARY, Integer.class)).isEqualTo(100);
+        assertThat(codecs.decode(ByteBufUtils.encode(TEST, "200"), INT4.getObjectId(), TEXT, Integer.class)).isEqualTo(200);
+        assertThat(codecs.decode(TEST.buffer(4).writeInt(300), INT4.getObjectId(), BINARY, Integer.class)).isEqualTo(300);
+    }
+
+    @Test
+    public void decodeInvalidDataType() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new DefaultCodecs(TEST).decode(TEST.buffer(4), -1, BINARY, Integer.class))
+            .withMessage("Cannot decode value of type java.lang.Integer");
+    }
+
+    @Test
+    public void decodeNoByteBuf() {
+        assertThat(new DefaultCodecs(TEST).decode(null, INT4.getObjectId(), BINARY, Integer.class)).isNull();
+    }
+
     @Test
     public void decodeNoFormat() {
         assertThatNullPointerException().isThrownBy(() -> new DefaultCodecs(TEST).decode(TEST.buffer(4), INT4.getObjectId(), null, Object.class))
@@ -65,6 +96,57 @@ public final class DefaultCodecsTest {
         assertThat(parameter).isEqualTo(new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(100)));
     }
 
+    @Test
+    public void encodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new DefaultCodecs(TEST).encodeBinary(100, INT8.getObjectId(), byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer(8).writeLong(100));
+    }
+
+    @Test
+    public void encodeBinaryInvalidDataType() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new DefaultCodecs(TEST).encodeBinary(100, -1, TEST.buffer()))
+            .withMessage("Cannot encode value of type java.lang.Integer as binary data type -1");
+    }
+
+    @Test
+    public void encodeBinaryNoByteBuf() {
+        assertThatNullPointerException().isThrownBy(() -> new DefaultCodecs(TEST).encodeBinary(100, INT4.getObjectId(), null))
+            .withMessage("byteBuf must not be null");
+    }
+
+    @Test
+    public void encodeBinaryNoValue() {
+        assertThatNullPointerException().isThrownBy(() -> new DefaultCodecs(TEST).encodeBinary(null, INT4.getObjectId(), TEST.buffer()))
+            .withMessage("value must not be null");
+    }
+
+    @Test
+    public void encodeBinaryUnsupportedType() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new DefaultCodecs(TEST).encodeBinary(100, VARCHAR.getObjectId(), TEST.buffer()))
+            .withMessage("Cannot encode value of type java.lang.Integer as binary data type 1043");
+    }
+
+    @Test
+    public void getPreferredFormat() {
+        DefaultCodecs codecs = new DefaultCodecs(TEST);
+
+        assertThat(codecs.getPreferredFormat(BYTEA.getObjectId())).isEqualTo(BINARY);
+        assertThat(codecs.getPreferredFormat(INT4.getObjectId())).isEqualTo(BINARY);
+        assertThat(codecs.getPreferredFormat(INT4_ARRAY.getObjectId())).isEqualTo(BINARY);
+        assertThat(codecs.getPreferredFormat(NUMERIC.getObjectId())).isEqualTo(BINARY);
+        assertThat(codecs.getPreferredFormat(TIMESTAMPTZ.getObjectId())).isEqualTo(BINARY);
+        assertThat(codecs.getPreferredFormat(VARCHAR.getObjectId())).isEqualTo(TEXT);
+        assertThat(codecs.getPreferredFormat(MONEY.getObjectId())).isEqualTo(TEXT);
+        assertThat(codecs.getPreferredFormat(-1)).isEqualTo(TEXT);
+    }
+
+    @Test
+    public void encodeNull() {
+        assertThat(new DefaultCodecs(TEST).encode(null)).isEqualTo(new Parameter(BINARY, UNSPECIFIED.getObjectId(), null));
+    }
+
     @Test
     public void encodeUnsupportedType() {
         assertThatIllegalArgumentException().isThrownBy(() -> new DefaultCodecs(TEST).encode(new Object()))
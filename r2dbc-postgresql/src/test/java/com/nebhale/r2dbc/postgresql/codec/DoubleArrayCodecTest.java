@@ -0,0 +1,139 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql.codec;
+
+import com.nebhale.r2dbc.postgresql.client.Parameter;
+import io.netty.buffer.ByteBuf;
+import org.junit.Test;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.FLOAT8;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.FLOAT8_ARRAY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.MONEY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
+import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public final class DoubleArrayCodecTest {
+
+    @Test
+    public void constructorNoByteBufAllocator() {
+        assertThatNullPointerException().isThrownBy(() -> new DoubleArrayCodec(null))
+            .withMessage("byteBufAllocator must not be null");
+    }
+
+    @Test
+    public void decode() {
+        ByteBuf byteBuf = TEST.buffer()
+            .writeInt(1).writeInt(0).writeInt(FLOAT8.getObjectId()).writeInt(2).writeInt(1)
+            .writeInt(Double.BYTES).writeDouble(100.5)
+            .writeInt(Double.BYTES).writeDouble(200.25);
+
+        assertThat(new DoubleArrayCodec(TEST).decode(byteBuf, BINARY, double[].class)).containsExactly(100.5, 200.25);
+    }
+
+    @Test
+    public void decodeEmpty() {
+        ByteBuf byteBuf = TEST.buffer().writeInt(0).writeInt(0).writeInt(FLOAT8.getObjectId());
+
+        assertThat(new DoubleArrayCodec(TEST).decode(byteBuf, BINARY, double[].class)).isEmpty();
+    }
+
+    @Test
+    public void decodeMultipleDimensions() {
+        ByteBuf byteBuf = TEST.buffer().writeInt(2).writeInt(0).writeInt(FLOAT8.getObjectId()).writeInt(1).writeInt(1).writeInt(1).writeInt(1);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new DoubleArrayCodec(TEST).decode(byteBuf, BINARY, double[].class))
+            .withMessage("Cannot decode array with 2 dimensions");
+    }
+
+    @Test
+    public void decodeNoByteBuf() {
+        assertThatNullPointerException().isThrownBy(() -> new DoubleArrayCodec(TEST).decode(null, BINARY, double[].class))
+            .withMessage("byteBuf must not be null");
+    }
+
+    @Test
+    public void decodeNullElement() {
+        ByteBuf byteBuf = TEST.buffer().writeInt(1).writeInt(1).writeInt(FLOAT8.getObjectId()).writeInt(1).writeInt(1).writeInt(-1);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new DoubleArrayCodec(TEST).decode(byteBuf, BINARY, double[].class))
+            .withMessage("Cannot decode null element as double");
+    }
+
+    @Test
+    public void doCanDecode() {
+        DoubleArrayCodec codec = new DoubleArrayCodec(TEST);
+
+        assertThat(codec.doCanDecode(TEXT, FLOAT8_ARRAY)).isFalse();
+        assertThat(codec.doCanDecode(BINARY, MONEY)).isFalse();
+        assertThat(codec.doCanDecode(BINARY, FLOAT8_ARRAY)).isTrue();
+    }
+
+    @Test
+    public void doCanDecodeNoFormat() {
+        assertThatNullPointerException().isThrownBy(() -> new DoubleArrayCodec(TEST).doCanDecode(null, VARCHAR))
+            .withMessage("format must not be null");
+    }
+
+    @Test
+    public void doCanDecodeNoType() {
+        assertThatNullPointerException().isThrownBy(() -> new DoubleArrayCodec(TEST).doCanDecode(BINARY, null))
+            .withMessage("type must not be null");
+    }
+
+    @Test
+    public void doCanEncodeBinary() {
+        DoubleArrayCodec codec = new DoubleArrayCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(FLOAT8)).isFalse();
+        assertThat(codec.doCanEncodeBinary(FLOAT8_ARRAY)).isTrue();
+    }
+
+    @Test
+    public void doEncode() {
+        assertThat(new DoubleArrayCodec(TEST).doEncode(new double[]{100.5, 200.25}))
+            .isEqualTo(new Parameter(BINARY, FLOAT8_ARRAY.getObjectId(), TEST.buffer()
+                .writeInt(1).writeInt(0).writeInt(FLOAT8.getObjectId()).writeInt(2).writeInt(1)
+                .writeInt(Double.BYTES).writeDouble(100.5)
+                .writeInt(Double.BYTES).writeDouble(200.25)));
+    }
+
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new DoubleArrayCodec(TEST).doEncodeBinary(new double[]{100.5}, FLOAT8_ARRAY, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer().writeInt(1).writeInt(0).writeInt(FLOAT8.getObjectId()).writeInt(1).writeInt(1).writeInt(Double.BYTES).writeDouble(100.5));
+    }
+
+    @Test
+    public void doEncodeEmpty() {
+        assertThat(new DoubleArrayCodec(TEST).doEncode(new double[0]))
+            .isEqualTo(new Parameter(BINARY, FLOAT8_ARRAY.getObjectId(), TEST.buffer().writeInt(0).writeInt(0).writeInt(FLOAT8.getObjectId())));
+    }
+
+    @Test
+    public void doEncodeNoValue() {
+        assertThatNullPointerException().isThrownBy(() -> new DoubleArrayCodec(TEST).doEncode(null))
+            .withMessage("value must not be null");
+    }
+
+}
@@ -18,10 +18,12 @@ package com.nebhale.r2dbc.postgresql.codec;
 
 import com.nebhale.r2dbc.postgresql.client.Parameter;
 import com.nebhale.r2dbc.postgresql.util.ByteBufUtils;
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
 
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.FLOAT4;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.FLOAT8;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
 import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
@@ -71,12 +73,28 @@ public final class DoubleCodecTest {
             .withMessage("type must not be null");
     }
 
+    @Test
+    public void doCanEncodeBinary() {
+        DoubleCodec codec = new DoubleCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(FLOAT4)).isFalse();
+        assertThat(codec.doCanEncodeBinary(FLOAT8)).isTrue();
+    }
+
     @Test
     public void doEncode() {
         assertThat(new DoubleCodec(TEST).doEncode(100d))
             .isEqualTo(new Parameter(BINARY, FLOAT8.getObjectId(), TEST.buffer(8).writeDouble(100)));
     }
 
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new DoubleCodec(TEST).doEncodeBinary(100.0, FLOAT8, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer(8).writeDouble(100.0));
+    }
+
     @Test
     public void doEncodeNoValue() {
         assertThatNullPointerException().isThrownBy(() -> new DoubleCodec(TEST).doEncode(null))
@@ -17,12 +17,14 @@
 package com.nebhale.r2dbc.postgresql.codec;
 
 import com.nebhale.r2dbc.postgresql.client.Parameter;
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
 
 import java.util.concurrent.TimeUnit;
 
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT4;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.MONEY;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
 import static com.nebhale.r2dbc.postgresql.util.ByteBufUtils.encode;
@@ -74,6 +76,14 @@ public final class EnumCodecTest {
             .withMessage("type must not be null");
     }
 
+    @Test
+    public void doCanEncodeBinary() {
+        EnumCodec codec = new EnumCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(INT4)).isFalse();
+        assertThat(codec.doCanEncodeBinary(VARCHAR)).isTrue();
+    }
+
     @Test
     public void doEncode() {
         TimeUnit timeUnit = TimeUnit.DAYS;
@@ -82,6 +92,14 @@ public final class EnumCodecTest {
             .isEqualTo(new Parameter(TEXT, VARCHAR.getObjectId(), encode(TEST, timeUnit.name())));
     }
 
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new EnumCodec(TEST).doEncodeBinary(TimeUnit.DAYS, VARCHAR, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(encode(TEST, "DAYS"));
+    }
+
     @Test
     public void doEncodeNoValue() {
         assertThatNullPointerException().isThrownBy(() -> new EnumCodec(TEST).doEncode(null))
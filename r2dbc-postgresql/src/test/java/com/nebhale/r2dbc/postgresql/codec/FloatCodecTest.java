@@ -17,11 +17,14 @@
 package com.nebhale.r2dbc.postgresql.codec;
 
 import com.nebhale.r2dbc.postgresql.client.Parameter;
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
 
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.FLOAT4;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.FLOAT8;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT4;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
 import static com.nebhale.r2dbc.postgresql.util.ByteBufUtils.encode;
 import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
@@ -71,12 +74,29 @@ public final class FloatCodecTest {
             .withMessage("type must not be null");
     }
 
+    @Test
+    public void doCanEncodeBinary() {
+        FloatCodec codec = new FloatCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(INT4)).isFalse();
+        assertThat(codec.doCanEncodeBinary(FLOAT4)).isTrue();
+        assertThat(codec.doCanEncodeBinary(FLOAT8)).isTrue();
+    }
+
     @Test
     public void doEncode() {
         assertThat(new FloatCodec(TEST).doEncode(100f))
             .isEqualTo(new Parameter(BINARY, FLOAT4.getObjectId(), TEST.buffer(4).writeFloat(100)));
     }
 
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new FloatCodec(TEST).doEncodeBinary(100.0f, FLOAT8, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer(8).writeDouble(100.0));
+    }
+
     @Test
     public void doEncodeNoValue() {
         assertThatNullPointerException().isThrownBy(() -> new FloatCodec(TEST).doEncode(null))
@@ -30,6 +30,7 @@ import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
 import static com.nebhale.r2dbc.postgresql.util.ByteBufUtils.encode;
 import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
 public final class InetAddressCodecTest {
@@ -75,6 +76,14 @@ public final class InetAddressCodecTest {
             .withMessage("type must not be null");
     }
 
+    @Test
+    public void doCanEncodeBinary() {
+        InetAddressCodec codec = new InetAddressCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(UNSPECIFIED)).isFalse();
+        assertThat(codec.doCanEncodeBinary(VARCHAR)).isFalse();
+    }
+
     @Test
     public void doEncode() throws UnknownHostException {
         InetAddress inetAddress = InetAddress.getByName("localhost");
@@ -83,6 +92,14 @@ public final class InetAddressCodecTest {
             .isEqualTo(new Parameter(TEXT, UNSPECIFIED.getObjectId(), encode(TEST, inetAddress.getHostAddress())));
     }
 
+    @Test
+    public void doEncodeBinary() throws UnknownHostException {
+        InetAddress inetAddress = InetAddress.getByAddress(new byte[]{127, 0, 0, 1});
+
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> new InetAddressCodec(TEST).doEncodeBinary(inetAddress, VARCHAR, TEST.buffer()))
+            .withMessage("Cannot encode value of type java.net.Inet4Address as binary VARCHAR");
+    }
+
     @Test
     public void doEncodeNoValue() {
         assertThatNullPointerException().isThrownBy(() -> new InetAddressCodec(TEST).doEncode(null))
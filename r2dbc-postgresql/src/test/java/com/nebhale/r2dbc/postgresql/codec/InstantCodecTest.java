@@ -17,17 +17,23 @@
 package com.nebhale.r2dbc.postgresql.codec;
 
 import com.nebhale.r2dbc.postgresql.client.Parameter;
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
 
 import java.time.Instant;
+import java.time.LocalDateTime;
 
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.DATE;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.MONEY;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.TIMESTAMP;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.TIMESTAMPTZ;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
 import static com.nebhale.r2dbc.postgresql.util.ByteBufUtils.encode;
 import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
+import static java.time.ZoneOffset.UTC;
+import static java.time.temporal.ChronoUnit.MICROS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
@@ -47,17 +53,32 @@ public final class InstantCodecTest {
             .isEqualTo(instant);
     }
 
+    @Test
+    public void decodeBinary() {
+        LocalDateTime localDateTime = LocalDateTime.of(2018, 3, 4, 5, 6, 7, 123_456_000);
+        long micros = MICROS.between(LocalDateTime.of(2000, 1, 1, 0, 0), localDateTime);
+
+        assertThat(new InstantCodec(TEST).decode(TEST.buffer(8).writeLong(micros), BINARY, Instant.class))
+            .isEqualTo(localDateTime.toInstant(UTC));
+    }
+
     @Test
     public void decodeNoByteBuf() {
         assertThatNullPointerException().isThrownBy(() -> new InstantCodec(TEST).decode(null, TEXT, Instant.class))
             .withMessage("byteBuf must not be null");
     }
 
+    @Test
+    public void decodeNoFormat() {
+        assertThatNullPointerException().isThrownBy(() -> new InstantCodec(TEST).decode(TEST.buffer(0), null, Instant.class))
+            .withMessage("format must not be null");
+    }
+
     @Test
     public void doCanDecode() {
         InstantCodec codec = new InstantCodec(TEST);
 
-        assertThat(codec.doCanDecode(BINARY, TIMESTAMP)).isFalse();
+        assertThat(codec.doCanDecode(BINARY, TIMESTAMP)).isTrue();
         assertThat(codec.doCanDecode(TEXT, MONEY)).isFalse();
         assertThat(codec.doCanDecode(TEXT, TIMESTAMP)).isTrue();
     }
@@ -74,6 +95,15 @@ public final class InstantCodecTest {
             .withMessage("type must not be null");
     }
 
+    @Test
+    public void doCanEncodeBinary() {
+        InstantCodec codec = new InstantCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(DATE)).isFalse();
+        assertThat(codec.doCanEncodeBinary(TIMESTAMP)).isTrue();
+        assertThat(codec.doCanEncodeBinary(TIMESTAMPTZ)).isTrue();
+    }
+
     @Test
     public void doEncode() {
         Instant instant = Instant.now();
@@ -82,6 +112,14 @@ public final class InstantCodecTest {
             .isEqualTo(new Parameter(TEXT, TIMESTAMP.getObjectId(), encode(TEST, instant.toString())));
     }
 
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new InstantCodec(TEST).doEncodeBinary(Instant.parse("2000-01-01T00:00:01Z"), TIMESTAMP, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer(8).writeLong(1_000_000));
+    }
+
     @Test
     public void doEncodeNoValue() {
         assertThatNullPointerException().isThrownBy(() -> new InstantCodec(TEST).doEncode(null))
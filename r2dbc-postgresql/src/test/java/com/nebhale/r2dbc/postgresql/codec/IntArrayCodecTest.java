@@ -0,0 +1,139 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql.codec;
+
+import com.nebhale.r2dbc.postgresql.client.Parameter;
+import io.netty.buffer.ByteBuf;
+import org.junit.Test;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT4;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT4_ARRAY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.MONEY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
+import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public final class IntArrayCodecTest {
+
+    @Test
+    public void constructorNoByteBufAllocator() {
+        assertThatNullPointerException().isThrownBy(() -> new IntArrayCodec(null))
+            .withMessage("byteBufAllocator must not be null");
+    }
+
+    @Test
+    public void decode() {
+        ByteBuf byteBuf = TEST.buffer()
+            .writeInt(1).writeInt(0).writeInt(INT4.getObjectId()).writeInt(2).writeInt(1)
+            .writeInt(Integer.BYTES).writeInt(100)
+            .writeInt(Integer.BYTES).writeInt(200);
+
+        assertThat(new IntArrayCodec(TEST).decode(byteBuf, BINARY, int[].class)).containsExactly(100, 200);
+    }
+
+    @Test
+    public void decodeEmpty() {
+        ByteBuf byteBuf = TEST.buffer().writeInt(0).writeInt(0).writeInt(INT4.getObjectId());
+
+        assertThat(new IntArrayCodec(TEST).decode(byteBuf, BINARY, int[].class)).isEmpty();
+    }
+
+    @Test
+    public void decodeMultipleDimensions() {
+        ByteBuf byteBuf = TEST.buffer().writeInt(2).writeInt(0).writeInt(INT4.getObjectId()).writeInt(1).writeInt(1).writeInt(1).writeInt(1);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new IntArrayCodec(TEST).decode(byteBuf, BINARY, int[].class))
+            .withMessage("Cannot decode array with 2 dimensions");
+    }
+
+    @Test
+    public void decodeNoByteBuf() {
+        assertThatNullPointerException().isThrownBy(() -> new IntArrayCodec(TEST).decode(null, BINARY, int[].class))
+            .withMessage("byteBuf must not be null");
+    }
+
+    @Test
+    public void decodeNullElement() {
+        ByteBuf byteBuf = TEST.buffer().writeInt(1).writeInt(1).writeInt(INT4.getObjectId()).writeInt(1).writeInt(1).writeInt(-1);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new IntArrayCodec(TEST).decode(byteBuf, BINARY, int[].class))
+            .withMessage("Cannot decode null element as int");
+    }
+
+    @Test
+    public void doCanDecode() {
+        IntArrayCodec codec = new IntArrayCodec(TEST);
+
+        assertThat(codec.doCanDecode(TEXT, INT4_ARRAY)).isFalse();
+        assertThat(codec.doCanDecode(BINARY, MONEY)).isFalse();
+        assertThat(codec.doCanDecode(BINARY, INT4_ARRAY)).isTrue();
+    }
+
+    @Test
+    public void doCanDecodeNoFormat() {
+        assertThatNullPointerException().isThrownBy(() -> new IntArrayCodec(TEST).doCanDecode(null, VARCHAR))
+            .withMessage("format must not be null");
+    }
+
+    @Test
+    public void doCanDecodeNoType() {
+        assertThatNullPointerException().isThrownBy(() -> new IntArrayCodec(TEST).doCanDecode(BINARY, null))
+            .withMessage("type must not be null");
+    }
+
+    @Test
+    public void doCanEncodeBinary() {
+        IntArrayCodec codec = new IntArrayCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(INT4)).isFalse();
+        assertThat(codec.doCanEncodeBinary(INT4_ARRAY)).isTrue();
+    }
+
+    @Test
+    public void doEncode() {
+        assertThat(new IntArrayCodec(TEST).doEncode(new int[]{100, 200}))
+            .isEqualTo(new Parameter(BINARY, INT4_ARRAY.getObjectId(), TEST.buffer()
+                .writeInt(1).writeInt(0).writeInt(INT4.getObjectId()).writeInt(2).writeInt(1)
+                .writeInt(Integer.BYTES).writeInt(100)
+                .writeInt(Integer.BYTES).writeInt(200)));
+    }
+
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new IntArrayCodec(TEST).doEncodeBinary(new int[]{100}, INT4_ARRAY, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer().writeInt(1).writeInt(0).writeInt(INT4.getObjectId()).writeInt(1).writeInt(1).writeInt(Integer.BYTES).writeInt(100));
+    }
+
+    @Test
+    public void doEncodeEmpty() {
+        assertThat(new IntArrayCodec(TEST).doEncode(new int[0]))
+            .isEqualTo(new Parameter(BINARY, INT4_ARRAY.getObjectId(), TEST.buffer().writeInt(0).writeInt(0).writeInt(INT4.getObjectId())));
+    }
+
+    @Test
+    public void doEncodeNoValue() {
+        assertThatNullPointerException().isThrownBy(() -> new IntArrayCodec(TEST).doEncode(null))
+            .withMessage("value must not be null");
+    }
+
+}
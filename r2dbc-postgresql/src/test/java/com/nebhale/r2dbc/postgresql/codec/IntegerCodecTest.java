@@ -18,11 +18,14 @@ package com.nebhale.r2dbc.postgresql.codec;
 
 import com.nebhale.r2dbc.postgresql.client.Parameter;
 import com.nebhale.r2dbc.postgresql.util.ByteBufUtils;
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
 
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT2;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT4;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT8;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
 import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -71,12 +74,29 @@ public final class IntegerCodecTest {
             .withMessage("type must not be null");
     }
 
+    @Test
+    public void doCanEncodeBinary() {
+        IntegerCodec codec = new IntegerCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(INT2)).isFalse();
+        assertThat(codec.doCanEncodeBinary(INT4)).isTrue();
+        assertThat(codec.doCanEncodeBinary(INT8)).isTrue();
+    }
+
     @Test
     public void doEncode() {
         assertThat(new IntegerCodec(TEST).doEncode(100))
             .isEqualTo(new Parameter(BINARY, INT4.getObjectId(), TEST.buffer(4).writeInt(100)));
     }
 
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new IntegerCodec(TEST).doEncodeBinary(100, INT8, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer(8).writeLong(100));
+    }
+
     @Test
     public void doEncodeNoValue() {
         assertThatNullPointerException().isThrownBy(() -> new IntegerCodec(TEST).doEncode(null))
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+
+import static io.netty.util.CharsetUtil.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public final class JacksonJsonMapperTest {
+
+    @Test
+    public void constructorNoObjectMapper() {
+        assertThatNullPointerException().isThrownBy(() -> new JacksonJsonMapper(null))
+            .withMessage("objectMapper must not be null");
+    }
+
+    @Test
+    public void read() throws IOException {
+        JsonNode node = new JacksonJsonMapper().read(new ByteArrayInputStream("{\"alpha\":[1,2]}".getBytes(UTF_8)), JsonNode.class);
+
+        assertThat(node.get("alpha").get(1).intValue()).isEqualTo(2);
+    }
+
+    @Test
+    public void readNoIn() {
+        assertThatNullPointerException().isThrownBy(() -> new JacksonJsonMapper().read(null, JsonNode.class))
+            .withMessage("in must not be null");
+    }
+
+    @Test
+    public void readNoType() {
+        assertThatNullPointerException().isThrownBy(() -> new JacksonJsonMapper().read(new ByteArrayInputStream(new byte[0]), null))
+            .withMessage("type must not be null");
+    }
+
+    @Test
+    public void write() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new JacksonJsonMapper(new ObjectMapper()).write(out, Collections.singletonMap("alpha", 1));
+
+        assertThat(new String(out.toByteArray(), UTF_8)).isEqualTo("{\"alpha\":1}");
+    }
+
+    @Test
+    public void writeNoOut() {
+        assertThatNullPointerException().isThrownBy(() -> new JacksonJsonMapper().write(null, "alpha"))
+            .withMessage("out must not be null");
+    }
+
+    @Test
+    public void writeNoValue() {
+        assertThatNullPointerException().isThrownBy(() -> new JacksonJsonMapper().write(new ByteArrayOutputStream(), null))
+            .withMessage("value must not be null");
+    }
+
+}
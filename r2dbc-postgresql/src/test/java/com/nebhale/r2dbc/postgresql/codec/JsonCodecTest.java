@@ -0,0 +1,175 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql.codec;
+
+import com.nebhale.r2dbc.postgresql.client.Parameter;
+import io.netty.buffer.ByteBuf;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Map;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.JSON;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.JSONB;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
+import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
+import static io.netty.util.CharsetUtil.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public final class JsonCodecTest {
+
+    private final JsonCodec codec = new JsonCodec(TEST, new JacksonJsonMapper());
+
+    @Test
+    public void canDecode() {
+        assertThat(this.codec.canDecode(JSON.getObjectId(), TEXT, Map.class)).isTrue();
+        assertThat(this.codec.canDecode(JSON.getObjectId(), BINARY, Map.class)).isFalse();
+        assertThat(this.codec.canDecode(JSONB.getObjectId(), TEXT, Map.class)).isTrue();
+        assertThat(this.codec.canDecode(JSONB.getObjectId(), BINARY, Map.class)).isTrue();
+        assertThat(this.codec.canDecode(VARCHAR.getObjectId(), TEXT, Map.class)).isFalse();
+    }
+
+    @Test
+    public void canDecodeNoByteBuf() {
+        assertThat(this.codec.canDecode(null, JSONB.getObjectId(), BINARY, Map.class)).isFalse();
+    }
+
+    @Test
+    public void canEncode() {
+        assertThat(this.codec.canEncode(Json.of(Collections.emptyMap()))).isTrue();
+        assertThat(this.codec.canEncode(Collections.emptyMap())).isFalse();
+    }
+
+    @Test
+    public void canEncodeBinary() {
+        assertThat(this.codec.canEncodeBinary(Json.of(Collections.emptyMap()), JSON.getObjectId())).isTrue();
+        assertThat(this.codec.canEncodeBinary(Json.of(Collections.emptyMap()), JSONB.getObjectId())).isTrue();
+        assertThat(this.codec.canEncodeBinary(Json.of(Collections.emptyMap()), VARCHAR.getObjectId())).isFalse();
+        assertThat(this.codec.canEncodeBinary(Collections.emptyMap(), JSONB.getObjectId())).isFalse();
+    }
+
+    @Test
+    public void constructorNoByteBufAllocator() {
+        assertThatNullPointerException().isThrownBy(() -> new JsonCodec(null, new JacksonJsonMapper()))
+            .withMessage("byteBufAllocator must not be null");
+    }
+
+    @Test
+    public void constructorNoJsonMapper() {
+        assertThatNullPointerException().isThrownBy(() -> new JsonCodec(TEST, null))
+            .withMessage("jsonMapper must not be null");
+    }
+
+    @Test
+    public void decodeBinary() {
+        ByteBuf byteBuf = TEST.buffer().writeByte(1).writeBytes("{\"alpha\":1}".getBytes(UTF_8));
+
+        assertThat(this.codec.decode(byteBuf, BINARY, Map.class)).isEqualTo(Collections.singletonMap("alpha", 1));
+    }
+
+    @Test
+    public void decodeBinaryUnsupportedVersion() {
+        ByteBuf byteBuf = TEST.buffer().writeByte(2).writeBytes("{}".getBytes(UTF_8));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> this.codec.decode(byteBuf, BINARY, Map.class))
+            .withMessage("Cannot decode jsonb version 2");
+    }
+
+    @Test
+    public void decodeInvalid() {
+        ByteBuf byteBuf = TEST.buffer().writeBytes("{\"alpha\":".getBytes(UTF_8));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> this.codec.decode(byteBuf, TEXT, Map.class))
+            .withMessage("Cannot decode value of type java.util.Map");
+    }
+
+    @Test
+    public void decodeNoByteBuf() {
+        assertThatNullPointerException().isThrownBy(() -> this.codec.decode(null, TEXT, Map.class))
+            .withMessage("byteBuf must not be null");
+    }
+
+    @Test
+    public void decodeString() {
+        ByteBuf byteBuf = TEST.buffer().writeByte(1).writeBytes("{\"alpha\": 1}".getBytes(UTF_8));
+
+        assertThat(this.codec.decode(byteBuf, BINARY, String.class)).isEqualTo("{\"alpha\": 1}");
+    }
+
+    @Test
+    public void decodeText() {
+        ByteBuf byteBuf = TEST.buffer().writeBytes("{\"alpha\":1}".getBytes(UTF_8));
+
+        assertThat(this.codec.decode(byteBuf, TEXT, Map.class)).isEqualTo(Collections.singletonMap("alpha", 1));
+    }
+
+    @Test
+    public void encode() {
+        assertThat(this.codec.encode(Json.of(Collections.singletonMap("alpha", 1))))
+            .isEqualTo(new Parameter(BINARY, JSONB.getObjectId(), TEST.buffer().writeByte(1).writeBytes("{\"alpha\":1}".getBytes(UTF_8))));
+    }
+
+    @Test
+    public void encodeBinaryJson() {
+        ByteBuf byteBuf = TEST.buffer();
+        this.codec.encodeBinary(Json.of(Collections.singletonMap("alpha", 1)), JSON.getObjectId(), byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer().writeBytes("{\"alpha\":1}".getBytes(UTF_8)));
+    }
+
+    @Test
+    public void encodeBinaryJsonb() {
+        ByteBuf byteBuf = TEST.buffer();
+        this.codec.encodeBinary(Json.of(Collections.singletonMap("alpha", 1)), JSONB.getObjectId(), byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer().writeByte(1).writeBytes("{\"alpha\":1}".getBytes(UTF_8)));
+    }
+
+    @Test
+    public void encodeInvalid() {
+        JsonCodec codec = new JsonCodec(TEST, new JsonMapper() {
+
+            @Override
+            public <T> T read(InputStream in, Class<? extends T> type) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void write(OutputStream out, Object value) throws IOException {
+                throw new IOException();
+            }
+
+        });
+
+        assertThatIllegalArgumentException().isThrownBy(() -> codec.encode(Json.of("alpha")))
+            .withMessage("Cannot encode value of type java.lang.String");
+    }
+
+    @Test
+    public void encodeNoValue() {
+        assertThatNullPointerException().isThrownBy(() -> this.codec.encode(null))
+            .withMessage("value must not be null");
+    }
+
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql.codec;
+
+import com.nebhale.r2dbc.postgresql.client.Parameter;
+import com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId;
+import io.netty.buffer.ByteBuf;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.FLOAT8;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.FLOAT8_ARRAY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT4;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT4_ARRAY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT8;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT8_ARRAY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.MONEY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.TEXT_ARRAY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.UUID_ARRAY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR_ARRAY;
+import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
+import static io.netty.util.CharsetUtil.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public final class ListCodecTest {
+
+    @Test
+    public void constructorNoByteBufAllocator() {
+        assertThatNullPointerException().isThrownBy(() -> new ListCodec(null))
+            .withMessage("byteBufAllocator must not be null");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void decodeDouble() {
+        ByteBuf byteBuf = TEST.buffer()
+            .writeInt(1).writeInt(1).writeInt(FLOAT8.getObjectId()).writeInt(2).writeInt(1)
+            .writeInt(8).writeDouble(100.5)
+            .writeInt(-1);
+
+        assertThat(new ListCodec(TEST).decode(byteBuf, BINARY, List.class)).containsExactly(100.5, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void decodeEmpty() {
+        ByteBuf byteBuf = TEST.buffer().writeInt(0).writeInt(0).writeInt(INT4.getObjectId());
+
+        assertThat(new ListCodec(TEST).decode(byteBuf, BINARY, List.class)).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void decodeInteger() {
+        ByteBuf byteBuf = TEST.buffer()
+            .writeInt(1).writeInt(1).writeInt(INT4.getObjectId()).writeInt(2).writeInt(1)
+            .writeInt(4).writeInt(100)
+            .writeInt(-1);
+
+        assertThat(new ListCodec(TEST).decode(byteBuf, BINARY, List.class)).containsExactly(100, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void decodeLong() {
+        ByteBuf byteBuf = TEST.buffer()
+            .writeInt(1).writeInt(1).writeInt(INT8.getObjectId()).writeInt(2).writeInt(1)
+            .writeInt(8).writeLong(100)
+            .writeInt(-1);
+
+        assertThat(new ListCodec(TEST).decode(byteBuf, BINARY, List.class)).containsExactly(100L, null);
+    }
+
+    @Test
+    public void decodeNoByteBuf() {
+        assertThatNullPointerException().isThrownBy(() -> new ListCodec(TEST).decode(null, BINARY, List.class))
+            .withMessage("byteBuf must not be null");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void decodeString() {
+        ByteBuf byteBuf = TEST.buffer()
+            .writeInt(1).writeInt(1).writeInt(VARCHAR.getObjectId()).writeInt(2).writeInt(1)
+            .writeInt(5).writeBytes("alpha".getBytes(UTF_8))
+            .writeInt(-1);
+
+        assertThat(new ListCodec(TEST).decode(byteBuf, BINARY, List.class)).containsExactly("alpha", null);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void decodeUuid() {
+        ByteBuf byteBuf = TEST.buffer()
+            .writeInt(1).writeInt(1).writeInt(PostgresqlObjectId.UUID.getObjectId()).writeInt(2).writeInt(1)
+            .writeInt(16).writeLong(1).writeLong(2)
+            .writeInt(-1);
+
+        assertThat(new ListCodec(TEST).decode(byteBuf, BINARY, List.class)).containsExactly(new UUID(1, 2), null);
+    }
+
+    @Test
+    public void doCanDecode() {
+        ListCodec codec = new ListCodec(TEST);
+
+        assertThat(codec.doCanDecode(TEXT, INT4_ARRAY)).isFalse();
+        assertThat(codec.doCanDecode(BINARY, MONEY)).isFalse();
+        assertThat(codec.doCanDecode(BINARY, FLOAT8_ARRAY)).isTrue();
+        assertThat(codec.doCanDecode(BINARY, INT4_ARRAY)).isTrue();
+        assertThat(codec.doCanDecode(BINARY, INT8_ARRAY)).isTrue();
+        assertThat(codec.doCanDecode(BINARY, TEXT_ARRAY)).isTrue();
+        assertThat(codec.doCanDecode(BINARY, UUID_ARRAY)).isTrue();
+        assertThat(codec.doCanDecode(BINARY, VARCHAR_ARRAY)).isTrue();
+    }
+
+    @Test
+    public void doCanDecodeNoFormat() {
+        assertThatNullPointerException().isThrownBy(() -> new ListCodec(TEST).doCanDecode(null, VARCHAR))
+            .withMessage("format must not be null");
+    }
+
+    @Test
+    public void doCanDecodeNoType() {
+        assertThatNullPointerException().isThrownBy(() -> new ListCodec(TEST).doCanDecode(BINARY, null))
+            .withMessage("type must not be null");
+    }
+
+    @Test
+    public void doCanEncodeBinary() {
+        ListCodec codec = new ListCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(INT4)).isFalse();
+        assertThat(codec.doCanEncodeBinary(INT4_ARRAY)).isTrue();
+        assertThat(codec.doCanEncodeBinary(VARCHAR_ARRAY)).isTrue();
+    }
+
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new ListCodec(TEST).doEncodeBinary(Arrays.asList(100L, null), INT8_ARRAY, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer()
+            .writeInt(1).writeInt(1).writeInt(INT8.getObjectId()).writeInt(2).writeInt(1)
+            .writeInt(8).writeLong(100)
+            .writeInt(-1));
+    }
+
+    @Test
+    public void doEncodeBinaryMismatchedElement() {
+        ByteBuf byteBuf = TEST.buffer();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new ListCodec(TEST).doEncodeBinary(Arrays.asList(100, null), TEXT_ARRAY, byteBuf))
+            .withMessage("Cannot encode List with elements of type java.lang.Integer as TEXT");
+    }
+
+    @Test
+    public void doEncodeDouble() {
+        assertThat(new ListCodec(TEST).doEncode(Arrays.asList(null, 100.5)))
+            .isEqualTo(new Parameter(BINARY, FLOAT8_ARRAY.getObjectId(), TEST.buffer()
+                .writeInt(1).writeInt(1).writeInt(FLOAT8.getObjectId()).writeInt(2).writeInt(1)
+                .writeInt(-1)
+                .writeInt(8).writeDouble(100.5)));
+    }
+
+    @Test
+    public void doEncodeInteger() {
+        assertThat(new ListCodec(TEST).doEncode(Collections.singletonList(100)))
+            .isEqualTo(new Parameter(BINARY, INT4_ARRAY.getObjectId(), TEST.buffer()
+                .writeInt(1).writeInt(0).writeInt(INT4.getObjectId()).writeInt(1).writeInt(1)
+                .writeInt(4).writeInt(100)));
+    }
+
+    @Test
+    public void doEncodeMixedElements() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ListCodec(TEST).doEncode(Arrays.asList(1, null, 2L)))
+            .withMessage("Cannot encode List with elements of both type java.lang.Integer and java.lang.Long");
+    }
+
+    @Test
+    public void doEncodeNoElements() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ListCodec(TEST).doEncode(Collections.singletonList(null)))
+            .withMessage("Cannot determine the array type of a List without non-null elements");
+    }
+
+    @Test
+    public void doEncodeNoValue() {
+        assertThatNullPointerException().isThrownBy(() -> new ListCodec(TEST).doEncode(null))
+            .withMessage("value must not be null");
+    }
+
+    @Test
+    public void doEncodeString() {
+        assertThat(new ListCodec(TEST).doEncode(Collections.singletonList("alpha")))
+            .isEqualTo(new Parameter(BINARY, TEXT_ARRAY.getObjectId(), TEST.buffer()
+                .writeInt(1).writeInt(0).writeInt(PostgresqlObjectId.TEXT.getObjectId()).writeInt(1).writeInt(1)
+                .writeInt(5).writeBytes("alpha".getBytes(UTF_8))));
+    }
+
+    @Test
+    public void doEncodeUnsupportedElement() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ListCodec(TEST).doEncode(Collections.singletonList(new Object())))
+            .withMessage("Cannot encode List with elements of type java.lang.Object");
+    }
+
+    @Test
+    public void doEncodeUuid() {
+        assertThat(new ListCodec(TEST).doEncode(Collections.singletonList(new UUID(1, 2))))
+            .isEqualTo(new Parameter(BINARY, UUID_ARRAY.getObjectId(), TEST.buffer()
+                .writeInt(1).writeInt(0).writeInt(PostgresqlObjectId.UUID.getObjectId()).writeInt(1).writeInt(1)
+                .writeInt(16).writeLong(1).writeLong(2)));
+    }
+
+}
@@ -17,6 +17,7 @@
 package com.nebhale.r2dbc.postgresql.codec;
 
 import com.nebhale.r2dbc.postgresql.client.Parameter;
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
 
 import java.time.LocalDate;
@@ -25,6 +26,7 @@ import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.DATE;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.MONEY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.TIMESTAMP;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
 import static com.nebhale.r2dbc.postgresql.util.ByteBufUtils.encode;
 import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
@@ -47,17 +49,33 @@ public final class LocalDateCodecTest {
             .isEqualTo(localDate);
     }
 
+    @Test
+    public void decodeBinary() {
+        LocalDateCodec codec = new LocalDateCodec(TEST);
+
+        assertThat(codec.decode(TEST.buffer(4).writeInt(6637), BINARY, LocalDate.class)).isEqualTo(LocalDate.of(2018, 3, 4));
+        assertThat(codec.decode(TEST.buffer(4).writeInt(-1), BINARY, LocalDate.class)).isEqualTo(LocalDate.of(1999, 12, 31));
+        assertThat(codec.decode(TEST.buffer(4).writeInt(Integer.MAX_VALUE), BINARY, LocalDate.class)).isEqualTo(LocalDate.MAX);
+        assertThat(codec.decode(TEST.buffer(4).writeInt(Integer.MIN_VALUE), BINARY, LocalDate.class)).isEqualTo(LocalDate.MIN);
+    }
+
     @Test
     public void decodeNoByteBuf() {
         assertThatNullPointerException().isThrownBy(() -> new LocalDateCodec(TEST).decode(null, TEXT, LocalDate.class))
             .withMessage("byteBuf must not be null");
     }
 
+    @Test
+    public void decodeNoFormat() {
+        assertThatNullPointerException().isThrownBy(() -> new LocalDateCodec(TEST).decode(TEST.buffer(0), null, LocalDate.class))
+            .withMessage("format must not be null");
+    }
+
     @Test
     public void doCanDecode() {
         LocalDateCodec codec = new LocalDateCodec(TEST);
 
-        assertThat(codec.doCanDecode(BINARY, DATE)).isFalse();
+        assertThat(codec.doCanDecode(BINARY, DATE)).isTrue();
         assertThat(codec.doCanDecode(TEXT, MONEY)).isFalse();
         assertThat(codec.doCanDecode(TEXT, DATE)).isTrue();
     }
@@ -74,6 +92,14 @@ public final class LocalDateCodecTest {
             .withMessage("type must not be null");
     }
 
+    @Test
+    public void doCanEncodeBinary() {
+        LocalDateCodec codec = new LocalDateCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(TIMESTAMP)).isFalse();
+        assertThat(codec.doCanEncodeBinary(DATE)).isTrue();
+    }
+
     @Test
     public void doEncode() {
         LocalDate localDate = LocalDate.now();
@@ -82,6 +108,14 @@ public final class LocalDateCodecTest {
             .isEqualTo(new Parameter(TEXT, DATE.getObjectId(), encode(TEST, localDate.toString())));
     }
 
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new LocalDateCodec(TEST).doEncodeBinary(LocalDate.of(2000, 1, 11), DATE, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer(4).writeInt(10));
+    }
+
     @Test
     public void doEncodeNoValue() {
         assertThatNullPointerException().isThrownBy(() -> new LocalDateCodec(TEST).doEncode(null))
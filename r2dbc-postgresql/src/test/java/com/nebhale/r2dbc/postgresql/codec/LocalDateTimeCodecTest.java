@@ -17,6 +17,7 @@
 package com.nebhale.r2dbc.postgresql.codec;
 
 import com.nebhale.r2dbc.postgresql.client.Parameter;
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
 
 import java.time.LocalDateTime;
@@ -25,9 +26,11 @@ import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.MONEY;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.TIMESTAMP;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.TIMESTAMPTZ;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
 import static com.nebhale.r2dbc.postgresql.util.ByteBufUtils.encode;
 import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
+import static java.time.temporal.ChronoUnit.MICROS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
@@ -47,17 +50,35 @@ public final class LocalDateTimeCodecTest {
             .isEqualTo(localDateTime);
     }
 
+    @Test
+    public void decodeBinary() {
+        LocalDateTimeCodec codec = new LocalDateTimeCodec(TEST);
+        LocalDateTime localDateTime = LocalDateTime.of(2018, 3, 4, 5, 6, 7, 123_456_000);
+        long micros = MICROS.between(LocalDateTime.of(2000, 1, 1, 0, 0), localDateTime);
+
+        assertThat(codec.decode(TEST.buffer(8).writeLong(micros), BINARY, LocalDateTime.class)).isEqualTo(localDateTime);
+        assertThat(codec.decode(TEST.buffer(8).writeLong(-1), BINARY, LocalDateTime.class)).isEqualTo(LocalDateTime.of(1999, 12, 31, 23, 59, 59, 999_999_000));
+        assertThat(codec.decode(TEST.buffer(8).writeLong(Long.MAX_VALUE), BINARY, LocalDateTime.class)).isEqualTo(LocalDateTime.MAX);
+        assertThat(codec.decode(TEST.buffer(8).writeLong(Long.MIN_VALUE), BINARY, LocalDateTime.class)).isEqualTo(LocalDateTime.MIN);
+    }
+
     @Test
     public void decodeNoByteBuf() {
         assertThatNullPointerException().isThrownBy(() -> new LocalDateTimeCodec(TEST).decode(null, TEXT, LocalDateTime.class))
             .withMessage("byteBuf must not be null");
     }
 
+    @Test
+    public void decodeNoFormat() {
+        assertThatNullPointerException().isThrownBy(() -> new LocalDateTimeCodec(TEST).decode(TEST.buffer(0), null, LocalDateTime.class))
+            .withMessage("format must not be null");
+    }
+
     @Test
     public void doCanDecode() {
         LocalDateTimeCodec codec = new LocalDateTimeCodec(TEST);
 
-        assertThat(codec.doCanDecode(BINARY, TIMESTAMP)).isFalse();
+        assertThat(codec.doCanDecode(BINARY, TIMESTAMP)).isTrue();
         assertThat(codec.doCanDecode(TEXT, MONEY)).isFalse();
         assertThat(codec.doCanDecode(TEXT, TIMESTAMP)).isTrue();
     }
@@ -74,6 +95,14 @@ public final class LocalDateTimeCodecTest {
             .withMessage("type must not be null");
     }
 
+    @Test
+    public void doCanEncodeBinary() {
+        LocalDateTimeCodec codec = new LocalDateTimeCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(TIMESTAMPTZ)).isFalse();
+        assertThat(codec.doCanEncodeBinary(TIMESTAMP)).isTrue();
+    }
+
     @Test
     public void doEncode() {
         LocalDateTime localDateTime = LocalDateTime.now();
@@ -82,6 +111,14 @@ public final class LocalDateTimeCodecTest {
             .isEqualTo(new Parameter(TEXT, TIMESTAMP.getObjectId(), encode(TEST, localDateTime.toString())));
     }
 
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new LocalDateTimeCodec(TEST).doEncodeBinary(LocalDateTime.of(2000, 1, 1, 0, 0, 1), TIMESTAMP, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer(8).writeLong(1_000_000));
+    }
+
     @Test
     public void doEncodeNoValue() {
         assertThatNullPointerException().isThrownBy(() -> new LocalDateTimeCodec(TEST).doEncode(null))
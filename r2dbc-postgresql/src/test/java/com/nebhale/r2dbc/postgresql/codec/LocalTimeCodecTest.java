@@ -17,6 +17,7 @@
 package com.nebhale.r2dbc.postgresql.codec;
 
 import com.nebhale.r2dbc.postgresql.client.Parameter;
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
 
 import java.time.LocalTime;
@@ -25,6 +26,7 @@ import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.MONEY;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.TIME;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.TIMESTAMP;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
 import static com.nebhale.r2dbc.postgresql.util.ByteBufUtils.encode;
 import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
@@ -47,17 +49,29 @@ public final class LocalTimeCodecTest {
             .isEqualTo(localTime);
     }
 
+    @Test
+    public void decodeBinary() {
+        assertThat(new LocalTimeCodec(TEST).decode(TEST.buffer(8).writeLong(36_672_123_456L), BINARY, LocalTime.class))
+            .isEqualTo(LocalTime.of(10, 11, 12, 123_456_000));
+    }
+
     @Test
     public void decodeNoByteBuf() {
         assertThatNullPointerException().isThrownBy(() -> new LocalTimeCodec(TEST).decode(null, TEXT, LocalTime.class))
             .withMessage("byteBuf must not be null");
     }
 
+    @Test
+    public void decodeNoFormat() {
+        assertThatNullPointerException().isThrownBy(() -> new LocalTimeCodec(TEST).decode(TEST.buffer(0), null, LocalTime.class))
+            .withMessage("format must not be null");
+    }
+
     @Test
     public void doCanDecode() {
         LocalTimeCodec codec = new LocalTimeCodec(TEST);
 
-        assertThat(codec.doCanDecode(BINARY, TIME)).isFalse();
+        assertThat(codec.doCanDecode(BINARY, TIME)).isTrue();
         assertThat(codec.doCanDecode(TEXT, MONEY)).isFalse();
         assertThat(codec.doCanDecode(TEXT, TIME)).isTrue();
     }
@@ -74,6 +88,14 @@ public final class LocalTimeCodecTest {
             .withMessage("type must not be null");
     }
 
+    @Test
+    public void doCanEncodeBinary() {
+        LocalTimeCodec codec = new LocalTimeCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(TIMESTAMP)).isFalse();
+        assertThat(codec.doCanEncodeBinary(TIME)).isTrue();
+    }
+
     @Test
     public void doEncode() {
         LocalTime localTime = LocalTime.now();
@@ -82,6 +104,14 @@ public final class LocalTimeCodecTest {
             .isEqualTo(new Parameter(TEXT, TIME.getObjectId(), encode(TEST, localTime.toString())));
     }
 
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new LocalTimeCodec(TEST).doEncodeBinary(LocalTime.of(0, 0, 1), TIME, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer(8).writeLong(1_000_000));
+    }
+
     @Test
     public void doEncodeNoValue() {
         assertThatNullPointerException().isThrownBy(() -> new LocalTimeCodec(TEST).doEncode(null))
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql.codec;
+
+import com.nebhale.r2dbc.postgresql.client.Parameter;
+import io.netty.buffer.ByteBuf;
+import org.junit.Test;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT8;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT8_ARRAY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.MONEY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
+import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public final class LongArrayCodecTest {
+
+    @Test
+    public void constructorNoByteBufAllocator() {
+        assertThatNullPointerException().isThrownBy(() -> new LongArrayCodec(null))
+            .withMessage("byteBufAllocator must not be null");
+    }
+
+    @Test
+    public void decode() {
+        ByteBuf byteBuf = TEST.buffer()
+            .writeInt(1).writeInt(0).writeInt(INT8.getObjectId()).writeInt(2).writeInt(1)
+            .writeInt(Long.BYTES).writeLong(100L)
+            .writeInt(Long.BYTES).writeLong(200L);
+
+        assertThat(new LongArrayCodec(TEST).decode(byteBuf, BINARY, long[].class)).containsExactly(100L, 200L);
+    }
+
+    @Test
+    public void decodeEmpty() {
+        ByteBuf byteBuf = TEST.buffer().writeInt(0).writeInt(0).writeInt(INT8.getObjectId());
+
+        assertThat(new LongArrayCodec(TEST).decode(byteBuf, BINARY, long[].class)).isEmpty();
+    }
+
+    @Test
+    public void decodeMultipleDimensions() {
+        ByteBuf byteBuf = TEST.buffer().writeInt(2).writeInt(0).writeInt(INT8.getObjectId()).writeInt(1).writeInt(1).writeInt(1).writeInt(1);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new LongArrayCodec(TEST).decode(byteBuf, BINARY, long[].class))
+            .withMessage("Cannot decode array with 2 dimensions");
+    }
+
+    @Test
+    public void decodeNoByteBuf() {
+        assertThatNullPointerException().isThrownBy(() -> new LongArrayCodec(TEST).decode(null, BINARY, long[].class))
+            .withMessage("byteBuf must not be null");
+    }
+
+    @Test
+    public void decodeNullElement() {
+        ByteBuf byteBuf = TEST.buffer().writeInt(1).writeInt(1).writeInt(INT8.getObjectId()).writeInt(1).writeInt(1).writeInt(-1);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new LongArrayCodec(TEST).decode(byteBuf, BINARY, long[].class))
+            .withMessage("Cannot decode null element as long");
+    }
+
+    @Test
+    public void doCanDecode() {
+        LongArrayCodec codec = new LongArrayCodec(TEST);
+
+        assertThat(codec.doCanDecode(TEXT, INT8_ARRAY)).isFalse();
+        assertThat(codec.doCanDecode(BINARY, MONEY)).isFalse();
+        assertThat(codec.doCanDecode(BINARY, INT8_ARRAY)).isTrue();
+    }
+
+    @Test
+    public void doCanDecodeNoFormat() {
+        assertThatNullPointerException().isThrownBy(() -> new LongArrayCodec(TEST).doCanDecode(null, VARCHAR))
+            .withMessage("format must not be null");
+    }
+
+    @Test
+    public void doCanDecodeNoType() {
+        assertThatNullPointerException().isThrownBy(() -> new LongArrayCodec(TEST).doCanDecode(BINARY, null))
+            .withMessage("type must not be null");
+    }
+
+    @Test
+    public void doCanEncodeBinary() {
+        LongArrayCodec codec = new LongArrayCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(INT8)).isFalse();
+        assertThat(codec.doCanEncodeBinary(INT8_ARRAY)).isTrue();
+    }
+
+    @Test
+    public void doEncode() {
+        assertThat(new LongArrayCodec(TEST).doEncode(new long[]{100L, 200L}))
+            .isEqualTo(new Parameter(BINARY, INT8_ARRAY.getObjectId(), TEST.buffer()
+                .writeInt(1).writeInt(0).writeInt(INT8.getObjectId()).writeInt(2).writeInt(1)
+                .writeInt(Long.BYTES).writeLong(100L)
+                .writeInt(Long.BYTES).writeLong(200L)));
+    }
+
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new LongArrayCodec(TEST).doEncodeBinary(new long[]{100L}, INT8_ARRAY, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer().writeInt(1).writeInt(0).writeInt(INT8.getObjectId()).writeInt(1).writeInt(1).writeInt(Long.BYTES).writeLong(100L));
+    }
+
+    @Test
+    public void doEncodeEmpty() {
+        assertThat(new LongArrayCodec(TEST).doEncode(new long[0]))
+            .isEqualTo(new Parameter(BINARY, INT8_ARRAY.getObjectId(), TEST.buffer().writeInt(0).writeInt(0).writeInt(INT8.getObjectId())));
+    }
+
+    @Test
+    public void doEncodeNoValue() {
+        assertThatNullPointerException().isThrownBy(() -> new LongArrayCodec(TEST).doEncode(null))
+            .withMessage("value must not be null");
+    }
+
+}
@@ -17,10 +17,12 @@
 package com.nebhale.r2dbc.postgresql.codec;
 
 import com.nebhale.r2dbc.postgresql.client.Parameter;
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
 
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT4;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT8;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
 import static com.nebhale.r2dbc.postgresql.util.ByteBufUtils.encode;
@@ -71,12 +73,28 @@ public final class LongCodecTest {
             .withMessage("type must not be null");
     }
 
+    @Test
+    public void doCanEncodeBinary() {
+        LongCodec codec = new LongCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(INT4)).isFalse();
+        assertThat(codec.doCanEncodeBinary(INT8)).isTrue();
+    }
+
     @Test
     public void doEncode() {
         assertThat(new LongCodec(TEST).doEncode(100L))
             .isEqualTo(new Parameter(BINARY, INT8.getObjectId(), TEST.buffer(8).writeLong(100)));
     }
 
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new LongCodec(TEST).doEncodeBinary(100L, INT8, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer(8).writeLong(100));
+    }
+
     @Test
     public void doEncodeNoValue() {
         assertThatNullPointerException().isThrownBy(() -> new LongCodec(TEST).doEncode(null))
@@ -29,16 +29,23 @@ import java.util.Set;
 
 public final class MockCodec<T> extends AbstractCodec<T> {
 
+    private final Map<T, ByteBuf> binaryEncodings;
+
     private final Set<CanDecode> canDecodes;
 
+    private final Set<PostgresqlObjectId> canEncodeBinaries;
+
     private final Map<Decoding, T> decodings;
 
     private final Map<T, Parameter> encodings;
 
-    private MockCodec(Set<CanDecode> canDecodes, Map<Decoding, T> decodings, Map<T, Parameter> encodings, Class<T> type) {
+    private MockCodec(Map<T, ByteBuf> binaryEncodings, Set<CanDecode> canDecodes, Set<PostgresqlObjectId> canEncodeBinaries, Map<Decoding, T> decodings, Map<T, Parameter> encodings,
+                      Class<T> type) {
         super(type);
 
+        this.binaryEncodings = Objects.requireNonNull(binaryEncodings);
         this.canDecodes = Objects.requireNonNull(canDecodes);
+        this.canEncodeBinaries = Objects.requireNonNull(canEncodeBinaries);
         this.decodings = Objects.requireNonNull(decodings);
         this.encodings = Objects.requireNonNull(encodings);
     }
@@ -70,7 +77,8 @@ public final class MockCodec<T> extends AbstractCodec<T> {
     @Override
     public String toString() {
         return "StubCodec{" +
-            "decodings=" + this.decodings +
+            "binaryEncodings=" + this.binaryEncodings +
+            ", decodings=" + this.decodings +
             ", encodings=" + this.encodings +
             "} " + super.toString();
     }
@@ -83,6 +91,13 @@ public final class MockCodec<T> extends AbstractCodec<T> {
         return this.canDecodes.contains(new CanDecode(format, type));
     }
 
+    @Override
+    boolean doCanEncodeBinary(PostgresqlObjectId type) {
+        Objects.requireNonNull(type);
+
+        return this.canEncodeBinaries.contains(type);
+    }
+
     @Override
     Parameter doEncode(T value) {
         if (!this.encodings.containsKey(value)) {
@@ -92,10 +107,24 @@ public final class MockCodec<T> extends AbstractCodec<T> {
         return this.encodings.get(value);
     }
 
+    @Override
+    void doEncodeBinary(T value, PostgresqlObjectId type, ByteBuf byteBuf) {
+        if (!this.binaryEncodings.containsKey(value)) {
+            throw new AssertionError(String.format("Unexpected call to doEncodeBinary(T, PostgresqlObjectId, ByteBuf) with value '%s'", value));
+        }
+
+        ByteBuf encoded = this.binaryEncodings.get(value);
+        byteBuf.writeBytes(encoded, encoded.readerIndex(), encoded.readableBytes());
+    }
+
     public static final class Builder<T> {
 
+        private final Map<T, ByteBuf> binaryEncodings = new HashMap<>();
+
         private final Set<CanDecode> canDecodes = new HashSet<>();
 
+        private final Set<PostgresqlObjectId> canEncodeBinaries = new HashSet<>();
+
         private final Map<Decoding, T> decodings = new HashMap<>();
 
         private final Map<T, Parameter> encodings = new HashMap<>();
@@ -107,7 +136,17 @@ public final class MockCodec<T> extends AbstractCodec<T> {
         }
 
         public MockCodec<T> build() {
-            return new MockCodec<>(this.canDecodes, this.decodings, this.encodings, this.type);
+            return new MockCodec<>(this.binaryEncodings, this.canDecodes, this.canEncodeBinaries, this.decodings, this.encodings, this.type);
+        }
+
+        public Builder<T> binaryEncoding(T value, PostgresqlObjectId type, ByteBuf encoded) {
+            Objects.requireNonNull(value);
+            Objects.requireNonNull(type);
+            Objects.requireNonNull(encoded);
+
+            this.binaryEncodings.put(value, encoded);
+            this.canEncodeBinaries.add(type);
+            return this;
         }
 
         public Builder<T> canDecode(Format format, PostgresqlObjectId type) {
@@ -138,7 +177,8 @@ public final class MockCodec<T> extends AbstractCodec<T> {
         @Override
         public String toString() {
             return "Builder{" +
-                "decodings=" + this.decodings +
+                "binaryEncodings=" + this.binaryEncodings +
+                ", decodings=" + this.decodings +
                 ", encodings=" + this.encodings +
                 ", type=" + this.type +
                 '}';
@@ -27,13 +27,19 @@ import java.util.Objects;
 
 public final class MockCodecs implements Codecs {
 
+    private final Map<BinaryEncoding, ByteBuf> binaryEncodings;
+
     private final Map<Decoding, Object> decodings;
 
     private final Map<Object, Parameter> encodings;
 
-    private MockCodecs(Map<Decoding, Object> decodings, Map<Object, Parameter> encodings) {
+    private final Map<Integer, Format> preferredFormats;
+
+    private MockCodecs(Map<BinaryEncoding, ByteBuf> binaryEncodings, Map<Decoding, Object> decodings, Map<Object, Parameter> encodings, Map<Integer, Format> preferredFormats) {
+        this.binaryEncodings = Objects.requireNonNull(binaryEncodings);
         this.decodings = Objects.requireNonNull(decodings);
         this.encodings = Objects.requireNonNull(encodings);
+        this.preferredFormats = Objects.requireNonNull(preferredFormats);
     }
 
     public static Builder builder() {
@@ -69,25 +75,63 @@ public final class MockCodecs implements Codecs {
         return this.encodings.get(value);
     }
 
+    @Override
+    public void encodeBinary(Object value, int dataType, ByteBuf byteBuf) {
+        Objects.requireNonNull(value);
+        Objects.requireNonNull(byteBuf);
+
+        BinaryEncoding binaryEncoding = new BinaryEncoding(value, dataType);
+
+        if (!this.binaryEncodings.containsKey(binaryEncoding)) {
+            throw new AssertionError(String.format("Unexpected call to encodeBinary(Object,int,ByteBuf) with values '%s, %d'", value, dataType));
+        }
+
+        ByteBuf encoded = this.binaryEncodings.get(binaryEncoding);
+        byteBuf.writeBytes(encoded, encoded.readerIndex(), encoded.readableBytes());
+    }
+
+    @Override
+    public Format getPreferredFormat(int dataType) {
+        if (!this.preferredFormats.containsKey(dataType)) {
+            throw new AssertionError(String.format("Unexpected call to getPreferredFormat(int) with value '%d'", dataType));
+        }
+
+        return this.preferredFormats.get(dataType);
+    }
+
     @Override
     public String toString() {
         return "MockCodecs{" +
-            "decodings=" + this.decodings +
+            "binaryEncodings=" + this.binaryEncodings +
+            ", decodings=" + this.decodings +
             ", encodings=" + this.encodings +
+            ", preferredFormats=" + this.preferredFormats +
             '}';
     }
 
     public static final class Builder {
 
+        private final Map<BinaryEncoding, ByteBuf> binaryEncodings = new HashMap<>();
+
         private final Map<Decoding, Object> decodings = new HashMap<>();
 
         private final Map<Object, Parameter> encodings = new HashMap<>();
 
+        private final Map<Integer, Format> preferredFormats = new HashMap<>();
+
         private Builder() {
         }
 
         public MockCodecs build() {
-            return new MockCodecs(this.decodings, this.encodings);
+            return new MockCodecs(this.binaryEncodings, this.decodings, this.encodings, this.preferredFormats);
+        }
+
+        public Builder binaryEncoding(Object value, int dataType, ByteBuf encoded) {
+            Objects.requireNonNull(value);
+            Objects.requireNonNull(encoded);
+
+            this.binaryEncodings.put(new BinaryEncoding(value, dataType), encoded);
+            return this;
         }
 
         public <T> Builder decoding(@Nullable ByteBuf byteBuf, int dataType, Format format, Class<T> type, T value) {
@@ -105,11 +149,59 @@ public final class MockCodecs implements Codecs {
             return this;
         }
 
+        public Builder preferredFormat(int dataType, Format format) {
+            Objects.requireNonNull(format);
+
+            this.preferredFormats.put(dataType, format);
+            return this;
+        }
+
         @Override
         public String toString() {
             return "Builder{" +
-                "decodings=" + this.decodings +
+                "binaryEncodings=" + this.binaryEncodings +
+                ", decodings=" + this.decodings +
                 ", encodings=" + this.encodings +
+                ", preferredFormats=" + this.preferredFormats +
+                '}';
+        }
+
+    }
+
+    private static final class BinaryEncoding {
+
+        private final int dataType;
+
+        private final Object value;
+
+        private BinaryEncoding(Object value, int dataType) {
+            this.dataType = dataType;
+            this.value = Objects.requireNonNull(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            BinaryEncoding that = (BinaryEncoding) o;
+            return this.dataType == that.dataType &&
+                Objects.equals(this.value, that.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.dataType, this.value);
+        }
+
+        @Override
+        public String toString() {
+            return "BinaryEncoding{" +
+                "dataType=" + this.dataType +
+                ", value=" + this.value +
                 '}';
         }
 
@@ -21,7 +21,9 @@ import org.junit.Test;
 
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.UNSPECIFIED;
+import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 public final class NullCodecTest {
 
@@ -31,9 +33,20 @@ public final class NullCodecTest {
         assertThat(new NullCodec().canEncode(new Object())).isFalse();
     }
 
+    @Test
+    public void canEncodeBinary() {
+        assertThat(new NullCodec().canEncodeBinary(null, UNSPECIFIED.getObjectId())).isFalse();
+    }
+
     @Test
     public void encode() {
         assertThat(new NullCodec().encode(null)).isEqualTo(new Parameter(BINARY, UNSPECIFIED.getObjectId(), null));
     }
 
+    @Test
+    public void encodeBinary() {
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> new NullCodec().encodeBinary(null, UNSPECIFIED.getObjectId(), TEST.buffer()))
+            .withMessage("Cannot encode null as a binary value");
+    }
+
 }
@@ -17,17 +17,23 @@
 package com.nebhale.r2dbc.postgresql.codec;
 
 import com.nebhale.r2dbc.postgresql.client.Parameter;
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
 
+import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.MONEY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.TIMESTAMP;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.TIMESTAMPTZ;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
 import static com.nebhale.r2dbc.postgresql.util.ByteBufUtils.encode;
 import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
+import static java.time.ZoneOffset.UTC;
+import static java.time.temporal.ChronoUnit.MICROS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
@@ -47,17 +53,32 @@ public final class OffsetDateTimeCodecTest {
             .isEqualTo(offsetDateTime);
     }
 
+    @Test
+    public void decodeBinary() {
+        LocalDateTime localDateTime = LocalDateTime.of(2018, 3, 4, 5, 6, 7, 123_456_000);
+        long micros = MICROS.between(LocalDateTime.of(2000, 1, 1, 0, 0), localDateTime);
+
+        assertThat(new OffsetDateTimeCodec(TEST).decode(TEST.buffer(8).writeLong(micros), BINARY, OffsetDateTime.class))
+            .isEqualTo(localDateTime.atOffset(UTC));
+    }
+
     @Test
     public void decodeNoByteBuf() {
         assertThatNullPointerException().isThrownBy(() -> new OffsetDateTimeCodec(TEST).decode(null, TEXT, OffsetDateTime.class))
             .withMessage("byteBuf must not be null");
     }
 
+    @Test
+    public void decodeNoFormat() {
+        assertThatNullPointerException().isThrownBy(() -> new OffsetDateTimeCodec(TEST).decode(TEST.buffer(0), null, OffsetDateTime.class))
+            .withMessage("format must not be null");
+    }
+
     @Test
     public void doCanDecode() {
         OffsetDateTimeCodec codec = new OffsetDateTimeCodec(TEST);
 
-        assertThat(codec.doCanDecode(BINARY, TIMESTAMPTZ)).isFalse();
+        assertThat(codec.doCanDecode(BINARY, TIMESTAMPTZ)).isTrue();
         assertThat(codec.doCanDecode(TEXT, MONEY)).isFalse();
         assertThat(codec.doCanDecode(TEXT, TIMESTAMPTZ)).isTrue();
     }
@@ -74,6 +95,14 @@ public final class OffsetDateTimeCodecTest {
             .withMessage("type must not be null");
     }
 
+    @Test
+    public void doCanEncodeBinary() {
+        OffsetDateTimeCodec codec = new OffsetDateTimeCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(TIMESTAMP)).isFalse();
+        assertThat(codec.doCanEncodeBinary(TIMESTAMPTZ)).isTrue();
+    }
+
     @Test
     public void doEncode() {
         OffsetDateTime offsetDateTime = OffsetDateTime.now();
@@ -82,6 +111,14 @@ public final class OffsetDateTimeCodecTest {
             .isEqualTo(new Parameter(TEXT, TIMESTAMPTZ.getObjectId(), encode(TEST, offsetDateTime.toString())));
     }
 
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new OffsetDateTimeCodec(TEST).doEncodeBinary(OffsetDateTime.of(2000, 1, 1, 1, 0, 1, 0, ZoneOffset.ofHours(1)), TIMESTAMPTZ, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer(8).writeLong(1_000_000));
+    }
+
     @Test
     public void doEncodeNoValue() {
         assertThatNullPointerException().isThrownBy(() -> new OffsetDateTimeCodec(TEST).doEncode(null))
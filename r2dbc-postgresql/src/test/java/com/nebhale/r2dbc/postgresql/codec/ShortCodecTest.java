@@ -18,11 +18,15 @@ package com.nebhale.r2dbc.postgresql.codec;
 
 import com.nebhale.r2dbc.postgresql.client.Parameter;
 import com.nebhale.r2dbc.postgresql.util.ByteBufUtils;
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
 
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.FLOAT4;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT2;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT4;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.INT8;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
 import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -71,12 +75,30 @@ public final class ShortCodecTest {
             .withMessage("type must not be null");
     }
 
+    @Test
+    public void doCanEncodeBinary() {
+        ShortCodec codec = new ShortCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(FLOAT4)).isFalse();
+        assertThat(codec.doCanEncodeBinary(INT2)).isTrue();
+        assertThat(codec.doCanEncodeBinary(INT4)).isTrue();
+        assertThat(codec.doCanEncodeBinary(INT8)).isTrue();
+    }
+
     @Test
     public void doEncode() {
         assertThat(new ShortCodec(TEST).doEncode((short) 100))
             .isEqualTo(new Parameter(BINARY, INT2.getObjectId(), TEST.buffer(2).writeShort(100)));
     }
 
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new ShortCodec(TEST).doEncodeBinary((short) 100, INT4, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer(4).writeInt(100));
+    }
+
     @Test
     public void doEncodeNoValue() {
         assertThatNullPointerException().isThrownBy(() -> new ShortCodec(TEST).doEncode(null))
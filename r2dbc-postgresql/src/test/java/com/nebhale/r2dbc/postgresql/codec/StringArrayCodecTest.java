@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql.codec;
+
+import com.nebhale.r2dbc.postgresql.client.Parameter;
+import com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId;
+import io.netty.buffer.ByteBuf;
+import org.junit.Test;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.BPCHAR_ARRAY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.MONEY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.TEXT_ARRAY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR_ARRAY;
+import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
+import static io.netty.util.CharsetUtil.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public final class StringArrayCodecTest {
+
+    @Test
+    public void constructorNoByteBufAllocator() {
+        assertThatNullPointerException().isThrownBy(() -> new StringArrayCodec(null))
+            .withMessage("byteBufAllocator must not be null");
+    }
+
+    @Test
+    public void decode() {
+        ByteBuf byteBuf = TEST.buffer()
+            .writeInt(1).writeInt(1).writeInt(VARCHAR.getObjectId()).writeInt(3).writeInt(1)
+            .writeInt(5).writeBytes("alpha".getBytes(UTF_8))
+            .writeInt(-1)
+            .writeInt(5).writeBytes("grün".getBytes(UTF_8));
+
+        assertThat(new StringArrayCodec(TEST).decode(byteBuf, BINARY, String[].class)).containsExactly("alpha", null, "grün");
+    }
+
+    @Test
+    public void decodeNoByteBuf() {
+        assertThatNullPointerException().isThrownBy(() -> new StringArrayCodec(TEST).decode(null, BINARY, String[].class))
+            .withMessage("byteBuf must not be null");
+    }
+
+    @Test
+    public void doCanDecode() {
+        StringArrayCodec codec = new StringArrayCodec(TEST);
+
+        assertThat(codec.doCanDecode(TEXT, TEXT_ARRAY)).isFalse();
+        assertThat(codec.doCanDecode(BINARY, MONEY)).isFalse();
+        assertThat(codec.doCanDecode(BINARY, BPCHAR_ARRAY)).isTrue();
+        assertThat(codec.doCanDecode(BINARY, TEXT_ARRAY)).isTrue();
+        assertThat(codec.doCanDecode(BINARY, VARCHAR_ARRAY)).isTrue();
+    }
+
+    @Test
+    public void doCanDecodeNoFormat() {
+        assertThatNullPointerException().isThrownBy(() -> new StringArrayCodec(TEST).doCanDecode(null, VARCHAR))
+            .withMessage("format must not be null");
+    }
+
+    @Test
+    public void doCanDecodeNoType() {
+        assertThatNullPointerException().isThrownBy(() -> new StringArrayCodec(TEST).doCanDecode(BINARY, null))
+            .withMessage("type must not be null");
+    }
+
+    @Test
+    public void doCanEncodeBinary() {
+        StringArrayCodec codec = new StringArrayCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(VARCHAR)).isFalse();
+        assertThat(codec.doCanEncodeBinary(BPCHAR_ARRAY)).isTrue();
+        assertThat(codec.doCanEncodeBinary(TEXT_ARRAY)).isTrue();
+        assertThat(codec.doCanEncodeBinary(VARCHAR_ARRAY)).isTrue();
+    }
+
+    @Test
+    public void doEncode() {
+        assertThat(new StringArrayCodec(TEST).doEncode(new String[]{"alpha", null}))
+            .isEqualTo(new Parameter(BINARY, TEXT_ARRAY.getObjectId(), TEST.buffer()
+                .writeInt(1).writeInt(1).writeInt(PostgresqlObjectId.TEXT.getObjectId()).writeInt(2).writeInt(1)
+                .writeInt(5).writeBytes("alpha".getBytes(UTF_8))
+                .writeInt(-1)));
+    }
+
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new StringArrayCodec(TEST).doEncodeBinary(new String[]{"grün"}, VARCHAR_ARRAY, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer()
+            .writeInt(1).writeInt(0).writeInt(VARCHAR.getObjectId()).writeInt(1).writeInt(1)
+            .writeInt(5).writeBytes("grün".getBytes(UTF_8)));
+    }
+
+    @Test
+    public void doEncodeNoValue() {
+        assertThatNullPointerException().isThrownBy(() -> new StringArrayCodec(TEST).doEncode(null))
+            .withMessage("value must not be null");
+    }
+
+}
@@ -17,10 +17,12 @@
 package com.nebhale.r2dbc.postgresql.codec;
 
 import com.nebhale.r2dbc.postgresql.client.Parameter;
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
 
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.BPCHAR;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.MONEY;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
 import static com.nebhale.r2dbc.postgresql.util.ByteBufUtils.encode;
@@ -69,6 +71,15 @@ public final class StringCodecTest {
             .withMessage("type must not be null");
     }
 
+    @Test
+    public void doCanEncodeBinary() {
+        StringCodec codec = new StringCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(MONEY)).isFalse();
+        assertThat(codec.doCanEncodeBinary(BPCHAR)).isTrue();
+        assertThat(codec.doCanEncodeBinary(VARCHAR)).isTrue();
+    }
+
     @Test
     public void doEncode() {
         String string = "test";
@@ -77,6 +88,14 @@ public final class StringCodecTest {
             .isEqualTo(new Parameter(TEXT, VARCHAR.getObjectId(), encode(TEST, "test")));
     }
 
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new StringCodec(TEST).doEncodeBinary("test", VARCHAR, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(encode(TEST, "test"));
+    }
+
     @Test
     public void doEncodeNoValue() {
         assertThatNullPointerException().isThrownBy(() -> new StringCodec(TEST).doEncode(null))
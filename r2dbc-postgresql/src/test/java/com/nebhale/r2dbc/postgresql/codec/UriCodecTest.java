@@ -17,6 +17,7 @@
 package com.nebhale.r2dbc.postgresql.codec;
 
 import com.nebhale.r2dbc.postgresql.client.Parameter;
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
 
 import java.net.URI;
@@ -71,6 +72,14 @@ public final class UriCodecTest {
             .withMessage("type must not be null");
     }
 
+    @Test
+    public void doCanEncodeBinary() {
+        UriCodec codec = new UriCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(MONEY)).isFalse();
+        assertThat(codec.doCanEncodeBinary(VARCHAR)).isTrue();
+    }
+
     @Test
     public void doEncode() {
         URI uri = URI.create("http://localhost");
@@ -79,6 +88,14 @@ public final class UriCodecTest {
             .isEqualTo(new Parameter(TEXT, VARCHAR.getObjectId(), encode(TEST, "http://localhost")));
     }
 
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new UriCodec(TEST).doEncodeBinary(URI.create("http://localhost"), VARCHAR, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(encode(TEST, "http://localhost"));
+    }
+
     @Test
     public void doEncodeNoValue() {
         assertThatNullPointerException().isThrownBy(() -> new UriCodec(TEST).doEncode(null))
@@ -17,6 +17,7 @@
 package com.nebhale.r2dbc.postgresql.codec;
 
 import com.nebhale.r2dbc.postgresql.client.Parameter;
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
 
 import java.net.MalformedURLException;
@@ -72,6 +73,14 @@ public final class UrlCodecTest {
             .withMessage("type must not be null");
     }
 
+    @Test
+    public void doCanEncodeBinary() {
+        UrlCodec codec = new UrlCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(MONEY)).isFalse();
+        assertThat(codec.doCanEncodeBinary(VARCHAR)).isTrue();
+    }
+
     @Test
     public void doEncode() throws MalformedURLException {
         URL url = new URL("http://localhost");
@@ -80,6 +89,14 @@ public final class UrlCodecTest {
             .isEqualTo(new Parameter(TEXT, VARCHAR.getObjectId(), encode(TEST, "http://localhost")));
     }
 
+    @Test
+    public void doEncodeBinary() throws MalformedURLException {
+        ByteBuf byteBuf = TEST.buffer();
+        new UrlCodec(TEST).doEncodeBinary(new URL("http://localhost"), VARCHAR, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(encode(TEST, "http://localhost"));
+    }
+
     @Test
     public void doEncodeNoValue() {
         assertThatNullPointerException().isThrownBy(() -> new UrlCodec(TEST).doEncode(null))
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.nebhale.r2dbc.postgresql.codec;
+
+import com.nebhale.r2dbc.postgresql.client.Parameter;
+import com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId;
+import io.netty.buffer.ByteBuf;
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
+import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.MONEY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.UUID_ARRAY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
+import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public final class UuidArrayCodecTest {
+
+    @Test
+    public void constructorNoByteBufAllocator() {
+        assertThatNullPointerException().isThrownBy(() -> new UuidArrayCodec(null))
+            .withMessage("byteBufAllocator must not be null");
+    }
+
+    @Test
+    public void decode() {
+        ByteBuf byteBuf = TEST.buffer()
+            .writeInt(1).writeInt(1).writeInt(PostgresqlObjectId.UUID.getObjectId()).writeInt(2).writeInt(1)
+            .writeInt(16).writeLong(1).writeLong(2)
+            .writeInt(-1);
+
+        assertThat(new UuidArrayCodec(TEST).decode(byteBuf, BINARY, UUID[].class)).containsExactly(new UUID(1, 2), null);
+    }
+
+    @Test
+    public void decodeNoByteBuf() {
+        assertThatNullPointerException().isThrownBy(() -> new UuidArrayCodec(TEST).decode(null, BINARY, UUID[].class))
+            .withMessage("byteBuf must not be null");
+    }
+
+    @Test
+    public void doCanDecode() {
+        UuidArrayCodec codec = new UuidArrayCodec(TEST);
+
+        assertThat(codec.doCanDecode(TEXT, UUID_ARRAY)).isFalse();
+        assertThat(codec.doCanDecode(BINARY, MONEY)).isFalse();
+        assertThat(codec.doCanDecode(BINARY, UUID_ARRAY)).isTrue();
+    }
+
+    @Test
+    public void doCanDecodeNoFormat() {
+        assertThatNullPointerException().isThrownBy(() -> new UuidArrayCodec(TEST).doCanDecode(null, VARCHAR))
+            .withMessage("format must not be null");
+    }
+
+    @Test
+    public void doCanDecodeNoType() {
+        assertThatNullPointerException().isThrownBy(() -> new UuidArrayCodec(TEST).doCanDecode(BINARY, null))
+            .withMessage("type must not be null");
+    }
+
+    @Test
+    public void doCanEncodeBinary() {
+        UuidArrayCodec codec = new UuidArrayCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(PostgresqlObjectId.UUID)).isFalse();
+        assertThat(codec.doCanEncodeBinary(UUID_ARRAY)).isTrue();
+    }
+
+    @Test
+    public void doEncode() {
+        assertThat(new UuidArrayCodec(TEST).doEncode(new UUID[]{new UUID(1, 2), null}))
+            .isEqualTo(new Parameter(BINARY, UUID_ARRAY.getObjectId(), TEST.buffer()
+                .writeInt(1).writeInt(1).writeInt(PostgresqlObjectId.UUID.getObjectId()).writeInt(2).writeInt(1)
+                .writeInt(16).writeLong(1).writeLong(2)
+                .writeInt(-1)));
+    }
+
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new UuidArrayCodec(TEST).doEncodeBinary(new UUID[]{new UUID(1, 2)}, UUID_ARRAY, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer()
+            .writeInt(1).writeInt(0).writeInt(PostgresqlObjectId.UUID.getObjectId()).writeInt(1).writeInt(1)
+            .writeInt(16).writeLong(1).writeLong(2));
+    }
+
+    @Test
+    public void doEncodeNoValue() {
+        assertThatNullPointerException().isThrownBy(() -> new UuidArrayCodec(TEST).doEncode(null))
+            .withMessage("value must not be null");
+    }
+
+}
@@ -18,6 +18,7 @@ package com.nebhale.r2dbc.postgresql.codec;
 
 import com.nebhale.r2dbc.postgresql.client.Parameter;
 import com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId;
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
 
 import java.util.UUID;
@@ -73,6 +74,14 @@ public final class UuidCodecTest {
             .withMessage("type must not be null");
     }
 
+    @Test
+    public void doCanEncodeBinary() {
+        UuidCodec codec = new UuidCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(VARCHAR)).isFalse();
+        assertThat(codec.doCanEncodeBinary(PostgresqlObjectId.UUID)).isTrue();
+    }
+
     @Test
     public void doEncode() {
         UUID uuid = UUID.randomUUID();
@@ -81,6 +90,14 @@ public final class UuidCodecTest {
             .isEqualTo(new Parameter(BINARY, PostgresqlObjectId.UUID.getObjectId(), TEST.buffer(16).writeLong(uuid.getMostSignificantBits()).writeLong(uuid.getLeastSignificantBits())));
     }
 
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new UuidCodec(TEST).doEncodeBinary(new UUID(1, 2), PostgresqlObjectId.UUID, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer(16).writeLong(1).writeLong(2));
+    }
+
     @Test
     public void doEncodeNoValue() {
         assertThatNullPointerException().isThrownBy(() -> new UuidCodec(TEST).doEncode(null))
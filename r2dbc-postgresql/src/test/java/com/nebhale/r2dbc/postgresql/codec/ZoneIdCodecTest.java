@@ -17,6 +17,7 @@
 package com.nebhale.r2dbc.postgresql.codec;
 
 import com.nebhale.r2dbc.postgresql.client.Parameter;
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
 
 import java.time.ZoneId;
@@ -73,6 +74,14 @@ public final class ZoneIdCodecTest {
             .withMessage("type must not be null");
     }
 
+    @Test
+    public void doCanEncodeBinary() {
+        ZoneIdCodec codec = new ZoneIdCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(MONEY)).isFalse();
+        assertThat(codec.doCanEncodeBinary(VARCHAR)).isTrue();
+    }
+
     @Test
     public void doEncode() {
         ZoneId zoneId = ZoneId.systemDefault();
@@ -81,6 +90,14 @@ public final class ZoneIdCodecTest {
             .isEqualTo(new Parameter(TEXT, VARCHAR.getObjectId(), encode(TEST, zoneId.getId())));
     }
 
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new ZoneIdCodec(TEST).doEncodeBinary(ZoneId.of("Europe/Paris"), VARCHAR, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(encode(TEST, "Europe/Paris"));
+    }
+
     @Test
     public void doEncodeNoValue() {
         assertThatNullPointerException().isThrownBy(() -> new ZoneIdCodec(TEST).doEncode(null))
@@ -17,17 +17,23 @@
 package com.nebhale.r2dbc.postgresql.codec;
 
 import com.nebhale.r2dbc.postgresql.client.Parameter;
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
 import static com.nebhale.r2dbc.postgresql.message.Format.TEXT;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.MONEY;
+import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.TIMESTAMP;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.TIMESTAMPTZ;
 import static com.nebhale.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
 import static com.nebhale.r2dbc.postgresql.util.ByteBufUtils.encode;
 import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
+import static java.time.ZoneOffset.UTC;
+import static java.time.temporal.ChronoUnit.MICROS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
@@ -47,17 +53,32 @@ public final class ZonedDateTimeCodecTest {
             .isEqualTo(zonedDateTime);
     }
 
+    @Test
+    public void decodeBinary() {
+        LocalDateTime localDateTime = LocalDateTime.of(2018, 3, 4, 5, 6, 7, 123_456_000);
+        long micros = MICROS.between(LocalDateTime.of(2000, 1, 1, 0, 0), localDateTime);
+
+        assertThat(new ZonedDateTimeCodec(TEST).decode(TEST.buffer(8).writeLong(micros), BINARY, ZonedDateTime.class))
+            .isEqualTo(localDateTime.atZone(UTC));
+    }
+
     @Test
     public void decodeNoByteBuf() {
         assertThatNullPointerException().isThrownBy(() -> new ZonedDateTimeCodec(TEST).decode(null, TEXT, ZonedDateTime.class))
             .withMessage("byteBuf must not be null");
     }
 
+    @Test
+    public void decodeNoFormat() {
+        assertThatNullPointerException().isThrownBy(() -> new ZonedDateTimeCodec(TEST).decode(TEST.buffer(0), null, ZonedDateTime.class))
+            .withMessage("format must not be null");
+    }
+
     @Test
     public void doCanDecode() {
         ZonedDateTimeCodec codec = new ZonedDateTimeCodec(TEST);
 
-        assertThat(codec.doCanDecode(BINARY, TIMESTAMPTZ)).isFalse();
+        assertThat(codec.doCanDecode(BINARY, TIMESTAMPTZ)).isTrue();
         assertThat(codec.doCanDecode(TEXT, MONEY)).isFalse();
         assertThat(codec.doCanDecode(TEXT, TIMESTAMPTZ)).isTrue();
     }
@@ -74,6 +95,14 @@ public final class ZonedDateTimeCodecTest {
             .withMessage("type must not be null");
     }
 
+    @Test
+    public void doCanEncodeBinary() {
+        ZonedDateTimeCodec codec = new ZonedDateTimeCodec(TEST);
+
+        assertThat(codec.doCanEncodeBinary(TIMESTAMP)).isFalse();
+        assertThat(codec.doCanEncodeBinary(TIMESTAMPTZ)).isTrue();
+    }
+
     @Test
     public void doEncode() {
         ZonedDateTime zonedDateTime = ZonedDateTime.now();
@@ -82,6 +111,14 @@ public final class ZonedDateTimeCodecTest {
             .isEqualTo(new Parameter(TEXT, TIMESTAMPTZ.getObjectId(), encode(TEST, zonedDateTime.toString())));
     }
 
+    @Test
+    public void doEncodeBinary() {
+        ByteBuf byteBuf = TEST.buffer();
+        new ZonedDateTimeCodec(TEST).doEncodeBinary(ZonedDateTime.of(2000, 1, 1, 1, 0, 1, 0, ZoneId.of("Europe/Paris")), TIMESTAMPTZ, byteBuf);
+
+        assertThat(byteBuf).isEqualTo(TEST.buffer(8).writeLong(1_000_000));
+    }
+
     @Test
     public void doEncodeNoValue() {
         assertThatNullPointerException().isThrownBy(() -> new ZonedDateTimeCodec(TEST).doEncode(null))
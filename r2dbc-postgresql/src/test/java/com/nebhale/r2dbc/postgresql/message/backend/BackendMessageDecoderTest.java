@@ -17,12 +17,16 @@
 package com.nebhale.r2dbc.postgresql.message.backend;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
 import org.junit.Test;
 import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 import reactor.test.StepVerifier.FirstStep;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -241,14 +245,20 @@ public final class BackendMessageDecoderTest {
     public void invalidAuthenticationMessageType() {
         decode('R', buffer -> buffer
             .writeInt(100))
-            .expectErrorSatisfies(error -> assertThat(error).isInstanceOf(IllegalArgumentException.class).hasMessage("100 is not a valid authentication type"))
+            .expectErrorSatisfies(error -> {
+                assertThat(error).isInstanceOf(DecoderException.class);
+                assertThat(error.getCause()).isInstanceOf(IllegalArgumentException.class).hasMessage("100 is not a valid authentication type");
+            })
             .verify();
     }
 
     @Test
     public void invalidMessageType() {
         decode('Q', buffer -> buffer)
-            .expectErrorSatisfies(error -> assertThat(error).isInstanceOf(IllegalArgumentException.class).hasMessage("Q is not a valid message type"))
+            .expectErrorSatisfies(error -> {
+                assertThat(error).isInstanceOf(DecoderException.class);
+                assertThat(error.getCause()).isInstanceOf(IllegalArgumentException.class).hasMessage("Q is not a valid message type");
+            })
             .verify();
     }
 
@@ -384,12 +394,25 @@ public final class BackendMessageDecoderTest {
                     .writeBytes(payload))
             .reduce(TEST.buffer(), ByteBuf::writeBytes);
 
-        BackendMessageDecoder decoder = new BackendMessageDecoder();
+        EmbeddedChannel channel = new EmbeddedChannel(new BackendMessageDecoder());
+        List<BackendMessage> messages = new ArrayList<>();
 
         return Flux.just(data.readRetainedSlice(data.readableBytes() / 2), data)
-            .concatMap(decoder::decode)
-            .doOnNext(release)
-            .doAfterTerminate(() -> assertThat(data.refCnt()).isZero())
+            .doOnNext(channel::writeInbound)
+            .thenMany(Flux.<BackendMessage>generate(sink -> {
+                BackendMessage message = channel.readInbound();
+
+                if (message == null) {
+                    sink.complete();
+                } else {
+                    sink.next(message);
+                }
+            }))
+            .doOnNext(messages::add)
+            .doAfterTerminate(() -> {
+                messages.forEach(release);
+                assertThat(data.refCnt()).isZero();
+            })
             .as(StepVerifier::create);
     }
 
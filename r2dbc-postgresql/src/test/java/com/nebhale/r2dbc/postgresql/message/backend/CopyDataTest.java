@@ -16,10 +16,12 @@
 
 package com.nebhale.r2dbc.postgresql.message.backend;
 
+import io.netty.buffer.ByteBuf;
 import org.junit.Test;
 
 import static com.nebhale.r2dbc.postgresql.message.backend.BackendMessageAssert.assertThat;
 import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
 public final class CopyDataTest {
@@ -37,4 +39,15 @@ public final class CopyDataTest {
             .isEqualTo(new CopyData(TEST.buffer(4).writeInt(100)));
     }
 
+    @Test
+    public void release() {
+        ByteBuf data = TEST.buffer(4).writeInt(100);
+        CopyData copyData = new CopyData(data);
+
+        assertThat(data.refCnt()).isEqualTo(2);
+
+        copyData.release();
+        assertThat(data.refCnt()).isEqualTo(1);
+    }
+
 }
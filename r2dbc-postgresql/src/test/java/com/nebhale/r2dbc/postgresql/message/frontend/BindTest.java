@@ -18,6 +18,7 @@ package com.nebhale.r2dbc.postgresql.message.frontend;
 
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import static com.nebhale.r2dbc.postgresql.message.Format.BINARY;
@@ -88,6 +89,41 @@ public final class BindTest {
             });
     }
 
+    @Test
+    public void encodeLargeParameters() {
+        byte[] value = new byte[Bind.COMPOSITE_THRESHOLD];
+        Arrays.fill(value, (byte) 1);
+
+        assertThat(new Bind("test-name", Arrays.asList(BINARY, BINARY), Arrays.asList(TEST.buffer().writeBytes(value), TEST.buffer().writeBytes(value)), Collections.singletonList(BINARY),
+            "test-source")).encoded()
+            .isDeferred()
+            .isEncodedAs(buffer -> {
+                buffer
+                    .writeByte('B')
+                    .writeInt(46 + (2 * Bind.COMPOSITE_THRESHOLD));
+
+                buffer.writeCharSequence("test-name", UTF_8);
+                buffer.writeByte(0);
+
+                buffer.writeCharSequence("test-source", UTF_8);
+                buffer.writeByte(0);
+
+                buffer
+                    .writeShort(2)
+                    .writeShort(1)
+                    .writeShort(1)
+                    .writeShort(2)
+                    .writeInt(Bind.COMPOSITE_THRESHOLD)
+                    .writeBytes(value)
+                    .writeInt(Bind.COMPOSITE_THRESHOLD)
+                    .writeBytes(value)
+                    .writeShort(1)
+                    .writeShort(1);
+
+                return buffer;
+            });
+    }
+
     @Test
     public void encodeNullParameter() {
         assertThat(new Bind("test-name", Collections.singletonList(BINARY), Collections.singletonList(null), Collections.singletonList(BINARY), "test-source")).encoded()
@@ -18,9 +18,8 @@ package com.nebhale.r2dbc.postgresql.message.frontend;
 
 import org.junit.Test;
 
-import java.nio.ByteBuffer;
-
 import static com.nebhale.r2dbc.postgresql.message.frontend.FrontendMessageAssert.assertThat;
+import static com.nebhale.r2dbc.postgresql.util.TestByteBufAllocator.TEST;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
 public final class CopyDataTest {
@@ -33,7 +32,7 @@ public final class CopyDataTest {
 
     @Test
     public void encode() {
-        assertThat(new CopyData(ByteBuffer.allocate(4).putInt(100))).encoded()
+        assertThat(new CopyData(TEST.buffer(4).writeInt(100))).encoded()
             .isDeferred()
             .isEncodedAs(buffer -> buffer
                 .writeByte('d')